@@ -0,0 +1,22 @@
+package com.example.todoapp.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+/**
+ * ToDo API のリアクティブ版（WebFlux + R2DBC）のメインクラス
+ * サーブレット版（todo-app）と同じデータベースのToDoを、接続ごとにスレッドを占有しないノンブロッキングの経路で読み書きする
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@SpringBootApplication
+@EnableR2dbcAuditing
+public class ReactiveTodoApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTodoApplication.class, args);
+    }
+
+}
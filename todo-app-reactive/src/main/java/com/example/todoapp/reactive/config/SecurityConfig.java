@@ -0,0 +1,51 @@
+package com.example.todoapp.reactive.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+
+/**
+ * Spring Security設定クラス（WebFlux）
+ * API専用のため、Basic認証で認証しセッション（WebSession）に認証情報を保持する
+ *
+ * <p>フォームやブラウザ画面を持たないため CSRF 対策は無効化する。セッションCookieは SameSite=Lax
+ * （application.yml）で発行し、他サイトからの変更系リクエストには付与されない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    /**
+     * パスワードエンコーダーのBean定義（サーブレット版と同じBCrypt）
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    /**
+     * セキュリティフィルターチェーンの設定
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        WebSessionServerSecurityContextRepository securityContextRepository = new WebSessionServerSecurityContextRepository();
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .securityContextRepository(securityContextRepository)
+                .httpBasic(basic -> basic.securityContextRepository(securityContextRepository))
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/actuator/health/**").permitAll()
+                        .anyExchange().authenticated())
+                .build();
+    }
+}
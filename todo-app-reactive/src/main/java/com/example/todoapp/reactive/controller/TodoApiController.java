@@ -0,0 +1,129 @@
+package com.example.todoapp.reactive.controller;
+
+import com.example.todoapp.reactive.entity.Todo;
+import com.example.todoapp.reactive.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.reactive.service.ReactiveTodoService;
+import com.example.todoapp.reactive.service.ReactiveTodoService.TodoRequest;
+import com.example.todoapp.reactive.service.ReactiveTodoService.TodoStatistics;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * ToDo APIコントローラー（リアクティブ版）
+ * 一覧とエクスポートは application/x-ndjson を指定すると1件ずつ書き出し、書き込みが詰まると読み込みも止まる
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/todos")
+public class TodoApiController {
+
+    @Autowired
+    private ReactiveTodoService todoService;
+
+    /**
+     * ToDo一覧（作成日時の降順）
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Todo> list(@AuthenticationPrincipal CustomUserPrincipal principal,
+                           @RequestParam(required = false) Boolean completed,
+                           @RequestParam(defaultValue = "0") int page,
+                           @RequestParam(defaultValue = "20") int size) {
+        return todoService.findTodos(principal.getUserId(), completed, page, size);
+    }
+
+    /**
+     * 全ToDoのエクスポート（ID順）
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Todo> export(@AuthenticationPrincipal CustomUserPrincipal principal) {
+        return todoService.exportTodos(principal.getUserId());
+    }
+
+    /**
+     * ToDo統計情報
+     */
+    @GetMapping("/statistics")
+    public Mono<TodoStatistics> statistics(@AuthenticationPrincipal CustomUserPrincipal principal) {
+        return todoService.getTodoStatistics(principal.getUserId());
+    }
+
+    /**
+     * ToDo詳細
+     */
+    @GetMapping("/{id}")
+    public Mono<Todo> get(@AuthenticationPrincipal CustomUserPrincipal principal, @PathVariable Long id) {
+        return todoService.findTodo(id, principal.getUserId()).switchIfEmpty(notFound());
+    }
+
+    /**
+     * ToDo作成
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Todo> create(@AuthenticationPrincipal CustomUserPrincipal principal,
+                             @Valid @RequestBody TodoRequest request) {
+        return todoService.createTodo(principal.getUserId(), request);
+    }
+
+    /**
+     * ToDo更新
+     */
+    @PutMapping("/{id}")
+    public Mono<Todo> update(@AuthenticationPrincipal CustomUserPrincipal principal, @PathVariable Long id,
+                             @Valid @RequestBody TodoRequest request) {
+        return todoService.updateTodo(id, principal.getUserId(), request).switchIfEmpty(notFound());
+    }
+
+    /**
+     * 完了状態の切り替え
+     */
+    @PostMapping("/{id}/toggle")
+    public Mono<Todo> toggle(@AuthenticationPrincipal CustomUserPrincipal principal, @PathVariable Long id) {
+        return todoService.toggleCompletion(id, principal.getUserId()).switchIfEmpty(notFound());
+    }
+
+    /**
+     * ToDo削除
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@AuthenticationPrincipal CustomUserPrincipal principal, @PathVariable Long id) {
+        return todoService.deleteTodo(id, principal.getUserId())
+                .map(deleted -> deleted
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    /**
+     * 入力値エラー（期限日が過去など）
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+}
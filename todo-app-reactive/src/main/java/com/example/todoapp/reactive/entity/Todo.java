@@ -0,0 +1,168 @@
+package com.example.todoapp.reactive.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ToDoエンティティ（R2DBC）
+ * サーブレット版（todo-app）のJPAエンティティと同じ todos テーブルに対応する
+ * ユーザーは関連ではなくユーザーIDとして保持する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Table("todos")
+public class Todo {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    @Column("due_date")
+    private LocalDate dueDate;
+
+    private boolean completed;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    @JsonIgnore
+    @Column("user_id")
+    private Long userId;
+
+    /**
+     * ユーザー単位の変更シーケンス番号（差分同期のカーソル）
+     */
+    @Column("change_seq")
+    private long changeSeq;
+
+    // デフォルトコンストラクタ
+    public Todo() {
+    }
+
+    public Todo(String title, String description, LocalDate dueDate, Long userId) {
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.userId = userId;
+    }
+
+    // Getter and Setter methods
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+        if (completed && completedAt == null) {
+            this.completedAt = LocalDateTime.now();
+        } else if (!completed) {
+            this.completedAt = null;
+        }
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    // ビジネスロジックメソッド
+    public boolean isOverdue() {
+        return dueDate != null && !completed && dueDate.isBefore(LocalDate.now());
+    }
+
+    @Override
+    public String toString() {
+        return "Todo{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", completed=" + completed +
+                ", dueDate=" + dueDate +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.todoapp.reactive.repository;
+
+import com.example.todoapp.reactive.entity.Todo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ToDoリポジトリインターフェース（R2DBC）
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface TodoRepository extends R2dbcRepository<Todo, Long> {
+
+    /**
+     * ユーザーのToDoをページング付きで取得
+     *
+     * @param userId ユーザーID
+     * @param pageable ページング情報（ソート順を含む）
+     * @return ToDo
+     */
+    Flux<Todo> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * ユーザーのToDoを完了状態で絞り込んでページング付きで取得
+     *
+     * @param userId ユーザーID
+     * @param completed 完了状態
+     * @param pageable ページング情報（ソート順を含む）
+     * @return ToDo
+     */
+    Flux<Todo> findByUserIdAndCompleted(Long userId, boolean completed, Pageable pageable);
+
+    /**
+     * ユーザーのToDoをIDで検索
+     *
+     * @param id ToDoID
+     * @param userId ユーザーID
+     * @return ToDo（存在しない場合は空）
+     */
+    Mono<Todo> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * ユーザーのToDo数を取得
+     *
+     * @param userId ユーザーID
+     * @return ToDo数
+     */
+    Mono<Long> countByUserId(Long userId);
+
+    /**
+     * ユーザーの完了状態別ToDo数を取得
+     *
+     * @param userId ユーザーID
+     * @param completed 完了状態
+     * @return ToDo数
+     */
+    Mono<Long> countByUserIdAndCompleted(Long userId, boolean completed);
+
+    /**
+     * ユーザーの期限切れToDo数を取得
+     *
+     * @param userId ユーザーID
+     * @return 期限切れToDo数
+     */
+    @Query("SELECT COUNT(*) FROM todos WHERE user_id = :userId AND due_date < CURRENT_DATE AND completed = FALSE")
+    Mono<Long> countOverdueTodos(Long userId);
+}
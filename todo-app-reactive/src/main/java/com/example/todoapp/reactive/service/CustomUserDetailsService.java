@@ -0,0 +1,114 @@
+package com.example.todoapp.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * カスタムユーザー詳細サービス
+ * Spring Security（WebFlux）の認証で使用されるReactiveUserDetailsServiceの実装
+ * ユーザーはサーブレット版（todo-app）で登録された users テーブルから読み込む
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class CustomUserDetailsService implements ReactiveUserDetailsService {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * メールアドレスで有効なユーザーを検索し、UserDetailsを返す
+     *
+     * @param email メールアドレス
+     * @return UserDetails（見つからない場合は空）
+     */
+    @Override
+    public Mono<UserDetails> findByUsername(String email) {
+        return databaseClient.sql("SELECT id, email, name, enabled, password FROM users WHERE email = :email AND enabled = TRUE")
+                .bind("email", email)
+                .map(row -> (UserDetails) new CustomUserPrincipal(
+                        row.get("id", Long.class),
+                        row.get("email", String.class),
+                        row.get("name", String.class),
+                        Boolean.TRUE.equals(row.get("enabled", Boolean.class)),
+                        row.get("password", String.class)))
+                .one();
+    }
+
+    /**
+     * カスタムユーザープリンシパルクラス
+     * サーブレット版と同じく、識別に必要な値のみを持つ。パスワードハッシュは認証成功後に消去される
+     */
+    public static class CustomUserPrincipal implements UserDetails, CredentialsContainer {
+
+        private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+        private final Long userId;
+        private final String email;
+        private final String name;
+        private final boolean enabled;
+        private String password;
+
+        public CustomUserPrincipal(Long userId, String email, String name, boolean enabled, String password) {
+            this.userId = userId;
+            this.email = email;
+            this.name = name;
+            this.enabled = enabled;
+            this.password = password;
+        }
+
+        /**
+         * ユーザーID取得
+         *
+         * @return ユーザーID
+         */
+        public Long getUserId() {
+            return userId;
+        }
+
+        /**
+         * ユーザー名（表示名）取得
+         *
+         * @return ユーザー名
+         */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return AUTHORITIES;
+        }
+
+        @Override
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public String getUsername() {
+            return email; // メールアドレスをユーザー名として使用
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void eraseCredentials() {
+            this.password = null;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.todoapp.reactive.service;
+
+import com.example.todoapp.reactive.entity.Todo;
+import com.example.todoapp.reactive.repository.TodoRepository;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ToDoサービスクラス（リアクティブ版）
+ * サーブレット版の TodoService と同じ操作（一覧・取得・作成・更新・完了切り替え・削除・統計）を提供する
+ *
+ * <p>作成・更新・削除ではサーブレット版と同じくユーザー単位の変更シーケンス番号を払い出し、削除時は削除記録
+ * （todo_tombstones）を残すため、差分同期（/api/todos/changes）はどちらの経路で書き込んだ変更も返す。</p>
+ *
+ * <p>分析画面の日次集計（todo_daily_stats）には差分を反映しない。サーブレット版の夜間の再計算
+ * （TodoAnalyticsService#catchUp）が集計期間全体をToDoから集計し直すため、翌日以降の表示に反映される。</p>
+ *
+ * <p>一覧とエクスポートは行を読み込んだ順にストリームとして返し、クライアントの受信速度に合わせて
+ * データベースからの読み込みを止める（バックプレッシャー）。エクスポートは app.reactive.export-fetch-size 件ずつの
+ * ページに分けて取得し、全件をメモリに載せず、ページの間は接続を保持しない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class ReactiveTodoService {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Value("${app.reactive.max-page-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${app.reactive.export-fetch-size:100}")
+    private int exportFetchSize = 100;
+
+    /**
+     * ユーザーのToDoを作成日時の降順で取得
+     *
+     * @param userId ユーザーID
+     * @param completed 完了状態（nullの場合は絞り込まない）
+     * @param page ページ番号
+     * @param size ページサイズ（最大 app.reactive.max-page-size）
+     * @return ToDo
+     */
+    @Transactional(readOnly = true)
+    public Flux<Todo> findTodos(Long userId, Boolean completed, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, maxPageSize)), DEFAULT_SORT);
+        return completed == null
+                ? todoRepository.findByUserId(userId, pageable)
+                : todoRepository.findByUserIdAndCompleted(userId, completed, pageable);
+    }
+
+    /**
+     * ユーザーの全ToDoをID順に取得（エクスポート）
+     * export-fetch-size 件ずつ、前のページの最後のIDより後ろを取得する（キーセットページング）。
+     * ページごとに接続を取得・返却し、受信側が止まっても接続を占有しない
+     * （トランザクションの範囲では接続が全体で共有されるため、このメソッドはトランザクション管理の対象外とする）
+     *
+     * @param userId ユーザーID
+     * @return ToDo
+     */
+    public Flux<Todo> exportTodos(Long userId) {
+        return exportPage(userId, 0L)
+                .expand(page -> page.size() < exportFetchSize
+                        ? Mono.empty()
+                        : exportPage(userId, page.get(page.size() - 1).getId()))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * エクスポートの1ページを取得
+     * expand は次のページを受信側の要求を待たずに購読するため、購読した時点で最後まで読み込んで接続を返却する
+     * （collectList のままでは要求があるまで結果を読み終えず、接続を保持し続ける）
+     */
+    private Mono<List<Todo>> exportPage(Long userId, long afterId) {
+        return Mono.fromFuture(() -> databaseClient
+                .sql("SELECT * FROM todos WHERE user_id = :userId AND id > :afterId ORDER BY id LIMIT :limit")
+                .bind("userId", userId)
+                .bind("afterId", afterId)
+                .bind("limit", exportFetchSize)
+                .map((row, metadata) -> entityTemplate.getConverter().read(Todo.class, row, metadata))
+                .all()
+                .collectList()
+                .toFuture());
+    }
+
+    /**
+     * ユーザーのToDoをIDで検索
+     *
+     * @param todoId ToDoID
+     * @param userId ユーザーID
+     * @return ToDo（存在しない場合は空）
+     */
+    @Transactional(readOnly = true)
+    public Mono<Todo> findTodo(Long todoId, Long userId) {
+        return todoRepository.findByIdAndUserId(todoId, userId);
+    }
+
+    /**
+     * 新しいToDoを作成
+     *
+     * @param userId ユーザーID
+     * @param request ToDo情報
+     * @return 作成されたToDo
+     * @throws IllegalArgumentException 期限日が過去の場合
+     */
+    @Transactional
+    public Mono<Todo> createTodo(Long userId, TodoRequest request) {
+        return validate(request)
+                .then(Mono.defer(() -> {
+                    Todo todo = new Todo(request.title(), request.description(), request.dueDate(), userId);
+                    return stamp(todo).flatMap(todoRepository::save);
+                }));
+    }
+
+    /**
+     * ToDoを更新
+     *
+     * @param todoId ToDoID
+     * @param userId ユーザーID
+     * @param request ToDo情報
+     * @return 更新されたToDo（存在しない場合は空）
+     * @throws IllegalArgumentException 期限日が過去の場合
+     */
+    @Transactional
+    public Mono<Todo> updateTodo(Long todoId, Long userId, TodoRequest request) {
+        return validate(request)
+                .then(todoRepository.findByIdAndUserId(todoId, userId))
+                .flatMap(todo -> {
+                    todo.setTitle(request.title());
+                    todo.setDescription(request.description());
+                    todo.setDueDate(request.dueDate());
+                    return stamp(todo).flatMap(todoRepository::save);
+                });
+    }
+
+    /**
+     * ToDoの完了状態を切り替え
+     *
+     * @param todoId ToDoID
+     * @param userId ユーザーID
+     * @return 更新されたToDo（存在しない場合は空）
+     */
+    @Transactional
+    public Mono<Todo> toggleCompletion(Long todoId, Long userId) {
+        return todoRepository.findByIdAndUserId(todoId, userId)
+                .flatMap(todo -> {
+                    todo.setCompleted(!todo.isCompleted());
+                    return stamp(todo).flatMap(todoRepository::save);
+                });
+    }
+
+    /**
+     * ToDoを削除（削除記録を残す）
+     *
+     * @param todoId ToDoID
+     * @param userId ユーザーID
+     * @return 削除した場合true（存在しない場合false）
+     */
+    @Transactional
+    public Mono<Boolean> deleteTodo(Long todoId, Long userId) {
+        return todoRepository.findByIdAndUserId(todoId, userId)
+                .flatMap(todo -> recordDeletion(todo)
+                        .then(todoRepository.delete(todo))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * ユーザーのToDo統計情報を取得
+     *
+     * @param userId ユーザーID
+     * @return 統計情報
+     */
+    @Transactional(readOnly = true)
+    public Mono<TodoStatistics> getTodoStatistics(Long userId) {
+        return Mono.zip(
+                        todoRepository.countByUserId(userId),
+                        todoRepository.countByUserIdAndCompleted(userId, true),
+                        todoRepository.countByUserIdAndCompleted(userId, false),
+                        todoRepository.countOverdueTodos(userId))
+                .map(counts -> new TodoStatistics(counts.getT1(), counts.getT2(), counts.getT3(), counts.getT4()));
+    }
+
+    private Mono<Void> validate(TodoRequest request) {
+        if (request.dueDate() != null && request.dueDate().isBefore(LocalDate.now())) {
+            return Mono.error(new IllegalArgumentException("期限日は今日以降の日付を設定してください。"));
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * ToDoに新しい変更シーケンス番号を設定
+     */
+    private Mono<Todo> stamp(Todo todo) {
+        return nextChangeSeq(todo.getUserId()).map(changeSeq -> {
+            todo.setChangeSeq(changeSeq);
+            return todo;
+        });
+    }
+
+    /**
+     * ToDoの削除記録を作成
+     */
+    private Mono<Void> recordDeletion(Todo todo) {
+        return nextChangeSeq(todo.getUserId())
+                .flatMap(changeSeq -> databaseClient.sql(
+                                "INSERT INTO todo_tombstones (user_id, todo_id, change_seq, deleted_at) "
+                                        + "VALUES (:userId, :todoId, :changeSeq, :deletedAt)")
+                        .bind("userId", todo.getUserId())
+                        .bind("todoId", todo.getId())
+                        .bind("changeSeq", changeSeq)
+                        .bind("deletedAt", LocalDateTime.now())
+                        .then());
+    }
+
+    /**
+     * ユーザー単位の変更シーケンス番号を払い出す（ユーザー行の更新ロックで直列化される）
+     */
+    private Mono<Long> nextChangeSeq(Long userId) {
+        return databaseClient.sql("UPDATE users SET change_seq = change_seq + 1 WHERE id = :userId")
+                .bind("userId", userId)
+                .then()
+                .then(databaseClient.sql("SELECT change_seq FROM users WHERE id = :userId")
+                        .bind("userId", userId)
+                        .map(row -> row.get("change_seq", Long.class))
+                        .one());
+    }
+
+    /**
+     * ToDoの作成・更新リクエスト
+     *
+     * @param title タイトル
+     * @param description 詳細
+     * @param dueDate 期限日
+     */
+    public record TodoRequest(
+            @NotBlank(message = "タイトルは必須です")
+            @Size(max = 200, message = "タイトルは200文字以内で入力してください")
+            String title,
+            @Size(max = 1000, message = "詳細は1000文字以内で入力してください")
+            String description,
+            LocalDate dueDate) {
+    }
+
+    /**
+     * ToDo統計情報
+     *
+     * @param totalCount 総数
+     * @param completedCount 完了数
+     * @param incompleteCount 未完了数
+     * @param overdueCount 期限切れ数
+     */
+    public record TodoStatistics(long totalCount, long completedCount, long incompleteCount, long overdueCount) {
+    }
+}
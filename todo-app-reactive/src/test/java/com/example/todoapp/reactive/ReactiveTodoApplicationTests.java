@@ -0,0 +1,173 @@
+package com.example.todoapp.reactive;
+
+import com.example.todoapp.reactive.entity.Todo;
+import com.example.todoapp.reactive.service.ReactiveTodoService;
+import io.r2dbc.pool.ConnectionPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * リアクティブ版ToDo APIの統合テスト
+ * H2（R2DBC）に対して作成・一覧（NDJSON）・完了切り替え・統計・削除を順に実行し、
+ * サーブレット版と同じ変更シーケンス番号と削除記録が残ることを確認する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveTodoApplicationTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ReactiveTodoService todoService;
+
+    @Autowired
+    private ConnectionPool connectionPool;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = createUser();
+    }
+
+    @Test
+    void ToDoの作成から削除までが変更シーケンス番号とともに記録される() {
+        Todo created = client(email).post().uri("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "リアクティブ", "description", "説明", "dueDate", LocalDate.now().plusDays(1).toString()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Todo.class).returnResult().getResponseBody();
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getChangeSeq()).isEqualTo(1);
+
+        List<Todo> listed = client(email).get().uri("/api/todos")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Todo.class).getResponseBody().collectList().block();
+        assertThat(listed).extracting(Todo::getTitle).containsExactly("リアクティブ");
+
+        Todo toggled = client(email).post().uri("/api/todos/{id}/toggle", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Todo.class).returnResult().getResponseBody();
+        assertThat(toggled.isCompleted()).isTrue();
+        assertThat(toggled.getChangeSeq()).isEqualTo(2);
+
+        client(email).get().uri("/api/todos/statistics")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalCount").isEqualTo(1)
+                .jsonPath("$.completedCount").isEqualTo(1);
+
+        client(email).delete().uri("/api/todos/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        Long tombstoneSeq = databaseClient.sql("SELECT change_seq FROM todo_tombstones WHERE todo_id = :todoId")
+                .bind("todoId", created.getId())
+                .map(row -> row.get("change_seq", Long.class))
+                .one()
+                .block();
+        assertThat(tombstoneSeq).isEqualTo(3);
+    }
+
+    @Test
+    void 他のユーザーのToDoは取得も削除もできない() {
+        Todo created = client(email).post().uri("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "自分のToDo"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Todo.class).returnResult().getResponseBody();
+
+        String other = createUser();
+        client(other).get().uri("/api/todos/{id}", created.getId()).exchange().expectStatus().isNotFound();
+        client(other).delete().uri("/api/todos/{id}", created.getId()).exchange().expectStatus().isNotFound();
+        client(email).get().uri("/api/todos/{id}", created.getId()).exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void 過去の期限日と未認証のリクエストは拒否される() {
+        client(email).post().uri("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", "過去", "dueDate", LocalDate.now().minusDays(1).toString()))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/todos").exchange().expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void エクスポートの受信側が止まっても接続を占有しない() {
+        Long userId = databaseClient.sql("SELECT id FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+        databaseClient.sql("INSERT INTO todos (title, completed, created_at, updated_at, user_id, change_seq) "
+                        + "SELECT 'エクスポート ' || X, FALSE, :now, :now, :userId, X FROM SYSTEM_RANGE(1, 250)")
+                .bind("now", LocalDateTime.now())
+                .bind("userId", userId)
+                .then()
+                .block();
+
+        StepVerifier.create(todoService.exportTodos(userId), 1)
+                .expectNextCount(1)
+                // 1件目を受け取った後に受信側が止まっている間、接続はプールに返却されている
+                // （先読みした次のページの取得が終わるまで待つ）
+                .thenAwait(Duration.ofMillis(500))
+                .then(() -> assertThat(connectionPool.getMetrics().orElseThrow().acquiredSize()).isZero())
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(249)
+                .verifyComplete();
+    }
+
+    private WebTestClient client(String user) {
+        return webTestClient.mutate()
+                .defaultHeaders(headers -> headers.setBasicAuth(user, "password123"))
+                .build();
+    }
+
+    private String createUser() {
+        String address = "reactive-" + UUID.randomUUID() + "@example.com";
+        databaseClient.sql("INSERT INTO users (email, password, name, enabled, created_at, updated_at) "
+                        + "VALUES (:email, :password, :name, TRUE, :now, :now)")
+                .bind("email", address)
+                .bind("password", passwordEncoder.encode("password123"))
+                .bind("name", "リアクティブ")
+                .bind("now", LocalDateTime.now())
+                .then()
+                .block();
+        return address;
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.todoapp.reactive.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.CookieManager;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * サーブレット版（MVC/JPA）とリアクティブ版（WebFlux/R2DBC）のToDo読み取り経路の負荷比較ベンチマーク
+ * 両方のjarを別プロセスで起動して同じH2ファイルデータベースを共有し、同じユーザーのToDo（benchmark.todos件）を
+ * サーブレット版は /api/todos/changes、リアクティブ版は /api/todos で1ページ（最大500件）取得する
+ * <ul>
+ *   <li>スループット: benchmark.concurrency 本のクライアントが benchmark.seconds 秒間連続で取得したときの毎秒リクエスト数</li>
+ *   <li>同時リクエストあたりのメモリ: benchmark.slow-clients 本の低速クライアント（受信バッファを小さくして読み込みを止める）が
+ *       応答の途中で止まっている間の常駐メモリ（RSS）とスレッド数の、待機時からの増加分</li>
+ * </ul>
+ * 実行方法: (cd ../todo-app && mvn package -DskipTests) && mvn package -DskipTests &&
+ * mvn test -Pbenchmark -Dtest=ReactiveLoadBenchmarkTest -Dbenchmark.slow-clients=150
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+class ReactiveLoadBenchmarkTest {
+
+    private static final Path MVC_JAR = Paths.get("..", "todo-app", "target", "todo-app-0.0.1-SNAPSHOT.jar");
+    private static final Path REACTIVE_JAR = Paths.get("target", "todo-app-reactive-0.0.1-SNAPSHOT.jar");
+    private static final Path DATABASE_DIRECTORY = Paths.get("target", "load-benchmark");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String PASSWORD = "password123";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    /**
+     * 計測用のクライアント（Cookieはポートを区別しないため、登録時のセッションCookieを送らない）
+     */
+    private final HttpClient loadClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void 同時リクエストあたりのメモリとスループット() throws Exception {
+        assumeTrue(Files.exists(MVC_JAR) && Files.exists(REACTIVE_JAR),
+                "jarがありません。先に todo-app と todo-app-reactive で mvn package -DskipTests を実行してください");
+        FileSystemUtils.deleteRecursively(DATABASE_DIRECTORY);
+        Files.createDirectories(DATABASE_DIRECTORY);
+        String database = DATABASE_DIRECTORY.resolve("todoapp").toAbsolutePath() + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1";
+        String email = "load-" + UUID.randomUUID() + "@example.com";
+
+        int mvcPort = freePort();
+        Process mvc = start("mvc", mvcPort, "/api/health/simple", List.of(
+                "-jar", MVC_JAR.toAbsolutePath().toString(),
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + database,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.session.jdbc.initialize-schema=always",
+                "--app.admission.enabled=false",
+                "--app.api-token.enabled=true",
+                "--app.api-token.keys.k1=" + Base64.getEncoder().encodeToString(new byte[32]),
+                "--app.api-token.access-token-ttl=1h",
+                "--app.warmup.budget=0s"));
+        try {
+            String accessToken = registerAndSeed(mvcPort, email);
+
+            int reactivePort = freePort();
+            Process reactive = start("reactive", reactivePort, "/actuator/health", List.of(
+                    "-jar", REACTIVE_JAR.toAbsolutePath().toString(),
+                    "--spring.r2dbc.url=r2dbc:h2:file:///" + database,
+                    "--spring.sql.init.mode=never"));
+            try {
+                String session = reactiveSession(reactivePort, email);
+                List<Target> targets = List.of(
+                        new Target("MVC/JPA", mvc, mvcPort, "/api/todos/changes?limit=500",
+                                "Authorization", "Bearer " + accessToken),
+                        new Target("WebFlux/R2DBC", reactive, reactivePort, "/api/todos?size=500",
+                                "Cookie", session));
+                for (Target target : targets) {
+                    measure(target);
+                }
+            } finally {
+                stop(reactive);
+            }
+        } finally {
+            stop(mvc);
+        }
+    }
+
+    private void measure(Target target) throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 32);
+        int seconds = Integer.getInteger("benchmark.seconds", 20);
+        int slowClients = Integer.getInteger("benchmark.slow-clients", 100);
+
+        load(target, concurrency, Duration.ofSeconds(5)); // ウォームアップ
+        long[] result = load(target, concurrency, Duration.ofSeconds(seconds));
+        System.out.printf("[benchmark] %-14s スループット: %.1f req/s (同時%d, %d秒, 失敗=%d)%n",
+                target.name(), result[0] / (double) seconds, concurrency, seconds, result[1]);
+
+        System.gc();
+        Thread.sleep(2000);
+        long idleRss = procStatus(target.process().pid(), "VmRSS:");
+        long idleThreads = procStatus(target.process().pid(), "Threads:");
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < slowClients; i++) {
+                sockets.add(openSlowClient(target));
+            }
+            Thread.sleep(3000);
+            long busyRss = procStatus(target.process().pid(), "VmRSS:");
+            long busyThreads = procStatus(target.process().pid(), "Threads:");
+            System.out.printf("[benchmark] %-14s 低速クライアント%d本: RSS=%.1fMB→%.1fMB (%.1fKB/リクエスト), スレッド=%d→%d%n",
+                    target.name(), slowClients, idleRss / 1024.0, busyRss / 1024.0,
+                    (busyRss - idleRss) / (double) slowClients, idleThreads, busyThreads);
+        } finally {
+            for (Socket socket : sockets) {
+                drain(socket);
+            }
+        }
+    }
+
+    /**
+     * 指定時間、同時に連続して取得する
+     *
+     * @return 成功数と失敗数
+     */
+    private long[] load(Target target, int concurrency, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + target.port() + target.path()))
+                .header(target.header(), target.headerValue())
+                .header("Accept", "application/json")
+                .build();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            int status = loadClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            (status == 200 ? succeeded : failed).incrementAndGet();
+                        } catch (IOException e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return new long[] {succeeded.get(), failed.get()};
+    }
+
+    /**
+     * 応答の先頭だけを読み込んで止まるクライアントを作成
+     * 受信バッファを小さくしてTCPの受信ウィンドウを絞り、サーバー側の書き込みを途中で待たせる
+     */
+    private static Socket openSlowClient(Target target) throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", target.port()), 1000);
+        socket.getOutputStream().write(("GET " + target.path() + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + target.header() + ": " + target.headerValue() + "\r\n"
+                + "Accept: application/json\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+        socket.getInputStream().readNBytes(1024);
+        return socket;
+    }
+
+    private static void drain(Socket socket) {
+        try (socket; InputStream in = socket.getInputStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // 計測後の後始末のみ
+        }
+    }
+
+    /**
+     * サーブレット版でユーザーを登録し、APIトークンを取得してToDoを作成する
+     *
+     * @return アクセストークン
+     */
+    private String registerAndSeed(int port, String email) throws Exception {
+        HttpResponse<String> register = post(port, "/register", Map.of(
+                "name", "負荷試験",
+                "email", email,
+                "password", PASSWORD,
+                "confirmPassword", PASSWORD,
+                "_csrf", find(CSRF_TOKEN, get(port, "/register").body())));
+        if (register.statusCode() != 302) {
+            throw new IllegalStateException("ユーザー登録に失敗しました: " + register.statusCode());
+        }
+
+        HttpResponse<String> token = httpClient.send(HttpRequest.newBuilder(url(port, "/api/auth/token"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        String accessToken = find(ACCESS_TOKEN, token.body());
+
+        int todos = Integer.getInteger("benchmark.todos", 500);
+        String description = "説明".repeat(400);
+        for (int offset = 0; offset < todos; offset += 100) {
+            String operations = IntStream.range(offset, Math.min(offset + 100, todos))
+                    .mapToObj(i -> "{\"op\":\"create\",\"title\":\"負荷試験 " + i + "\",\"description\":\"" + description + "\"}")
+                    .collect(Collectors.joining(","));
+            HttpResponse<String> batch = httpClient.send(HttpRequest.newBuilder(url(port, "/api/todos/batch"))
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"operations\":[" + operations + "]}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (batch.statusCode() != 200) {
+                throw new IllegalStateException("ToDoの作成に失敗しました: " + batch.body());
+            }
+        }
+        return accessToken;
+    }
+
+    /**
+     * リアクティブ版にBasic認証でアクセスし、以降のリクエストに使うセッションCookieを取得する
+     * （毎回Basic認証するとBCryptの照合が計測に含まれるため）
+     */
+    private String reactiveSession(int port, String email) throws Exception {
+        HttpResponse<Void> response = loadClient.send(HttpRequest.newBuilder(url(port, "/api/todos/statistics"))
+                        .header("Authorization", "Basic " + Base64.getEncoder()
+                                .encodeToString((email + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("SESSION="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("セッションCookieが発行されません: " + response.statusCode()));
+    }
+
+    private Process start(String name, int port, String readyPath, List<String> arguments) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.add("--server.port=" + port);
+        File log = Paths.get("target").resolve("load-benchmark-" + name + ".log").toFile();
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        long started = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(url(port, readyPath)).timeout(Duration.ofSeconds(5)).build();
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("アプリケーションが終了しました: " + log);
+            }
+            if (System.nanoTime() - started > STARTUP_TIMEOUT.toNanos()) {
+                stop(process);
+                throw new IllegalStateException("起動がタイムアウトしました: " + log);
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return process;
+                }
+            } catch (IOException e) {
+                // 起動中（接続できない）
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(url(port, path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(int port, String path, Map<String, String> form) throws Exception {
+        String body = form.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return httpClient.send(HttpRequest.newBuilder(url(port, path))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI url(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String find(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            throw new IllegalStateException("見つかりません: " + pattern);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * /proc/[pid]/status の数値項目（VmRSSはKB。Linux以外では-1）
+     */
+    private static long procStatus(long pid, String key) throws IOException {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith(key))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Target(String name, Process process, int port, String path, String header, String headerValue) {
+    }
+}
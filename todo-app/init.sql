@@ -10,5 +10,18 @@ SET timezone = 'Asia/Tokyo';
 -- データベースの文字エンコーディング確認
 SHOW server_encoding;
 
+-- スキーマの作成（src/main/resources/db/migration のマイグレーションをバージョン順に適用）
+-- docker-compose.yml で /migrations にマウントする
+\i /migrations/V1__baseline.sql
+\i /migrations/V2__delta_sync.sql
+\i /migrations/V3__idempotency_keys.sql
+\i /migrations/V4__shard_assignments.sql
+\i /migrations/V5__todos_archive.sql
+\i /migrations/V6__user_deletion_jobs.sql
+\i /migrations/V7__spring_session.sql
+\i /migrations/V8__users_credentials_version.sql
+\i /migrations/V9__remember_me_tokens.sql
+\i /migrations/V10__todo_daily_stats.sql
+
 -- 初期データベースの準備完了
 SELECT 'Database initialization completed' AS status;
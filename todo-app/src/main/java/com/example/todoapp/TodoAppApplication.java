@@ -1,8 +1,11 @@
 package com.example.todoapp;
 
+import com.example.todoapp.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot ToDo アプリケーションのメインクラス
@@ -12,6 +15,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class TodoAppApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,162 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.config.UserAdmissionLimiter.Permit;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * リクエスト受付制御インターセプター
+ * ToDo関連のリクエストに対して、ユーザーごとの同時実行数・リクエストレートの制限（429）と、
+ * データベースの過負荷時の優先度に応じた受付制限（503）を行う
+ *
+ * <p>過負荷の判定には接続の取得待ち時間（{@link DatabaseLatencyMonitor}）を使用する。
+ * 目標値（app.admission.shedding.target-acquire-latency）を超えると集計系の読み取り
+ * （low-priority-paths）から確率的に拒否し、上限値（critical-acquire-latency）を超えると通常の読み取りも拒否する。
+ * 書き込みは過負荷時も受け付ける。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    /**
+     * リクエストの優先度
+     */
+    enum Priority {
+        WRITE, READ, LOW
+    }
+
+    private final UserAdmissionLimiter limiter;
+
+    private final DatabaseLatencyMonitor databaseLatencyMonitor;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final boolean enabled;
+
+    private final List<String> lowPriorityPaths;
+
+    private final double targetLatencyMillis;
+
+    private final double criticalLatencyMillis;
+
+    private final Counter concurrencyRejections;
+    private final Counter rateRejections;
+    private final Counter shedRejections;
+
+    public AdmissionControlInterceptor(
+            DatabaseLatencyMonitor databaseLatencyMonitor,
+            MeterRegistry meterRegistry,
+            @Value("${app.admission.enabled:true}") boolean enabled,
+            @Value("${app.admission.stripes:4096}") int stripes,
+            @Value("${app.admission.max-concurrent-per-user:4}") int maxConcurrentPerUser,
+            @Value("${app.admission.requests-per-second:10}") double requestsPerSecond,
+            @Value("${app.admission.burst:30}") int burst,
+            @Value("${app.admission.shedding.low-priority-paths:/todos/overdue,/api/todos/changes,/todos/calendar,/todos/analytics}") List<String> lowPriorityPaths,
+            @Value("${app.admission.shedding.target-acquire-latency:20ms}") Duration targetLatency,
+            @Value("${app.admission.shedding.critical-acquire-latency:250ms}") Duration criticalLatency) {
+        this.limiter = new UserAdmissionLimiter(stripes, maxConcurrentPerUser, requestsPerSecond, burst);
+        this.databaseLatencyMonitor = databaseLatencyMonitor;
+        this.enabled = enabled;
+        this.lowPriorityPaths = List.copyOf(lowPriorityPaths);
+        this.targetLatencyMillis = targetLatency.toNanos() / 1_000_000.0;
+        this.criticalLatencyMillis = criticalLatency.toNanos() / 1_000_000.0;
+        this.concurrencyRejections = rejectionCounter(meterRegistry, "concurrency");
+        this.rateRejections = rejectionCounter(meterRegistry, "rate");
+        this.shedRejections = rejectionCounter(meterRegistry, "shed");
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("app.admission.rejected")
+                .description("受付制御により拒否したリクエスト数")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return true;
+        }
+
+        if (shouldShed(priorityOf(request), databaseLatencyMonitor.getAcquireLatencyMillis())) {
+            shedRejections.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(5));
+            return false;
+        }
+
+        Permit permit = limiter.tryAcquire(principal.getUserId());
+        if (!permit.granted()) {
+            (permit.rejection() == UserAdmissionLimiter.Rejection.RATE ? rateRejections : concurrencyRejections).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, permit.retryAfter());
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            limiter.release(permit);
+        }
+    }
+
+    Priority priorityOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return Priority.WRITE;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : lowPriorityPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return Priority.LOW;
+            }
+        }
+        return Priority.READ;
+    }
+
+    /**
+     * 過負荷時に拒否するかを判定
+     * 集計系の読み取りは目標値から上限値にかけて拒否する割合を0〜100%に、
+     * 通常の読み取りは上限値からその2倍にかけて0〜100%に引き上げる
+     */
+    boolean shouldShed(Priority priority, double latencyMillis) {
+        double probability = switch (priority) {
+            case WRITE -> 0;
+            case READ -> (latencyMillis - criticalLatencyMillis) / criticalLatencyMillis;
+            case LOW -> (latencyMillis - targetLatencyMillis) / (criticalLatencyMillis - targetLatencyMillis);
+        };
+        return probability > 0 && (probability >= 1 || ThreadLocalRandom.current().nextDouble() < probability);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, Duration retryAfter) {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * セッション属性のシリアライザ
+ * 全リクエストで読み書きされる認証情報（SecurityContext）とCSRFトークンは独自の固定形式で、
+ * それ以外の属性はJavaシリアライズで保存する（一定サイズを超える場合は圧縮する）
+ *
+ * <p>Javaシリアライズはクラス記述子を含むため、認証情報1件でも1KB程度になる。
+ * 先頭1バイトで形式を判別し、Javaシリアライズのストリームヘッダ（0xAC）で始まるデータは
+ * 従来の形式としてそのまま読み込むため、既存のセッションも引き続き利用できる。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class CompactSessionSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private static final int SECURITY_CONTEXT = 1;
+    private static final int CSRF_TOKEN = 2;
+    private static final int DEFLATED_JAVA = 3;
+    private static final int JAVA_STREAM_MAGIC = 0xAC;
+
+    private static final int DEFLATE_THRESHOLD = 256;
+
+    private final DefaultSerializer javaSerializer = new DefaultSerializer();
+    private final DefaultDeserializer javaDeserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object value, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        if (isCompactSecurityContext(value)) {
+            out.writeByte(SECURITY_CONTEXT);
+            writeSecurityContext((SecurityContext) value, out);
+        } else if (value instanceof DefaultCsrfToken token) {
+            out.writeByte(CSRF_TOKEN);
+            out.writeUTF(token.getHeaderName());
+            out.writeUTF(token.getParameterName());
+            out.writeUTF(token.getToken());
+        } else {
+            byte[] serialized = javaSerializer.serializeToByteArray(value);
+            if (serialized.length < DEFLATE_THRESHOLD) {
+                out.write(serialized);
+            } else {
+                out.writeByte(DEFLATED_JAVA);
+                Deflater deflater = new Deflater();
+                try {
+                    DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater);
+                    deflated.write(serialized);
+                    deflated.finish();
+                } finally {
+                    deflater.end();
+                }
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(inputStream);
+        int format = pushback.read();
+        if (format == JAVA_STREAM_MAGIC) {
+            pushback.unread(format);
+            return javaDeserializer.deserialize(pushback);
+        }
+        DataInputStream in = new DataInputStream(pushback);
+        return switch (format) {
+            case SECURITY_CONTEXT -> readSecurityContext(in);
+            case CSRF_TOKEN -> new DefaultCsrfToken(in.readUTF(), in.readUTF(), in.readUTF());
+            case DEFLATED_JAVA -> inflate(in);
+            default -> throw new IOException("不明なセッション属性の形式です: " + format);
+        };
+    }
+
+    private Object inflate(InputStream in) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            return javaDeserializer.deserialize(new InflaterInputStream(in, inflater));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * ログイン時に作成される形のSecurityContextかどうかを判定
+     * 資格情報が残っている場合や、Remember-Meなど他の認証方式の場合はJavaシリアライズで保存する
+     */
+    private static boolean isCompactSecurityContext(Object value) {
+        if (value == null || value.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+        if (!(((SecurityContext) value).getAuthentication() instanceof UsernamePasswordAuthenticationToken token)
+                || token.getClass() != UsernamePasswordAuthenticationToken.class) {
+            return false;
+        }
+        Object details = token.getDetails();
+        return token.isAuthenticated()
+                && token.getCredentials() == null
+                && token.getPrincipal() != null && token.getPrincipal().getClass() == CustomUserPrincipal.class
+                && ((CustomUserPrincipal) token.getPrincipal()).getPassword() == null
+                && (details == null || details.getClass() == WebAuthenticationDetails.class);
+    }
+
+    private static void writeSecurityContext(SecurityContext context, DataOutputStream out) throws IOException {
+        UsernamePasswordAuthenticationToken token = (UsernamePasswordAuthenticationToken) context.getAuthentication();
+        CustomUserPrincipal principal = (CustomUserPrincipal) token.getPrincipal();
+        out.writeLong(principal.getUserId());
+        out.writeUTF(principal.getEmail());
+        writeNullable(out, principal.getName());
+        out.writeBoolean(principal.isEnabled());
+
+        out.writeShort(token.getAuthorities().size());
+        for (GrantedAuthority authority : token.getAuthorities()) {
+            out.writeUTF(authority.getAuthority());
+        }
+
+        WebAuthenticationDetails details = (WebAuthenticationDetails) token.getDetails();
+        out.writeBoolean(details != null);
+        if (details != null) {
+            writeNullable(out, details.getRemoteAddress());
+            writeNullable(out, details.getSessionId());
+        }
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        CustomUserPrincipal principal = new CustomUserPrincipal(
+                in.readLong(), in.readUTF(), readNullable(in), in.readBoolean(), null);
+
+        int authorityCount = in.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+        for (int i = 0; i < authorityCount; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+
+        UsernamePasswordAuthenticationToken token =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+        if (in.readBoolean()) {
+            token.setDetails(new WebAuthenticationDetails(readNullable(in), readNullable(in)));
+        }
+        return new SecurityContextImpl(token);
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
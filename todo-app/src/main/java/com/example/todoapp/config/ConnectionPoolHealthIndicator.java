@@ -0,0 +1,82 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * コネクションプールの飽和状態のヘルスチェック（ヘルスインジケーター名: connectionPool）
+ * プールのメトリクス（hikaricp.connections.*）と接続の取得待ち時間の移動平均（{@link DatabaseLatencyMonitor}）から
+ * プールの飽和を判定し、飽和している間はOUT_OF_SERVICEを返す
+ *
+ * <p>readinessプローブに含めることで、プールが飽和したノードへの新しいリクエストの振り分けを一時的に止める。
+ * メモリ上の値のみを参照するため、データベースにはアクセスしない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final MeterRegistry meterRegistry;
+
+    private final DatabaseLatencyMonitor databaseLatencyMonitor;
+
+    private final int maxPending;
+
+    private final double maxAcquireLatencyMillis;
+
+    public ConnectionPoolHealthIndicator(
+            MeterRegistry meterRegistry,
+            DatabaseLatencyMonitor databaseLatencyMonitor,
+            @Value("${app.health.pool.max-pending:5}") int maxPending,
+            @Value("${app.health.pool.max-acquire-latency:250ms}") Duration maxAcquireLatency) {
+        this.meterRegistry = meterRegistry;
+        this.databaseLatencyMonitor = databaseLatencyMonitor;
+        this.maxPending = maxPending;
+        this.maxAcquireLatencyMillis = maxAcquireLatency.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * 接続待ちのスレッド数がmax-pendingを超えているプールがある場合、
+     * または接続の取得待ち時間の移動平均がmax-acquire-latencyを超えている場合に飽和とみなす
+     */
+    @Override
+    public Health health() {
+        Map<String, Map<String, Object>> pools = new LinkedHashMap<>();
+        boolean saturated = false;
+        for (Gauge pending : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            String pool = pending.getId().getTag("pool");
+            double active = gaugeValue("hikaricp.connections.active", pool);
+            double max = gaugeValue("hikaricp.connections.max", pool);
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("active", (long) active);
+            details.put("max", (long) max);
+            details.put("pending", (long) pending.value());
+            pools.put(pool, details);
+            saturated |= pending.value() > maxPending;
+        }
+
+        double acquireLatencyMillis = databaseLatencyMonitor.getAcquireLatencyMillis();
+        saturated |= acquireLatencyMillis > maxAcquireLatencyMillis;
+
+        return Health.status(saturated ? Status.OUT_OF_SERVICE : Status.UP)
+                .withDetail("acquireLatencyMs", acquireLatencyMillis)
+                .withDetail("pools", pools)
+                .build();
+    }
+
+    private double gaugeValue(String name, String pool) {
+        Gauge gauge = meterRegistry.find(name).tag("pool", pool).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.RequestDeadline;
+import com.example.todoapp.service.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * データベースのヘルスチェック（ヘルスインジケーター名: database）
+ * バックグラウンドで定期的にデータベースの応答（SELECT 1）と件数を確認し、結果をメモリに保持する
+ *
+ * <p>ヘルスチェック（/actuator/health・readinessプローブ・/api/health/detailed）は保持している結果を返すのみで、
+ * プローブの頻度に関わらずデータベースへの負荷は一定になる。
+ * 応答確認はすべてのシャードに対して app.health.refresh-interval-ms ごとに行い、ping-timeout 以内に完了しない場合はDOWNとする。
+ * 全件を数える件数の集計は負荷が高いため count-interval ごとに count-timeout（クエリタイムアウト）付きで行い、
+ * 失敗した場合は前回の件数を保持する。結果が refresh-interval-ms の3倍以上更新されていない場合もDOWNとする。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component("databaseHealthIndicator")
+public class DatabaseHealthMonitor implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseHealthMonitor.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ShardRouter shardRouter;
+
+    private final UserRepository userRepository;
+
+    private final TodoRepository todoRepository;
+
+    private final Duration refreshInterval;
+
+    private final Duration pingTimeout;
+
+    private final Duration countInterval;
+
+    private final Duration countTimeout;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean pinging = new AtomicBoolean();
+
+    private final AtomicBoolean counting = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    private volatile Counts counts;
+
+    private volatile Instant lastCountStartedAt;
+
+    public DatabaseHealthMonitor(
+            DataSource dataSource,
+            ShardRouter shardRouter,
+            UserRepository userRepository,
+            TodoRepository todoRepository,
+            @Value("${app.health.refresh-interval-ms:5000}") long refreshIntervalMillis,
+            @Value("${app.health.ping-timeout:2s}") Duration pingTimeout,
+            @Value("${app.health.count-interval:5m}") Duration countInterval,
+            @Value("${app.health.count-timeout:5s}") Duration countTimeout) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, pingTimeout.toSeconds()));
+        this.shardRouter = shardRouter;
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMillis);
+        this.pingTimeout = pingTimeout;
+        this.countInterval = countInterval;
+        this.countTimeout = countTimeout;
+    }
+
+    /**
+     * 確認結果をヘルス情報に変換（データベースにはアクセスしない）
+     */
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail("message", "確認中").build();
+        }
+
+        boolean stale = Duration.between(current.checkedAt(), Instant.now()).compareTo(refreshInterval.multipliedBy(3)) > 0;
+        Health.Builder builder = current.error() == null && !stale ? Health.up() : Health.down();
+        builder.withDetail("checkedAt", current.checkedAt());
+        if (current.pingLatency() != null) {
+            builder.withDetail("pingLatencyMs", current.pingLatency().toNanos() / 1_000_000.0);
+        }
+        if (current.error() != null) {
+            builder.withDetail("error", current.error());
+        } else if (stale) {
+            builder.withDetail("error", "確認結果が更新されていません");
+        }
+        Counts currentCounts = counts;
+        if (currentCounts != null) {
+            builder.withDetail("userCount", currentCounts.userCount())
+                    .withDetail("todoCount", currentCounts.todoCount())
+                    .withDetail("countedAt", currentCounts.countedAt());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 最新の確認結果を取得
+     *
+     * @return 確認結果（未確認の場合はnull）
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 最新の件数の集計結果を取得
+     *
+     * @return 集計結果（未集計の場合はnull）
+     */
+    public Counts getCounts() {
+        return counts;
+    }
+
+    /**
+     * 確認を開始（定期実行）
+     * 確認は別スレッドで行い、スケジューラーのスレッドは待機しない。前回の確認が終わっていない場合は開始しない
+     */
+    @Scheduled(fixedDelayString = "${app.health.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (pinging.compareAndSet(false, true)) {
+            CompletableFuture<Snapshot> ping = CompletableFuture.supplyAsync(this::ping, executor);
+            ping.whenComplete((result, e) -> pinging.set(false));
+            ping.copy()
+                    .orTimeout(pingTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((result, e) -> snapshot = result != null ? result : failed(e));
+        }
+
+        // 集計の失敗時も次の集計は count-interval 後とする
+        Instant lastStarted = lastCountStartedAt;
+        boolean countDue = lastStarted == null
+                || Duration.between(lastStarted, Instant.now()).compareTo(countInterval) >= 0;
+        if (countDue && counting.compareAndSet(false, true)) {
+            lastCountStartedAt = Instant.now();
+            executor.execute(() -> {
+                try {
+                    count();
+                } finally {
+                    counting.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * すべてのシャードの応答を確認
+     */
+    Snapshot ping() {
+        Map<String, Long> pingNanosByShard = shardRouter.callOnEachShard(() -> {
+            long started = System.nanoTime();
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return System.nanoTime() - started;
+        });
+        long maxPingNanos = pingNanosByShard.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        return new Snapshot(Instant.now(), Duration.ofNanos(maxPingNanos), null);
+    }
+
+    /**
+     * ユーザー数・ToDo件数（全シャードの合計）を集計
+     * クエリタイムアウト（count-timeout）を超えた場合は前回の件数を保持する
+     */
+    void count() {
+        RequestDeadline.bind(countTimeout);
+        try {
+            long userCount = userRepository.count();
+            Map<String, Long> todoCountByShard = shardRouter.callOnEachShard(todoRepository::count);
+            long todoCount = todoCountByShard.values().stream().mapToLong(Long::longValue).sum();
+            counts = new Counts(userCount, todoCount, todoCountByShard, Instant.now());
+        } catch (RuntimeException e) {
+            logger.warn("ヘルスチェックの件数の集計に失敗しました", e);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private Snapshot failed(Throwable e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        String error = cause instanceof TimeoutException
+                ? "応答がタイムアウトしました（" + pingTimeout.toMillis() + "ms）"
+                : String.valueOf(cause.getMessage());
+        return new Snapshot(Instant.now(), null, error);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 確認結果
+     *
+     * @param checkedAt 確認日時
+     * @param pingLatency 応答時間（全シャードの最大。失敗した場合はnull）
+     * @param error エラー内容（正常な場合はnull）
+     */
+    public record Snapshot(Instant checkedAt, Duration pingLatency, String error) {
+    }
+
+    /**
+     * 件数の集計結果
+     */
+    public record Counts(long userCount, long todoCount, Map<String, Long> todoCountByShard, Instant countedAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * データベース負荷の監視
+ * コネクションプールのメトリクス（hikaricp.connections.acquire / pending）から接続の取得待ち時間を一定間隔で集計し、
+ * 指数移動平均を過負荷時の受付制御（{@link AdmissionControlInterceptor}）に提供する
+ *
+ * <p>取得待ち時間はプールが飽和すると急増するため、クエリ自体の遅延とプールの枯渇の両方を反映する。
+ * 集計はすべてのプール（シャード・レプリカを含む）の合計で行う。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class DatabaseLatencyMonitor {
+
+    private static final double SMOOTHING = 0.3;
+
+    private final MeterRegistry meterRegistry;
+
+    private long lastCount;
+    private double lastTotalNanos;
+    private long lastSampleNanos = System.nanoTime();
+
+    private volatile double acquireLatencyMillis;
+
+    public DatabaseLatencyMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("app.admission.db-acquire-latency", this, DatabaseLatencyMonitor::getAcquireLatencyMillis)
+                .description("受付制御に使用する接続取得待ち時間の移動平均（ミリ秒）")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 接続の取得待ち時間の移動平均（ミリ秒）
+     */
+    public double getAcquireLatencyMillis() {
+        return acquireLatencyMillis;
+    }
+
+    /**
+     * 前回の集計以降の平均取得待ち時間を移動平均に反映（定期実行）
+     * 取得が1件もなく待機中のスレッドがある場合は、プールが枯渇しているとみなし集計間隔を待ち時間とする
+     */
+    @Scheduled(fixedDelayString = "${app.admission.shedding.sample-interval-ms:1000}")
+    public synchronized void sample() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        double pending = 0;
+        for (Gauge gauge : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            pending += gauge.value();
+        }
+
+        long now = System.nanoTime();
+        long acquired = count - lastCount;
+        double sampleMillis;
+        if (acquired > 0) {
+            sampleMillis = (totalNanos - lastTotalNanos) / acquired / 1_000_000.0;
+        } else {
+            sampleMillis = pending > 0 ? (now - lastSampleNanos) / 1_000_000.0 : 0;
+        }
+        record(sampleMillis);
+
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        lastSampleNanos = now;
+    }
+
+    void record(double sampleMillis) {
+        acquireLatencyMillis = SMOOTHING * sampleMillis + (1 - SMOOTHING) * acquireLatencyMillis;
+    }
+}
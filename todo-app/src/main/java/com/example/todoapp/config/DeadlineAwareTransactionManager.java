@@ -0,0 +1,92 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.RequestDeadline;
+import com.example.todoapp.service.RequestDeadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * リクエストの処理期限を適用するトランザクションマネージャー
+ * トランザクション開始時に {@link RequestDeadline} の残り時間をトランザクションのタイムアウトとして設定する
+ *
+ * <p>タイムアウトはトランザクション内で作成されるクエリにJPAのクエリタイムアウト（JDBCの setQueryTimeout）として適用され、
+ * 期限を過ぎた後のクエリは実行前に打ち切られる。残り時間が最小限の処理時間（minimumBudget）に満たない場合は
+ * コネクションを取得せずに {@link DeadlineExceededException} で打ち切る。</p>
+ *
+ * <p>打ち切られた件数は app.request-deadline.cancelled（stage: before-transaction / in-transaction）で確認できる。
+ * in-transaction は期限を過ぎてからロールバックされたトランザクション（クエリのタイムアウトを含む）の件数。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    private final Duration minimumBudget;
+
+    private final Counter cancelledBeforeTransaction;
+    private final Counter cancelledInTransaction;
+
+    public DeadlineAwareTransactionManager(EntityManagerFactory entityManagerFactory, Duration minimumBudget,
+                                           MeterRegistry meterRegistry) {
+        super(entityManagerFactory);
+        this.minimumBudget = minimumBudget;
+        this.cancelledBeforeTransaction = cancelledCounter(meterRegistry, "before-transaction");
+        this.cancelledInTransaction = cancelledCounter(meterRegistry, "in-transaction");
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null) {
+            super.doBegin(transaction, definition);
+            return;
+        }
+        if (remaining.compareTo(minimumBudget) < 0) {
+            cancelledBeforeTransaction.increment();
+            throw new DeadlineExceededException(remaining);
+        }
+
+        super.doBegin(transaction, definition);
+
+        // 定義済みのタイムアウト（@Transactional(timeout)）より期限が近い場合のみ上書き
+        long remainingMillis = remaining.toMillis();
+        applyDeadline(TransactionSynchronizationManager.getResource(obtainEntityManagerFactory()), remainingMillis);
+        if (getDataSource() != null) {
+            applyDeadline(TransactionSynchronizationManager.getResource(getDataSource()), remainingMillis);
+        }
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        try {
+            super.doRollback(status);
+        } finally {
+            Duration remaining = RequestDeadline.remaining();
+            if (remaining != null && remaining.isNegative()) {
+                cancelledInTransaction.increment();
+            }
+        }
+    }
+
+    private static void applyDeadline(Object resourceHolder, long remainingMillis) {
+        if (resourceHolder instanceof ResourceHolderSupport holder
+                && (!holder.hasTimeout() || holder.getTimeToLiveInMillis() > remainingMillis)) {
+            holder.setTimeoutInMillis(remainingMillis);
+        }
+    }
+
+    private static Counter cancelledCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("app.request-deadline.cancelled")
+                .description("リクエストの処理期限により打ち切られたトランザクション数")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
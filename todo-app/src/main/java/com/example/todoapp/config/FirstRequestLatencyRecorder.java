@@ -0,0 +1,107 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 起動直後のリクエストの応答時間の記録
+ * 起動後の最初の app.warmup.report-requests 件のリクエストの応答時間を記録し、
+ * 件数に達した時点で分布（p50 / p90 / p99 / 最大）をログに出力する
+ *
+ * <p>応答時間は app.warmup.first-requests（warmup: enabled / disabled）としても記録されるため、
+ * ウォームアップ（{@link WarmupRunner}）の有無によるデプロイ直後の応答時間の違いをデプロイ間で比較できる。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class FirstRequestLatencyRecorder implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FirstRequestLatencyRecorder.class);
+
+    private static final String STARTED_AT_ATTRIBUTE = FirstRequestLatencyRecorder.class.getName() + ".startedAt";
+
+    private final boolean warmupEnabled;
+
+    private final AtomicLongArray latencies;
+
+    // 記録枠を割り当てたリクエスト数と記録を終えたリクエスト数
+    private final AtomicInteger assigned = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private final Timer timer;
+
+    public FirstRequestLatencyRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${app.warmup.report-requests:200}") int reportRequests,
+            @Value("${app.warmup.enabled:false}") boolean warmupEnabled) {
+        this.warmupEnabled = warmupEnabled;
+        this.latencies = new AtomicLongArray(reportRequests);
+        this.timer = Timer.builder("app.warmup.first-requests")
+                .description("起動後の最初のリクエストの応答時間")
+                .tag("warmup", warmupEnabled ? "enabled" : "disabled")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (assigned.get() < latencies.length()) {
+            request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(STARTED_AT_ATTRIBUTE) instanceof Long startedAt)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        int index = assigned.getAndIncrement();
+        if (index >= latencies.length()) {
+            return;
+        }
+        latencies.set(index, elapsed);
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (completed.incrementAndGet() == latencies.length()) {
+            logger.info("起動後の最初の{}件のリクエストの応答時間（ウォームアップ: {}）: {}",
+                    latencies.length(), warmupEnabled ? "有効" : "無効", summary());
+        }
+    }
+
+    /**
+     * 記録済みの応答時間の分布
+     */
+    String summary() {
+        int count = Math.min(completed.get(), latencies.length());
+        if (count == 0) {
+            return "記録なし";
+        }
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return String.format("p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms 最初のリクエスト=%.1fms",
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                sorted[count - 1] / 1_000_000.0, latencies.get(0) / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
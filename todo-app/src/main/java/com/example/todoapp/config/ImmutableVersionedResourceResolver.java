@@ -0,0 +1,145 @@
+package com.example.todoapp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * バージョン付きURL（コンテンツハッシュを含むURL）で要求されたリソースにのみ長期キャッシュ（immutable）を指定するリゾルバー
+ * {@link org.springframework.web.servlet.resource.VersionResourceResolver} の直前に登録する
+ *
+ * <p>バージョンなしのURL（/css/app.css など）はデプロイで内容が変わるため、ハンドラーに設定した
+ * キャッシュ指定（再検証）のまま返す。URLのバージョンがリソースの内容と一致した場合のみ
+ * VersionResourceResolver が {@link HttpResource} を返すため、その場合に限りキャッシュ指定を上書きする。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ImmutableVersionedResourceResolver extends AbstractResourceResolver {
+
+    private final VersionStrategy versionStrategy;
+    private final String cacheControl;
+
+    public ImmutableVersionedResourceResolver(VersionStrategy versionStrategy, CacheControl cacheControl) {
+        this.versionStrategy = versionStrategy;
+        this.cacheControl = cacheControl.getHeaderValue();
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource instanceof HttpResource versioned && versionStrategy.extractVersion(requestPath) != null) {
+            return new ImmutableResource(versioned, cacheControl);
+        }
+        return resource;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * Cache-Controlヘッダーを追加したリソース（それ以外は元のリソースに委譲する）
+     * リソースチェーンのキャッシュは説明文（description）でリソースを比較するため、
+     * 元のリソースや圧縮版（createRelative）と区別できる説明文にする
+     */
+    static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+        private final String cacheControl;
+
+        ImmutableResource(Resource resource, String cacheControl) {
+            this.resource = resource;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (resource instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return resource.isReadable();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return resource.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return new ImmutableResource(resource.createRelative(relativePath), cacheControl);
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return resource.getDescription() + " [immutable]";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.memory.InMemoryTodoRepository;
+import com.example.todoapp.repository.memory.TodoStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * インメモリストア設定クラス
+ * memory-store プロファイルで有効になり、ToDoの保存先をデータベースの todos テーブルから
+ * アプリケーション内のインメモリストア（先行書き込みログとスナップショットで永続化）に切り替える
+ *
+ * <p>ユーザー・削除記録・セッションなどToDo以外のデータは引き続きデータベースに保存する。
+ * ストアはノードごとに独立しているため、このプロファイルは1ノード構成（シャーディングなし）でのみ使用すること。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+@Profile("memory-store")
+public class InMemoryStoreConfig {
+
+    /**
+     * インメモリストア（起動時にスナップショットとログから復旧し、終了時にスナップショットを作成する）
+     */
+    @Bean(destroyMethod = "close")
+    public TodoStore todoStore(
+            @Value("${app.memory-store.directory:./data/memory-store}") Path directory,
+            @Value("${app.memory-store.segment-size:64MB}") DataSize segmentSize,
+            MeterRegistry meterRegistry) {
+        TodoStore store = new TodoStore(directory, Math.toIntExact(segmentSize.toBytes()));
+        Gauge.builder("app.memory-store.todos", store, TodoStore::count)
+                .description("インメモリストアのToDo件数")
+                .register(meterRegistry);
+        return store;
+    }
+
+    /**
+     * ToDoリポジトリ（JPAのリポジトリより優先して注入される）
+     */
+    @Bean
+    @Primary
+    public TodoRepository inMemoryTodoRepository(
+            TodoStore todoStore,
+            @Value("${app.memory-store.sync-on-commit:true}") boolean syncOnCommit) {
+        return new InMemoryTodoRepository(todoStore, syncOnCommit);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.todoapp.config;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 最終アクセス日時の更新を間引くセッションリポジトリ
+ * セッションは全リクエストで最終アクセス日時が更新されるため、そのままでは属性を変更しない読み取りのリクエストでも
+ * 毎回セッション行のUPDATEが発生する。前回の記録から一定時間が経過するまで更新を記録しないことで、
+ * 属性の変更がないリクエストのセッション書き込みをなくす
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class LastAccessThrottlingSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<LastAccessThrottlingSessionRepository.ThrottledSession<S>> {
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+
+    private final Duration granularity;
+
+    public LastAccessThrottlingSessionRepository(FindByIndexNameSessionRepository<S> delegate, Duration granularity) {
+        this.delegate = delegate;
+        this.granularity = granularity;
+    }
+
+    @Override
+    public ThrottledSession<S> createSession() {
+        return new ThrottledSession<>(delegate.createSession(), granularity);
+    }
+
+    @Override
+    public void save(ThrottledSession<S> session) {
+        delegate.save(session.delegate);
+    }
+
+    @Override
+    public ThrottledSession<S> findById(String id) {
+        S session = delegate.findById(id);
+        return session != null ? new ThrottledSession<>(session, granularity) : null;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Map<String, ThrottledSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, ThrottledSession<S>> sessions = new LinkedHashMap<>();
+        delegate.findByIndexNameAndIndexValue(indexName, indexValue)
+                .forEach((id, session) -> sessions.put(id, new ThrottledSession<>(session, granularity)));
+        return sessions;
+    }
+
+    /**
+     * 最終アクセス日時の更新を間引くセッション
+     */
+    public static class ThrottledSession<S extends Session> implements Session {
+
+        private final S delegate;
+
+        private final Duration granularity;
+
+        ThrottledSession(S delegate, Duration granularity) {
+            this.delegate = delegate;
+            this.granularity = granularity;
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            if (Duration.between(delegate.getLastAccessedTime(), lastAccessedTime).compareTo(granularity) >= 0) {
+                delegate.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.TodoService.TodoStatistics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.servlet.FlashMap;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * ネイティブイメージ（GraalVM native-image）用の実行時ヒント
+ * Spring AOTが自動で検出できない、リフレクション・シリアライズ・リソースの利用を登録する
+ *
+ * <ul>
+ *   <li>Thymeleafテンプレート: サブディレクトリのテンプレートと、式（SpEL）から参照するモデル・式ユーティリティのメソッド</li>
+ *   <li>セッション: Javaシリアライズで保存される属性（Remember-Me認証の {@link CustomUserPrincipal}、フラッシュ属性）</li>
+ *   <li>ウォームアップ（{@link WarmupRunner}）: リポジトリのクエリメソッドの呼び出しとリクエスト・レスポンスのスタブ</li>
+ * </ul>
+ *
+ * <p>ログイン時のSecurityContextは {@link CompactSessionSerializer} の独自形式で保存されるためシリアライズの登録は不要。
+ * エンティティとHibernateの登録はSpring AOTとGraalVM Reachability Metadataが行う。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] THYMELEAF_EXPRESSION_OBJECTS = {
+            "org.thymeleaf.expression.Lists",
+            "org.thymeleaf.expression.Sets",
+            "org.thymeleaf.expression.Strings",
+            "org.thymeleaf.expression.Temporals",
+            "org.thymeleaf.spring6.expression.Fields"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("templates/**");
+
+        // テンプレートの式から参照するモデル（model.addAttributeで渡すものはSpring MVCのAOTでは検出されない）
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Todo.class, User.class, TodoStatistics.class, CustomUserPrincipal.class);
+        hints.reflection().registerType(PageImpl.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (String expressionObject : THYMELEAF_EXPRESSION_OBJECTS) {
+            hints.reflection().registerTypeIfPresent(classLoader, expressionObject, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Javaシリアライズで保存されるセッション属性（SecurityContextImplなどSpring Securityの型はSpring Sessionが登録する）
+        hints.serialization()
+                .registerType(CustomUserPrincipal.class)
+                .registerType(RememberMeAuthenticationToken.class)
+                .registerType(FlashMap.class)
+                .registerType(HashMap.class)
+                .registerType(LinkedHashMap.class)
+                .registerType(LinkedMultiValueMap.class);
+
+        hints.reflection().registerType(TodoRepository.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.proxies()
+                .registerJdkProxy(HttpServletRequest.class)
+                .registerJdkProxy(HttpServletResponse.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.RememberMeTokenService;
+import com.example.todoapp.service.RememberMeTokenService.IssuedToken;
+import com.example.todoapp.service.RememberMeTokenService.Verification;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.rememberme.AbstractRememberMeServices;
+import org.springframework.security.web.authentication.rememberme.InvalidCookieException;
+
+/**
+ * 永続トークン方式のRemember-Me
+ * Cookieにはシリーズ（端末ごとの識別子）とトークンのみを保存し、検証と無効化は {@link RememberMeTokenService} で行う。
+ * ハッシュ方式と異なり、発行済みのCookieをパスワード変更やユーザー無効化の際に無効化できる
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class PersistentRememberMeServices extends AbstractRememberMeServices {
+
+    private final RememberMeTokenService rememberMeTokenService;
+
+    public PersistentRememberMeServices(String key, UserDetailsService userDetailsService,
+                                        RememberMeTokenService rememberMeTokenService) {
+        super(key, userDetailsService);
+        this.rememberMeTokenService = rememberMeTokenService;
+    }
+
+    @Override
+    protected void onLoginSuccess(HttpServletRequest request, HttpServletResponse response,
+                                  Authentication successfulAuthentication) {
+        if (!(successfulAuthentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return;
+        }
+        IssuedToken issued = rememberMeTokenService.create(principal.getUserId(), principal.getEmail());
+        setCookie(new String[] {issued.series(), issued.token()}, getTokenValiditySeconds(), request, response);
+    }
+
+    @Override
+    protected UserDetails processAutoLoginCookie(String[] cookieTokens, HttpServletRequest request,
+                                                 HttpServletResponse response) {
+        if (cookieTokens.length != 2) {
+            throw new InvalidCookieException("Remember-Me Cookieの形式が正しくありません");
+        }
+        Verification verification = rememberMeTokenService.verify(cookieTokens[0], cookieTokens[1]);
+        if (verification.rotatedToken() != null) {
+            setCookie(new String[] {cookieTokens[0], verification.rotatedToken()},
+                    getTokenValiditySeconds(), request, response);
+        }
+        return getUserDetailsService().loadUserByUsername(verification.email());
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String cookie = extractRememberMeCookie(request);
+        super.logout(request, response, authentication);
+        if (cookie == null || cookie.isEmpty()) {
+            return;
+        }
+        try {
+            String[] cookieTokens = decodeCookie(cookie);
+            if (cookieTokens.length == 2) {
+                rememberMeTokenService.remove(cookieTokens[0]);
+            }
+        } catch (InvalidCookieException e) {
+            // 形式が正しくないCookieは削除済みのため何もしない
+        }
+    }
+}
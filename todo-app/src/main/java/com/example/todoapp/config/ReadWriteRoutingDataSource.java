@@ -0,0 +1,110 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 読み取り/書き込みルーティングデータソース
+ * 読み取り専用トランザクションはレプリカへ、それ以外はプライマリへ接続する
+ *
+ * <p>トランザクションの読み取り専用フラグが確定してから接続先を決める必要があるため、
+ * 必ず {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} で包んで使用する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter primaryWrites;
+    private final Counter primaryReadYourWrites;
+    private final Counter replicaReads;
+    private final Counter recordedWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryWrites = routingCounter(meterRegistry, PRIMARY, "read-write");
+        this.primaryReadYourWrites = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.replicaReads = routingCounter(meterRegistry, REPLICA, "read-only");
+        this.recordedWrites = Counter.builder("app.datasource.read-your-writes.recorded")
+                .description("書き込み直後の読み取りをプライマリへ送るための記録（Cookie）の発行回数")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit(userId);
+            primaryWrites.increment();
+            return PRIMARY;
+        }
+
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            primaryReadYourWrites.increment();
+            return PRIMARY;
+        }
+
+        replicaReads.increment();
+        return REPLICA;
+    }
+
+    /**
+     * 書き込みトランザクションのコミット後にユーザーの書き込みを記録
+     */
+    private void trackWriteOnCommit(Long userId) {
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(readYourWritesTracker)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(readYourWritesTracker, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (readYourWritesTracker.recordWrite(userId)) {
+                    recordedWrites.increment();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(readYourWritesTracker);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("app.datasource.routing")
+                .description("読み取り/書き込みルーティングによる接続先の選択回数")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.todoapp.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 書き込み直後の読み取り整合性（read-your-writes）を保証するためのトラッカー
+ * ユーザーが書き込みをコミットしてから一定時間は、そのユーザーの読み取りをプライマリへ送る
+ *
+ * <p>書き込みの記録（ユーザーIDとコミット時刻）はノードのメモリではなくCookieでクライアントに持たせる。
+ * ロードバランサーが次のリクエストを別のノードへ振り分けても、そのノードで同じ判定ができる。
+ * セッションを使わないAPI（トークン認証）でも同じ仕組みで動作する。</p>
+ *
+ * <p>Cookieを改ざんされても読み取りがプライマリへ送られるだけのため、署名はしない。
+ * リクエストの外（バッチ処理など）での書き込みは記録しない。</p>
+ *
+ * <p>リクエストを処理するスレッドの外（ダッシュボードのパネルを実行する仮想スレッドなど）では
+ * リクエストを参照できないため、{@link #propagate} で書き込みの記録を引き継ぐ。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ReadYourWritesTracker {
+
+    public static final String COOKIE_NAME = "TODOAPP_LAST_WRITE";
+
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".LAST_WRITE";
+
+    /**
+     * 別スレッドへ引き継いだ書き込みの記録（リクエストの外で実行する処理用）
+     */
+    private static final ThreadLocal<String> PROPAGATED_MARKER = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * ユーザーの書き込みを記録
+     * 同じリクエスト内の以降の読み取りと、Cookieを送ってくる以降のリクエストに反映される
+     *
+     * @param userId ユーザーID
+     * @return 記録した場合true（リクエストの外、または期間が0の場合false）
+     */
+    public boolean recordWrite(Long userId) {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (windowMillis <= 0 || attributes == null) {
+            return false;
+        }
+        String marker = userId + ":" + clock.millis();
+        HttpServletRequest request = attributes.getRequest();
+        request.setAttribute(REQUEST_ATTRIBUTE, marker);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, marker)
+                    .path("/")
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .maxAge(Duration.ofSeconds(Math.max(1, (windowMillis + 999) / 1000)))
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        return true;
+    }
+
+    /**
+     * ユーザーが書き込み直後の期間内かどうかを判定
+     *
+     * @param userId ユーザーID
+     * @return 期間内の場合true
+     */
+    public boolean isWithinWindow(Long userId) {
+        if (windowMillis <= 0) {
+            return false;
+        }
+        String marker = currentMarker();
+        return marker != null && isWithinWindow(marker, userId);
+    }
+
+    /**
+     * 現在のリクエストの書き込みの記録を、別スレッドで実行する処理に引き継ぐ
+     * 記録はこのメソッドを呼び出したスレッドで取得するため、リクエストの処理中に呼び出す
+     * （{@link com.example.todoapp.service.ShardRouter#propagate} と同じく、タスクの投入前に包む）
+     *
+     * @param task 処理
+     * @return 書き込みの記録を引き継いで実行する処理（記録がない場合は元の処理）
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        String marker = currentMarker();
+        if (marker == null) {
+            return task;
+        }
+        return () -> {
+            String previous = PROPAGATED_MARKER.get();
+            PROPAGATED_MARKER.set(marker);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    PROPAGATED_MARKER.set(previous);
+                } else {
+                    PROPAGATED_MARKER.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * 現在のスレッドから参照できる書き込みの記録（リクエスト属性、Cookie、引き継いだ記録の順）
+     */
+    private static String currentMarker() {
+        ServletRequestAttributes attributes = currentRequestAttributes();
+        if (attributes == null) {
+            return PROPAGATED_MARKER.get();
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String marker = (String) request.getAttribute(REQUEST_ATTRIBUTE);
+        return marker != null ? marker : findCookie(request);
+    }
+
+    private boolean isWithinWindow(String marker, Long userId) {
+        int separator = marker.indexOf(':');
+        if (separator < 0 || !marker.substring(0, separator).equals(String.valueOf(userId))) {
+            return false;
+        }
+        long writtenAt;
+        try {
+            writtenAt = Long.parseLong(marker.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        // 書き込んだノードとの時計のずれを考慮し、未来の時刻も期間の幅までは許容する
+        long elapsed = clock.millis() - writtenAt;
+        return elapsed < windowMillis && elapsed > -windowMillis;
+    }
+
+    private static String findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static ServletRequestAttributes currentRequestAttributes() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * リクエスト処理期限インターセプター
+ * リクエストを処理するスレッドにエンドポイントごとの処理期限（{@link RequestDeadline}）を束縛する
+ *
+ * <p>期限は app.request-deadline.endpoints のパスパターン（先に記述したものを優先）、
+ * 該当しない場合は app.request-deadline.default-timeout を使用する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final boolean enabled;
+
+    private final Duration defaultTimeout;
+
+    private final Map<String, Duration> endpointTimeouts;
+
+    @Autowired
+    public RequestDeadlineInterceptor(
+            Environment environment,
+            @Value("${app.request-deadline.enabled:true}") boolean enabled,
+            @Value("${app.request-deadline.default-timeout:5s}") Duration defaultTimeout) {
+        this(enabled, defaultTimeout, Binder.get(environment)
+                .bind("app.request-deadline.endpoints", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of()));
+    }
+
+    RequestDeadlineInterceptor(boolean enabled, Duration defaultTimeout, Map<String, Duration> endpointTimeouts) {
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+        this.endpointTimeouts = new LinkedHashMap<>(endpointTimeouts);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled) {
+            RequestDeadline.bind(timeoutFor(request));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * リクエストの処理期限を取得
+     */
+    Duration timeoutFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Duration> entry : endpointTimeouts.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return defaultTimeout;
+    }
+}
@@ -1,19 +1,33 @@
 package com.example.todoapp.config;
 
+import com.example.todoapp.service.ApiTokenService;
 import com.example.todoapp.service.CustomUserDetailsService;
+import com.example.todoapp.service.RememberMeTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.RememberMeServices;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.time.Duration;
 
 /**
  * Spring Security設定クラス
@@ -29,6 +43,18 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private SessionRegistry sessionRegistry;
+
+    @Autowired
+    private RememberMeTokenService rememberMeTokenService;
+
+    @Value("${app.remember-me.key}")
+    private String rememberMeKey;
+
+    @Value("${app.remember-me.token-validity:24h}")
+    private Duration rememberMeTokenValidity;
+
     /**
      * パスワードエンコーダーの設定
      *
@@ -66,6 +92,69 @@ public class SecurityConfig {
         return handler;
     }
 
+    /**
+     * Remember-Meの設定
+     * 永続トークン方式（remember_me_tokens）とし、パスワード変更等の際に発行済みのCookieを無効化できるようにする
+     *
+     * @return RememberMeServices
+     */
+    @Bean
+    public RememberMeServices rememberMeServices() {
+        PersistentRememberMeServices services =
+                new PersistentRememberMeServices(rememberMeKey, userDetailsService, rememberMeTokenService);
+        services.setTokenValiditySeconds((int) rememberMeTokenValidity.toSeconds());
+        return services;
+    }
+
+    /**
+     * 静的リソースをセキュリティフィルターチェーンの対象外に設定
+     * CSS/JavaScript等は認証・セッション・CSRF処理を経由せずに直接配信する
+     *
+     * @return WebSecurityCustomizer
+     */
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(
+            "/css/**",
+            "/js/**",
+            "/images/**",
+            "/webjars/**",
+            "/favicon.ico"
+        );
+    }
+
+    /**
+     * API（/api/**）のステートレス認証の設定（app.api-token.enabled=true の場合のみ有効）
+     * Authorizationヘッダーのアクセストークンで認証し、セッションの参照・作成やRemember-Meによる再認証を行わない。
+     * 有効にした場合、/api/** はセッションCookieでは認証されない
+     *
+     * @param http HttpSecurity
+     * @param apiTokenService APIトークンサービス
+     * @return SecurityFilterChain
+     * @throws Exception 例外
+     */
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(prefix = "app.api-token", name = "enabled", havingValue = "true")
+    public SecurityFilterChain apiFilterChain(HttpSecurity http, ApiTokenService apiTokenService) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/api/auth/**", "/api/health/**").permitAll()
+                .anyRequest().authenticated()
+            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .requestCache(cache -> cache.disable())
+            .csrf(csrf -> csrf.disable())
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .addFilterBefore(new ApiTokenAuthenticationFilter(apiTokenService),
+                UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
     /**
      * セキュリティフィルターチェーンの設定
      *
@@ -78,20 +167,17 @@ public class SecurityConfig {
         http
             .userDetailsService(userDetailsService)
             .authorizeHttpRequests(authz -> authz
-                // 静的リソースとパブリックページは認証不要
+                // パブリックページは認証不要（静的リソースはwebSecurityCustomizerで除外済み）
                 .requestMatchers(
-                    "/css/**",
-                    "/js/**",
-                    "/images/**",
-                    "/webjars/**",
-                    "/favicon.ico",
                     "/",
                     "/home",
                     "/register",
                     "/login",
                     "/error",
                     "/api/health/**",
-                    "/actuator/health"
+                    "/actuator/health",
+                    "/actuator/health/liveness",
+                    "/actuator/health/readiness"
                 ).permitAll()
                 // H2コンソール（開発環境のみ）
                 .requestMatchers("/h2-console/**").permitAll()
@@ -115,15 +201,16 @@ public class SecurityConfig {
                 .clearAuthentication(true)
                 .permitAll()
             )
+            // 同時ログインは1セッションまで（セッションレジストリは全ノードで共有。SessionConfigを参照）
             .sessionManagement(session -> session
                 .maximumSessions(1)
+                .sessionRegistry(sessionRegistry)
                 .maxSessionsPreventsLogin(false)
                 .expiredUrl("/login?expired=true")
             )
             .rememberMe(remember -> remember
-                .key("todoapp-remember-me")
-                .tokenValiditySeconds(86400) // 24時間
-                .userDetailsService(userDetailsService)
+                .key(rememberMeKey)
+                .rememberMeServices(rememberMeServices())
             )
             .csrf(csrf -> csrf
                 .ignoringRequestMatchers("/h2-console/**")
@@ -0,0 +1,97 @@
+package com.example.todoapp.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.env.Environment;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
+import org.springframework.session.jdbc.config.annotation.SpringSessionTransactionManager;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * セッション設定クラス
+ * HTTPセッションをデータベース（spring.session.jdbc.*）に保存し、複数ノードでの共有と再起動後の維持を行う
+ *
+ * <p>セッションの読み書きはリクエストのシャード束縛や読み取りレプリカへの振り分けの影響を受けないよう、
+ * {@link SpringSessionDataSource} のデータソース（ディレクトリシャード／プライマリ）で行う。
+ * 定義されていない場合はアプリケーションのデータソースを使用する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * セッション用のトランザクションマネージャー
+     * アプリケーションのトランザクションマネージャー（JPA）と競合しないよう、型による注入の対象外とする
+     */
+    @Bean(defaultCandidate = false)
+    @SpringSessionTransactionManager
+    public PlatformTransactionManager springSessionTransactionManager(
+            @SpringSessionDataSource ObjectProvider<DataSource> sessionDataSource, DataSource dataSource) {
+        return new DataSourceTransactionManager(sessionDataSource.getIfAvailable(() -> dataSource));
+    }
+
+    /**
+     * セッション属性の変換（{@link CompactSessionSerializer}）
+     */
+    @Bean(defaultCandidate = false)
+    public ConversionService springSessionConversionService() {
+        CompactSessionSerializer serializer = new CompactSessionSerializer(classLoader);
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+        return conversionService;
+    }
+
+    /**
+     * ノード間で共有されるセッションレジストリ
+     * 同時ログイン数の制限（maximumSessions）をすべてのノードのセッションに対して適用する
+     */
+    @Bean
+    public <S extends Session> SpringSessionBackedSessionRegistry<S> sessionRegistry(
+            FindByIndexNameSessionRepository<S> sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    /**
+     * JDBCセッションリポジトリを最終アクセス日時の更新を間引くリポジトリで包む
+     */
+    @Bean
+    public static BeanPostProcessor lastAccessThrottlingPostProcessor(Environment environment) {
+        Duration granularity = environment.getProperty(
+                "app.session.last-access-granularity", Duration.class, Duration.ofSeconds(60));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof JdbcIndexedSessionRepository repository) {
+                    return new LastAccessThrottlingSessionRepository<>(repository, granularity);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.ShardMigrationService;
+import com.example.todoapp.service.ShardRouter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * シャード束縛インターセプター
+ * ToDo関連のリクエストを処理するスレッドに、ログインユーザーを担当するシャードを束縛する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+public class ShardContextInterceptor implements HandlerInterceptor {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final ShardRouter shardRouter;
+
+    private final ObjectProvider<ShardMigrationService> shardMigrationService;
+
+    public ShardContextInterceptor(ShardRouter shardRouter, ObjectProvider<ShardMigrationService> shardMigrationService) {
+        this.shardRouter = shardRouter;
+        this.shardMigrationService = shardMigrationService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!shardRouter.isSharded()) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserPrincipal principal)) {
+            return true;
+        }
+
+        Long userId = principal.getUserId();
+        if (shardRouter.isMigrating(userId) && !isReadOnlyMethod(request)) {
+            // 再シャーディング中は書き込みを受け付けない
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return false;
+        }
+
+        String shard = shardRouter.shardFor(userId);
+        shardMigrationService.ifAvailable(service -> service.ensureProvisioned(userId, shard));
+        ShardRouter.bindCurrentShard(shard);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardRouter.clearCurrentShard();
+    }
+
+    private static boolean isReadOnlyMethod(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
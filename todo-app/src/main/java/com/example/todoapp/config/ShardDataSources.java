@@ -0,0 +1,47 @@
+package com.example.todoapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * シャードごとのコネクションプール
+ * 再シャーディングやスキーマ初期化など、ルーティングを介さず特定シャードへ接続する処理で使用する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> dataSources;
+
+    public ShardDataSources(Map<String, HikariDataSource> dataSources) {
+        this.dataSources = Collections.unmodifiableMap(dataSources);
+    }
+
+    /**
+     * シャードのコネクションプールを取得
+     *
+     * @param shard シャード名
+     * @return データソース
+     * @throws IllegalArgumentException 未定義のシャードの場合
+     */
+    public DataSource get(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("シャードが定義されていません: " + shard);
+        }
+        return dataSource;
+    }
+
+    public Map<String, ? extends DataSource> getAll() {
+        return dataSources;
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.todoapp.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * コンシステントハッシュリング
+ * ユーザーIDをシャードに割り当てる。各シャードを複数の仮想ノードとしてリング上に配置するため、
+ * シャードを追加・削除しても移動が必要なユーザーは全体の約1/N に抑えられる
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ShardRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    private final List<String> shardNames;
+
+    /**
+     * @param shardNames シャード名のリスト
+     * @param virtualNodes シャードあたりの仮想ノード数
+     */
+    public ShardRing(List<String> shardNames, int virtualNodes) {
+        if (shardNames.isEmpty()) {
+            throw new IllegalArgumentException("シャードが1つも定義されていません");
+        }
+        this.shardNames = List.copyOf(shardNames);
+        for (String shardName : shardNames) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shardName + "#" + i), shardName);
+            }
+        }
+    }
+
+    /**
+     * ユーザーIDを担当するシャードを取得
+     *
+     * @param userId ユーザーID
+     * @return シャード名
+     */
+    public String shardFor(Long userId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash("user:" + userId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> getShardNames() {
+        return Collections.unmodifiableList(shardNames);
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.ShardRouter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.Map;
+
+/**
+ * シャードルーティングデータソース
+ * 現在のスレッドに束縛されたシャード（{@link ShardRouter#currentShard()}）のコネクションプールへ接続する
+ *
+ * <p>トランザクション開始後、最初のSQL実行時に束縛されたシャードで接続先を決めるため、
+ * 必ず {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} で包んで使用する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ShardRoutingDataSource(ShardDataSources shardDataSources) {
+        setTargetDataSources(Map.copyOf(shardDataSources.getAll()));
+        setDefaultTargetDataSource(shardDataSources.get(ShardRouter.DIRECTORY_SHARD));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardRouter.currentShard();
+    }
+}
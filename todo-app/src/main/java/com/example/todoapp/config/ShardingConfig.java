@@ -0,0 +1,186 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.ShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * シャーディング設定クラス
+ * app.sharding.enabled=true の場合のみ有効になり、ToDoデータをユーザーID単位で複数のデータベースへ分散する
+ *
+ * <p>spring.datasource をディレクトリシャード（shard0）とし、ユーザー・シャード割り当てなどの全体データもここに置く。
+ * 追加のシャードは app.sharding.shards.&lt;シャード名&gt;.* に接続設定（url・username・hikari.* など）を記述する。
+ * ToDoのIDはシャード間で重複しないよう、シャード名の昇順の位置ごとに {@value #ID_RANGE_SIZE} 件ずつの範囲を割り当てる。
+ * そのため、既存シャードの並び順が変わる名前でシャードを追加してはならない。</p>
+ *
+ * <p>読み取りレプリカ（app.datasource.replica.url）との併用はサポートしない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardingConfig.class);
+
+    public static final long ID_RANGE_SIZE = 1_000_000_000_000L;
+
+    /**
+     * 追加シャードの接続設定を読み込み
+     *
+     * @param environment 環境
+     * @return シャード名（昇順）ごとの接続設定
+     */
+    public static Map<String, DataSourceProperties> bindShardProperties(Environment environment) {
+        Map<String, DataSourceProperties> shards = Binder.get(environment)
+                .bind("app.sharding.shards", Bindable.mapOf(String.class, DataSourceProperties.class))
+                .orElse(Map.of());
+        if (shards.containsKey(ShardRouter.DIRECTORY_SHARD)) {
+            throw new IllegalStateException(ShardRouter.DIRECTORY_SHARD + "はディレクトリシャード（spring.datasource）の名前です");
+        }
+        return new TreeMap<>(shards);
+    }
+
+    /**
+     * ディレクトリシャードの接続設定（spring.datasource.*）
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties directoryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * シャードごとのコネクションプール
+     * プールごとのメトリクス（hikaricp.connections.*）は pool タグ（シャード名）で確認できる
+     */
+    @Bean
+    public ShardDataSources shardDataSources(
+            @Qualifier("directoryDataSourceProperties") DataSourceProperties directoryProperties,
+            Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        pools.put(ShardRouter.DIRECTORY_SHARD, createPool(ShardRouter.DIRECTORY_SHARD, directoryProperties,
+                binder, "spring.datasource.hikari", meterRegistry));
+        bindShardProperties(environment).forEach((shard, properties) ->
+                pools.put(shard, createPool(shard, properties, binder, "app.sharding.shards." + shard + ".hikari", meterRegistry)));
+        return new ShardDataSources(pools);
+    }
+
+    /**
+     * アプリケーションが使用するデータソース
+     * 接続の取得をSQL実行時まで遅らせ、スレッドに束縛されたシャードへ接続する
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDataSources);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * セッションの保存先（ディレクトリシャード）
+     * リクエストに束縛されたシャードに関わらず、セッションは常にディレクトリシャードで読み書きする
+     */
+    @Bean(defaultCandidate = false, destroyMethod = "")
+    @SpringSessionDataSource
+    public DataSource springSessionDataSource(ShardDataSources shardDataSources) {
+        return shardDataSources.get(ShardRouter.DIRECTORY_SHARD);
+    }
+
+    /**
+     * ディレクトリ以外のシャードにスキーマを作成（開発・テスト用）
+     * 本番環境ではマイグレーションで各シャードのスキーマとIDの範囲を設定する
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "initialize-schema", havingValue = "true")
+    public ApplicationRunner shardSchemaInitializer(ShardDataSources shardDataSources, ShardRouter shardRouter,
+                                                    EntityManagerFactory entityManagerFactory) {
+        return new ShardSchemaInitializer(shardDataSources, shardRouter, entityManagerFactory);
+    }
+
+    private static HikariDataSource createPool(String shard, DataSourceProperties properties, Binder binder,
+                                               String hikariPrefix, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(hikariPrefix, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(shard);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    static class ShardSchemaInitializer implements ApplicationRunner {
+        private final ShardDataSources shardDataSources;
+        private final ShardRouter shardRouter;
+        private final EntityManagerFactory entityManagerFactory;
+
+        ShardSchemaInitializer(ShardDataSources shardDataSources, ShardRouter shardRouter,
+                               EntityManagerFactory entityManagerFactory) {
+            this.shardDataSources = shardDataSources;
+            this.shardRouter = shardRouter;
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) throws SQLException {
+            List<String> shardNames = shardRouter.getShardNames();
+            for (int index = 1; index < shardNames.size(); index++) {
+                String shard = shardNames.get(index);
+                DataSource dataSource = shardDataSources.get(shard);
+                if (hasTable(dataSource, "todos")) {
+                    continue;
+                }
+                shardRouter.callOnShard(shard, () -> {
+                    entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(false);
+                    return null;
+                });
+                new JdbcTemplate(dataSource).execute(
+                        "ALTER TABLE todos ALTER COLUMN id RESTART WITH " + (index * ID_RANGE_SIZE + 1));
+                logger.info("シャードのスキーマを作成しました: {}", shard);
+            }
+        }
+
+        private static boolean hasTable(DataSource dataSource, String table) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 ResultSet tables = connection.getMetaData().getTables(null, null, null, new String[] {"TABLE"})) {
+                while (tables.next()) {
+                    if (table.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+    }
+}
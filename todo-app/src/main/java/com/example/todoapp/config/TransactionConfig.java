@@ -0,0 +1,39 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * トランザクション設定クラス
+ * アプリケーションのトランザクションマネージャー（JPA）にリクエストの処理期限を適用する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * アプリケーションのトランザクションマネージャー
+     * spring.transaction.* の設定はSpring Bootの既定のトランザクションマネージャーと同様に適用する
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+            MeterRegistry meterRegistry,
+            @Value("${app.request-deadline.minimum-budget:50ms}") Duration minimumBudget) {
+        DeadlineAwareTransactionManager transactionManager =
+                new DeadlineAwareTransactionManager(entityManagerFactory, minimumBudget, meterRegistry);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
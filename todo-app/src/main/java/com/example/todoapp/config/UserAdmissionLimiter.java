@@ -0,0 +1,148 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * ユーザーごとの同時実行数・リクエストレートの制限
+ * ユーザーIDのハッシュで決まるストライプごとに、実行中のリクエスト数とトークンバケット（GCRA）の状態を
+ * 固定長のアトミック配列で保持する。ロックを使わず、ユーザー数に関わらずメモリ使用量は一定
+ *
+ * <p>異なるユーザーが同じストライプに割り当てられた場合は制限を共有する。
+ * ストライプ数を同時アクティブユーザー数より十分大きくすることで影響を抑える。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class UserAdmissionLimiter {
+
+    private final int mask;
+
+    private final int maxConcurrent;
+
+    // リクエスト1件あたりのトークン補充間隔と、連続して受け付けられる許容量（ナノ秒）
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private final AtomicIntegerArray inFlight;
+
+    // 次のリクエストの理論到着時刻（GCRA）。基準時刻からの経過ナノ秒
+    private final AtomicLongArray theoreticalArrival;
+
+    private final LongSupplier nanoClock;
+
+    private final long baseNanos;
+
+    /**
+     * @param stripes ストライプ数（2のべき乗に切り上げる）
+     * @param maxConcurrent ユーザーあたりの同時実行数の上限
+     * @param requestsPerSecond ユーザーあたりの平均リクエストレート
+     * @param burst 連続して受け付けるリクエスト数
+     * @param nanoClock 時刻（ナノ秒）
+     */
+    public UserAdmissionLimiter(int stripes, int maxConcurrent, double requestsPerSecond, int burst,
+                                LongSupplier nanoClock) {
+        if (stripes <= 0 || maxConcurrent <= 0 || requestsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("制限値は正の値で指定してください");
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        size = Math.max(size, 1);
+        this.mask = size - 1;
+        this.maxConcurrent = maxConcurrent;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.inFlight = new AtomicIntegerArray(size);
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.nanoClock = nanoClock;
+        this.baseNanos = nanoClock.getAsLong();
+    }
+
+    public UserAdmissionLimiter(int stripes, int maxConcurrent, double requestsPerSecond, int burst) {
+        this(stripes, maxConcurrent, requestsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * リクエストの受付を判定
+     * 受け付けた場合は処理の完了後に {@link #release(Permit)} を呼び出すこと
+     *
+     * @param userId ユーザーID
+     * @return 判定結果
+     */
+    public Permit tryAcquire(long userId) {
+        int stripe = stripeOf(userId);
+
+        if (inFlight.incrementAndGet(stripe) > maxConcurrent) {
+            inFlight.decrementAndGet(stripe);
+            return Permit.rejected(Rejection.CONCURRENCY, Duration.ofSeconds(1));
+        }
+
+        long now = nanoClock.getAsLong() - baseNanos;
+        while (true) {
+            long tat = theoreticalArrival.get(stripe);
+            long start = Math.max(tat, now);
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                inFlight.decrementAndGet(stripe);
+                return Permit.rejected(Rejection.RATE, Duration.ofNanos(wait));
+            }
+            if (theoreticalArrival.compareAndSet(stripe, tat, start + emissionIntervalNanos)) {
+                return new Permit(stripe, null, Duration.ZERO);
+            }
+        }
+    }
+
+    /**
+     * 処理の完了を記録
+     *
+     * @param permit 受け付けた際の判定結果
+     */
+    public void release(Permit permit) {
+        if (permit.granted()) {
+            inFlight.decrementAndGet(permit.stripe());
+        }
+    }
+
+    /**
+     * 実行中のリクエスト数（ストライプの合計）
+     */
+    public int inFlight() {
+        int total = 0;
+        for (int i = 0; i < inFlight.length(); i++) {
+            total += inFlight.get(i);
+        }
+        return total;
+    }
+
+    private int stripeOf(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * 拒否の理由
+     */
+    public enum Rejection {
+        CONCURRENCY, RATE
+    }
+
+    /**
+     * 受付の判定結果
+     *
+     * @param stripe ストライプ（拒否した場合は-1）
+     * @param rejection 拒否の理由（受け付けた場合はnull）
+     * @param retryAfter 再試行までの待ち時間
+     */
+    public record Permit(int stripe, Rejection rejection, Duration retryAfter) {
+
+        static Permit rejected(Rejection rejection, Duration retryAfter) {
+            return new Permit(-1, rejection, retryAfter);
+        }
+
+        public boolean granted() {
+            return rejection == null;
+        }
+    }
+}
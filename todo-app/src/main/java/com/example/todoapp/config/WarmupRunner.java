@@ -0,0 +1,352 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.ShardRouter;
+import com.example.todoapp.service.TodoService.TodoStatistics;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 起動時のウォームアップ
+ * アプリケーションがトラフィックを受け付ける前（readinessがUPになる前）に、合成した処理を一定時間繰り返し実行し、
+ * JITコンパイル・Hibernateのクエリプランキャッシュ・Thymeleafのテンプレートキャッシュを温める
+ *
+ * <p>ApplicationRunnerの完了後にreadinessがACCEPTING_TRAFFICになるため、実行中のノードには振り分けられない。
+ * 1回の処理は次のとおりで、app.warmup.budget の時間内で max-iterations 回まで繰り返す。</p>
+ * <ul>
+ *   <li>{@link TodoRepository} のすべてのクエリを、存在しないユーザー・IDを条件に各シャードで実行（ロールバックするトランザクション内）</li>
+ *   <li>ToDo一覧画面（todo/list）を合成したデータで描画</li>
+ *   <li>パスワードのハッシュ化・照合（最初の bcrypt-iterations 回のみ）</li>
+ * </ul>
+ *
+ * <p>ウォームアップの効果は {@link FirstRequestLatencyRecorder} が記録する起動直後のリクエストの応答時間で確認する。
+ * ウォームアップ中の失敗は記録のみ行い、起動は継続する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+@Order(Integer.MAX_VALUE)
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    // 存在しないユーザー・ToDoのID（クエリの結果は常に空になる）
+    private static final long SYNTHETIC_ID = -1L;
+
+    private final TodoRepository todoRepository;
+
+    private final UserRepository userRepository;
+
+    private final ShardRouter shardRouter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ObjectProvider<ThymeleafViewResolver> viewResolver;
+
+    private final WebApplicationContext applicationContext;
+
+    private final Duration budget;
+
+    private final int maxIterations;
+
+    private final int bcryptIterations;
+
+    private final List<Method> queryMethods;
+
+    public WarmupRunner(
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            ObjectProvider<ThymeleafViewResolver> viewResolver,
+            WebApplicationContext applicationContext,
+            @Value("${app.warmup.budget:20s}") Duration budget,
+            @Value("${app.warmup.max-iterations:500}") int maxIterations,
+            @Value("${app.warmup.bcrypt-iterations:5}") int bcryptIterations) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.viewResolver = viewResolver;
+        this.applicationContext = applicationContext;
+        this.budget = budget;
+        this.maxIterations = maxIterations;
+        this.bcryptIterations = bcryptIterations;
+        this.queryMethods = queryMethods();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long deadline = started + budget.toNanos();
+        Set<String> failedSteps = new LinkedHashSet<>();
+
+        int iterations = 0;
+        while (iterations < maxIterations && System.nanoTime() < deadline) {
+            runStep("queries", failedSteps, this::runQueries);
+            runStep("render", failedSteps, this::renderTodoList);
+            if (iterations < bcryptIterations) {
+                runStep("bcrypt", failedSteps, () -> passwordEncoder.matches("warmup", passwordEncoder.encode("warmup")));
+            }
+            iterations++;
+        }
+
+        logger.info("ウォームアップ完了: {}回, {}ms（クエリ{}種類）{}", iterations,
+                (System.nanoTime() - started) / 1_000_000, queryMethods.size(),
+                failedSteps.isEmpty() ? "" : " 失敗した処理: " + failedSteps);
+    }
+
+    private void runStep(String name, Set<String> failedSteps, Runnable step) {
+        if (failedSteps.contains(name)) {
+            return;
+        }
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            failedSteps.add(name);
+            logger.warn("ウォームアップの処理に失敗しました（以降は実行しません）: {}", name, e);
+        }
+    }
+
+    /**
+     * TodoRepositoryのすべてのクエリを各シャードで実行
+     * 更新系のクエリも含むため、トランザクションは必ずロールバックする
+     */
+    private void runQueries() {
+        shardRouter.callOnEachShard(() -> transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            User user = userRepository.getReferenceById(SYNTHETIC_ID);
+            for (Method method : queryMethods) {
+                try {
+                    method.invoke(todoRepository, argumentsFor(method, user));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("クエリの実行に失敗しました: " + method.getName(), e.getCause());
+                }
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * ToDo一覧画面を合成したデータで描画
+     */
+    private void renderTodoList() {
+        ThymeleafViewResolver resolver = viewResolver.getIfAvailable();
+        if (resolver == null) {
+            return;
+        }
+        CustomUserPrincipal principal = new CustomUserPrincipal(SYNTHETIC_ID, "warmup@localhost", "warmup", true, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        try {
+            View view = resolver.resolveViewName("todo/list", Locale.JAPAN);
+            if (view == null) {
+                return;
+            }
+            StringWriter body = new StringWriter();
+            view.render(todoListModel(), stubRequest(applicationContext), stubResponse(body));
+        } catch (Exception e) {
+            throw new IllegalStateException("todo/list の描画に失敗しました", e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static Map<String, Object> todoListModel() {
+        List<Todo> todos = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 10; i++) {
+            Todo todo = new Todo("ウォームアップ " + i, "説明", today.plusDays(i - 3), null);
+            todo.setId(SYNTHETIC_ID - i);
+            todo.setCompleted(i % 3 == 0);
+            todo.setCreatedAt(LocalDateTime.now());
+            todo.setUpdatedAt(LocalDateTime.now());
+            todos.add(todo);
+        }
+        Page<Todo> todoPage = new PageImpl<>(todos, PageRequest.of(0, 10), 25);
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("todoPage", todoPage);
+        model.put("statistics", new TodoStatistics(25, 9, 16, 3));
+        model.put("todayTodos", todos.subList(3, 4));
+        model.put("upcomingTodos", todos.subList(4, 8));
+        model.put("unavailablePanels", Collections.emptySet());
+        model.put("stalePanels", Collections.emptySet());
+        model.put("currentPage", 0);
+        model.put("pageSize", 10);
+        model.put("sortField", "createdAt");
+        model.put("sortDirection", "desc");
+        model.put("totalPages", todoPage.getTotalPages());
+        model.put("totalElements", todoPage.getTotalElements());
+        return model;
+    }
+
+    /**
+     * TodoRepositoryで宣言されたクエリメソッド（名前順）
+     */
+    private static List<Method> queryMethods() {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : TodoRepository.class.getDeclaredMethods()) {
+            if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()
+                    && method.getDeclaringClass() != Repository.class) {
+                methods.add(method);
+            }
+        }
+        methods.sort((a, b) -> a.toGenericString().compareTo(b.toGenericString()));
+        return methods;
+    }
+
+    /**
+     * クエリメソッドの引数を型から合成（結果が空になる値）
+     */
+    private static Object[] argumentsFor(Method method, User user) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == User.class) {
+                args[i] = user;
+            } else if (type == Long.class || type == long.class) {
+                args[i] = SYNTHETIC_ID;
+            } else if (type == int.class || type == Integer.class) {
+                args[i] = 0;
+            } else if (type == boolean.class || type == Boolean.class) {
+                args[i] = Boolean.FALSE;
+            } else if (type == String.class) {
+                args[i] = "warmup";
+            } else if (type == LocalDate.class) {
+                args[i] = LocalDate.now();
+            } else if (type == LocalDateTime.class) {
+                args[i] = LocalDateTime.now();
+            } else if (type == Pageable.class) {
+                args[i] = PageRequest.of(0, 10);
+            } else if (Collection.class.isAssignableFrom(type)) {
+                args[i] = List.of(SYNTHETIC_ID);
+            } else if (type.isEnum()) {
+                args[i] = type.getEnumConstants()[0];
+            } else {
+                throw new IllegalStateException("ウォームアップで合成できない引数の型です: " + method.getName() + "(" + type.getSimpleName() + ")");
+            }
+        }
+        return args;
+    }
+
+    /**
+     * 描画用の最小限のリクエスト（GET /todos）
+     */
+    private static HttpServletRequest stubRequest(WebApplicationContext applicationContext) {
+        ServletContext servletContext = applicationContext.getServletContext();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+        return (HttpServletRequest) Proxy.newProxyInstance(WarmupRunner.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    case "getAttributeNames", "getParameterNames", "getHeaderNames", "getHeaders" ->
+                            Collections.enumeration(method.getName().equals("getAttributeNames") ? List.copyOf(attributes.keySet()) : List.of());
+                    case "getParameterMap" -> Map.of();
+                    case "getServletContext" -> servletContext;
+                    case "getContextPath" -> "";
+                    case "getServletPath", "getRequestURI" -> "/todos";
+                    case "getRequestURL" -> new StringBuffer("http://localhost/todos");
+                    case "getMethod" -> "GET";
+                    case "getScheme" -> "http";
+                    case "getServerName" -> "localhost";
+                    case "getServerPort" -> 80;
+                    case "getLocale" -> Locale.JAPAN;
+                    case "getLocales" -> Collections.enumeration(List.of(Locale.JAPAN));
+                    case "getCharacterEncoding" -> "UTF-8";
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "WarmupRequest[GET /todos]";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    /**
+     * 描画結果を破棄する最小限のレスポンス
+     */
+    private static HttpServletResponse stubResponse(StringWriter body) {
+        PrintWriter writer = new PrintWriter(body);
+        return (HttpServletResponse) Proxy.newProxyInstance(WarmupRunner.class.getClassLoader(),
+                new Class<?>[] {HttpServletResponse.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getWriter" -> writer;
+                    case "encodeURL", "encodeRedirectURL" -> args[0];
+                    case "getCharacterEncoding" -> "UTF-8";
+                    case "getLocale" -> Locale.JAPAN;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "WarmupResponse";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+import java.time.Duration;
+
+/**
+ * Web MVC設定クラス
+ * 静的リソース（CSS/JavaScript）の配信設定を行う
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * バージョン付きURLの静的リソースのキャッシュ期間
+     * URLにコンテンツハッシュを含めるため、内容が変わればURLも変わる
+     */
+    private static final Duration STATIC_RESOURCE_MAX_AGE = Duration.ofDays(365);
+
+    /**
+     * バージョンなしのURLで要求された静的リソースのキャッシュ指定（毎回ETag/Last-Modifiedで再検証する）
+     */
+    private static final CacheControl UNVERSIONED_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    @Autowired
+    private FirstRequestLatencyRecorder firstRequestLatencyRecorder;
+
+    @Autowired
+    private AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Autowired
+    private ShardContextInterceptor shardContextInterceptor;
+
+    @Autowired
+    private RequestDeadlineInterceptor requestDeadlineInterceptor;
+
+    /**
+     * インターセプターの設定
+     * ToDo関連のリクエストは受付制御（ユーザーごとの制限・過負荷時の制限）を通過した後、
+     * ログインユーザーを担当するシャードで処理する。静的リソース以外のリクエストには処理期限を設定し、
+     * 起動直後のリクエストは応答時間を記録する
+     *
+     * @param registry インターセプターレジストリ
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(firstRequestLatencyRecorder)
+                .excludePathPatterns("/css/**", "/js/**");
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/todos", "/todos/**", "/api/todos", "/api/todos/**");
+        registry.addInterceptor(shardContextInterceptor)
+                .addPathPatterns("/todos", "/todos/**", "/api/todos", "/api/todos/**");
+        registry.addInterceptor(requestDeadlineInterceptor)
+                .excludePathPatterns("/css/**", "/js/**");
+    }
+
+    /**
+     * 静的リソースハンドラーの設定
+     * コンテンツハッシュ付きURL（例: /css/app-{hash}.css）で配信し、
+     * ビルド時に生成した.gzファイルがあればAccept-Encodingに応じてそちらを返す。
+     * 長期キャッシュ（immutable）はバージョン付きURLにのみ指定し、バージョンなしのURLは再検証させる
+     *
+     * @param registry リソースハンドラーレジストリ
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addVersionedResourceHandler(registry, "/css/**", "classpath:/static/css/");
+        addVersionedResourceHandler(registry, "/js/**", "classpath:/static/js/");
+    }
+
+    private void addVersionedResourceHandler(ResourceHandlerRegistry registry, String pathPattern, String location) {
+        VersionStrategy versionStrategy = new ContentVersionStrategy();
+        registry.addResourceHandler(pathPattern)
+                .addResourceLocations(location)
+                .setCacheControl(UNVERSIONED_CACHE_CONTROL)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ImmutableVersionedResourceResolver(versionStrategy,
+                        CacheControl.maxAge(STATIC_RESOURCE_MAX_AGE).cachePublic().immutable()))
+                .addResolver(new VersionResourceResolver().addVersionStrategy(versionStrategy, "/**"));
+    }
+}
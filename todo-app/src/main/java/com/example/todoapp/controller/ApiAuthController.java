@@ -0,0 +1,82 @@
+package com.example.todoapp.controller;
+
+import com.example.todoapp.service.ApiTokenService;
+import com.example.todoapp.service.ApiTokenService.TokenPair;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * API認証コントローラー
+ * クライアントアプリ向けにアクセストークン・リフレッシュトークンを発行する（app.api-token.enabled=true の場合のみ有効）
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(prefix = "app.api-token", name = "enabled", havingValue = "true")
+public class ApiAuthController {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private ApiTokenService apiTokenService;
+
+    /**
+     * メールアドレスとパスワードでトークンを発行
+     *
+     * @param request 認証リクエスト
+     * @return トークン（認証に失敗した場合は401）
+     */
+    @PostMapping("/token")
+    public ResponseEntity<?> issueToken(@RequestBody TokenRequest request) {
+        try {
+            Authentication authentication = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(request.email(), request.password()));
+            return ResponseEntity.ok(apiTokenService.issue((CustomUserPrincipal) authentication.getPrincipal()));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "メールアドレスまたはパスワードが正しくありません"));
+        }
+    }
+
+    /**
+     * リフレッシュトークンでトークンを再発行
+     *
+     * @param request リフレッシュリクエスト
+     * @return 新しいトークン（リフレッシュトークンが無効な場合は401）
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+        return apiTokenService.refresh(request.refreshToken())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "リフレッシュトークンが無効です。再度ログインしてください")));
+    }
+
+    /**
+     * 認証リクエスト
+     */
+    public record TokenRequest(String email, String password) {
+    }
+
+    /**
+     * リフレッシュリクエスト
+     */
+    public record RefreshRequest(String refreshToken) {
+    }
+}
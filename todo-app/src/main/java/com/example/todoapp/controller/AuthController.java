@@ -1,9 +1,15 @@
 package com.example.todoapp.controller;
 
 import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.RequestDeadline.DeadlineExceededException;
+import com.example.todoapp.service.UserDeletionService;
 import com.example.todoapp.service.UserService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -15,7 +21,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
  * 認証関連のコントローラー
- * ログイン、ユーザー登録を処理
+ * ログイン、ユーザー登録、アカウント削除を処理
  *
  * @author TodoApp Team
  * @version 1.0
@@ -26,6 +32,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
     /**
      * ホームページ表示
      *
@@ -42,6 +51,7 @@ public class AuthController {
      * @param error エラーパラメータ
      * @param logout ログアウトパラメータ
      * @param expired セッション期限切れパラメータ
+     * @param deleted アカウント削除パラメータ
      * @param model モデル
      * @return ログインページテンプレート
      */
@@ -50,6 +60,7 @@ public class AuthController {
             @RequestParam(value = "error", required = false) String error,
             @RequestParam(value = "logout", required = false) String logout,
             @RequestParam(value = "expired", required = false) String expired,
+            @RequestParam(value = "deleted", required = false) String deleted,
             Model model) {
 
         if (error != null) {
@@ -64,6 +75,10 @@ public class AuthController {
             model.addAttribute("warningMessage", "セッションが期限切れです。再度ログインしてください。");
         }
 
+        if (deleted != null) {
+            model.addAttribute("successMessage", "アカウントを削除しました。データは順次削除されます。");
+        }
+
         return "auth/login";
     }
 
@@ -130,12 +145,32 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             model.addAttribute("emailError", e.getMessage());
             return "auth/register";
+        } catch (DeadlineExceededException e) {
+            // 期限切れはエラー画面に戻さず、そのまま503を返す
+            throw e;
         } catch (Exception e) {
             model.addAttribute("errorMessage", "ユーザー登録中にエラーが発生しました。");
             return "auth/register";
         }
     }
 
+    /**
+     * アカウント削除処理
+     * アカウントを直ちに無効化してログアウトし、ToDoなどのデータはバックグラウンドで削除する
+     *
+     * @param principal 認証ユーザー
+     * @param request リクエスト
+     * @return リダイレクト先
+     * @throws ServletException ログアウトに失敗した場合
+     */
+    @PostMapping("/account/delete")
+    public String deleteAccount(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                HttpServletRequest request) throws ServletException {
+        userDeletionService.requestDeletion(principal.getUserId());
+        request.logout();
+        return "redirect:/login?deleted=true";
+    }
+
     /**
      * アクセス拒否ページ表示
      *
@@ -4,8 +4,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import com.example.todoapp.repository.UserRepository;
-import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.config.DatabaseHealthMonitor;
+import com.example.todoapp.config.DatabaseHealthMonitor.Counts;
+import com.example.todoapp.config.DatabaseHealthMonitor.Snapshot;
+import com.example.todoapp.service.ShardRouter;
 import java.util.Map;
 import java.util.HashMap;
 import java.time.LocalDateTime;
@@ -18,10 +20,10 @@ import java.time.LocalDateTime;
 public class HealthController {
 
     @Autowired
-    private UserRepository userRepository;
+    private DatabaseHealthMonitor databaseHealthMonitor;
 
     @Autowired
-    private TodoRepository todoRepository;
+    private ShardRouter shardRouter;
 
     /**
      * 簡易ヘルスチェック
@@ -39,31 +41,41 @@ public class HealthController {
 
     /**
      * 詳細ヘルスチェック
+     * データベースにはアクセスせず、バックグラウンドで確認した最新の結果を返す（{@link DatabaseHealthMonitor}）
      * @return アプリケーションの詳細状態
      */
     @GetMapping("/api/health/detailed")
     public ResponseEntity<Map<String, Object>> detailedHealth() {
-        try {
-            // データベース接続確認
-            long userCount = userRepository.count();
-            long todoCount = todoRepository.count();
+        Snapshot snapshot = databaseHealthMonitor.getSnapshot();
+        Counts counts = databaseHealthMonitor.getCounts();
+        boolean up = "UP".equals(databaseHealthMonitor.health().getStatus().getCode());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "UP");
-            response.put("timestamp", LocalDateTime.now());
-            response.put("database", "Connected");
-            response.put("userCount", userCount);
-            response.put("todoCount", todoCount);
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", up ? "UP" : "DOWN");
+        response.put("timestamp", LocalDateTime.now());
+        response.put("database", up ? "Connected" : "Connection failed");
+        if (snapshot != null) {
+            response.put("checkedAt", snapshot.checkedAt());
+            if (snapshot.pingLatency() != null) {
+                response.put("pingLatencyMs", snapshot.pingLatency().toNanos() / 1_000_000.0);
+            }
+            if (snapshot.error() != null) {
+                response.put("error", snapshot.error());
+            }
+        }
+        if (counts != null) {
+            // ToDo件数は全シャードの合計（count-interval ごとに集計）
+            response.put("userCount", counts.userCount());
+            response.put("todoCount", counts.todoCount());
+            response.put("countedAt", counts.countedAt());
+            if (shardRouter.isSharded()) {
+                response.put("todoCountByShard", counts.todoCountByShard());
+            }
+        }
+        if (up) {
             response.put("message", "All systems operational");
-
             return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "DOWN");
-            response.put("timestamp", LocalDateTime.now());
-            response.put("database", "Connection failed");
-            response.put("error", e.getMessage());
-            return ResponseEntity.status(503).body(response);
         }
+        return ResponseEntity.status(503).body(response);
     }
 }
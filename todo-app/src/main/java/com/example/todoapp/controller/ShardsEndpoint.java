@@ -0,0 +1,47 @@
+package com.example.todoapp.controller;
+
+import com.example.todoapp.service.ShardMigrationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 再シャーディング用Actuatorエンドポイント（/actuator/shards）
+ * 公開するには management.endpoints.web.exposure.include に shards を追加する。
+ * ユーザーの移動を実行できるため、管理用ポートなど運用者のみがアクセスできる経路で公開すること
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "shards")
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardsEndpoint {
+
+    @Autowired
+    private ShardMigrationService shardMigrationService;
+
+    /**
+     * シャードごとのユーザー数・ToDo件数
+     */
+    @ReadOperation
+    public Map<String, Map<String, Long>> distribution() {
+        return shardMigrationService.describe();
+    }
+
+    /**
+     * ユーザーを別のシャードへ移動
+     *
+     * @param userId ユーザーID
+     * @param targetShard 移動先シャード名
+     */
+    @WriteOperation
+    public Map<String, Object> moveUser(Long userId, String targetShard) {
+        return shardMigrationService.moveUser(userId, targetShard);
+    }
+}
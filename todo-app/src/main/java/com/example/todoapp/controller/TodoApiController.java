@@ -0,0 +1,86 @@
+package com.example.todoapp.controller;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.TodoBatchService;
+import com.example.todoapp.service.TodoBatchService.BatchRequest;
+import com.example.todoapp.service.TodoBatchService.BatchResult;
+import com.example.todoapp.service.TodoSyncService;
+import com.example.todoapp.service.TodoSyncService.ChangeSet;
+import com.example.todoapp.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * ToDo APIコントローラー
+ * クライアントアプリ向けのJSON APIを提供
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/todos")
+public class TodoApiController {
+
+    @Autowired
+    private TodoSyncService todoSyncService;
+
+    @Autowired
+    private TodoBatchService todoBatchService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * 差分同期: 指定カーソル以降に作成・更新・削除されたToDoを取得
+     * レスポンスのcursorを次回のsinceに指定する。hasMoreがtrueの間は続けて取得し、
+     * resetRequiredがtrueの場合はsinceを省略して全件を取得し直す
+     *
+     * @param principal 認証済みユーザー
+     * @param since 前回取得時のカーソル（省略時は全件）
+     * @param limit 最大件数（デフォルト: 500）
+     * @return 変更セット
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeSet> getChanges(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "500") int limit) {
+
+        User user = userService.getReference(principal.getUserId());
+        return ResponseEntity.ok(todoSyncService.getChangesSince(user, since, limit));
+    }
+
+    /**
+     * 一括操作: 複数のToDo操作を1リクエスト・1トランザクションで実行
+     * 操作は配列の順に実行され、atomic（デフォルト: true）で全体ロールバックか
+     * 失敗分のみスキップかを選択できる
+     *
+     * @param principal 認証済みユーザー
+     * @param request 一括操作リクエスト
+     * @return 操作ごとの実行結果
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> executeBatch(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestBody BatchRequest request) {
+
+        try {
+            User user = userService.getReference(principal.getUserId());
+            BatchResult result = todoBatchService.execute(request, user);
+            return ResponseEntity.ok(result);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -3,14 +3,22 @@ package com.example.todoapp.controller;
 import com.example.todoapp.entity.Todo;
 import com.example.todoapp.entity.User;
 import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.DashboardService;
+import com.example.todoapp.service.DashboardService.Dashboard;
+import com.example.todoapp.service.IdempotencyService;
+import com.example.todoapp.service.RequestDeadline.DeadlineExceededException;
+import com.example.todoapp.service.TodoAnalyticsService;
+import com.example.todoapp.service.TodoCalendarService;
+import com.example.todoapp.service.TodoCalendarService.CalendarMonth;
 import com.example.todoapp.service.TodoService;
-import com.example.todoapp.service.TodoService.TodoStatistics;
+import com.example.todoapp.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,8 +26,11 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * ToDoコントローラー
@@ -35,6 +46,21 @@ public class TodoController {
     @Autowired
     private TodoService todoService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TodoCalendarService todoCalendarService;
+
+    @Autowired
+    private TodoAnalyticsService todoAnalyticsService;
+
+    @Autowired
+    private UserService userService;
+
     /**
      * ToDo一覧ページ表示（ページング対応）
      *
@@ -45,6 +71,7 @@ public class TodoController {
      * @param direction ソート方向（デフォルト: desc）
      * @param completed 完了状態フィルター
      * @param search 検索キーワード
+     * @param includeArchived 完了済みの絞り込みでアーカイブ済みのToDoも表示する場合true
      * @param model モデル
      * @return ToDo一覧ページテンプレート
      */
@@ -57,9 +84,10 @@ public class TodoController {
             @RequestParam(defaultValue = "desc") String direction,
             @RequestParam(required = false) Boolean completed,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             Model model) {
 
-        User user = principal.getUser();
+        User user = userService.getReference(principal.getUserId());
 
         // ページサイズの制限
         size = Math.min(size, 100);
@@ -69,31 +97,30 @@ public class TodoController {
             Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<Todo> todoPage;
-
-        // 検索・フィルター条件に応じてデータを取得
+        // 検索・フィルター条件に応じて一覧ページのクエリを選択
+        Supplier<Page<Todo>> pageQuery;
         if (search != null && !search.trim().isEmpty()) {
-            todoPage = todoService.searchByTitle(user, search.trim(), pageable);
+            pageQuery = () -> todoService.searchByTitle(user, search.trim(), pageable);
             model.addAttribute("search", search);
         } else if (completed != null) {
-            todoPage = todoService.findByUserAndCompleted(user, completed, pageable);
+            pageQuery = () -> todoService.findByUserAndCompleted(user, completed, pageable, includeArchived);
             model.addAttribute("completed", completed);
+            model.addAttribute("includeArchived", includeArchived);
         } else {
-            todoPage = todoService.findByUser(user, pageable);
+            pageQuery = () -> todoService.findByUser(user, pageable);
         }
 
-        // 統計情報を取得
-        TodoStatistics statistics = todoService.getTodoStatistics(user);
-
-        // 今日期限と近日期限のToDoを取得
-        List<Todo> todayTodos = todoService.findTodayTodos(user);
-        List<Todo> upcomingTodos = todoService.findUpcomingTodos(user);
+        // 一覧ページと統計・今日期限・近日期限のパネルを並列に取得
+        Dashboard dashboard = dashboardService.assemble(user, pageQuery);
+        Page<Todo> todoPage = dashboard.getTodoPage();
 
         // モデルに属性を追加
         model.addAttribute("todoPage", todoPage);
-        model.addAttribute("statistics", statistics);
-        model.addAttribute("todayTodos", todayTodos);
-        model.addAttribute("upcomingTodos", upcomingTodos);
+        model.addAttribute("statistics", dashboard.getStatistics());
+        model.addAttribute("todayTodos", dashboard.getTodayTodos());
+        model.addAttribute("upcomingTodos", dashboard.getUpcomingTodos());
+        model.addAttribute("unavailablePanels", dashboard.getUnavailablePanels());
+        model.addAttribute("stalePanels", dashboard.getStalePanels());
         model.addAttribute("currentPage", page);
         model.addAttribute("pageSize", size);
         model.addAttribute("sortField", sort);
@@ -114,15 +141,20 @@ public class TodoController {
     public String showCreateForm(Model model) {
         model.addAttribute("todo", new Todo());
         model.addAttribute("isEdit", false);
+        model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
         return "todo/form";
     }
 
     /**
      * ToDo作成処理
      *
+     * 同じIdempotency-Key（ヘッダーまたはフォームのidempotencyKey）での再送は作成を繰り返さない
+     *
      * @param principal 認証済みユーザー
      * @param todo ToDo情報
      * @param bindingResult バリデーション結果
+     * @param idempotencyKeyHeader 冪等性キー（Idempotency-Keyヘッダー）
+     * @param idempotencyKeyParam 冪等性キー（フォームパラメータ）
      * @param redirectAttributes リダイレクト属性
      * @param model モデル
      * @return リダイレクト先またはテンプレート
@@ -132,9 +164,14 @@ public class TodoController {
             @AuthenticationPrincipal CustomUserPrincipal principal,
             @Valid @ModelAttribute("todo") Todo todo,
             BindingResult bindingResult,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKeyHeader,
+            @RequestParam(value = "idempotencyKey", required = false) String idempotencyKeyParam,
             RedirectAttributes redirectAttributes,
             Model model) {
 
+        String idempotencyKey = idempotencyKeyHeader != null ? idempotencyKeyHeader : idempotencyKeyParam;
+        model.addAttribute("idempotencyKey", idempotencyKey);
+
         if (bindingResult.hasErrors()) {
             model.addAttribute("isEdit", false);
             return "todo/form";
@@ -148,11 +185,15 @@ public class TodoController {
         }
 
         try {
-            User user = principal.getUser();
-            todoService.createTodo(todo, user);
+            User user = userService.getReference(principal.getUserId());
+            idempotencyService.execute(user.getId(), idempotencyKey, "todo.create",
+                    () -> todoService.createTodo(todo, user).getId());
             redirectAttributes.addFlashAttribute("successMessage", "ToDoを作成しました。");
             return "redirect:/todos";
 
+        } catch (DeadlineExceededException e) {
+            // 期限切れはエラー画面に戻さず、そのまま503を返す
+            throw e;
         } catch (Exception e) {
             model.addAttribute("errorMessage", "ToDo作成中にエラーが発生しました。");
             model.addAttribute("isEdit", false);
@@ -174,7 +215,7 @@ public class TodoController {
             @PathVariable Long id,
             Model model) {
 
-        User user = principal.getUser();
+        User user = userService.getReference(principal.getUserId());
         Optional<Todo> todoOpt = todoService.findByIdAndUser(id, user);
 
         if (todoOpt.isEmpty()) {
@@ -183,16 +224,21 @@ public class TodoController {
 
         model.addAttribute("todo", todoOpt.get());
         model.addAttribute("isEdit", true);
+        model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
         return "todo/form";
     }
 
     /**
      * ToDo更新処理
      *
+     * 同じIdempotency-Key（ヘッダーまたはフォームのidempotencyKey）での再送は更新を繰り返さない
+     *
      * @param principal 認証済みユーザー
      * @param id ToDoID
      * @param todo ToDo情報
      * @param bindingResult バリデーション結果
+     * @param idempotencyKeyHeader 冪等性キー（Idempotency-Keyヘッダー）
+     * @param idempotencyKeyParam 冪等性キー（フォームパラメータ）
      * @param redirectAttributes リダイレクト属性
      * @param model モデル
      * @return リダイレクト先またはテンプレート
@@ -203,10 +249,15 @@ public class TodoController {
             @PathVariable Long id,
             @Valid @ModelAttribute("todo") Todo todo,
             BindingResult bindingResult,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKeyHeader,
+            @RequestParam(value = "idempotencyKey", required = false) String idempotencyKeyParam,
             RedirectAttributes redirectAttributes,
             Model model) {
 
-        User user = principal.getUser();
+        String idempotencyKey = idempotencyKeyHeader != null ? idempotencyKeyHeader : idempotencyKeyParam;
+        model.addAttribute("idempotencyKey", idempotencyKey);
+
+        User user = userService.getReference(principal.getUserId());
         Optional<Todo> existingTodoOpt = todoService.findByIdAndUser(id, user);
 
         if (existingTodoOpt.isEmpty()) {
@@ -231,10 +282,13 @@ public class TodoController {
             existingTodo.setDescription(todo.getDescription());
             existingTodo.setDueDate(todo.getDueDate());
 
-            todoService.updateTodo(existingTodo);
+            idempotencyService.execute(user.getId(), idempotencyKey, "todo.update:" + id,
+                    () -> todoService.updateTodo(existingTodo).getId());
             redirectAttributes.addFlashAttribute("successMessage", "ToDoを更新しました。");
             return "redirect:/todos";
 
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             model.addAttribute("errorMessage", "ToDo更新中にエラーが発生しました。");
             model.addAttribute("isEdit", true);
@@ -257,12 +311,14 @@ public class TodoController {
             RedirectAttributes redirectAttributes) {
 
         try {
-            User user = principal.getUser();
+            User user = userService.getReference(principal.getUserId());
             todoService.deleteTodo(id, user);
             redirectAttributes.addFlashAttribute("successMessage", "ToDoを削除しました。");
 
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("errorMessage", "ToDoが見つかりません。");
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "ToDo削除中にエラーが発生しました。");
         }
@@ -284,7 +340,7 @@ public class TodoController {
             RedirectAttributes redirectAttributes) {
 
         try {
-            User user = principal.getUser();
+            User user = userService.getReference(principal.getUserId());
             Todo updatedTodo = todoService.toggleCompletion(id, user);
 
             String message = updatedTodo.isCompleted() ?
@@ -293,6 +349,8 @@ public class TodoController {
 
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("errorMessage", "ToDoが見つかりません。");
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "ToDo更新中にエラーが発生しました。");
         }
@@ -314,7 +372,7 @@ public class TodoController {
             @PathVariable Long id,
             Model model) {
 
-        User user = principal.getUser();
+        User user = userService.getReference(principal.getUserId());
         Optional<Todo> todoOpt = todoService.findByIdAndUser(id, user);
 
         if (todoOpt.isEmpty()) {
@@ -341,7 +399,7 @@ public class TodoController {
             @RequestParam(defaultValue = "10") int size,
             Model model) {
 
-        User user = principal.getUser();
+        User user = userService.getReference(principal.getUserId());
         size = Math.min(size, 100);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "dueDate"));
@@ -356,4 +414,65 @@ public class TodoController {
 
         return "todo/overdue";
     }
+
+    /**
+     * カレンダー（月表示）ページ表示
+     * 日付を指定した場合は、その日が期限のToDoをID順に表示する（afterで指定したIDの次から）
+     *
+     * @param principal 認証済みユーザー
+     * @param month 表示する年月（デフォルト: 今月、日付指定時はその月）
+     * @param date 一覧を表示する日付
+     * @param after 前のページの最後のToDoID
+     * @param size ページサイズ（デフォルト: 20）
+     * @param model モデル
+     * @return カレンダーページテンプレート
+     */
+    @GetMapping("/calendar")
+    public String showCalendar(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            Model model) {
+
+        User user = userService.getReference(principal.getUserId());
+        LocalDate today = LocalDate.now();
+        if (month == null) {
+            month = date != null ? YearMonth.from(date) : YearMonth.from(today);
+        }
+
+        CalendarMonth calendar = todoCalendarService.getMonth(user, month);
+        model.addAttribute("calendar", calendar);
+        model.addAttribute("previousMonth", month.minusMonths(1));
+        model.addAttribute("nextMonth", month.plusMonths(1));
+        model.addAttribute("today", today);
+        model.addAttribute("selectedDate", date);
+        model.addAttribute("after", after);
+        model.addAttribute("pageSize", size);
+        if (date != null) {
+            model.addAttribute("dayPage", todoCalendarService.findDayTodos(user, date, after, size));
+        }
+
+        return "todo/calendar";
+    }
+
+    /**
+     * 分析ページ表示
+     * 日次集計から、作成数と完了数の累計・週ごとの完了数・完了までの所要時間の分位点を表示する
+     *
+     * @param principal 認証済みユーザー
+     * @param model モデル
+     * @return 分析ページテンプレート
+     */
+    @GetMapping("/analytics")
+    public String showAnalytics(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            Model model) {
+
+        User user = userService.getReference(principal.getUserId());
+        model.addAttribute("trend", todoAnalyticsService.getTrend(user, LocalDate.now()));
+
+        return "todo/analytics";
+    }
 }
@@ -0,0 +1,133 @@
+package com.example.todoapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Remember-Meトークンエンティティクラス
+ * ログイン状態を保持するCookieのシリーズ（端末ごとの識別子）とトークンを記録する（ディレクトリシャードにのみ保持）
+ * トークンはSHA-256のハッシュ値のみを保存する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "remember_me_tokens", indexes = {
+    @Index(name = "idx_remember_me_tokens_user_id", columnList = "user_id"),
+    @Index(name = "idx_remember_me_tokens_last_used", columnList = "last_used")
+})
+public class RememberMeToken {
+
+    @Id
+    @Column(length = 64)
+    private String series;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /**
+     * トークンを最後に更新した日時
+     */
+    @Column(name = "rotated_at", nullable = false)
+    private LocalDateTime rotatedAt;
+
+    /**
+     * 最終使用日時（一定間隔でまとめて更新されるため、実際の使用より最大で更新間隔分遅れる）
+     */
+    @Column(name = "last_used", nullable = false)
+    private LocalDateTime lastUsed;
+
+    // デフォルトコンストラクタ
+    public RememberMeToken() {
+    }
+
+    // コンストラクタ
+    public RememberMeToken(String series, Long userId, String email, String tokenHash, LocalDateTime now) {
+        this.series = series;
+        this.userId = userId;
+        this.email = email;
+        this.tokenHash = tokenHash;
+        this.rotatedAt = now;
+        this.lastUsed = now;
+    }
+
+    // Getter and Setter methods
+    public String getSeries() {
+        return series;
+    }
+
+    public void setSeries(String series) {
+        this.series = series;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public LocalDateTime getRotatedAt() {
+        return rotatedAt;
+    }
+
+    public void setRotatedAt(LocalDateTime rotatedAt) {
+        this.rotatedAt = rotatedAt;
+    }
+
+    public LocalDateTime getLastUsed() {
+        return lastUsed;
+    }
+
+    public void setLastUsed(LocalDateTime lastUsed) {
+        this.lastUsed = lastUsed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RememberMeToken that = (RememberMeToken) o;
+        return Objects.equals(series, that.series);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(series);
+    }
+
+    @Override
+    public String toString() {
+        return "RememberMeToken{" +
+                "series='" + series + '\'' +
+                ", userId=" + userId +
+                ", rotatedAt=" + rotatedAt +
+                ", lastUsed=" + lastUsed +
+                '}';
+    }
+}
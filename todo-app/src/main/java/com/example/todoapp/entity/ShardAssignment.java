@@ -0,0 +1,100 @@
+package com.example.todoapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * シャード割り当てエンティティクラス
+ * コンシステントハッシュによる割り当てを上書きするユーザー単位の割り当て（再シャーディング結果）。
+ * ディレクトリシャードにのみ保持する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "shard_assignments")
+public class ShardAssignment {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "shard_name", nullable = false, length = 50)
+    private String shardName;
+
+    @Column(nullable = false)
+    private boolean migrating;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // デフォルトコンストラクタ
+    public ShardAssignment() {
+    }
+
+    // コンストラクタ
+    public ShardAssignment(Long userId, String shardName, boolean migrating) {
+        this.userId = userId;
+        this.shardName = shardName;
+        this.migrating = migrating;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getter and Setter methods
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getShardName() {
+        return shardName;
+    }
+
+    public void setShardName(String shardName) {
+        this.shardName = shardName;
+    }
+
+    public boolean isMigrating() {
+        return migrating;
+    }
+
+    public void setMigrating(boolean migrating) {
+        this.migrating = migrating;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShardAssignment that = (ShardAssignment) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "ShardAssignment{" +
+                "userId=" + userId +
+                ", shardName='" + shardName + '\'' +
+                ", migrating=" + migrating +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -18,7 +18,11 @@ import java.util.Objects;
  * @version 1.0
  */
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+    @Index(name = "idx_todos_user_change_seq", columnList = "user_id, change_seq"),
+    @Index(name = "idx_todos_completed_completed_at", columnList = "completed, completed_at"),
+    @Index(name = "idx_todos_created_at", columnList = "created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Todo {
 
@@ -56,6 +60,33 @@ public class Todo {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * ユーザー単位の変更シーケンス番号（差分同期のカーソル）
+     */
+    @Column(name = "change_seq", nullable = false, columnDefinition = "bigint default 0 not null")
+    private long changeSeq;
+
+    /**
+     * アーカイブ（todos_archive）から読み込んだ表示専用のToDoかどうか
+     */
+    @Transient
+    private boolean archived;
+
+    /**
+     * データベースから読み込んだ時点の期限日（更新時に変更前の期限日を参照するため）
+     */
+    @Transient
+    private LocalDate loadedDueDate;
+
+    /**
+     * データベースから読み込んだ時点の完了日時（更新時に変更前の完了状態を参照するため）
+     */
+    @Transient
+    private LocalDateTime loadedCompletedAt;
+
+    @Transient
+    private boolean loaded;
+
     // デフォルトコンストラクタ
     public Todo() {
     }
@@ -146,6 +177,50 @@ public class Todo {
         this.user = user;
     }
 
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    /**
+     * データベースから読み込んだエンティティかどうか（新規作成したエンティティはfalse）
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public LocalDate getLoadedDueDate() {
+        return loadedDueDate;
+    }
+
+    /**
+     * 読み込み時の完了日時（読み込み時に未完了の場合はnull）
+     */
+    public LocalDateTime getLoadedCompletedAt() {
+        return loadedCompletedAt;
+    }
+
+    /**
+     * 読み込み時の状態を記録（JPAの読み込み後に呼び出される）
+     */
+    @PostLoad
+    public void onLoad() {
+        this.loaded = true;
+        this.loadedDueDate = dueDate;
+        this.loadedCompletedAt = completed ? completedAt : null;
+    }
+
     // ヘルパーメソッド
     public boolean isOverdue() {
         return dueDate != null && !completed && dueDate.isBefore(LocalDate.now());
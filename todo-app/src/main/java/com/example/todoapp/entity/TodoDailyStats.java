@@ -0,0 +1,131 @@
+package com.example.todoapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * ToDo日次集計エンティティクラス
+ * ユーザー・日付ごとの作成数・完了数と、その日に完了したToDoの所要時間（作成から完了まで）のスケッチを保持する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "todo_daily_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_todo_daily_stats_user_date", columnNames = {"user_id", "stat_date"}),
+    indexes = @Index(name = "idx_todo_daily_stats_stat_date", columnList = "stat_date"))
+public class TodoDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "created_count", nullable = false)
+    private int createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    /**
+     * 所要時間のスケッチ（{@link com.example.todoapp.service.DurationSketch} の保存形式）
+     */
+    @Column(name = "completion_sketch", length = 8192)
+    private byte[] completionSketch;
+
+    // デフォルトコンストラクタ
+    public TodoDailyStats() {
+    }
+
+    // コンストラクタ
+    public TodoDailyStats(Long userId, LocalDate statDate) {
+        this.userId = userId;
+        this.statDate = statDate;
+    }
+
+    // Getter and Setter methods
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setCompletedCount(int completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public byte[] getCompletionSketch() {
+        return completionSketch;
+    }
+
+    public void setCompletionSketch(byte[] completionSketch) {
+        this.completionSketch = completionSketch;
+    }
+
+    // ヘルパーメソッド
+    public boolean isEmpty() {
+        return createdCount == 0 && completedCount == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TodoDailyStats that = (TodoDailyStats) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "TodoDailyStats{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", statDate=" + statDate +
+                ", createdCount=" + createdCount +
+                ", completedCount=" + completedCount +
+                ", completionSketchBytes=" + (completionSketch != null ? completionSketch.length : 0) +
+                '}';
+    }
+}
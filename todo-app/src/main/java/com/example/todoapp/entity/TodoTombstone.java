@@ -0,0 +1,114 @@
+package com.example.todoapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * ToDo削除記録（トゥームストーン）エンティティクラス
+ * 差分同期クライアントに削除を伝えるため、保持期間の間だけ残す
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "todo_tombstones", indexes = {
+    @Index(name = "idx_todo_tombstones_user_change_seq", columnList = "user_id, change_seq"),
+    @Index(name = "idx_todo_tombstones_deleted_at", columnList = "deleted_at")
+})
+public class TodoTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // デフォルトコンストラクタ
+    public TodoTombstone() {
+    }
+
+    // コンストラクタ
+    public TodoTombstone(Long userId, Long todoId, long changeSeq, LocalDateTime deletedAt) {
+        this.userId = userId;
+        this.todoId = todoId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+
+    // Getter and Setter methods
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    public void setTodoId(Long todoId) {
+        this.todoId = todoId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TodoTombstone that = (TodoTombstone) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "TodoTombstone{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", todoId=" + todoId +
+                ", changeSeq=" + changeSeq +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
@@ -54,6 +54,30 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 最後に払い出した変更シーケンス番号
+     * UserRepository の更新クエリでのみ変更する（読み込んだエンティティの保存で古い値に戻さないよう、INSERT/UPDATEの対象外）
+     */
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long changeSeq;
+
+    /**
+     * 削除記録（トゥームストーン）を圧縮済みのシーケンス番号
+     * これより古いカーソルからの差分同期は全件再取得が必要。change_seq と同様に更新クエリでのみ変更する
+     */
+    @Column(name = "sync_floor_seq", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long syncFloorSeq;
+
+    /**
+     * 認証情報のバージョン
+     * パスワード変更時に増やし、それ以前に発行したAPIリフレッシュトークンを無効にする。change_seq と同様に更新クエリでのみ変更する
+     */
+    @Column(name = "credentials_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long credentialsVersion;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Todo> todos = new ArrayList<>();
 
@@ -125,6 +149,18 @@ public class User {
         this.updatedAt = updatedAt;
     }
 
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public long getSyncFloorSeq() {
+        return syncFloorSeq;
+    }
+
+    public long getCredentialsVersion() {
+        return credentialsVersion;
+    }
+
     public List<Todo> getTodos() {
         return todos;
     }
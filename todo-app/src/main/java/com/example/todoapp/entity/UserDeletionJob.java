@@ -0,0 +1,135 @@
+package com.example.todoapp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * ユーザー削除ジョブエンティティクラス
+ * アカウント削除を受け付けたユーザーのデータ削除の進捗を記録する。
+ * ユーザー行の削除後も完了記録として残す（ディレクトリシャードにのみ保持）
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "user_deletion_jobs", indexes = {
+    @Index(name = "idx_user_deletion_jobs_status", columnList = "status")
+})
+public class UserDeletionJob {
+
+    /**
+     * ジョブの状態
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED
+    }
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    /**
+     * 最終更新日時（実行中はチャンクごとに更新され、処理ノードの生存確認に使う）
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // デフォルトコンストラクタ
+    public UserDeletionJob() {
+    }
+
+    // コンストラクタ
+    public UserDeletionJob(Long userId, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.requestedAt = requestedAt;
+        this.updatedAt = requestedAt;
+    }
+
+    // Getter and Setter methods
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public void setDeletedRows(long deletedRows) {
+        this.deletedRows = deletedRows;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(LocalDateTime requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserDeletionJob that = (UserDeletionJob) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+
+    @Override
+    public String toString() {
+        return "UserDeletionJob{" +
+                "userId=" + userId +
+                ", status=" + status +
+                ", deletedRows=" + deletedRows +
+                ", requestedAt=" + requestedAt +
+                ", completedAt=" + completedAt +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.ArchivedTodo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * アーカイブ済みToDoリポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long> {
+
+    /**
+     * ユーザーのアーカイブ済みToDoをページング付きで取得
+     *
+     * @param userId ユーザーID
+     * @param pageable ページング情報
+     * @return アーカイブ済みToDoページ
+     */
+    Page<ArchivedTodo> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * ユーザーのアーカイブ済みToDo数を取得
+     *
+     * @param userId ユーザーID
+     * @return アーカイブ済みToDo数
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * ToDoをアーカイブへ複写（INSERT ... SELECT）
+     *
+     * @param ids ToDo IDリスト
+     * @return 複写件数
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTodo (id, userId, title, description, dueDate, completedAt, createdAt, updatedAt, changeSeq, archivedAt) " +
+           "SELECT t.id, t.user.id, t.title, t.description, t.dueDate, t.completedAt, t.createdAt, t.updatedAt, t.changeSeq, LOCAL DATETIME " +
+           "FROM Todo t WHERE t.id IN :ids")
+    int copyFromTodos(@Param("ids") List<Long> ids);
+
+    /**
+     * ユーザーのアーカイブ済みToDo IDを取得（チャンク削除用）
+     *
+     * @param userId ユーザーID
+     * @param pageable ページング情報（チャンクサイズ）
+     * @return ToDo IDリスト
+     */
+    @Query("SELECT a.id FROM ArchivedTodo a WHERE a.userId = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * アーカイブ済みToDoをIDで一括削除
+     *
+     * @param ids ToDo IDリスト
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTodo a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,50 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 冪等性キー記録リポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * ユーザーIDと冪等性キーで記録を検索
+     *
+     * @param userId ユーザーID
+     * @param idempotencyKey 冪等性キー
+     * @return 記録（Optional）
+     */
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * 有効期限切れの記録を一括削除
+     *
+     * @param now 現在日時
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * ユーザーの記録を一括削除
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
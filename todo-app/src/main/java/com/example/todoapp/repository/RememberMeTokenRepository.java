@@ -0,0 +1,64 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.RememberMeToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Remember-Meトークンリポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface RememberMeTokenRepository extends JpaRepository<RememberMeToken, String> {
+
+    /**
+     * トークンを更新
+     *
+     * @param series シリーズ
+     * @param tokenHash 新しいトークンのハッシュ値
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE RememberMeToken t SET t.tokenHash = :tokenHash, t.rotatedAt = :now, t.lastUsed = :now WHERE t.series = :series")
+    int rotate(@Param("series") String series, @Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * 複数のシリーズの最終使用日時をまとめて更新
+     *
+     * @param series シリーズ
+     * @param lastUsed 最終使用日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE RememberMeToken t SET t.lastUsed = :lastUsed WHERE t.series IN :series AND t.lastUsed < :lastUsed")
+    int touchAll(@Param("series") Collection<String> series, @Param("lastUsed") LocalDateTime lastUsed);
+
+    /**
+     * ユーザーのトークンをすべて削除
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM RememberMeToken t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 指定日時より前から使用されていないトークンを削除
+     *
+     * @param before この日時より前に最後に使用されたトークンを削除
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM RememberMeToken t WHERE t.lastUsed < :before")
+    int deleteUnusedBefore(@Param("before") LocalDateTime before);
+}
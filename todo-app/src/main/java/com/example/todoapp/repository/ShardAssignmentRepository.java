@@ -0,0 +1,15 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.ShardAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * シャード割り当てリポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface ShardAssignmentRepository extends JpaRepository<ShardAssignment, Long> {
+}
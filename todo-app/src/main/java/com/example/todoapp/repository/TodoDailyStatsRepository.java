@@ -0,0 +1,61 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.TodoDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ToDo日次集計リポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface TodoDailyStatsRepository extends JpaRepository<TodoDailyStats, Long> {
+
+    /**
+     * ユーザーの指定日の集計を取得
+     *
+     * @param userId ユーザーID
+     * @param statDate 日付
+     * @return 日次集計（Optional）
+     */
+    Optional<TodoDailyStats> findByUserIdAndStatDate(Long userId, LocalDate statDate);
+
+    /**
+     * ユーザーの期間内の集計を日付順に取得
+     *
+     * @param userId ユーザーID
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return 日次集計リスト（集計がない日は含まない）
+     */
+    List<TodoDailyStats> findByUserIdAndStatDateBetweenOrderByStatDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 期間内に集計があるユーザーのIDを取得
+     *
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return ユーザーIDリスト
+     */
+    @Query("SELECT DISTINCT s.userId FROM TodoDailyStats s WHERE s.statDate BETWEEN :startDate AND :endDate")
+    List<Long> findUserIdsByStatDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * ユーザーの集計を一括削除
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM TodoDailyStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
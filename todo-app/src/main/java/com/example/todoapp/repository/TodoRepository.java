@@ -4,12 +4,16 @@ import com.example.todoapp.entity.Todo;
 import com.example.todoapp.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -138,6 +142,40 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      */
     Optional<Todo> findByIdAndUser(Long id, User user);
 
+    /**
+     * ユーザーの期限日ありの未完了ToDoを期限日順に取得（期限日索引の構築用）
+     *
+     * @param user ユーザー
+     * @param pageable ページング情報（件数上限）
+     * @return ToDoリスト
+     */
+    @Query("SELECT t FROM Todo t WHERE t.user = :user AND t.dueDate IS NOT NULL AND t.completed = false ORDER BY t.dueDate ASC, t.id ASC")
+    List<Todo> findOpenTodosWithDueDate(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 期限日が指定期間内のToDo数を期限日ごとに集計（カレンダー表示用）
+     *
+     * @param user ユーザー
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return [期限日, 件数, 完了数] のリスト
+     */
+    @Query("SELECT t.dueDate, COUNT(t), SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END) FROM Todo t " +
+           "WHERE t.user = :user AND t.dueDate BETWEEN :startDate AND :endDate GROUP BY t.dueDate")
+    List<Object[]> countByDueDateBetween(@Param("user") User user, @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    /**
+     * 期限日が指定日のToDoを、指定したIDより後からID順に取得（キーセットページング）
+     *
+     * @param user ユーザー
+     * @param dueDate 期限日
+     * @param id 前のページの最後のToDoID（先頭ページは0）
+     * @param pageable ページング情報（件数上限）
+     * @return ToDoリスト
+     */
+    List<Todo> findByUserAndDueDateAndIdGreaterThanOrderByIdAsc(User user, LocalDate dueDate, Long id, Pageable pageable);
+
     /**
      * ユーザーの期限切れToDo数を取得
      *
@@ -146,4 +184,93 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      */
     @Query("SELECT COUNT(t) FROM Todo t WHERE t.user = :user AND t.dueDate < CURRENT_DATE() AND t.completed = false")
     long countOverdueTodos(@Param("user") User user);
+
+    /**
+     * 指定シーケンス番号より後に作成・更新されたToDoを取得（差分同期用）
+     *
+     * @param user ユーザー
+     * @param changeSeq 基準シーケンス番号
+     * @param pageable ページング情報（件数上限とソート）
+     * @return ToDoリスト
+     */
+    List<Todo> findByUserAndChangeSeqGreaterThan(User user, long changeSeq, Pageable pageable);
+
+    /**
+     * アーカイブ対象（完了日時が基準日時より前）のToDo IDを取得（行ロックなし）
+     * 移動の前に {@link #findArchivableTodoIdsForUpdate} でロックを取り直す
+     *
+     * @param cutoff 基準日時
+     * @param pageable ページング情報（バッチサイズ）
+     * @return ToDo IDリスト
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.completed = true AND t.completedAt < :cutoff ORDER BY t.id")
+    List<Long> findArchivableTodoIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 指定したToDoのうち、まだアーカイブ対象のもののIDを行ロック付きで取得
+     * ロック中はユーザーによる更新が待たされるため、アーカイブへの複写と削除の間に状態が変わらない
+     * （複写・削除はSQLで行うため、エンティティは読み込まない）
+     *
+     * @param ids ToDo IDリスト
+     * @param cutoff 基準日時
+     * @return ToDo IDリスト
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :ids AND t.completed = true AND t.completedAt < :cutoff ORDER BY t.id")
+    List<Long> findArchivableTodoIdsForUpdate(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * ToDoの所有ユーザーのIDを取得（ユーザーID順、重複なし）
+     *
+     * @param ids ToDo IDリスト
+     * @return ユーザーIDリスト
+     */
+    @Query("SELECT DISTINCT t.user.id FROM Todo t WHERE t.id IN :ids ORDER BY t.user.id")
+    List<Long> findUserIdsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * ToDoをIDで一括削除
+     *
+     * @param ids ToDo IDリスト
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * ユーザーのToDo IDを取得（チャンク削除用）
+     *
+     * @param userId ユーザーID
+     * @param pageable ページング情報（チャンクサイズ）
+     * @return ToDo IDリスト
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 期間内にToDoを作成または完了したユーザーのIDを取得（日次集計の再計算用）
+     *
+     * @param from 開始日時（含む）
+     * @param to 終了日時（含まない）
+     * @return ユーザーIDリスト
+     */
+    @Query("SELECT DISTINCT t.user.id FROM Todo t WHERE (t.createdAt >= :from AND t.createdAt < :to) " +
+           "OR (t.completed = true AND t.completedAt >= :from AND t.completedAt < :to)")
+    List<Long> findUserIdsWithActivityBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 期間内に作成または完了したユーザーのToDoの作成日時・完了日時を取得（日次集計の再計算用）
+     *
+     * @param userId ユーザーID
+     * @param from 開始日時（含む）
+     * @param to 終了日時（含まない）
+     * @return [作成日時, 完了日時（未完了はnull）] のリスト
+     */
+    @Query("SELECT t.createdAt, CASE WHEN t.completed = true THEN t.completedAt ELSE NULL END FROM Todo t " +
+           "WHERE t.user.id = :userId AND ((t.createdAt >= :from AND t.createdAt < :to) " +
+           "OR (t.completed = true AND t.completedAt >= :from AND t.completedAt < :to))")
+    List<Object[]> findActivityTimesBetween(@Param("userId") Long userId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
 }
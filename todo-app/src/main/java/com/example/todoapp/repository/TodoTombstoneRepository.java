@@ -0,0 +1,61 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.TodoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ToDo削除記録リポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    /**
+     * 指定シーケンス番号より後の削除記録を取得
+     *
+     * @param userId ユーザーID
+     * @param changeSeq 基準シーケンス番号
+     * @param pageable ページング情報（件数上限とソート）
+     * @return 削除記録リスト
+     */
+    List<TodoTombstone> findByUserIdAndChangeSeqGreaterThan(Long userId, long changeSeq, Pageable pageable);
+
+    /**
+     * 保持期間を過ぎた削除記録のユーザー別最大シーケンス番号を取得
+     *
+     * @param cutoff 保持期限
+     * @return [ユーザーID, 最大シーケンス番号] のリスト
+     */
+    @Query("SELECT t.userId, MAX(t.changeSeq) FROM TodoTombstone t WHERE t.deletedAt < :cutoff GROUP BY t.userId")
+    List<Object[]> findMaxChangeSeqPerUserDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 保持期間を過ぎた削除記録を一括削除
+     *
+     * @param cutoff 保持期限
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM TodoTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * ユーザーの削除記録を一括削除
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM TodoTombstone t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,57 @@
+package com.example.todoapp.repository;
+
+import com.example.todoapp.entity.UserDeletionJob;
+import com.example.todoapp.entity.UserDeletionJob.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ユーザー削除ジョブリポジトリインターフェース
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+
+    /**
+     * 未完了のジョブを受付順に取得
+     *
+     * @param status 除外する状態（COMPLETED）
+     * @return ジョブリスト
+     */
+    List<UserDeletionJob> findByStatusNotOrderByRequestedAt(Status status);
+
+    /**
+     * ジョブの実行権を取得
+     * 未着手のジョブ、または処理ノードが停止して更新が途絶えた実行中のジョブのみ取得できる
+     *
+     * @param userId ユーザーID
+     * @param now 現在日時
+     * @param staleBefore この日時より前に更新された実行中ジョブを引き継ぐ
+     * @return 取得できた場合1
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.status = com.example.todoapp.entity.UserDeletionJob.Status.RUNNING, j.updatedAt = :now " +
+           "WHERE j.userId = :userId AND (j.status = com.example.todoapp.entity.UserDeletionJob.Status.PENDING " +
+           "OR (j.status = com.example.todoapp.entity.UserDeletionJob.Status.RUNNING AND j.updatedAt < :staleBefore))")
+    int claim(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 削除件数を加算して最終更新日時を更新
+     *
+     * @param userId ユーザーID
+     * @param deletedRows 今回の削除件数
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.deletedRows = j.deletedRows + :deletedRows, j.updatedAt = :now WHERE j.userId = :userId")
+    int recordProgress(@Param("userId") Long userId, @Param("deletedRows") long deletedRows, @Param("now") LocalDateTime now);
+}
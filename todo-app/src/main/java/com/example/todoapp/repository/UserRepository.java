@@ -1,7 +1,10 @@
 package com.example.todoapp.repository;
 
 import com.example.todoapp.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -58,4 +61,86 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT COUNT(u) FROM User u WHERE u.enabled = true")
     long countEnabledUsers();
+
+    /**
+     * ユーザーの変更シーケンス番号をインクリメント
+     * 行ロックにより同一ユーザーの変更は直列化される
+     *
+     * @param userId ユーザーID
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.changeSeq = u.changeSeq + 1 WHERE u.id = :userId")
+    int incrementChangeSeq(@Param("userId") Long userId);
+
+    /**
+     * ユーザーの認証情報のバージョンをインクリメント
+     * 発行済みのAPIリフレッシュトークンが無効になる
+     *
+     * @param userId ユーザーID
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.credentialsVersion = u.credentialsVersion + 1 WHERE u.id = :userId")
+    int incrementCredentialsVersion(@Param("userId") Long userId);
+
+    /**
+     * ユーザーの現在の認証情報のバージョンを取得
+     *
+     * @param userId ユーザーID
+     * @return 認証情報のバージョン（ユーザーが存在しない場合は空）
+     */
+    @Query("SELECT u.credentialsVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findCredentialsVersionById(@Param("userId") Long userId);
+
+    /**
+     * ユーザーを行ロック付きで取得
+     * 変更シーケンス番号のインクリメントと同じ行ロックのため、ロック中はユーザーのToDoの変更が待たされる
+     *
+     * @param userId ユーザーID
+     * @return ユーザー（Optional）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * ユーザーの現在の変更シーケンス番号を取得
+     *
+     * @param userId ユーザーID
+     * @return 変更シーケンス番号
+     */
+    @Query("SELECT u.changeSeq FROM User u WHERE u.id = :userId")
+    long findChangeSeqById(@Param("userId") Long userId);
+
+    /**
+     * ユーザーの同期下限シーケンス番号を取得
+     *
+     * @param userId ユーザーID
+     * @return 同期下限シーケンス番号
+     */
+    @Query("SELECT u.syncFloorSeq FROM User u WHERE u.id = :userId")
+    long findSyncFloorSeqById(@Param("userId") Long userId);
+
+    /**
+     * ユーザーの同期下限シーケンス番号を引き上げ（引き下げは行わない）
+     *
+     * @param userId ユーザーID
+     * @param syncFloorSeq 新しい同期下限シーケンス番号
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.syncFloorSeq = :syncFloorSeq WHERE u.id = :userId AND u.syncFloorSeq < :syncFloorSeq")
+    int raiseSyncFloorSeq(@Param("userId") Long userId, @Param("syncFloorSeq") long syncFloorSeq);
+
+    /**
+     * ユーザーを一括削除クエリで削除
+     * ToDoのカスケード削除（全件の読み込み）を行わないため、関連データを先に削除しておくこと
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteByIdInBulk(@Param("userId") Long userId);
 }
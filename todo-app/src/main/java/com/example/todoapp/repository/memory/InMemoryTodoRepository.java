@@ -0,0 +1,797 @@
+package com.example.todoapp.repository.memory;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * インメモリストア（{@link TodoStore}）を使う {@link TodoRepository} の実装
+ * memory-store プロファイルで JPA のリポジトリの代わりに使用される（InMemoryStoreConfig）
+ *
+ * <p>ユーザー単位の検索は期限日順・作成日時順の索引を使い、SQLを発行しない。返すToDoはレコードから作成した
+ * 新しいインスタンスのため、変更は {@link #save} するまで反映されない（JPAの変更検知は行われない）。
+ * Example による検索は、プローブのユーザーIDで絞り込める場合はそのユーザーの索引を、それ以外は全レコードを走査する（{@link RecordExample}）。</p>
+ *
+ * <p>トランザクション内の変更はトランザクションごとに保持し、同じトランザクションの読み取りにのみ重ねて返す。
+ * コミット前（beforeCommit）にストアへまとめて反映してログをディスクへ書き出し、ロールバック時は破棄する。
+ * 他のトランザクションからはコミット前の変更は参照できない（read committed 相当。同じToDoを同時に更新した場合は後のコミットが残る）。
+ * ストアへの反映はデータベースのコミットより前に行うため、反映後にデータベースのコミットが失敗した場合はToDoの変更のみが残る。</p>
+ *
+ * <p>完了済みToDoのアーカイブ（todos_archive への移動）は行わない。{@link #findArchivableTodoIds} は常に空を返す。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class InMemoryTodoRepository implements TodoRepository {
+
+    private static final Sort CREATED_AT_DESC = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final Sort DUE_DATE_ASC = Sort.by(Sort.Direction.ASC, "dueDate");
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private final TodoStore store;
+    private final boolean syncOnCommit;
+
+    /**
+     * @param store インメモリストア
+     * @param syncOnCommit コミットごと（トランザクション外では書き込みごと）にログをディスクへ書き出す場合true
+     */
+    public InMemoryTodoRepository(TodoStore store, boolean syncOnCommit) {
+        this.store = store;
+        this.syncOnCommit = syncOnCommit;
+    }
+
+    // ---- ユーザー単位の検索 ----
+
+    @Override
+    public Page<Todo> findByUser(User user, Pageable pageable) {
+        return page(user, ofUser(user.getId()), todo -> true, pageable);
+    }
+
+    @Override
+    public Page<Todo> findByUserAndCompleted(User user, boolean completed, Pageable pageable) {
+        return page(user, ofUser(user.getId()), todo -> todo.completed() == completed, pageable);
+    }
+
+    @Override
+    public Page<Todo> findByUserAndTitleContainingIgnoreCase(User user, String title, Pageable pageable) {
+        String keyword = title.toLowerCase(Locale.ROOT);
+        return page(user, ofUser(user.getId()),
+                todo -> todo.title().toLowerCase(Locale.ROOT).contains(keyword), pageable);
+    }
+
+    @Override
+    public Page<Todo> findByUserAndDueDate(User user, LocalDate dueDate, Pageable pageable) {
+        int day = TodoRecord.toEpochDay(dueDate);
+        return page(user, ofUser(user.getId()), todo -> todo.dueDay() == day, pageable);
+    }
+
+    @Override
+    public Page<Todo> findOverdueTodos(User user, LocalDate currentDate, Pageable pageable) {
+        UserTodos userTodos = ofUser(user.getId());
+        TodoRecord[] overdue = Arrays.copyOf(userTodos.byDueDate(), userTodos.firstDueOnOrAfter(currentDate.toEpochDay()));
+        return page(user, overdue, DUE_DATE_ASC, todo -> !todo.completed(), pageable);
+    }
+
+    @Override
+    public List<Todo> findTodayTodos(User user, LocalDate today) {
+        return openDueBetween(user, today, today);
+    }
+
+    @Override
+    public List<Todo> findUpcomingTodos(User user, LocalDate startDate, LocalDate endDate) {
+        return openDueBetween(user, startDate, endDate);
+    }
+
+    @Override
+    public Page<Todo> findByUserOrderByCreatedAtDesc(User user, Pageable pageable) {
+        return slice(user, ofUser(user.getId()).byCreatedAt(), todo -> true, pageable);
+    }
+
+    @Override
+    public Page<Todo> findByUserOrderByDueDateAsc(User user, Pageable pageable) {
+        return slice(user, ofUser(user.getId()).byDueDate(), todo -> true, pageable);
+    }
+
+    @Override
+    public long countByUserAndCompleted(User user, boolean completed) {
+        UserTodos userTodos = ofUser(user.getId());
+        return completed ? userTodos.completedCount() : userTodos.size() - userTodos.completedCount();
+    }
+
+    @Override
+    public long countByUser(User user) {
+        return ofUser(user.getId()).size();
+    }
+
+    @Override
+    public Optional<Todo> findByIdAndUser(Long id, User user) {
+        TodoRecord record = get(id);
+        if (record == null || record.userId() != user.getId()) {
+            return Optional.empty();
+        }
+        return Optional.of(record.toTodo(user));
+    }
+
+    @Override
+    public List<Todo> findOpenTodosWithDueDate(User user, Pageable pageable) {
+        List<Todo> todos = new ArrayList<>();
+        for (TodoRecord record : ofUser(user.getId()).byDueDate()) {
+            if (!record.hasDueDate() || todos.size() >= pageable.getPageSize()) {
+                break;
+            }
+            if (!record.completed()) {
+                todos.add(record.toTodo(user));
+            }
+        }
+        return todos;
+    }
+
+    @Override
+    public List<Object[]> countByDueDateBetween(User user, LocalDate startDate, LocalDate endDate) {
+        UserTodos userTodos = ofUser(user.getId());
+        TodoRecord[] byDueDate = userTodos.byDueDate();
+        long end = endDate.toEpochDay();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = userTodos.firstDueOnOrAfter(startDate.toEpochDay()); i < byDueDate.length && byDueDate[i].dueKey() <= end; ) {
+            int day = byDueDate[i].dueDay();
+            long count = 0;
+            long completed = 0;
+            for (; i < byDueDate.length && byDueDate[i].dueDay() == day; i++) {
+                count++;
+                completed += byDueDate[i].completed() ? 1 : 0;
+            }
+            rows.add(new Object[]{LocalDate.ofEpochDay(day), count, completed});
+        }
+        return rows;
+    }
+
+    @Override
+    public List<Todo> findByUserAndDueDateAndIdGreaterThanOrderByIdAsc(User user, LocalDate dueDate, Long id, Pageable pageable) {
+        UserTodos userTodos = ofUser(user.getId());
+        TodoRecord[] byDueDate = userTodos.byDueDate();
+        long day = dueDate.toEpochDay();
+        List<Todo> todos = new ArrayList<>();
+        // 同じ期限日の中はID順に並んでいる
+        for (int i = userTodos.firstDueOnOrAfter(day); i < byDueDate.length && byDueDate[i].dueKey() == day
+                && todos.size() < pageable.getPageSize(); i++) {
+            if (byDueDate[i].id() > id) {
+                todos.add(byDueDate[i].toTodo(user));
+            }
+        }
+        return todos;
+    }
+
+    @Override
+    public long countOverdueTodos(User user) {
+        return ofUser(user.getId()).countOpenDueBefore(LocalDate.now().toEpochDay());
+    }
+
+    @Override
+    public List<Todo> findByUserAndChangeSeqGreaterThan(User user, long changeSeq, Pageable pageable) {
+        return page(user, ofUser(user.getId()), todo -> todo.changeSeq() > changeSeq, pageable).getContent();
+    }
+
+    /**
+     * アーカイブは行わないため常に空（完了済みのToDoもストアに保持し続ける）
+     */
+    @Override
+    public List<Long> findArchivableTodoIds(LocalDateTime cutoff, Pageable pageable) {
+        return List.of();
+    }
+
+    /**
+     * アーカイブは行わないため常に空
+     */
+    @Override
+    public List<Long> findArchivableTodoIdsForUpdate(List<Long> ids, LocalDateTime cutoff) {
+        return List.of();
+    }
+
+    @Override
+    public List<Long> findUserIdsByIdIn(List<Long> ids) {
+        Set<Long> userIds = new TreeSet<>();
+        for (Long id : ids) {
+            TodoRecord record = get(id);
+            if (record != null) {
+                userIds.add(record.userId());
+            }
+        }
+        return new ArrayList<>(userIds);
+    }
+
+    @Override
+    public int deleteByIdIn(List<Long> ids) {
+        int deleted = 0;
+        for (Long id : ids) {
+            if (removeRecord(id)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Long> findIdsByUserId(Long userId, Pageable pageable) {
+        TodoRecord[] records = ofUser(userId).byCreatedAt();
+        int limit = pageable.isPaged() ? pageable.getPageSize() : records.length;
+        List<Long> ids = new ArrayList<>(Math.min(limit, records.length));
+        for (int i = 0; i < records.length && ids.size() < limit; i++) {
+            ids.add(records[i].id());
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Long> findUserIdsWithActivityBetween(LocalDateTime from, LocalDateTime to) {
+        long start = TodoRecord.toMicros(from);
+        long end = TodoRecord.toMicros(to);
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (TodoRecord record : all()) {
+            if (isActiveBetween(record, start, end)) {
+                userIds.add(record.userId());
+            }
+        }
+        return new ArrayList<>(userIds);
+    }
+
+    @Override
+    public List<Object[]> findActivityTimesBetween(Long userId, LocalDateTime from, LocalDateTime to) {
+        long start = TodoRecord.toMicros(from);
+        long end = TodoRecord.toMicros(to);
+        List<Object[]> rows = new ArrayList<>();
+        for (TodoRecord record : ofUser(userId).byCreatedAt()) {
+            if (isActiveBetween(record, start, end)) {
+                rows.add(new Object[]{TodoRecord.toDateTime(record.createdAt()),
+                        record.completed() ? TodoRecord.toDateTime(record.completedAt()) : null});
+            }
+        }
+        return rows;
+    }
+
+    private static boolean isActiveBetween(TodoRecord record, long start, long end) {
+        return (record.createdAt() >= start && record.createdAt() < end)
+                || (record.completed() && record.completedAt() >= start && record.completedAt() < end);
+    }
+
+    // ---- CRUD ----
+
+    @Override
+    public <S extends Todo> S save(S entity) {
+        if (entity.getUser() == null || entity.getUser().getId() == null) {
+            throw new DataIntegrityViolationException("ToDoのユーザーが設定されていません");
+        }
+        if (entity.getTitle() == null) {
+            throw new DataIntegrityViolationException("ToDoのタイトルが設定されていません");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+        if (entity.getId() == null || get(entity.getId()) == null) {
+            entity.setId(store.allocateId());
+        }
+        write(entity.getId(), TodoRecord.of(entity, entity.getId(), entity.getUser().getId()));
+        return entity;
+    }
+
+    @Override
+    public <S extends Todo> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends Todo> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Todo> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return Optional.ofNullable(get(id)).map(record -> record.toTodo(userReference(record.userId())));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public List<Todo> findAll() {
+        return findAll(Sort.by("id"));
+    }
+
+    @Override
+    public List<Todo> findAll(Sort sort) {
+        List<TodoRecord> records = new ArrayList<>(all());
+        records.sort(comparatorOf(sort));
+        return records.stream().map(record -> record.toTodo(userReference(record.userId()))).toList();
+    }
+
+    @Override
+    public Page<Todo> findAll(Pageable pageable) {
+        List<Todo> all = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        List<Todo> content = all.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+        return new PageImpl<>(content, pageable, all.size());
+    }
+
+    @Override
+    public List<Todo> findAllById(Iterable<Long> ids) {
+        List<Todo> todos = new ArrayList<>();
+        ids.forEach(id -> findById(id).ifPresent(todos::add));
+        return todos;
+    }
+
+    @Override
+    public long count() {
+        PendingWrites pending = currentWrites();
+        return pending != null ? store.count(pending.changes) : store.count();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        removeRecord(id);
+    }
+
+    @Override
+    public void delete(Todo entity) {
+        if (entity.getId() != null) {
+            removeRecord(entity.getId());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::removeRecord);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Todo> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        all().forEach(record -> removeRecord(record.id()));
+    }
+
+    @Override
+    public void flush() {
+        // トランザクション内の変更はコミット時にまとめて反映する
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Todo> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public Todo getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Todo getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Todo getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("ToDoが見つかりません: " + id));
+    }
+
+    // ---- Example による検索 ----
+
+    @Override
+    public <S extends Todo> Optional<S> findOne(Example<S> example) {
+        List<S> todos = findAll(example);
+        if (todos.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, todos.size());
+        }
+        return todos.stream().findFirst();
+    }
+
+    @Override
+    public <S extends Todo> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.by("id"));
+    }
+
+    @Override
+    public <S extends Todo> List<S> findAll(Example<S> example, Sort sort) {
+        return this.<S>toTodos(findRecords(example, sort));
+    }
+
+    @Override
+    public <S extends Todo> Page<S> findAll(Example<S> example, Pageable pageable) {
+        List<TodoRecord> records = findRecords(example, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(toTodos(records), pageable, records.size());
+        }
+        List<TodoRecord> content = records.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+        return new PageImpl<>(toTodos(content), pageable, records.size());
+    }
+
+    @Override
+    public <S extends Todo> long count(Example<S> example) {
+        return findRecords(example, Sort.unsorted()).size();
+    }
+
+    @Override
+    public <S extends Todo> boolean exists(Example<S> example) {
+        RecordExample filter = RecordExample.of(example);
+        return candidates(filter).stream().anyMatch(filter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Todo, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example, Sort.unsorted(), Integer.MAX_VALUE, todo -> (S) todo));
+    }
+
+    // ---- 内部処理 ----
+
+    private List<Todo> openDueBetween(User user, LocalDate startDate, LocalDate endDate) {
+        UserTodos userTodos = ofUser(user.getId());
+        TodoRecord[] byDueDate = userTodos.byDueDate();
+        long end = endDate.toEpochDay();
+        List<Todo> todos = new ArrayList<>();
+        for (int i = userTodos.firstDueOnOrAfter(startDate.toEpochDay()); i < byDueDate.length && byDueDate[i].dueKey() <= end; i++) {
+            if (!byDueDate[i].completed()) {
+                todos.add(byDueDate[i].toTodo(user));
+            }
+        }
+        return todos;
+    }
+
+    /**
+     * ページングのソート条件に合う索引を選んでページを作成
+     */
+    private Page<Todo> page(User user, UserTodos userTodos, Predicate<TodoRecord> filter, Pageable pageable) {
+        if (pageable.getSort().equals(DUE_DATE_ASC)) {
+            return page(user, userTodos.byDueDate(), DUE_DATE_ASC, filter, pageable);
+        }
+        return page(user, userTodos.byCreatedAt(), CREATED_AT_DESC, filter, pageable);
+    }
+
+    /**
+     * ページを作成
+     * ソート条件がないか配列の並び順と同じ場合は配列の順に走査し、それ以外は絞り込んだ結果をソートしてから切り出す
+     *
+     * @param records naturalOrder の順に並んだレコード
+     */
+    private static Page<Todo> page(User user, TodoRecord[] records, Sort naturalOrder,
+                                   Predicate<TodoRecord> filter, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted() || sort.equals(naturalOrder)) {
+            return slice(user, records, filter, pageable);
+        }
+        List<TodoRecord> matched = new ArrayList<>();
+        for (TodoRecord record : records) {
+            if (filter.test(record)) {
+                matched.add(record);
+            }
+        }
+        matched.sort(comparatorOf(sort));
+        return slice(user, matched.toArray(TodoRecord[]::new), todo -> true, pageable);
+    }
+
+    /**
+     * 並び順どおりの配列からページを切り出す（件数も同時に数える）
+     */
+    private static Page<Todo> slice(User user, TodoRecord[] records, Predicate<TodoRecord> filter, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<Todo> content = new ArrayList<>(Math.min(limit, records.length));
+        long total = 0;
+        for (TodoRecord record : records) {
+            if (filter.test(record)) {
+                if (total >= offset && content.size() < limit) {
+                    content.add(record.toTodo(user));
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * ソート条件からレコードの比較器を作成（null値は昇順で末尾。同順位はID順）
+     *
+     * @throws PropertyReferenceException ToDoにない項目の場合
+     */
+    private static Comparator<TodoRecord> comparatorOf(Sort sort) {
+        Comparator<TodoRecord> comparator = (a, b) -> 0;
+        Comparator<String> strings = Comparator.nullsLast(Comparator.naturalOrder());
+        for (Sort.Order order : sort) {
+            Comparator<TodoRecord> property = switch (order.getProperty()) {
+                case "id" -> Comparator.comparingLong(TodoRecord::id);
+                case "title" -> Comparator.comparing(TodoRecord::title, strings);
+                case "description" -> Comparator.comparing(TodoRecord::description, strings);
+                case "dueDate" -> Comparator.comparingLong(TodoRecord::dueKey);
+                case "completed" -> Comparator.comparing(TodoRecord::completed);
+                case "completedAt" -> Comparator.comparingLong(
+                        todo -> todo.completedAt() == TodoRecord.NO_TIME ? Long.MAX_VALUE : todo.completedAt());
+                case "createdAt" -> Comparator.comparingLong(TodoRecord::createdAt);
+                case "updatedAt" -> Comparator.comparingLong(TodoRecord::updatedAt);
+                case "changeSeq" -> Comparator.comparingLong(TodoRecord::changeSeq);
+                default -> throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(Todo.class), List.of());
+            };
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator.thenComparingLong(TodoRecord::id);
+    }
+
+    private boolean removeRecord(Long id) {
+        if (get(id) == null) {
+            return false;
+        }
+        write(id, null);
+        return true;
+    }
+
+    /**
+     * レコードを変更（削除はnull）
+     * トランザクション内ではコミットまで保持し、トランザクション外では即時にストアへ反映する
+     */
+    private void write(long id, TodoRecord record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (record != null) {
+                store.put(record);
+            } else {
+                store.remove(id);
+            }
+            if (syncOnCommit) {
+                store.sync();
+            }
+            return;
+        }
+        PendingWrites pending = currentWrites();
+        if (pending == null) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.put(id, record);
+    }
+
+    /**
+     * 現在のトランザクションのコミット前の変更（変更がない場合はnull）
+     */
+    private PendingWrites currentWrites() {
+        return (PendingWrites) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private TodoRecord get(long id) {
+        PendingWrites pending = currentWrites();
+        if (pending != null && pending.changes.containsKey(id)) {
+            return pending.changes.get(id);
+        }
+        return store.get(id);
+    }
+
+    private UserTodos ofUser(long userId) {
+        PendingWrites pending = currentWrites();
+        return pending != null ? store.ofUser(userId, pending.changes) : store.ofUser(userId);
+    }
+
+    private List<TodoRecord> all() {
+        PendingWrites pending = currentWrites();
+        return pending != null ? store.all(pending.changes) : store.all();
+    }
+
+    /**
+     * Exampleに一致するレコードを検索
+     * プローブのユーザーIDで絞り込める場合はそのユーザーの索引のみ、それ以外は全レコードを走査する
+     */
+    private List<TodoRecord> findRecords(Example<? extends Todo> example, Sort sort) {
+        RecordExample filter = RecordExample.of(example);
+        List<TodoRecord> records = new ArrayList<>();
+        for (TodoRecord record : candidates(filter)) {
+            if (filter.test(record)) {
+                records.add(record);
+            }
+        }
+        records.sort(comparatorOf(sort));
+        return records;
+    }
+
+    private Collection<TodoRecord> candidates(RecordExample filter) {
+        return filter.userId() != null ? Arrays.asList(ofUser(filter.userId()).byCreatedAt()) : all();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Todo> List<S> toTodos(List<TodoRecord> records) {
+        return records.stream().map(record -> (S) record.toTodo(userReference(record.userId()))).toList();
+    }
+
+    private static User userReference(long userId) {
+        User user = new User();
+        user.setId(userId);
+        return user;
+    }
+
+    /**
+     * {@link #findBy} の問い合わせ
+     * 射影（{@code as}）はインターフェースのみに対応する。取得する項目の指定（{@code project}）は無視して全項目を返す
+     *
+     * @param <T> 結果の型
+     */
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Example<? extends Todo> example;
+        private final Sort sort;
+        private final int limit;
+        private final Function<Todo, T> mapper;
+
+        ExampleQuery(Example<? extends Todo> example, Sort sort, int limit, Function<Todo, T> mapper) {
+            this.example = example;
+            this.sort = sort;
+            this.limit = limit;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(example, this.sort.and(sort), limit, mapper);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(example, sort, limit, mapper);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            if (resultType.isAssignableFrom(Todo.class)) {
+                return new ExampleQuery<>(example, sort, limit, resultType::cast);
+            }
+            if (!resultType.isInterface()) {
+                throw new UnsupportedOperationException("インメモリストアではインターフェース以外への射影に対応していません: "
+                        + resultType.getName());
+            }
+            return new ExampleQuery<>(example, sort, limit, todo -> PROJECTION_FACTORY.createProjection(resultType, todo));
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> results = all();
+            if (results.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, results.size());
+            }
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            List<T> results = limit(1).all();
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public List<T> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            List<TodoRecord> records = records(pageable.getSort());
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(map(records), pageable, records.size());
+            }
+            List<TodoRecord> content = records.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+            return new PageImpl<>(map(content), pageable, records.size());
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return map(records(Sort.unsorted()).stream().limit(limit).toList()).stream();
+        }
+
+        @Override
+        public long count() {
+            return records(Sort.unsorted()).size();
+        }
+
+        @Override
+        public boolean exists() {
+            return InMemoryTodoRepository.this.exists(example);
+        }
+
+        private List<TodoRecord> records(Sort additionalSort) {
+            return findRecords(example, sort.and(additionalSort));
+        }
+
+        private List<T> map(List<TodoRecord> records) {
+            return records.stream().map(record -> mapper.apply(record.toTodo(userReference(record.userId())))).toList();
+        }
+    }
+
+    /**
+     * トランザクション内のコミット前の変更（ToDoID → 変更後のレコード、削除はnull）
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+
+        private final Map<Long, TodoRecord> changes = new LinkedHashMap<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(InMemoryTodoRepository.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(InMemoryTodoRepository.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (store.commit(changes) > 0 && syncOnCommit) {
+                store.sync();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryTodoRepository.this);
+        }
+    }
+}
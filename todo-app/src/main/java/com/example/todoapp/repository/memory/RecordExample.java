@@ -0,0 +1,153 @@
+package com.example.todoapp.repository.memory;
+
+import com.example.todoapp.entity.Todo;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Example（Query by Example）によるレコードの絞り込み条件
+ * JPAのリポジトリと同じく、プローブのnullでない項目（プリミティブ型の項目は常に対象）を ExampleMatcher の指定に従って比較する
+ *
+ * <p>ユーザーはIDのみを比較する（プローブのユーザーのID以外の項目は無視する）。
+ * すべての条件に一致させる場合でユーザーIDを指定したときは、{@link #userId()} でそのユーザーの索引のみを走査できる。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+final class RecordExample implements Predicate<TodoRecord> {
+
+    private static final List<String> PATHS = List.of(
+            "id", "title", "description", "dueDate", "completed", "completedAt", "createdAt", "updatedAt", "changeSeq",
+            "user.id");
+
+    private final List<Predicate<TodoRecord>> conditions;
+    private final boolean allMatching;
+    private final Long userId;
+
+    private RecordExample(List<Predicate<TodoRecord>> conditions, boolean allMatching, Long userId) {
+        this.conditions = conditions;
+        this.allMatching = allMatching;
+        this.userId = userId;
+    }
+
+    /**
+     * Exampleから絞り込み条件を作成
+     *
+     * @param example 検索条件
+     * @return 絞り込み条件
+     */
+    static RecordExample of(Example<? extends Todo> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
+        Todo probe = example.getProbe();
+        List<Predicate<TodoRecord>> conditions = new ArrayList<>();
+        Long userId = null;
+        for (String path : PATHS) {
+            if (accessor.isIgnoredPath(path) || (path.equals("user.id") && accessor.isIgnoredPath("user"))) {
+                continue;
+            }
+            Object expected = accessor.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(probeValue(probe, path)))
+                    .orElse(null);
+            if (expected == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(record -> recordValue(record, path) == null);
+                }
+                continue;
+            }
+            if (expected instanceof String text) {
+                conditions.add(stringCondition(path, text, accessor));
+            } else {
+                conditions.add(record -> Objects.equals(recordValue(record, path), expected));
+            }
+            if (path.equals("user.id")) {
+                userId = (Long) expected;
+            }
+        }
+        boolean allMatching = matcher.isAllMatching();
+        return new RecordExample(conditions, allMatching, allMatching ? userId : null);
+    }
+
+    /**
+     * 一致するレコードを持つユーザー（ユーザーIDで絞り込めない場合はnull）
+     */
+    Long userId() {
+        return userId;
+    }
+
+    @Override
+    public boolean test(TodoRecord record) {
+        if (conditions.isEmpty()) {
+            return true;
+        }
+        for (Predicate<TodoRecord> condition : conditions) {
+            if (condition.test(record) != allMatching) {
+                return !allMatching;
+            }
+        }
+        return allMatching;
+    }
+
+    private static Predicate<TodoRecord> stringCondition(String path, String expected, ExampleMatcherAccessor accessor) {
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        ExampleMatcher.StringMatcher stringMatcher = accessor.getStringMatcherForPath(path);
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(expected, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+            return record -> recordValue(record, path) instanceof String actual && pattern.matcher(actual).matches();
+        }
+        String probe = ignoreCase ? expected.toLowerCase(Locale.ROOT) : expected;
+        return record -> {
+            if (!(recordValue(record, path) instanceof String value)) {
+                return false;
+            }
+            String actual = ignoreCase ? value.toLowerCase(Locale.ROOT) : value;
+            return switch (stringMatcher) {
+                case STARTING -> actual.startsWith(probe);
+                case ENDING -> actual.endsWith(probe);
+                case CONTAINING -> actual.contains(probe);
+                default -> actual.equals(probe);
+            };
+        };
+    }
+
+    private static Object probeValue(Todo probe, String path) {
+        return switch (path) {
+            case "id" -> probe.getId();
+            case "title" -> probe.getTitle();
+            case "description" -> probe.getDescription();
+            case "dueDate" -> probe.getDueDate();
+            case "completed" -> probe.isCompleted();
+            case "completedAt" -> probe.getCompletedAt();
+            case "createdAt" -> probe.getCreatedAt();
+            case "updatedAt" -> probe.getUpdatedAt();
+            case "changeSeq" -> probe.getChangeSeq();
+            case "user.id" -> probe.getUser() != null ? probe.getUser().getId() : null;
+            default -> throw new IllegalArgumentException(path);
+        };
+    }
+
+    private static Object recordValue(TodoRecord record, String path) {
+        return switch (path) {
+            case "id" -> record.id();
+            case "title" -> record.title();
+            case "description" -> record.description();
+            case "dueDate" -> record.dueDate();
+            case "completed" -> record.completed();
+            case "completedAt" -> TodoRecord.toDateTime(record.completedAt());
+            case "createdAt" -> TodoRecord.toDateTime(record.createdAt());
+            case "updatedAt" -> TodoRecord.toDateTime(record.updatedAt());
+            case "changeSeq" -> record.changeSeq();
+            case "user.id" -> record.userId();
+            default -> throw new IllegalArgumentException(path);
+        };
+    }
+}
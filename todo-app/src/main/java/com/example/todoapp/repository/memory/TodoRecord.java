@@ -0,0 +1,141 @@
+package com.example.todoapp.repository.memory;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * インメモリストアに保持するToDoの1件（不変）
+ * 日付はエポック日、日時はエポックマイクロ秒（タイムゾーンを持たない日時をUTCとして換算）の数値で保持し、
+ * エンティティ（{@link Todo}）よりオブジェクト数とメモリを抑える
+ *
+ * @param id ToDoID
+ * @param userId ユーザーID
+ * @param title タイトル
+ * @param description 詳細（null可）
+ * @param dueDay 期限日（エポック日。なしは {@link #NO_DATE}）
+ * @param completed 完了状態
+ * @param completedAt 完了日時（エポックマイクロ秒。なしは {@link #NO_TIME}）
+ * @param createdAt 作成日時（エポックマイクロ秒）
+ * @param updatedAt 更新日時（エポックマイクロ秒）
+ * @param changeSeq 変更シーケンス番号
+ * @author TodoApp Team
+ * @version 1.0
+ */
+record TodoRecord(long id, long userId, String title, String description, int dueDay, boolean completed,
+                  long completedAt, long createdAt, long updatedAt, long changeSeq) {
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    /**
+     * エンティティから作成
+     *
+     * @param todo ToDo
+     * @param id 採番済みのToDoID
+     * @param userId ユーザーID
+     * @return ToDoレコード
+     */
+    static TodoRecord of(Todo todo, long id, long userId) {
+        return new TodoRecord(id, userId, todo.getTitle(), todo.getDescription(), toEpochDay(todo.getDueDate()),
+                todo.isCompleted(), toMicros(todo.getCompletedAt()), toMicros(todo.getCreatedAt()),
+                toMicros(todo.getUpdatedAt()), todo.getChangeSeq());
+    }
+
+    /**
+     * エンティティに変換（呼び出し側で変更しても保持中のレコードには影響しない）
+     *
+     * @param user ユーザー（IDのみ設定された参照）
+     * @return ToDo
+     */
+    Todo toTodo(User user) {
+        Todo todo = new Todo(title, description, dueDate(), user);
+        todo.setId(id);
+        todo.setCompleted(completed);
+        todo.setCompletedAt(toDateTime(completedAt));
+        todo.setCreatedAt(toDateTime(createdAt));
+        todo.setUpdatedAt(toDateTime(updatedAt));
+        todo.setChangeSeq(changeSeq);
+        todo.onLoad();
+        return todo;
+    }
+
+    LocalDate dueDate() {
+        return dueDay == NO_DATE ? null : LocalDate.ofEpochDay(dueDay);
+    }
+
+    boolean hasDueDate() {
+        return dueDay != NO_DATE;
+    }
+
+    /**
+     * 期限日の並び順のキー（期限日なしは末尾）
+     */
+    long dueKey() {
+        return dueDay == NO_DATE ? Long.MAX_VALUE : dueDay;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeLong(userId);
+        writeString(out, title);
+        writeString(out, description);
+        out.writeInt(dueDay);
+        out.writeBoolean(completed);
+        out.writeLong(completedAt);
+        out.writeLong(createdAt);
+        out.writeLong(updatedAt);
+        out.writeLong(changeSeq);
+    }
+
+    static TodoRecord read(DataInput in) throws IOException {
+        return new TodoRecord(in.readLong(), in.readLong(), readString(in), readString(in), in.readInt(),
+                in.readBoolean(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+    }
+
+    static int toEpochDay(LocalDate date) {
+        return date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime toDateTime(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
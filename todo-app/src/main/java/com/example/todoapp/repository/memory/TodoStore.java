@@ -0,0 +1,394 @@
+package com.example.todoapp.repository.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ToDoのインメモリストア
+ * ToDoID → レコードと、ユーザーID → 索引（{@link UserTodos}）の2つのマップを持ち、変更は先行書き込みログ（{@link WriteAheadLog}）に
+ * 記録してからメモリへ反映する
+ *
+ * <p>マップの参照・変更は読み書きロックで保護する。ユーザーの索引は不変のため、取得後の走査はロックの外で行える。
+ * ログの追記と反映は書き込みロック内で行うため、ログの順序とメモリ上の変更の順序は一致する。</p>
+ *
+ * <p>トランザクションの変更（ToDoID → 変更後のレコード、削除はnull）は {@link #commit} でまとめて反映する。
+ * ログにはコミットの記録まで書いてから反映するため、途中でクラッシュした場合は復旧時に変更全体が破棄される。
+ * コミット前の変更を重ねた参照（{@code ofUser(userId, changes)} など）は、変更を持つトランザクション自身の読み取りに使う。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class TodoStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoStore.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object snapshotMonitor = new Object();
+
+    private final LongObjectMap<TodoRecord> todos = new LongObjectMap<>();
+    private final LongObjectMap<UserTodos> users = new LongObjectMap<>();
+    private final WriteAheadLog log;
+    private long nextId = 1;
+    private long writesSinceSnapshot;
+
+    /**
+     * ストアを開き、スナップショットとログから状態を復旧する
+     *
+     * @param directory 保存先ディレクトリ
+     * @param segmentBytes ログのセグメントファイルのサイズ
+     */
+    public TodoStore(Path directory, int segmentBytes) {
+        this.log = new WriteAheadLog(directory, segmentBytes);
+        long started = System.nanoTime();
+        try {
+            long replayed = log.recover(new WriteAheadLog.Replay() {
+                @Override
+                public void put(TodoRecord record) {
+                    apply(record);
+                }
+
+                @Override
+                public void delete(long id) {
+                    unapply(id);
+                }
+
+                @Override
+                public void nextId(long id) {
+                    nextId = Math.max(nextId, id);
+                }
+            });
+            writesSinceSnapshot = replayed;
+            logger.info("インメモリストアを復旧しました: ToDo={}件, ユーザー={}人, ログの再生={}件 ({}ms, {})",
+                    todos.size(), users.size(), replayed, (System.nanoTime() - started) / 1_000_000, directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("インメモリストアの復旧に失敗しました: " + directory, e);
+        }
+    }
+
+    /**
+     * ToDoIDでレコードを取得
+     *
+     * @param id ToDoID
+     * @return レコード（存在しない場合はnull）
+     */
+    TodoRecord get(long id) {
+        lock.readLock().lock();
+        try {
+            return todos.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ユーザーの索引を取得
+     *
+     * @param userId ユーザーID
+     * @return 索引（ToDoがない場合は空の索引）
+     */
+    UserTodos ofUser(long userId) {
+        lock.readLock().lock();
+        try {
+            UserTodos userTodos = users.get(userId);
+            return userTodos != null ? userTodos : UserTodos.EMPTY;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * コミット前の変更を重ねたユーザーの索引を取得
+     *
+     * @param userId ユーザーID
+     * @param changes ToDoID → 変更後のレコード（削除はnull）
+     * @return 索引（ToDoがない場合は空の索引）
+     */
+    UserTodos ofUser(long userId, Map<Long, TodoRecord> changes) {
+        lock.readLock().lock();
+        try {
+            UserTodos userTodos = users.get(userId);
+            if (userTodos == null) {
+                userTodos = UserTodos.EMPTY;
+            }
+            for (Map.Entry<Long, TodoRecord> change : changes.entrySet()) {
+                TodoRecord committed = todos.get(change.getKey());
+                TodoRecord changed = change.getValue();
+                boolean removed = committed != null && committed.userId() == userId;
+                boolean added = changed != null && changed.userId() == userId;
+                if (added) {
+                    userTodos = userTodos.with(removed ? committed : null, changed);
+                } else if (removed) {
+                    userTodos = userTodos.without(committed);
+                }
+            }
+            return userTodos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全レコード（順序は不定）
+     */
+    List<TodoRecord> all() {
+        lock.readLock().lock();
+        try {
+            return todos.values();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * コミット前の変更を重ねた全レコード（順序は不定）
+     *
+     * @param changes ToDoID → 変更後のレコード（削除はnull）
+     */
+    List<TodoRecord> all(Map<Long, TodoRecord> changes) {
+        lock.readLock().lock();
+        try {
+            List<TodoRecord> records = new ArrayList<>(todos.size() + changes.size());
+            for (TodoRecord record : todos.values()) {
+                if (!changes.containsKey(record.id())) {
+                    records.add(record);
+                }
+            }
+            for (TodoRecord changed : changes.values()) {
+                if (changed != null) {
+                    records.add(changed);
+                }
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ToDoの件数
+     */
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return todos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * コミット前の変更を重ねたToDoの件数
+     *
+     * @param changes ToDoID → 変更後のレコード（削除はnull）
+     */
+    long count(Map<Long, TodoRecord> changes) {
+        lock.readLock().lock();
+        try {
+            long count = todos.size();
+            for (Map.Entry<Long, TodoRecord> change : changes.entrySet()) {
+                boolean exists = todos.get(change.getKey()) != null;
+                if (exists && change.getValue() == null) {
+                    count--;
+                } else if (!exists && change.getValue() != null) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 新しいToDoIDを採番
+     */
+    long allocateId() {
+        lock.writeLock().lock();
+        try {
+            return nextId++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * レコードを追加・置き換え
+     *
+     * @param record レコード
+     * @return 置き換え前のレコード（新規の場合はnull）
+     */
+    TodoRecord put(TodoRecord record) {
+        lock.writeLock().lock();
+        try {
+            log.appendPut(record);
+            writesSinceSnapshot++;
+            return apply(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * レコードを削除
+     *
+     * @param id ToDoID
+     * @return 削除したレコード（存在しない場合はnull）
+     */
+    TodoRecord remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (todos.get(id) == null) {
+                return null;
+            }
+            log.appendDelete(id);
+            writesSinceSnapshot++;
+            return unapply(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * トランザクションの変更をまとめて反映
+     * 変更をログに記録し、コミットの記録を書いてからメモリへ反映する。コミットの記録がない変更は復旧時に破棄される
+     *
+     * @param changes ToDoID → 変更後のレコード（削除はnull）
+     * @return 反映した変更の数（存在しないレコードの削除は数えない）
+     */
+    int commit(Map<Long, TodoRecord> changes) {
+        lock.writeLock().lock();
+        try {
+            int count = 0;
+            for (Map.Entry<Long, TodoRecord> change : changes.entrySet()) {
+                if (change.getValue() != null) {
+                    log.appendTransactionPut(change.getValue());
+                    count++;
+                } else if (todos.get(change.getKey()) != null) {
+                    log.appendTransactionDelete(change.getKey());
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+            log.appendCommit(count);
+            writesSinceSnapshot += count;
+            for (Map.Entry<Long, TodoRecord> change : changes.entrySet()) {
+                if (change.getValue() != null) {
+                    apply(change.getValue());
+                } else {
+                    unapply(change.getKey());
+                }
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ログの未反映の範囲をディスクへ書き出す
+     */
+    void sync() {
+        lock.writeLock().lock();
+        try {
+            log.sync();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * スナップショットを作成し、不要になったログを削除する
+     * 書き込みを止めるのはログの切り替えと全レコードの参照の取得の間のみで、ファイルへの書き込みはロックの外で行う（定期実行）
+     *
+     * @return スナップショットのToDo件数（前回から変更がない場合は-1）
+     */
+    @Scheduled(fixedDelayString = "${app.memory-store.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.memory-store.snapshot-interval-ms:300000}")
+    public long snapshot() {
+        synchronized (snapshotMonitor) {
+            long generation;
+            long snapshotNextId;
+            List<TodoRecord> records;
+            lock.writeLock().lock();
+            try {
+                if (writesSinceSnapshot == 0) {
+                    return -1;
+                }
+                generation = log.rotate();
+                records = todos.values();
+                snapshotNextId = nextId;
+                writesSinceSnapshot = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                long started = System.nanoTime();
+                log.writeSnapshot(generation, snapshotNextId, records);
+                logger.info("インメモリストアのスナップショットを作成しました: ToDo={}件 ({}ms)",
+                        records.size(), (System.nanoTime() - started) / 1_000_000);
+                return records.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("スナップショットの作成に失敗しました", e);
+            }
+        }
+    }
+
+    /**
+     * スナップショットを作成してログを閉じる
+     */
+    @Override
+    public void close() {
+        try {
+            snapshot();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                log.close();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private TodoRecord apply(TodoRecord record) {
+        TodoRecord previous = todos.put(record.id(), record);
+        TodoRecord replaced = previous;
+        if (previous != null && previous.userId() != record.userId()) {
+            removeFromUser(previous);
+            replaced = null;
+        }
+        UserTodos userTodos = users.get(record.userId());
+        users.put(record.userId(), (userTodos != null ? userTodos : UserTodos.EMPTY).with(replaced, record));
+        nextId = Math.max(nextId, record.id() + 1);
+        return previous;
+    }
+
+    private TodoRecord unapply(long id) {
+        TodoRecord previous = todos.remove(id);
+        if (previous != null) {
+            removeFromUser(previous);
+        }
+        return previous;
+    }
+
+    private void removeFromUser(TodoRecord record) {
+        UserTodos remaining = users.get(record.userId()).without(record);
+        if (remaining.isEmpty()) {
+            users.remove(record.userId());
+        } else {
+            users.put(record.userId(), remaining);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.todoapp.repository.memory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * ユーザーごとのToDoの索引（不変）
+ * 期限日順（昇順・期限日なしは末尾）と作成日時順（降順）の2つのソート済み配列を持ち、
+ * 変更時は新しい索引を作成して差し替える。読み取りはロックを取らずに参照中の索引をそのまま走査できる
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+final class UserTodos {
+
+    static final UserTodos EMPTY = new UserTodos(new TodoRecord[0], new TodoRecord[0], 0);
+
+    static final Comparator<TodoRecord> BY_DUE_DATE = Comparator
+            .comparingLong(TodoRecord::dueKey)
+            .thenComparingLong(TodoRecord::id);
+
+    static final Comparator<TodoRecord> BY_CREATED_AT_DESC = Comparator
+            .comparingLong(TodoRecord::createdAt)
+            .thenComparingLong(TodoRecord::id)
+            .reversed();
+
+    private final TodoRecord[] byDueDate;
+    private final TodoRecord[] byCreatedAt;
+    private final int completedCount;
+
+    private UserTodos(TodoRecord[] byDueDate, TodoRecord[] byCreatedAt, int completedCount) {
+        this.byDueDate = byDueDate;
+        this.byCreatedAt = byCreatedAt;
+        this.completedCount = completedCount;
+    }
+
+    /**
+     * レコードを追加（previousがある場合は置き換え）した索引を作成
+     *
+     * @param previous 置き換え前のレコード（新規の場合はnull）
+     * @param record 追加するレコード
+     * @return 新しい索引
+     */
+    UserTodos with(TodoRecord previous, TodoRecord record) {
+        TodoRecord[] due = previous != null ? remove(byDueDate, previous, BY_DUE_DATE) : byDueDate;
+        TodoRecord[] created = previous != null ? remove(byCreatedAt, previous, BY_CREATED_AT_DESC) : byCreatedAt;
+        int completed = completedCount - (previous != null && previous.completed() ? 1 : 0) + (record.completed() ? 1 : 0);
+        return new UserTodos(insert(due, record, BY_DUE_DATE), insert(created, record, BY_CREATED_AT_DESC), completed);
+    }
+
+    /**
+     * レコードを削除した索引を作成
+     *
+     * @param record 削除するレコード
+     * @return 新しい索引
+     */
+    UserTodos without(TodoRecord record) {
+        return new UserTodos(remove(byDueDate, record, BY_DUE_DATE), remove(byCreatedAt, record, BY_CREATED_AT_DESC),
+                completedCount - (record.completed() ? 1 : 0));
+    }
+
+    /**
+     * 期限日順（昇順・期限日なしは末尾、同日はID順）
+     */
+    TodoRecord[] byDueDate() {
+        return byDueDate;
+    }
+
+    /**
+     * 作成日時順（降順、同時刻はIDの降順）
+     */
+    TodoRecord[] byCreatedAt() {
+        return byCreatedAt;
+    }
+
+    int size() {
+        return byDueDate.length;
+    }
+
+    boolean isEmpty() {
+        return byDueDate.length == 0;
+    }
+
+    int completedCount() {
+        return completedCount;
+    }
+
+    /**
+     * 期限日が指定日以降の最初の位置（期限日順の配列の添字）
+     *
+     * @param epochDay エポック日
+     * @return 添字（該当なしの場合は期限日ありの件数）
+     */
+    int firstDueOnOrAfter(long epochDay) {
+        int low = 0;
+        int high = byDueDate.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byDueDate[mid].dueKey() < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 期限日が指定日より前の未完了のToDo数
+     *
+     * @param epochDay エポック日
+     * @return 件数
+     */
+    int countOpenDueBefore(long epochDay) {
+        int end = firstDueOnOrAfter(epochDay);
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (!byDueDate[i].completed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static TodoRecord[] insert(TodoRecord[] array, TodoRecord record, Comparator<TodoRecord> order) {
+        int index = Arrays.binarySearch(array, record, order);
+        int at = index >= 0 ? index : -index - 1;
+        TodoRecord[] result = new TodoRecord[array.length + 1];
+        System.arraycopy(array, 0, result, 0, at);
+        result[at] = record;
+        System.arraycopy(array, at, result, at + 1, array.length - at);
+        return result;
+    }
+
+    private static TodoRecord[] remove(TodoRecord[] array, TodoRecord record, Comparator<TodoRecord> order) {
+        int index = Arrays.binarySearch(array, record, order);
+        if (index < 0) {
+            throw new IllegalStateException("索引にレコードがありません: " + record.id());
+        }
+        TodoRecord[] result = new TodoRecord[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.todoapp.repository.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * インメモリストアの先行書き込みログ（WAL）とスナップショット
+ *
+ * <p>ログはメモリマップした固定長のセグメントファイル（wal-世代番号.log）に追記する。1件は
+ * [長さ(int)][CRC32C(int)][種別(byte)と内容] の形式で、長さ0がログの終端を表す。セグメントが一杯になると
+ * 次の世代のセグメントへ切り替える。{@link #sync()} で未反映の範囲をディスクへ書き出す。</p>
+ *
+ * <p>スナップショット（snapshot.bin）は全レコードと、それ以降に再生すべき最初のセグメントの世代番号を持つ。
+ * 一時ファイルへ書き込んで同期してから置き換えるため、書き込み中にクラッシュしても直前のスナップショットが残る。
+ * 置き換え後、スナップショットに含まれる世代より前のセグメントを削除する。</p>
+ *
+ * <p>トランザクションの変更は、変更ごとの記録（TX_PUT / TX_DELETE）の後にコミットの記録（COMMIT と変更の数）を書く。
+ * 再生時は変更を保留し、コミットの記録を読んだ時点で直前の変更の数だけを反映する。コミットの記録がない変更
+ * （コミット中のクラッシュや書き込みの失敗）は破棄する。トランザクション外の記録（PUT / DELETE）はそのまま反映する。</p>
+ *
+ * <p>起動時の復旧ではスナップショットを読み込み、その世代以降のセグメントを順に再生する。末尾の書きかけの
+ * 記録（長さが範囲外、またはCRCの不一致）以降は破棄し、復旧後は新しい世代のセグメントへ追記する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+class WriteAheadLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte TX_PUT = 3;
+    private static final byte TX_DELETE = 4;
+    private static final byte COMMIT = 5;
+    private static final int HEADER_BYTES = 8;
+    private static final int SNAPSHOT_MAGIC = 0x54445331; // "TDS1"
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final Path directory;
+    private final int segmentBytes;
+
+    private final ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(512);
+    private final DataOutputStream entryOut = new DataOutputStream(entryBytes);
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long generation;
+    private int syncedPosition;
+
+    /**
+     * 復旧時にログの内容を受け取る
+     */
+    interface Replay {
+
+        void put(TodoRecord record);
+
+        void delete(long id);
+
+        void nextId(long nextId);
+    }
+
+    /**
+     * @param directory 保存先ディレクトリ
+     * @param segmentBytes セグメントファイルのサイズ（1件の最大サイズより大きくする）
+     */
+    WriteAheadLog(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * スナップショットとログから状態を復旧し、新しいセグメントを開く
+     *
+     * @param replay 復旧した内容の受け取り先
+     * @return 再生した記録の数
+     */
+    long recover(Replay replay) throws IOException {
+        Files.createDirectories(directory);
+        long firstGeneration = readSnapshot(replay);
+        long replayed = 0;
+        long lastGeneration = firstGeneration - 1;
+        // トランザクションの変更はセグメントをまたぐことがあるため、保留中の変更は次のセグメントへ引き継ぐ
+        List<Runnable> pending = new ArrayList<>();
+        for (Path file : segments()) {
+            long fileGeneration = generationOf(file);
+            if (fileGeneration < firstGeneration) {
+                Files.deleteIfExists(file); // スナップショット作成後、削除前に停止した場合の残り
+                continue;
+            }
+            replayed += replaySegment(file, replay, pending);
+            lastGeneration = fileGeneration;
+        }
+        if (!pending.isEmpty()) {
+            logger.warn("WALのコミットされていない変更を破棄しました: {}件", pending.size());
+        }
+        openSegment(Math.max(lastGeneration + 1, firstGeneration));
+        return replayed;
+    }
+
+    /**
+     * レコードの追加・更新を記録
+     */
+    void appendPut(TodoRecord record) {
+        try {
+            entryBytes.reset();
+            entryOut.writeByte(PUT);
+            record.write(entryOut);
+            append();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALへの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * レコードの削除を記録
+     */
+    void appendDelete(long id) {
+        try {
+            entryBytes.reset();
+            entryOut.writeByte(DELETE);
+            entryOut.writeLong(id);
+            append();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALへの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * トランザクション内のレコードの追加・更新を記録（{@link #appendCommit} までは復旧時に反映されない）
+     */
+    void appendTransactionPut(TodoRecord record) {
+        try {
+            entryBytes.reset();
+            entryOut.writeByte(TX_PUT);
+            record.write(entryOut);
+            append();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALへの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * トランザクション内のレコードの削除を記録（{@link #appendCommit} までは復旧時に反映されない）
+     */
+    void appendTransactionDelete(long id) {
+        try {
+            entryBytes.reset();
+            entryOut.writeByte(TX_DELETE);
+            entryOut.writeLong(id);
+            append();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALへの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * トランザクションのコミットを記録
+     *
+     * @param changes 直前に記録したトランザクション内の変更の数
+     */
+    void appendCommit(int changes) {
+        try {
+            entryBytes.reset();
+            entryOut.writeByte(COMMIT);
+            entryOut.writeInt(changes);
+            append();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALへの書き込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * 追記済みで未反映の範囲をディスクへ書き出す
+     */
+    void sync() {
+        int position = segment.position();
+        if (position > syncedPosition) {
+            segment.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+    }
+
+    /**
+     * 新しい世代のセグメントへ切り替える（スナップショットの作成前に呼び出す）
+     *
+     * @return 新しいセグメントの世代番号（スナップショットはこの世代以降のログと組み合わせて復旧する）
+     */
+    long rotate() {
+        try {
+            openSegment(generation + 1);
+            return generation;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WALセグメントの切り替えに失敗しました", e);
+        }
+    }
+
+    /**
+     * スナップショットを書き込み、不要になったセグメントを削除する
+     * 追記とは別のスレッドから呼び出してよい（このメソッドはセグメントに触れない）
+     *
+     * @param firstGeneration {@link #rotate()} が返した世代番号
+     * @param nextId 次に採番するToDoID
+     * @param records 切り替え時点の全レコード
+     */
+    void writeSnapshot(long firstGeneration, long nextId, Collection<TodoRecord> records) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(firstGeneration);
+            out.writeLong(nextId);
+            out.writeInt(records.size());
+            for (TodoRecord record : records) {
+                record.write(out);
+            }
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+        for (Path file : segments()) {
+            if (generationOf(file) < firstGeneration) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 現在のセグメントの世代番号
+     */
+    long generation() {
+        return generation;
+    }
+
+    @Override
+    public void close() {
+        if (channel != null) {
+            sync();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("WALセグメントのクローズに失敗しました", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void append() throws IOException {
+        int length = entryBytes.size();
+        if (HEADER_BYTES + length + 4 > segmentBytes) {
+            throw new IllegalArgumentException("WALの1件のサイズがセグメントを超えています: " + length + " bytes");
+        }
+        if (segment.remaining() < HEADER_BYTES + length + 4) { // 終端（長さ0）の分を残す
+            openSegment(generation + 1);
+        }
+        byte[] bytes = entryBytes.toByteArray();
+        crc.reset();
+        crc.update(bytes);
+        segment.putInt(length);
+        segment.putInt((int) crc.getValue());
+        segment.put(bytes);
+    }
+
+    private void openSegment(long newGeneration) throws IOException {
+        if (channel != null) {
+            sync();
+            channel.close();
+        }
+        Path file = directory.resolve(String.format("wal-%016d.log", newGeneration));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        generation = newGeneration;
+        syncedPosition = 0;
+        syncDirectory();
+    }
+
+    private long readSnapshot(Replay replay) throws IOException {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16), new CRC32C())) {
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("スナップショットの形式が不正です: " + file);
+            }
+            long firstGeneration = in.readLong();
+            long nextId = in.readLong();
+            int count = in.readInt();
+            List<TodoRecord> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(TodoRecord.read(in));
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("スナップショットのチェックサムが一致しません: " + file);
+            }
+            records.forEach(replay::put);
+            replay.nextId(nextId);
+            return firstGeneration;
+        }
+    }
+
+    /**
+     * セグメントを再生
+     *
+     * @param pending 保留中のトランザクション内の変更（コミットの記録を読んだ時点で反映する）
+     */
+    private long replaySegment(Path file, Replay replay, List<Runnable> pending) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = source.map(FileChannel.MapMode.READ_ONLY, 0, source.size());
+        }
+        long count = 0;
+        CRC32C checksum = new CRC32C();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length == 0) {
+                return count;
+            }
+            int expected = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                logger.warn("WALの末尾の書きかけの記録を破棄しました: {} (位置={})", file.getFileName(), start);
+                return count;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            checksum.reset();
+            checksum.update(bytes);
+            if ((int) checksum.getValue() != expected) {
+                logger.warn("WALの末尾の書きかけの記録を破棄しました: {} (位置={})", file.getFileName(), start);
+                return count;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            byte type = in.readByte();
+            if (type == PUT) {
+                discardUncommitted(pending);
+                replay.put(TodoRecord.read(in));
+            } else if (type == DELETE) {
+                discardUncommitted(pending);
+                replay.delete(in.readLong());
+            } else if (type == TX_PUT) {
+                TodoRecord record = TodoRecord.read(in);
+                pending.add(() -> replay.put(record));
+            } else if (type == TX_DELETE) {
+                long id = in.readLong();
+                pending.add(() -> replay.delete(id));
+            } else if (type == COMMIT) {
+                int changes = in.readInt();
+                if (changes > pending.size()) {
+                    throw new IOException("WALのコミットの記録が変更の数と一致しません: " + changes
+                            + " (" + file.getFileName() + ")");
+                }
+                // 書き込みに失敗したトランザクションの変更が前に残っている場合は、直前の変更の数だけを反映する
+                discardUncommitted(pending.subList(0, pending.size() - changes));
+                pending.forEach(Runnable::run);
+                pending.clear();
+            } else {
+                throw new IOException("WALの記録の種別が不正です: " + type + " (" + file.getFileName() + ")");
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static void discardUncommitted(List<Runnable> pending) {
+        if (!pending.isEmpty()) {
+            logger.warn("WALのコミットされていない変更を破棄しました: {}件", pending.size());
+            pending.clear();
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("wal-\\d{16}\\.log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(4, name.length() - 4));
+    }
+
+    /**
+     * ファイルの作成・置き換えをディレクトリに反映する（対応していないOSでは何もしない）
+     */
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Windowsなどディレクトリを開けない環境
+        }
+    }
+}
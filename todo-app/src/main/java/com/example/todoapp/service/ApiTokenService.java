@@ -0,0 +1,256 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * APIトークンサービスクラス
+ * /api/** 向けの署名付きアクセストークン・リフレッシュトークンの発行と検証を行う（app.api-token.enabled=true の場合のみ有効）
+ *
+ * <p>トークンはHMAC-SHA256で署名したJWT形式で、アクセストークンの検証はデータベースやセッションストアを参照せず、
+ * トークンに含まれるユーザー情報からプリンシパルを復元する。そのため無効化されたユーザーのアクセストークンは
+ * 有効期限（app.api-token.access-token-ttl）まで利用できる。リフレッシュ時にはユーザーの有効状態と
+ * 認証情報のバージョン（users.credentials_version。パスワード変更で増える）を確認し、
+ * バージョンが発行時より進んでいるリフレッシュトークンは拒否する。</p>
+ *
+ * <p>署名鍵は app.api-token.keys.&lt;鍵ID&gt; にBase64で設定し、app.api-token.signing-key の鍵で署名する。
+ * 鍵を切り替える場合は新しい鍵を全ノードに追加してから signing-key を切り替え、
+ * リフレッシュトークンの有効期限が経過した後に古い鍵を削除する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.api-token", name = "enabled", havingValue = "true")
+public class ApiTokenService {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.api-token.signing-key:}")
+    private String signingKeyId;
+
+    @Value("${app.api-token.access-token-ttl:5m}")
+    private Duration accessTokenTtl = Duration.ofMinutes(5);
+
+    @Value("${app.api-token.refresh-token-ttl:14d}")
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    private Clock clock = Clock.systemUTC();
+
+    private Map<String, SecretKeySpec> keys = Map.of();
+
+    @PostConstruct
+    void init() {
+        Map<String, String> encodedKeys = Binder.get(environment)
+                .bind("app.api-token.keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        setKeys(encodedKeys, signingKeyId);
+    }
+
+    /**
+     * 署名鍵を設定
+     *
+     * @param encodedKeys 鍵IDごとのBase64エンコードされた鍵
+     * @param signingKeyId 署名に使用する鍵ID
+     * @throws IllegalStateException 署名鍵が設定されていない、または短すぎる場合
+     * （値が空の鍵は未設定として扱う）
+     */
+    void setKeys(Map<String, String> encodedKeys, String signingKeyId) {
+        Map<String, SecretKeySpec> decoded = new LinkedHashMap<>();
+        encodedKeys.forEach((keyId, encoded) -> {
+            if (encoded == null || encoded.isBlank()) {
+                return;
+            }
+            byte[] secret = Base64.getDecoder().decode(encoded);
+            if (secret.length < 32) {
+                throw new IllegalStateException("APIトークンの署名鍵は32バイト以上にしてください: " + keyId);
+            }
+            decoded.put(keyId, new SecretKeySpec(secret, ALGORITHM));
+        });
+        if (!decoded.containsKey(signingKeyId)) {
+            throw new IllegalStateException("APIトークンの署名鍵が設定されていません: " + signingKeyId);
+        }
+        this.keys = Map.copyOf(decoded);
+        this.signingKeyId = signingKeyId;
+    }
+
+    /**
+     * 認証済みユーザーにトークンを発行
+     *
+     * @param principal 認証済みユーザー
+     * @return アクセストークンとリフレッシュトークン
+     */
+    public TokenPair issue(CustomUserPrincipal principal) {
+        return issue(principal, credentialsVersion(principal.getUserId()));
+    }
+
+    private TokenPair issue(CustomUserPrincipal principal, long credentialsVersion) {
+        return new TokenPair(
+                sign(principal, ACCESS, accessTokenTtl, credentialsVersion),
+                sign(principal, REFRESH, refreshTokenTtl, credentialsVersion),
+                accessTokenTtl.toSeconds());
+    }
+
+    /**
+     * アクセストークンを検証
+     * データベースを参照せず、署名と有効期限のみを確認する
+     *
+     * @param token アクセストークン
+     * @return トークンのユーザー（無効なトークンの場合は空）
+     */
+    public Optional<CustomUserPrincipal> verifyAccessToken(String token) {
+        return verify(token, ACCESS).map(ApiTokenService::toPrincipal);
+    }
+
+    /**
+     * リフレッシュトークンで新しいトークンを発行
+     * ユーザーが削除・無効化されている場合、発行後にパスワードが変更された場合は発行しない
+     *
+     * @param refreshToken リフレッシュトークン
+     * @return 新しいトークン（無効なリフレッシュトークンの場合は空）
+     */
+    public Optional<TokenPair> refresh(String refreshToken) {
+        return verify(refreshToken, REFRESH).flatMap(claims -> {
+            try {
+                UserDetails user = customUserDetailsService.loadUserByUsername((String) claims.get("email"));
+                CustomUserPrincipal principal = (CustomUserPrincipal) user;
+                if (!principal.getUserId().equals(toPrincipal(claims).getUserId())) {
+                    return Optional.empty();
+                }
+                long credentialsVersion = credentialsVersion(principal.getUserId());
+                Number issuedVersion = (Number) claims.getOrDefault("ver", 0);
+                if (issuedVersion.longValue() < credentialsVersion) {
+                    return Optional.empty();
+                }
+                return Optional.of(issue(principal, credentialsVersion));
+            } catch (UsernameNotFoundException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private long credentialsVersion(Long userId) {
+        return userRepository.findCredentialsVersionById(userId).orElse(0L);
+    }
+
+    private String sign(CustomUserPrincipal principal, String type, Duration ttl, long credentialsVersion) {
+        long now = clock.instant().getEpochSecond();
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "HS256");
+        header.put("typ", "JWT");
+        header.put("kid", signingKeyId);
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", principal.getUserId().toString());
+        claims.put("email", principal.getEmail());
+        claims.put("name", principal.getName());
+        claims.put("typ", type);
+        claims.put("iat", now);
+        claims.put("exp", now + ttl.toSeconds());
+        claims.put("ver", credentialsVersion);
+
+        String signingInput = encodeJson(header) + "." + encodeJson(claims);
+        return signingInput + "." + ENCODER.encodeToString(hmac(keys.get(signingKeyId), signingInput));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Map<String, Object>> verify(String token, String expectedType) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || last == first) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> header = objectMapper.readValue(DECODER.decode(token.substring(0, first)), Map.class);
+            SecretKeySpec key = keys.get(header.get("kid"));
+            if (key == null || !"HS256".equals(header.get("alg"))) {
+                return Optional.empty();
+            }
+            byte[] expected = hmac(key, token.substring(0, last));
+            if (!MessageDigest.isEqual(expected, DECODER.decode(token.substring(last + 1)))) {
+                return Optional.empty();
+            }
+            Map<String, Object> claims = objectMapper.readValue(DECODER.decode(token.substring(first + 1, last)), Map.class);
+            if (!expectedType.equals(claims.get("typ"))
+                    || ((Number) claims.get("exp")).longValue() <= clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IOException | IllegalArgumentException | ClassCastException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static CustomUserPrincipal toPrincipal(Map<String, Object> claims) {
+        return new CustomUserPrincipal(Long.valueOf((String) claims.get("sub")),
+                (String) claims.get("email"), (String) claims.get("name"), true, null);
+    }
+
+    private String encodeJson(Map<String, Object> value) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmac(SecretKeySpec key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 発行したトークン
+     */
+    public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+    }
+}
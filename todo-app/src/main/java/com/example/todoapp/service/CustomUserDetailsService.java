@@ -3,6 +3,7 @@ package com.example.todoapp.service;
 import com.example.todoapp.entity.User;
 import com.example.todoapp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,7 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * カスタムユーザー詳細サービス
@@ -46,21 +48,34 @@ public class CustomUserDetailsService implements UserDetailsService {
     /**
      * カスタムユーザープリンシパルクラス
      * UserDetailsインターフェースの実装
+     *
+     * <p>HTTPセッションに保持されるため、ユーザーエンティティではなく識別に必要な値のみを持つ不変オブジェクトとする。
+     * パスワードハッシュは認証処理の間だけ保持し、認証成功後に消去される（{@link CredentialsContainer}）。
+     * サービスにユーザーを渡す場合は {@link UserService#getReference(Long)} で参照を取得する。</p>
      */
-    public static class CustomUserPrincipal implements UserDetails {
-        private final User user;
+    public static class CustomUserPrincipal implements UserDetails, CredentialsContainer {
 
-        public CustomUserPrincipal(User user) {
-            this.user = user;
+        private static final long serialVersionUID = 1L;
+
+        // 基本的にすべてのユーザーにUSERロールを付与
+        private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+        private final Long userId;
+        private final String email;
+        private final String name;
+        private final boolean enabled;
+        private String password;
+
+        public CustomUserPrincipal(Long userId, String email, String name, boolean enabled, String password) {
+            this.userId = userId;
+            this.email = email;
+            this.name = name;
+            this.enabled = enabled;
+            this.password = password;
         }
 
-        /**
-         * ユーザーエンティティを取得
-         *
-         * @return User
-         */
-        public User getUser() {
-            return user;
+        public CustomUserPrincipal(User user) {
+            this(user.getId(), user.getEmail(), user.getName(), user.isEnabled(), user.getPassword());
         }
 
         /**
@@ -69,7 +84,7 @@ public class CustomUserDetailsService implements UserDetailsService {
          * @return ユーザーID
          */
         public Long getUserId() {
-            return user.getId();
+            return userId;
         }
 
         /**
@@ -78,7 +93,7 @@ public class CustomUserDetailsService implements UserDetailsService {
          * @return ユーザー名
          */
         public String getName() {
-            return user.getName();
+            return name;
         }
 
         /**
@@ -87,23 +102,22 @@ public class CustomUserDetailsService implements UserDetailsService {
          * @return メールアドレス
          */
         public String getEmail() {
-            return user.getEmail();
+            return email;
         }
 
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
-            // 基本的にすべてのユーザーにUSERロールを付与
-            return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+            return AUTHORITIES;
         }
 
         @Override
         public String getPassword() {
-            return user.getPassword();
+            return password;
         }
 
         @Override
         public String getUsername() {
-            return user.getEmail(); // メールアドレスをユーザー名として使用
+            return email; // メールアドレスをユーザー名として使用
         }
 
         @Override
@@ -123,16 +137,34 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         @Override
         public boolean isEnabled() {
-            return user.isEnabled();
+            return enabled;
+        }
+
+        @Override
+        public void eraseCredentials() {
+            password = null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CustomUserPrincipal that = (CustomUserPrincipal) o;
+            return Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId);
         }
 
         @Override
         public String toString() {
             return "CustomUserPrincipal{" +
-                    "userId=" + user.getId() +
-                    ", email='" + user.getEmail() + '\'' +
-                    ", name='" + user.getName() + '\'' +
-                    ", enabled=" + user.isEnabled() +
+                    "userId=" + userId +
+                    ", email='" + email + '\'' +
+                    ", name='" + name + '\'' +
+                    ", enabled=" + enabled +
                     '}';
         }
     }
@@ -0,0 +1,345 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.config.ReadYourWritesTracker;
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.TodoService.TodoStatistics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * ダッシュボード組み立てサービスクラス
+ * ToDo一覧画面の互いに独立した読み取り（一覧ページ・統計・今日期限・近日期限）を並列に実行する
+ *
+ * <p>各パネルは仮想スレッド上で個別の読み取り専用トランザクション（個別のコネクション）として実行され、
+ * パネルごとのタイムアウトを超えたものは「表示不可」として扱い、一覧ページ全体を待たせない。
+ * 1画面で最大4本のコネクションを使うため、全リクエストで並列実行中のパネル数をセマフォで制限し、コネクションプールの枯渇を防ぐ。
+ * 上限に達している場合、パネルは仮想スレッド上で同じ期限まで空きを待ち、期限までに実行できなかったパネルは
+ * タイムアウトと同様に前回の値（または表示不可）とする。空き待ちで実行しなかったパネルはサーキットブレーカーに記録しない。</p>
+ *
+ * <p>パネルごとに応答時間に基づくサーキットブレーカー（{@link LatencyCircuitBreaker}）を持ち、
+ * データベースの遅延・障害で失敗や遅延が続いた場合はクエリを実行せず、前回取得した値（app.dashboard.stale-ttl 以内）を
+ * 「古い情報」として表示する。これにより、負荷が高い間もパネルのクエリが一覧ページの応答時間とコネクションを消費しない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    public static final String PANEL_STATISTICS = "statistics";
+    public static final String PANEL_TODAY = "today";
+    public static final String PANEL_UPCOMING = "upcoming";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Value("${app.dashboard.panel-timeout:1500ms}")
+    private Duration panelTimeout = Duration.ofMillis(1500);
+
+    @Value("${app.dashboard.max-concurrent-panels:4}")
+    private int maxConcurrentPanels = 4;
+
+    @Value("${app.dashboard.circuit-breaker.slow-call-threshold:500ms}")
+    private Duration slowCallThreshold = Duration.ofMillis(500);
+
+    @Value("${app.dashboard.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold = 0.5;
+
+    @Value("${app.dashboard.circuit-breaker.window-size:20}")
+    private int windowSize = 20;
+
+    @Value("${app.dashboard.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls = 10;
+
+    @Value("${app.dashboard.circuit-breaker.open-duration:30s}")
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    @Value("${app.dashboard.stale-ttl:10m}")
+    private Duration staleTtl = Duration.ofMinutes(10);
+
+    @Value("${app.dashboard.max-stale-entries:30000}")
+    private int maxStaleEntries = 30000;
+
+    // 認証情報を引き継ぐ（シャード束縛・リクエストの処理期限・書き込み直後のプライマリ振り分けの記録は submit で引き継ぐ）
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    private Semaphore panelPermits;
+
+    private Map<String, LatencyCircuitBreaker> circuitBreakers;
+
+    // パネルごと・ユーザーごとに前回取得した値（キー: パネル名:ユーザーID）
+    private final Map<String, StaleValue> staleValues = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StaleValue> eldest) {
+            return size() > maxStaleEntries;
+        }
+    };
+
+    @PostConstruct
+    void init() {
+        panelPermits = new Semaphore(maxConcurrentPanels, true);
+        circuitBreakers = Map.of(
+                PANEL_STATISTICS, newCircuitBreaker(),
+                PANEL_TODAY, newCircuitBreaker(),
+                PANEL_UPCOMING, newCircuitBreaker());
+    }
+
+    private LatencyCircuitBreaker newCircuitBreaker() {
+        return new LatencyCircuitBreaker(slowCallThreshold, failureRateThreshold, windowSize, minimumCalls, openDuration);
+    }
+
+    /**
+     * パネルのサーキットブレーカーの状態を取得
+     *
+     * @param panel パネル名
+     * @return 状態
+     */
+    public LatencyCircuitBreaker.State getCircuitState(String panel) {
+        return circuitBreakers.get(panel).getState();
+    }
+
+    /**
+     * ダッシュボードを組み立て
+     * 一覧ページのクエリは呼び出し元スレッドで実行し、その間に各パネルを並列に取得する
+     * パネルは並列実行枠の空き待ちを含めて app.dashboard.panel-timeout までに取得できたもののみ表示する
+     *
+     * @param user ユーザー
+     * @param pageQuery 一覧ページのクエリ
+     * @return ダッシュボード
+     */
+    public Dashboard assemble(User user, Supplier<Page<Todo>> pageQuery) {
+        long deadline = System.nanoTime() + panelTimeout.toNanos();
+
+        Panel<TodoStatistics> statistics = start(PANEL_STATISTICS, () -> todoService.getTodoStatistics(user, true), deadline);
+        Panel<List<Todo>> today = start(PANEL_TODAY, () -> todoService.findTodayTodos(user), deadline);
+        Panel<List<Todo>> upcoming = start(PANEL_UPCOMING, () -> todoService.findUpcomingTodos(user), deadline);
+
+        Page<Todo> todoPage;
+        try {
+            todoPage = pageQuery.get();
+        } catch (RuntimeException e) {
+            statistics.abandon();
+            today.abandon();
+            upcoming.abandon();
+            throw e;
+        }
+
+        Set<String> unavailablePanels = new LinkedHashSet<>();
+        Set<String> stalePanels = new LinkedHashSet<>();
+        return new Dashboard(
+                todoPage,
+                await(statistics, user, deadline, unavailablePanels, stalePanels),
+                await(today, user, deadline, unavailablePanels, stalePanels),
+                await(upcoming, user, deadline, unavailablePanels, stalePanels),
+                unavailablePanels,
+                stalePanels);
+    }
+
+    /**
+     * パネルの実行を開始
+     * サーキットブレーカーが開いている場合は実行しない
+     */
+    private <T> Panel<T> start(String name, Callable<T> query, long deadline) {
+        Panel<T> panel = new Panel<>(name, circuitBreakers.get(name));
+        if (panel.circuitBreaker.tryAcquire()) {
+            panel.future = submit(panel, query, deadline);
+        }
+        return panel;
+    }
+
+    /**
+     * パネルを仮想スレッドで実行
+     * 並列実行枠に空きがない場合は期限まで空きを待ち、期限を過ぎた場合は実行しない（TimeoutException）
+     */
+    private <T> Future<T> submit(Panel<T> panel, Callable<T> query, long deadline) {
+        Callable<T> bound = ReadYourWritesTracker.propagate(ShardRouter.propagate(RequestDeadline.propagate(query)));
+        return executor.submit(() -> {
+            if (!panelPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("並列実行枠の空き待ちが期限を過ぎました");
+            }
+            // 期限切れで他のパネルが取り消された（枠が解放された）直後に取得した場合も実行しない
+            if (System.nanoTime() - deadline >= 0) {
+                panelPermits.release();
+                throw new TimeoutException("並列実行枠の空き待ちが期限を過ぎました");
+            }
+            panel.started = true;
+            try {
+                long started = System.nanoTime();
+                T value = bound.call();
+                panel.elapsedNanos = System.nanoTime() - started;
+                return value;
+            } finally {
+                panelPermits.release();
+            }
+        });
+    }
+
+    /**
+     * パネルの結果を期限まで待機し、結果をサーキットブレーカーに記録
+     * 実行しなかった・タイムアウト・失敗したパネルは前回の値を古い情報として返し、
+     * 前回の値がない場合はnullを返して表示不可パネルとして記録する。
+     * 並列実行枠の空き待ちのまま期限を過ぎたパネルは、クエリを実行していないため失敗として記録しない
+     */
+    private <T> T await(Panel<T> panel, User user, long deadline, Set<String> unavailablePanels, Set<String> stalePanels) {
+        String cacheKey = panel.name + ":" + user.getId();
+        if (panel.future != null) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                T value = panel.future.get(remaining, TimeUnit.NANOSECONDS);
+                panel.circuitBreaker.onSuccess(panel.elapsedNanos);
+                synchronized (staleValues) {
+                    staleValues.put(cacheKey, new StaleValue(value, System.nanoTime()));
+                }
+                return value;
+            } catch (TimeoutException e) {
+                panel.future.cancel(true);
+                if (panel.started) {
+                    recordFailure(panel);
+                    logger.warn("パネルの取得がタイムアウトしました: {} ({}ms)", panel.name, panelTimeout.toMillis());
+                } else {
+                    skip(panel);
+                }
+            } catch (ExecutionException e) {
+                if (panel.started) {
+                    recordFailure(panel);
+                    logger.warn("パネルの取得に失敗しました: {}", panel.name, e.getCause());
+                } else {
+                    skip(panel);
+                }
+            } catch (InterruptedException e) {
+                panel.abandon();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        StaleValue stale;
+        synchronized (staleValues) {
+            stale = staleValues.get(cacheKey);
+        }
+        if (stale != null && System.nanoTime() - stale.storedAtNanos() <= staleTtl.toNanos()) {
+            stalePanels.add(panel.name);
+            @SuppressWarnings("unchecked")
+            T value = (T) stale.value();
+            return value;
+        }
+        unavailablePanels.add(panel.name);
+        return null;
+    }
+
+    private void skip(Panel<?> panel) {
+        panel.circuitBreaker.onIgnored();
+        logger.warn("並列実行枠に空きがないためパネルを取得しませんでした: {}", panel.name);
+    }
+
+    private void recordFailure(Panel<?> panel) {
+        panel.circuitBreaker.onFailure();
+        if (panel.circuitBreaker.getState() == LatencyCircuitBreaker.State.OPEN) {
+            logger.warn("パネルの取得を一時停止します: {} ({}秒)", panel.name, openDuration.toSeconds());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 実行中のパネル
+     */
+    private static class Panel<T> {
+        private final String name;
+        private final LatencyCircuitBreaker circuitBreaker;
+        // サーキットブレーカーが開いていて実行しなかった場合はnull
+        private Future<T> future;
+        // 並列実行枠を得てクエリを開始したかどうか
+        private volatile boolean started;
+        private volatile long elapsedNanos;
+
+        Panel(String name, LatencyCircuitBreaker circuitBreaker) {
+            this.name = name;
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        /**
+         * 結果を使わずに終える（一覧ページの取得失敗時など）
+         */
+        void abandon() {
+            if (future != null) {
+                future.cancel(true);
+                circuitBreaker.onIgnored();
+            }
+        }
+    }
+
+    /**
+     * 前回取得したパネルの値
+     */
+    private record StaleValue(Object value, long storedAtNanos) {
+    }
+
+    /**
+     * ダッシュボードクラス
+     * 表示不可のパネルの値はnull。古い情報のパネルは前回取得した値を持つ
+     */
+    public static class Dashboard {
+        private final Page<Todo> todoPage;
+        private final TodoStatistics statistics;
+        private final List<Todo> todayTodos;
+        private final List<Todo> upcomingTodos;
+        private final Set<String> unavailablePanels;
+        private final Set<String> stalePanels;
+
+        public Dashboard(Page<Todo> todoPage, TodoStatistics statistics, List<Todo> todayTodos,
+                         List<Todo> upcomingTodos, Set<String> unavailablePanels, Set<String> stalePanels) {
+            this.todoPage = todoPage;
+            this.statistics = statistics;
+            this.todayTodos = todayTodos;
+            this.upcomingTodos = upcomingTodos;
+            this.unavailablePanels = Collections.unmodifiableSet(unavailablePanels);
+            this.stalePanels = Collections.unmodifiableSet(stalePanels);
+        }
+
+        public Page<Todo> getTodoPage() { return todoPage; }
+        public TodoStatistics getStatistics() { return statistics; }
+        public List<Todo> getTodayTodos() { return todayTodos; }
+        public List<Todo> getUpcomingTodos() { return upcomingTodos; }
+        public Set<String> getUnavailablePanels() { return unavailablePanels; }
+        public Set<String> getStalePanels() { return stalePanels; }
+
+        public boolean isAvailable(String panel) {
+            return !unavailablePanels.contains(panel);
+        }
+
+        public boolean isStale(String panel) {
+            return stalePanels.contains(panel);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 期限日索引サービスクラス
+ * ユーザーごとに期限日ありの未完了ToDoを期限日順の配列としてメモリに保持し、
+ * 今日期限・近日期限・期限切れの取得と期限切れ数の集計を二分探索による範囲の切り出しで処理する
+ *
+ * <p>索引は最初の参照時にユーザー単位で構築し、{@link TodoService} の作成・更新・削除のコミット後に差分を反映する。
+ * 索引には構築・反映時点のユーザーの変更シーケンス番号（users.change_seq）を記録し、参照のたびにデータベースの値
+ * （主キーによる1行の取得）と照合する。他ノードやリアクティブ版APIによる変更で番号が進んでいる場合は索引を作り直す。</p>
+ *
+ * <p>保持するToDoの総数が app.due-index.max-entries を超えた場合は、最も長く参照されていないユーザーの索引から破棄する。
+ * 未完了ToDoが app.due-index.max-todos-per-user を超えるユーザーは索引を作らず、常にデータベースから取得する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class DueDateIndexService {
+
+    private static final Sort DUE_DATE_ASC = Sort.by(Sort.Direction.ASC, "dueDate");
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.due-index.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.due-index.max-entries:100000}")
+    private int maxEntries = 100_000;
+
+    @Value("${app.due-index.max-todos-per-user:1000}")
+    private int maxTodosPerUser = 1000;
+
+    /**
+     * ユーザーID → 索引（アクセス順。先頭が最も長く参照されていないユーザー）
+     */
+    private final Map<Long, UserDueIndex> indexes = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalEntries;
+
+    /**
+     * 今日期限の未完了ToDoを取得
+     *
+     * @param user ユーザー
+     * @param today 今日の日付
+     * @return ToDoリスト
+     */
+    public List<Todo> findTodayTodos(User user, LocalDate today) {
+        UserDueIndex index = indexOf(user);
+        if (index == null) {
+            return todoRepository.findTodayTodos(user, today);
+        }
+        return index.slice(index.firstOnOrAfter(today), index.firstOnOrAfter(today.plusDays(1)), user);
+    }
+
+    /**
+     * 期限日が指定期間内の未完了ToDoを期限日順に取得
+     *
+     * @param user ユーザー
+     * @param startDate 開始日
+     * @param endDate 終了日
+     * @return ToDoリスト
+     */
+    public List<Todo> findUpcomingTodos(User user, LocalDate startDate, LocalDate endDate) {
+        UserDueIndex index = indexOf(user);
+        if (index == null) {
+            return todoRepository.findUpcomingTodos(user, startDate, endDate);
+        }
+        return index.slice(index.firstOnOrAfter(startDate), index.firstOnOrAfter(endDate.plusDays(1)), user);
+    }
+
+    /**
+     * 期限切れの未完了ToDoをページング付きで取得
+     * 索引の並び順（期限日の昇順）以外のソートが指定された場合はデータベースから取得する
+     *
+     * @param user ユーザー
+     * @param today 今日の日付
+     * @param pageable ページング情報
+     * @return ToDoページ
+     */
+    public Page<Todo> findOverdueTodos(User user, LocalDate today, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        UserDueIndex index = sort.isUnsorted() || sort.equals(DUE_DATE_ASC) ? indexOf(user) : null;
+        if (index == null) {
+            return todoRepository.findOverdueTodos(user, today, pageable);
+        }
+        int total = index.firstOnOrAfter(today);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(index.slice(0, total, user), pageable, total);
+        }
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), total);
+        return new PageImpl<>(index.slice(from, to, user), pageable, total);
+    }
+
+    /**
+     * 期限切れの未完了ToDo数を取得
+     *
+     * @param user ユーザー
+     * @param today 今日の日付
+     * @return 期限切れToDo数
+     */
+    public long countOverdueTodos(User user, LocalDate today) {
+        UserDueIndex index = indexOf(user);
+        if (index == null) {
+            return todoRepository.countOverdueTodos(user);
+        }
+        return index.firstOnOrAfter(today);
+    }
+
+    /**
+     * ToDoの作成・更新を索引に反映（トランザクション内ではコミット後に反映）
+     *
+     * @param todo 保存したToDo（変更シーケンス番号を設定済み）
+     */
+    public void onSaved(Todo todo) {
+        afterCommit(todo.getUser().getId(), todo.getId(), todo.getChangeSeq(), isIndexable(todo) ? snapshotOf(todo) : null);
+    }
+
+    /**
+     * ToDoの削除を索引に反映（トランザクション内ではコミット後に反映）
+     *
+     * @param todo 削除したToDo
+     * @param changeSeq 削除に割り当てた変更シーケンス番号
+     */
+    public void onDeleted(Todo todo, long changeSeq) {
+        afterCommit(todo.getUser().getId(), todo.getId(), changeSeq, null);
+    }
+
+    /**
+     * ユーザーの索引を取得（未構築または古い場合は構築する）
+     *
+     * @return 索引（無効な場合・未完了ToDoが多すぎる場合はnull）
+     */
+    private UserDueIndex indexOf(User user) {
+        if (!enabled) {
+            return null;
+        }
+        Long userId = user.getId();
+        // 変更シーケンス番号を先に読むことで、索引の内容が記録する番号より古くならないようにする
+        long changeSeq = userRepository.findChangeSeqById(userId);
+        UserDueIndex index;
+        synchronized (indexes) {
+            index = indexes.get(userId);
+        }
+        if (index == null || index.changeSeq != changeSeq) {
+            List<Todo> open = todoRepository.findOpenTodosWithDueDate(user, PageRequest.of(0, maxTodosPerUser + 1));
+            index = open.size() > maxTodosPerUser
+                    ? UserDueIndex.oversized(changeSeq)
+                    : UserDueIndex.of(changeSeq, open.stream().map(DueDateIndexService::snapshotOf).toList());
+            synchronized (indexes) {
+                UserDueIndex current = indexes.get(userId);
+                if (current == null || current.changeSeq < changeSeq) {
+                    put(userId, index);
+                }
+            }
+        }
+        return index.isOversized() ? null : index;
+    }
+
+    private void afterCommit(Long userId, Long todoId, long changeSeq, Todo snapshot) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, todoId, changeSeq, snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, todoId, changeSeq, snapshot);
+            }
+        });
+    }
+
+    /**
+     * 変更を索引に反映
+     * 索引の番号が直前の番号でない場合（他ノードでの変更を含む）は反映せずに破棄し、次の参照時に作り直す
+     */
+    private void apply(Long userId, Long todoId, long changeSeq, Todo snapshot) {
+        synchronized (indexes) {
+            UserDueIndex index = indexes.get(userId);
+            if (index == null) {
+                return;
+            }
+            if (index.changeSeq != changeSeq - 1) {
+                remove(userId);
+                return;
+            }
+            UserDueIndex updated = index.with(todoId, snapshot, changeSeq);
+            put(userId, updated.size() > maxTodosPerUser ? UserDueIndex.oversized(changeSeq) : updated);
+        }
+    }
+
+    /**
+     * 索引を登録し、上限を超えた分を参照の古いユーザーから破棄する（indexesのロック内で呼び出す）
+     */
+    private void put(Long userId, UserDueIndex index) {
+        UserDueIndex previous = indexes.put(userId, index);
+        totalEntries += index.size() - (previous != null ? previous.size() : 0);
+        Iterator<Map.Entry<Long, UserDueIndex>> eldest = indexes.entrySet().iterator();
+        while (totalEntries > maxEntries && eldest.hasNext()) {
+            Map.Entry<Long, UserDueIndex> entry = eldest.next();
+            if (entry.getKey().equals(userId)) {
+                continue;
+            }
+            totalEntries -= entry.getValue().size();
+            eldest.remove();
+        }
+    }
+
+    private void remove(Long userId) {
+        UserDueIndex removed = indexes.remove(userId);
+        if (removed != null) {
+            totalEntries -= removed.size();
+        }
+    }
+
+    private static boolean isIndexable(Todo todo) {
+        return todo.getDueDate() != null && !todo.isCompleted();
+    }
+
+    /**
+     * 索引に保持するToDoの複製（ユーザーは参照せず、取得時に呼び出し元のユーザーを設定する）
+     */
+    private static Todo snapshotOf(Todo todo) {
+        return copyOf(todo, null);
+    }
+
+    private static Todo copyOf(Todo source, User user) {
+        Todo todo = new Todo(source.getTitle(), source.getDescription(), source.getDueDate(), user);
+        todo.setId(source.getId());
+        todo.setCompleted(source.isCompleted());
+        todo.setCompletedAt(source.getCompletedAt());
+        todo.setCreatedAt(source.getCreatedAt());
+        todo.setUpdatedAt(source.getUpdatedAt());
+        todo.setChangeSeq(source.getChangeSeq());
+        return todo;
+    }
+
+    /**
+     * ユーザー1人分の索引（不変）
+     * 期限日（エポック日）の配列と、同じ並び（期限日・IDの昇順）のToDoの配列を持つ
+     */
+    private static final class UserDueIndex {
+
+        private static final long[] NO_DAYS = new long[0];
+        private static final Todo[] NO_TODOS = new Todo[0];
+
+        private final long changeSeq;
+        private final long[] dueDays;
+        private final Todo[] todos;
+
+        private UserDueIndex(long changeSeq, long[] dueDays, Todo[] todos) {
+            this.changeSeq = changeSeq;
+            this.dueDays = dueDays;
+            this.todos = todos;
+        }
+
+        /**
+         * 期限日順に並んだToDoから作成
+         */
+        static UserDueIndex of(long changeSeq, List<Todo> sorted) {
+            long[] dueDays = new long[sorted.size()];
+            for (int i = 0; i < dueDays.length; i++) {
+                dueDays[i] = sorted.get(i).getDueDate().toEpochDay();
+            }
+            return new UserDueIndex(changeSeq, dueDays, sorted.toArray(NO_TODOS));
+        }
+
+        /**
+         * 未完了ToDoが多すぎるユーザーの目印（データベースから取得させる）
+         */
+        static UserDueIndex oversized(long changeSeq) {
+            return new UserDueIndex(changeSeq, NO_DAYS, null);
+        }
+
+        boolean isOversized() {
+            return todos == null;
+        }
+
+        int size() {
+            return dueDays.length;
+        }
+
+        /**
+         * 期限日が指定日以降の最初の位置
+         */
+        int firstOnOrAfter(LocalDate date) {
+            long day = date.toEpochDay();
+            int low = 0;
+            int high = dueDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dueDays[mid] < day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 指定範囲のToDoの複製（呼び出し側で変更しても索引には影響しない）
+         */
+        List<Todo> slice(int from, int to, User user) {
+            List<Todo> result = new ArrayList<>(Math.max(to - from, 0));
+            for (int i = from; i < to; i++) {
+                result.add(copyOf(todos[i], user));
+            }
+            return result;
+        }
+
+        /**
+         * ToDoを置き換えた索引を作成（snapshotがnullの場合は削除のみ）
+         */
+        UserDueIndex with(Long todoId, Todo snapshot, long newChangeSeq) {
+            if (isOversized()) {
+                return oversized(newChangeSeq);
+            }
+            int existing = -1;
+            for (int i = 0; i < todos.length; i++) {
+                if (todos[i].getId().equals(todoId)) {
+                    existing = i;
+                    break;
+                }
+            }
+            int length = todos.length - (existing >= 0 ? 1 : 0);
+            long[] days = new long[length + (snapshot != null ? 1 : 0)];
+            Todo[] items = new Todo[days.length];
+            long day = snapshot != null ? snapshot.getDueDate().toEpochDay() : 0;
+            int out = 0;
+            boolean inserted = snapshot == null;
+            for (int i = 0; i < todos.length; i++) {
+                if (i == existing) {
+                    continue;
+                }
+                if (!inserted && (dueDays[i] > day || (dueDays[i] == day && todos[i].getId() > todoId))) {
+                    days[out] = day;
+                    items[out++] = snapshot;
+                    inserted = true;
+                }
+                days[out] = dueDays[i];
+                items[out++] = todos[i];
+            }
+            if (!inserted) {
+                days[out] = day;
+                items[out] = snapshot;
+            }
+            return new UserDueIndex(newChangeSeq, days, items);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.todoapp.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 所要時間（秒）の分布を近似するスケッチ
+ * 値を対数スケールのバケット（相対誤差 {@link #RELATIVE_ACCURACY} 以内）に数え上げ、分位点を近似する
+ *
+ * <p>バケットは件数のみを持つため、同じ方式のスケッチ同士はバケットごとの加算で結合（{@link #merge}）でき、
+ * 追加した値の取り消し（{@link #remove}）もできる。日ごとのスケッチを期間分結合すれば、期間全体の分位点が得られる。</p>
+ *
+ * <p>保存形式（{@link #toBytes}）は、バケット数と（前のバケットからの番号の差, 件数）の組を可変長整数で並べたもので、
+ * 1日分のスケッチは通常数十バイトに収まる。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public final class DurationSketch {
+
+    /**
+     * 分位点の相対誤差の上限
+     */
+    public static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * バケット番号 → 件数（番号0は1秒未満、番号iは (γ^(i-2), γ^(i-1)] 秒）
+     */
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+
+    /**
+     * 値を追加
+     *
+     * @param seconds 所要時間（秒。負の値は0として扱う）
+     */
+    public void add(long seconds) {
+        buckets.merge(indexOf(seconds), 1L, Long::sum);
+        count++;
+    }
+
+    /**
+     * 追加済みの値を取り消す
+     *
+     * @param seconds 追加時の所要時間（秒）
+     * @return 取り消した場合true（該当するバケットが空の場合はfalse）
+     */
+    public boolean remove(long seconds) {
+        int index = indexOf(seconds);
+        Long current = buckets.get(index);
+        if (current == null) {
+            return false;
+        }
+        if (current == 1) {
+            buckets.remove(index);
+        } else {
+            buckets.put(index, current - 1);
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * 別のスケッチの値を全て加える
+     *
+     * @param other スケッチ
+     */
+    public void merge(DurationSketch other) {
+        other.buckets.forEach((index, n) -> buckets.merge(index, n, Long::sum));
+        count += other.count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 分位点を取得
+     *
+     * @param quantile 分位（0.0〜1.0）
+     * @return 所要時間（秒。空の場合は0）
+     */
+    public long quantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(Math.max(0, Math.min(1, quantile)) * (count - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    /**
+     * 保存形式に変換
+     *
+     * @return バイト列
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + buckets.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, buckets.size());
+        int previous = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            writeVarLong(out, bucket.getKey() - previous);
+            writeVarLong(out, bucket.getValue());
+            previous = bucket.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 保存形式から復元
+     *
+     * @param bytes バイト列（nullまたは空の場合は空のスケッチ）
+     * @return スケッチ
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static DurationSketch fromBytes(byte[] bytes) {
+        DurationSketch sketch = new DurationSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("未対応のスケッチ形式です: " + bytes[0]);
+        }
+        int[] position = {1};
+        long size = readVarLong(bytes, position);
+        int index = 0;
+        for (long i = 0; i < size; i++) {
+            index += (int) readVarLong(bytes, position);
+            long n = readVarLong(bytes, position);
+            sketch.buckets.put(index, n);
+            sketch.count += n;
+        }
+        return sketch;
+    }
+
+    private static int indexOf(long seconds) {
+        if (seconds < 1) {
+            return 0;
+        }
+        return (int) Math.ceil(Math.log(seconds) / LOG_GAMMA) + 1;
+    }
+
+    /**
+     * バケットの代表値（バケットの範囲内の相対誤差が最小になる値）
+     */
+    private static long valueOf(int index) {
+        if (index == 0) {
+            return 0;
+        }
+        return Math.round(2 * Math.pow(GAMMA, index - 1) / (GAMMA + 1));
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("スケッチのデータが途中で終わっています");
+            }
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("スケッチのデータが不正です");
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.IdempotencyRecord;
+import com.example.todoapp.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 冪等性キーサービスクラス
+ * 同じIdempotency-Keyで再送されたリクエストを一度だけ実行し、以降は最初の結果を返す
+ *
+ * <p>直近の結果はサイズ上限付きのメモリキャッシュに、全件はDB（idempotency_keys）に保持する。
+ * 同一キーの同時実行はストライプロックで直列化し、ノード間の競合はDBの一意制約で検出する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_KEY_LENGTH = 100;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${app.idempotency.ttl:24h}")
+    private Duration ttl = Duration.ofHours(24);
+
+    @Value("${app.idempotency.max-cached-entries:10000}")
+    private int maxCachedEntries = 10000;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final Map<String, CachedResult> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > maxCachedEntries;
+        }
+    };
+
+    public IdempotencyService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 冪等性キー付きで処理を実行
+     * キーが未使用なら処理を実行して結果（リソースID）を記録し、使用済みなら処理を実行せずに記録済みの結果を返す。
+     * 処理と記録は同一トランザクションでコミットされるため、処理が失敗した場合はキーも記録されない
+     *
+     * @param userId ユーザーID
+     * @param idempotencyKey 冪等性キー（null・空の場合は常に処理を実行）
+     * @param operation 操作名（例: todo.create）
+     * @param action 実行する処理（作成・更新したリソースのIDを返す）
+     * @return リソースID
+     * @throws IllegalArgumentException キーが長すぎる、または別の操作で使用済みの場合
+     */
+    public Long execute(Long userId, String idempotencyKey, String operation, Supplier<Long> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Keyは" + MAX_KEY_LENGTH + "文字以内で指定してください");
+        }
+
+        String cacheKey = userId + ":" + idempotencyKey;
+        ReentrantLock lock = locks[Math.floorMod(cacheKey.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            Optional<CachedResult> replay = lookup(cacheKey, userId, idempotencyKey);
+            if (replay.isPresent()) {
+                return replay.get().resolve(operation);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(ttl);
+            Long resourceId;
+            try {
+                resourceId = transactionTemplate.execute(status -> {
+                    Long id = action.get();
+                    idempotencyRecordRepository.saveAndFlush(
+                            new IdempotencyRecord(userId, idempotencyKey, operation, id, now, expiresAt));
+                    return id;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 別ノードが同じキーを先にコミットした（こちらの処理はロールバック済み）
+                logger.debug("冪等性キーの競合を検出しました: userId={}, key={}", userId, idempotencyKey);
+                return lookup(cacheKey, userId, idempotencyKey)
+                        .orElseThrow(() -> e)
+                        .resolve(operation);
+            }
+
+            putCache(cacheKey, new CachedResult(operation, resourceId, expiresAt));
+            return resourceId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 有効期限切れの記録を削除（定期実行）
+     *
+     * @return 削除件数
+     */
+    @Scheduled(cron = "${app.idempotency.purge-cron:0 0 * * * *}")
+    public int purgeExpired() {
+        synchronized (cache) {
+            LocalDateTime now = LocalDateTime.now();
+            cache.values().removeIf(result -> result.isExpired(now));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return shardRouter.callOnEachShard(() -> transactionTemplate.execute(status ->
+                        idempotencyRecordRepository.deleteExpired(now)))
+                .values().stream().mapToInt(removed -> removed != null ? removed : 0).sum();
+    }
+
+    private Optional<CachedResult> lookup(String cacheKey, Long userId, String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (cache) {
+            CachedResult cached = cache.get(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    return Optional.of(cached);
+                }
+                cache.remove(cacheKey);
+            }
+        }
+
+        Optional<IdempotencyRecord> record = idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        if (record.get().getExpiresAt().isBefore(now)) {
+            // 期限切れの記録は削除してキーを再利用可能にする
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.delete(record.get()));
+            return Optional.empty();
+        }
+
+        CachedResult result = new CachedResult(
+                record.get().getOperation(), record.get().getResourceId(), record.get().getExpiresAt());
+        putCache(cacheKey, result);
+        return Optional.of(result);
+    }
+
+    private void putCache(String cacheKey, CachedResult result) {
+        synchronized (cache) {
+            cache.put(cacheKey, result);
+        }
+    }
+
+    /**
+     * 記録済みの処理結果
+     */
+    private static class CachedResult {
+        private final String operation;
+        private final Long resourceId;
+        private final LocalDateTime expiresAt;
+
+        CachedResult(String operation, Long resourceId, LocalDateTime expiresAt) {
+            this.operation = operation;
+            this.resourceId = resourceId;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+
+        Long resolve(String requestedOperation) {
+            if (!operation.equals(requestedOperation)) {
+                throw new IllegalArgumentException("Idempotency-Keyは別の操作で使用済みです");
+            }
+            return resourceId;
+        }
+    }
+}
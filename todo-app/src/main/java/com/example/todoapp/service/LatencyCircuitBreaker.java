@@ -0,0 +1,169 @@
+package com.example.todoapp.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 応答時間に基づくサーキットブレーカー
+ * 直近の呼び出しのうち失敗または遅延（slowCallThreshold超過）の割合が閾値を超えると開状態になり、
+ * 一定時間（openDuration）呼び出しを止める。その後は半開状態として1件ずつ試行し、
+ * 試行が正常に完了すれば閉状態に戻り、失敗・遅延すれば再び開状態になる
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public class LatencyCircuitBreaker {
+
+    /**
+     * 状態
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final long slowCallThresholdNanos;
+
+    private final double failureRateThreshold;
+
+    private final int minimumCalls;
+
+    private final long openDurationNanos;
+
+    private final LongSupplier nanoClock;
+
+    // 直近の呼び出し結果（trueは失敗・遅延）のリングバッファ
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int badCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param slowCallThreshold この時間を超えた呼び出しを遅延とみなす
+     * @param failureRateThreshold 開状態にする失敗・遅延の割合（0〜1）
+     * @param windowSize 判定に使う直近の呼び出し数
+     * @param minimumCalls 判定に必要な最小の呼び出し数
+     * @param openDuration 開状態を維持する時間
+     * @param nanoClock 時刻（ナノ秒）
+     */
+    public LatencyCircuitBreaker(Duration slowCallThreshold, double failureRateThreshold, int windowSize,
+                                 int minimumCalls, Duration openDuration, LongSupplier nanoClock) {
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public LatencyCircuitBreaker(Duration slowCallThreshold, double failureRateThreshold, int windowSize,
+                                 int minimumCalls, Duration openDuration) {
+        this(slowCallThreshold, failureRateThreshold, windowSize, minimumCalls, openDuration, System::nanoTime);
+    }
+
+    /**
+     * 呼び出しの可否を判定
+     * 許可された場合は結果を {@link #onSuccess(long)} または {@link #onFailure()} で記録すること
+     *
+     * @return 呼び出してよい場合true
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        // 半開状態では試行を1件ずつ許可する
+        if (probeInFlight) {
+            return false;
+        }
+        probeInFlight = true;
+        return true;
+    }
+
+    /**
+     * 正常に完了した呼び出しを記録
+     * 応答時間が閾値を超えた場合は遅延として扱う
+     *
+     * @param latencyNanos 応答時間（ナノ秒）
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        record(latencyNanos > slowCallThresholdNanos);
+    }
+
+    /**
+     * 失敗（例外・タイムアウト）した呼び出しを記録
+     */
+    public synchronized void onFailure() {
+        record(true);
+    }
+
+    /**
+     * 許可された呼び出しを実行せずに終えた場合に、結果を記録せず試行枠のみ解放する
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean bad) {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            if (bad) {
+                open();
+            } else {
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 開状態になる前に許可された呼び出しの結果は判定に使わない
+            return;
+        }
+
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                badCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = bad;
+        if (bad) {
+            badCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (recordedCalls >= minimumCalls && badCalls >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        Arrays.fill(window, false);
+        windowIndex = 0;
+        recordedCalls = 0;
+        badCalls = 0;
+    }
+}
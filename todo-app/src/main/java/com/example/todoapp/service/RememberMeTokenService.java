@@ -0,0 +1,320 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.RememberMeToken;
+import com.example.todoapp.repository.RememberMeTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Remember-Meトークンサービスクラス
+ * ログイン状態を保持するCookieのシリーズ・トークンを remember_me_tokens で管理し、検証・更新・無効化を行う
+ *
+ * <p>直近に使用されたシリーズはサイズ上限付きのメモリキャッシュに保持し、キャッシュの有効期間
+ * （app.remember-me.cache-ttl）内はDBを参照せずに検証する。トークンは一定間隔（rotation-interval）ごとに更新し、
+ * それ以外の使用は最終使用日時をメモリに記録して定期的にまとめてDBへ反映する。</p>
+ *
+ * <p>パスワード変更・ユーザー無効化・アカウント削除の際はユーザーのトークンをすべて削除する。
+ * 他ノードのキャッシュには最大でキャッシュの有効期間だけ残るが、自動ログイン時にはユーザーの有効状態も確認される。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class RememberMeTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RememberMeTokenService.class);
+
+    private static final int RANDOM_BYTES = 16;
+    private static final int LOCK_STRIPES = 64;
+    private static final int TOUCH_BATCH_SIZE = 500;
+
+    @Autowired
+    private RememberMeTokenRepository rememberMeTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${app.remember-me.token-validity:24h}")
+    private Duration tokenValidity = Duration.ofHours(24);
+
+    @Value("${app.remember-me.rotation-interval:15m}")
+    private Duration rotationInterval = Duration.ofMinutes(15);
+
+    @Value("${app.remember-me.cache-ttl:60s}")
+    private Duration cacheTtl = Duration.ofSeconds(60);
+
+    @Value("${app.remember-me.max-cached-entries:10000}")
+    private int maxCachedEntries = 10000;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final Map<String, CachedToken> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+            return size() > maxCachedEntries;
+        }
+    };
+
+    // DBへ未反映の最終使用日時
+    private final Map<String, LocalDateTime> pendingTouches = new ConcurrentHashMap<>();
+
+    public RememberMeTokenService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * ログイン時に新しいシリーズを発行
+     *
+     * @param userId ユーザーID
+     * @param email メールアドレス
+     * @return シリーズとトークン
+     */
+    public IssuedToken create(Long userId, String email) {
+        String series = randomValue();
+        String token = randomValue();
+        LocalDateTime now = LocalDateTime.now();
+        RememberMeToken entity = new RememberMeToken(series, userId, email, hash(token), now);
+        onDirectory(() -> rememberMeTokenRepository.save(entity));
+        putCache(series, CachedToken.of(entity, now));
+        return new IssuedToken(series, token);
+    }
+
+    /**
+     * Cookieのシリーズ・トークンを検証して使用を記録
+     * トークンが前回の更新から rotation-interval 以上経過している場合は新しいトークンを発行する
+     *
+     * @param series シリーズ
+     * @param token トークン
+     * @return ユーザーのメールアドレスと、更新した場合は新しいトークン
+     * @throws RememberMeAuthenticationException シリーズが存在しない、または有効期限切れの場合
+     * @throws CookieTheftException トークンが一致しない場合（ユーザーのトークンはすべて無効化される）
+     */
+    public Verification verify(String series, String token) {
+        String presentedHash = hash(token);
+        ReentrantLock lock = locks[Math.floorMod(series.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            CachedToken cached = lookup(series, now, false)
+                    .orElseThrow(() -> new RememberMeAuthenticationException("Remember-Meトークンが見つかりません"));
+            if (!cached.matches(presentedHash)) {
+                // 他ノードでトークンが更新され、キャッシュが古い可能性があるためDBの値で確認する
+                cached = lookup(series, now, true)
+                        .orElseThrow(() -> new RememberMeAuthenticationException("Remember-Meトークンが見つかりません"));
+                if (!cached.matches(presentedHash)) {
+                    revokeAll(cached.userId());
+                    logger.warn("Remember-Meトークンの不一致を検出したため無効化しました: userId={}", cached.userId());
+                    throw new CookieTheftException("Remember-Meトークンが一致しません");
+                }
+            }
+
+            if (!cached.lastUsed().plus(tokenValidity).isAfter(now)) {
+                remove(series);
+                throw new RememberMeAuthenticationException("Remember-Meトークンの有効期限が切れています");
+            }
+
+            if (!cached.rotatedAt().plus(rotationInterval).isAfter(now)) {
+                String rotated = randomValue();
+                String rotatedHash = hash(rotated);
+                onDirectory(() -> rememberMeTokenRepository.rotate(series, rotatedHash, now));
+                pendingTouches.remove(series);
+                putCache(series, new CachedToken(cached.userId(), cached.email(), rotatedHash, now, now, now));
+                return new Verification(cached.email(), rotated);
+            }
+
+            pendingTouches.merge(series, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+            putCache(series, new CachedToken(cached.userId(), cached.email(), cached.tokenHash(),
+                    cached.rotatedAt(), now, cached.loadedAt()));
+            return new Verification(cached.email(), null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 最終使用日時をまとめてDBへ反映（定期実行）
+     * 反映する日時はまとめた中で最も新しい日時とする（実際の使用より最大で実行間隔分新しくなる）
+     *
+     * @return 更新件数
+     */
+    @Scheduled(fixedDelayString = "${app.remember-me.flush-interval-ms:30000}")
+    public int flushLastUsed() {
+        List<String> series = new ArrayList<>();
+        LocalDateTime latest = null;
+        for (String key : pendingTouches.keySet()) {
+            LocalDateTime touched = pendingTouches.remove(key);
+            if (touched != null) {
+                series.add(key);
+                latest = latest == null || touched.isAfter(latest) ? touched : latest;
+            }
+        }
+
+        int updated = 0;
+        for (int from = 0; from < series.size(); from += TOUCH_BATCH_SIZE) {
+            List<String> batch = series.subList(from, Math.min(from + TOUCH_BATCH_SIZE, series.size()));
+            LocalDateTime lastUsed = latest;
+            Integer count = onDirectory(() -> rememberMeTokenRepository.touchAll(batch, lastUsed));
+            updated += count != null ? count : 0;
+        }
+        return updated;
+    }
+
+    /**
+     * シリーズを削除（ログアウト時）
+     *
+     * @param series シリーズ
+     */
+    public void remove(String series) {
+        onDirectory(() -> {
+            rememberMeTokenRepository.deleteById(series);
+            return null;
+        });
+        pendingTouches.remove(series);
+        synchronized (cache) {
+            cache.remove(series);
+        }
+    }
+
+    /**
+     * ユーザーのトークンをすべて無効化
+     * パスワード変更・ユーザー無効化・アカウント削除の際に呼び出す
+     *
+     * @param userId ユーザーID
+     * @return 削除件数
+     */
+    public int revokeAll(Long userId) {
+        Integer removed = onDirectory(() -> rememberMeTokenRepository.deleteByUserId(userId));
+        synchronized (cache) {
+            cache.values().removeIf(token -> token.userId().equals(userId));
+        }
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 有効期限を過ぎたトークンを削除（定期実行）
+     *
+     * @return 削除件数
+     */
+    @Scheduled(cron = "${app.remember-me.purge-cron:0 15 * * * *}")
+    public int purgeExpired() {
+        flushLastUsed();
+        Integer removed = onDirectory(() ->
+                rememberMeTokenRepository.deleteUnusedBefore(LocalDateTime.now().minus(tokenValidity)));
+        return removed != null ? removed : 0;
+    }
+
+    private Optional<CachedToken> lookup(String series, LocalDateTime now, boolean forceReload) {
+        if (!forceReload) {
+            synchronized (cache) {
+                CachedToken cached = cache.get(series);
+                if (cached != null && cached.loadedAt().plus(cacheTtl).isAfter(now)) {
+                    return Optional.of(cached);
+                }
+            }
+        }
+
+        Optional<RememberMeToken> entity = onDirectory(() -> rememberMeTokenRepository.findById(series));
+        if (entity.isEmpty()) {
+            synchronized (cache) {
+                cache.remove(series);
+            }
+            return Optional.empty();
+        }
+        CachedToken loaded = CachedToken.of(entity.get(), now);
+        LocalDateTime pending = pendingTouches.get(series);
+        if (pending != null && pending.isAfter(loaded.lastUsed())) {
+            loaded = new CachedToken(loaded.userId(), loaded.email(), loaded.tokenHash(),
+                    loaded.rotatedAt(), pending, now);
+        }
+        putCache(series, loaded);
+        return Optional.of(loaded);
+    }
+
+    private void putCache(String series, CachedToken token) {
+        synchronized (cache) {
+            cache.put(series, token);
+        }
+    }
+
+    private <T> T onDirectory(Supplier<T> action) {
+        return shardRouter.callOnShard(ShardRouter.DIRECTORY_SHARD, () -> transactionTemplate.execute(status -> action.get()));
+    }
+
+    private String randomValue() {
+        byte[] bytes = new byte[RANDOM_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 発行したシリーズとトークン
+     */
+    public record IssuedToken(String series, String token) {
+    }
+
+    /**
+     * 検証結果
+     *
+     * @param email ユーザーのメールアドレス
+     * @param rotatedToken 新しいトークン（更新しなかった場合はnull）
+     */
+    public record Verification(String email, String rotatedToken) {
+    }
+
+    /**
+     * キャッシュしたトークン
+     */
+    private record CachedToken(Long userId, String email, String tokenHash,
+                               LocalDateTime rotatedAt, LocalDateTime lastUsed, LocalDateTime loadedAt) {
+
+        static CachedToken of(RememberMeToken entity, LocalDateTime loadedAt) {
+            return new CachedToken(entity.getUserId(), entity.getEmail(), entity.getTokenHash(),
+                    entity.getRotatedAt(), entity.getLastUsed(), loadedAt);
+        }
+
+        boolean matches(String presentedHash) {
+            return MessageDigest.isEqual(tokenHash.getBytes(StandardCharsets.US_ASCII),
+                    presentedHash.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
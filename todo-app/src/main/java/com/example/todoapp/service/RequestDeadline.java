@@ -0,0 +1,98 @@
+package com.example.todoapp.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * リクエストの処理期限
+ * リクエストを処理するスレッドに期限を束縛し、トランザクション・クエリのタイムアウトとして適用する
+ *
+ * <p>期限はエンドポイントごとに設定され（app.request-deadline.*）、
+ * {@link com.example.todoapp.config.DeadlineAwareTransactionManager} がトランザクション開始時の残り時間を
+ * JPAのクエリタイムアウト（JDBCの setQueryTimeout）に変換する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+public final class RequestDeadline {
+
+    // 期限（System.nanoTime() 基準）
+    private static final ThreadLocal<Long> CURRENT_DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * 現在のスレッドに期限を束縛
+     * 束縛したスレッドで必ず {@link #clear()} を呼び出すこと
+     *
+     * @param timeout 現在からの処理期限
+     */
+    public static void bind(Duration timeout) {
+        CURRENT_DEADLINE.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 現在のスレッドの期限を解除
+     */
+    public static void clear() {
+        CURRENT_DEADLINE.remove();
+    }
+
+    /**
+     * 期限までの残り時間を取得
+     *
+     * @return 残り時間（期限切れの場合は0以下）。期限が束縛されていない場合はnull
+     */
+    public static Duration remaining() {
+        Long deadline = CURRENT_DEADLINE.get();
+        return deadline != null ? Duration.ofNanos(deadline - System.nanoTime()) : null;
+    }
+
+    /**
+     * 残り時間が必要な時間に満たない場合は処理を打ち切る
+     *
+     * @param required 処理に必要な時間
+     * @throws DeadlineExceededException 残り時間が不足している場合
+     */
+    public static void check(Duration required) {
+        Duration remaining = remaining();
+        if (remaining != null && remaining.compareTo(required) < 0) {
+            throw new DeadlineExceededException(remaining);
+        }
+    }
+
+    /**
+     * 呼び出し元スレッドの期限を引き継ぐタスクに変換
+     *
+     * @param task タスク
+     * @return 期限を引き継ぐタスク
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Long deadline = CURRENT_DEADLINE.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT_DEADLINE.set(deadline);
+            try {
+                return task.call();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    /**
+     * 期限までに処理を終えられないため打ち切ったことを表す例外
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class DeadlineExceededException extends RuntimeException {
+        public DeadlineExceededException(Duration remaining) {
+            super("リクエストの処理期限までの残り時間が不足しています（残り" + Math.max(0, remaining.toMillis()) + "ms）");
+        }
+    }
+}
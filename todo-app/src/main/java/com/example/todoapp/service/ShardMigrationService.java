@@ -0,0 +1,274 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.config.ShardDataSources;
+import com.example.todoapp.entity.ShardAssignment;
+import com.example.todoapp.repository.ShardAssignmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * シャード間データ移動サービスクラス
+ * ユーザーのシャード上への登録と、稼働中のユーザー単位の再シャーディングを行う
+ *
+ * <p>ユーザー本体はディレクトリシャードに置き、各シャードには外部キーと差分同期のシーケンス番号を保持するための
+ * ユーザー行の複製を置く。再シャーディング中のユーザーの書き込みリクエストは拒否され（503）、読み取りは移動元で継続する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardMigrationService.class);
+
+    private static final int MAX_COPY_ATTEMPTS = 5;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private ShardAssignmentRepository shardAssignmentRepository;
+
+    // 他ノードが割り当ての変更（移動中フラグ・移動先への切り替え）を読み込むまでの待ち時間
+    @Value("${app.sharding.migration-settle-time:${app.sharding.assignment-refresh-interval-ms:30000}ms}")
+    private Duration settleTime = Duration.ofSeconds(30);
+
+    private final Set<String> provisioned = ConcurrentHashMap.newKeySet();
+
+    /**
+     * ユーザー行の複製をシャードに作成（未作成の場合のみ）
+     *
+     * @param userId ユーザーID
+     * @param shard シャード名
+     */
+    public void ensureProvisioned(Long userId, String shard) {
+        if (ShardRouter.DIRECTORY_SHARD.equals(shard) || provisioned.contains(shard + ":" + userId)) {
+            return;
+        }
+        JdbcTemplate target = jdbc(shard);
+        Integer existing = target.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId);
+        if (existing == null || existing == 0) {
+            List<Map<String, Object>> rows = jdbc(ShardRouter.DIRECTORY_SHARD)
+                    .queryForList("SELECT * FROM users WHERE id = ?", userId);
+            insertRows(target, "users", rows, true);
+        }
+        provisioned.add(shard + ":" + userId);
+    }
+
+    /**
+     * ユーザーのToDoデータを別のシャードへ移動
+     * 移動中フラグを立てて書き込みを止めた後にコピーし、割り当てを切り替える。
+     * 移動元は読み取り専用のまま残し、全ノードが切り替えを読み込むまで待ってから削除する。
+     * コピー中に移動元の変更シーケンス番号が進んだ場合（停止前に受け付けた書き込みのコミット）はコピーをやり直す
+     *
+     * @param userId ユーザーID
+     * @param targetShard 移動先シャード名
+     * @return シャード名・テーブルごとの移動件数
+     * @throws IllegalArgumentException 移動先シャードが未定義の場合
+     * @throws IllegalStateException 書き込みが続きコピーを確定できなかった場合
+     */
+    public Map<String, Object> moveUser(Long userId, String targetShard) {
+        if (!shardRouter.getShardNames().contains(targetShard)) {
+            throw new IllegalArgumentException("シャードが定義されていません: " + targetShard);
+        }
+        String sourceShard = shardRouter.shardFor(userId);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("userId", userId);
+        result.put("from", sourceShard);
+        result.put("to", targetShard);
+        if (sourceShard.equals(targetShard)) {
+            return result;
+        }
+
+        saveAssignment(new ShardAssignment(userId, sourceShard, true));
+        try {
+            Thread.sleep(settleTime.toMillis());
+
+            JdbcTemplate source = jdbc(sourceShard);
+            Map<String, Integer> copied = null;
+            for (int attempt = 1; attempt <= MAX_COPY_ATTEMPTS && copied == null; attempt++) {
+                long seqBefore = changeSeq(source, userId);
+                Map<String, Integer> counts = copyUser(userId, sourceShard, targetShard);
+                if (changeSeq(source, userId) == seqBefore) {
+                    copied = counts;
+                } else {
+                    logger.info("移動中に書き込みがコミットされたため再コピーします: userId={}, attempt={}", userId, attempt);
+                }
+            }
+            if (copied == null) {
+                throw new IllegalStateException("書き込みが続いているため移動を確定できません: userId=" + userId);
+            }
+
+            saveAssignment(new ShardAssignment(userId, targetShard, false));
+            result.put("copied", copied);
+            logger.info("ユーザーのシャードを移動しました: userId={}, {} -> {}, {}", userId, sourceShard, targetShard, copied);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            saveAssignment(new ShardAssignment(userId, sourceShard, false));
+            throw new IllegalStateException("シャードの移動が中断されました: userId=" + userId, e);
+        } catch (RuntimeException e) {
+            saveAssignment(new ShardAssignment(userId, sourceShard, false));
+            throw e;
+        }
+
+        result.put("sourceDeleted", retireSource(userId, sourceShard));
+        return result;
+    }
+
+    /**
+     * 割り当てを切り替えた後、移動元のデータを削除
+     * 割り当てを再読み込みしていない他ノードは移動元を「移動中」として参照し続ける（読み取りのみ可能）ため、
+     * 全ノードが新しい割り当てを読み込むまで待ってから削除する。
+     * 待機中に中断された場合、割り当ては移動先のまま移動元のデータを残す（再度の移動時に除去される）
+     *
+     * @param userId ユーザーID
+     * @param sourceShard 移動元シャード名
+     * @return 削除した場合true
+     */
+    private boolean retireSource(Long userId, String sourceShard) {
+        try {
+            Thread.sleep(settleTime.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("移動元のデータの削除を中断しました: userId={}, shard={}", userId, sourceShard);
+            return false;
+        }
+        deleteUser(userId, sourceShard);
+        return true;
+    }
+
+    /**
+     * シャードごとのユーザー数・ToDo件数を取得
+     *
+     * @return シャード名ごとの件数
+     */
+    public Map<String, Map<String, Long>> describe() {
+        Map<String, Map<String, Long>> distribution = new LinkedHashMap<>();
+        for (String shard : shardRouter.getShardNames()) {
+            JdbcTemplate jdbc = jdbc(shard);
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counts.put("users", jdbc.queryForObject("SELECT COUNT(DISTINCT user_id) FROM todos", Long.class));
+            counts.put("todos", jdbc.queryForObject("SELECT COUNT(*) FROM todos", Long.class));
+            distribution.put(shard, counts);
+        }
+        return distribution;
+    }
+
+    private Map<String, Integer> copyUser(Long userId, String sourceShard, String targetShard) {
+        JdbcTemplate source = jdbc(sourceShard);
+        JdbcTemplate target = jdbc(targetShard);
+        List<Map<String, Object>> userRows = source.queryForList("SELECT * FROM users WHERE id = ?", userId);
+        List<Map<String, Object>> todos = source.queryForList("SELECT * FROM todos WHERE user_id = ?", userId);
+        List<Map<String, Object>> archivedTodos = source.queryForList("SELECT * FROM todos_archive WHERE user_id = ?", userId);
+        List<Map<String, Object>> tombstones = source.queryForList("SELECT * FROM todo_tombstones WHERE user_id = ?", userId);
+        List<Map<String, Object>> dailyStats = source.queryForList("SELECT * FROM todo_daily_stats WHERE user_id = ?", userId);
+        List<Map<String, Object>> idempotencyKeys = source.queryForList("SELECT * FROM idempotency_keys WHERE user_id = ?", userId);
+
+        return transaction(targetShard).execute(status -> {
+            // 過去の失敗した移動で残ったデータを除去
+            deleteTodoData(target, userId);
+
+            Integer existing = target.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId);
+            if (existing != null && existing > 0) {
+                Map<String, Object> user = userRows.get(0);
+                target.update("UPDATE users SET change_seq = ?, sync_floor_seq = ? WHERE id = ?",
+                        value(user, "change_seq"), value(user, "sync_floor_seq"), userId);
+            } else {
+                insertRows(target, "users", userRows, true);
+            }
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            // ToDoのIDはクライアントが保持しているため維持する（シャードごとにIDの範囲が異なるため重複しない）
+            counts.put("todos", insertRows(target, "todos", todos, true));
+            counts.put("todos_archive", insertRows(target, "todos_archive", archivedTodos, true));
+            counts.put("todo_tombstones", insertRows(target, "todo_tombstones", tombstones, false));
+            counts.put("todo_daily_stats", insertRows(target, "todo_daily_stats", dailyStats, false));
+            counts.put("idempotency_keys", insertRows(target, "idempotency_keys", idempotencyKeys, false));
+            return counts;
+        });
+    }
+
+    private void deleteUser(Long userId, String shard) {
+        JdbcTemplate jdbc = jdbc(shard);
+        transaction(shard).executeWithoutResult(status -> {
+            deleteTodoData(jdbc, userId);
+            if (!ShardRouter.DIRECTORY_SHARD.equals(shard)) {
+                jdbc.update("DELETE FROM users WHERE id = ?", userId);
+            }
+        });
+        provisioned.remove(shard + ":" + userId);
+    }
+
+    private static void deleteTodoData(JdbcTemplate jdbc, Long userId) {
+        jdbc.update("DELETE FROM todos WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM todos_archive WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM todo_tombstones WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM todo_daily_stats WHERE user_id = ?", userId);
+        jdbc.update("DELETE FROM idempotency_keys WHERE user_id = ?", userId);
+    }
+
+    private static int insertRows(JdbcTemplate jdbc, String table, List<Map<String, Object>> rows, boolean keepId) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<String> columns = rows.get(0).keySet().stream()
+                .filter(column -> keepId || !column.equalsIgnoreCase("id"))
+                .toList();
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            batch.add(columns.stream().map(row::get).toArray());
+        }
+        jdbc.batchUpdate(sql, batch);
+        return rows.size();
+    }
+
+    private static long changeSeq(JdbcTemplate jdbc, Long userId) {
+        Long seq = jdbc.queryForObject("SELECT change_seq FROM users WHERE id = ?", Long.class, userId);
+        return seq != null ? seq : 0;
+    }
+
+    private static Object value(Map<String, Object> row, String column) {
+        return row.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(column))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void saveAssignment(ShardAssignment assignment) {
+        shardRouter.callOnShard(ShardRouter.DIRECTORY_SHARD, () -> shardAssignmentRepository.save(assignment));
+        shardRouter.updateAssignment(assignment);
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(shardDataSources.get(shard));
+    }
+
+    private TransactionTemplate transaction(String shard) {
+        DataSource dataSource = shardDataSources.get(shard);
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.config.ShardRing;
+import com.example.todoapp.config.ShardingConfig;
+import com.example.todoapp.entity.ShardAssignment;
+import com.example.todoapp.repository.ShardAssignmentRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * シャードルータークラス
+ * ユーザーIDから担当シャードを決定し、処理を実行するスレッドに対象シャードを束縛する
+ *
+ * <p>シャーディング無効時（app.sharding.enabled=false）はディレクトリシャードのみの1シャード構成として振る舞うため、
+ * 呼び出し側はシャーディングの有無を意識せずに全シャードへのファンアウトを記述できる。
+ * スレッドにシャードが束縛されていない場合の接続先はディレクトリシャード（spring.datasource）で、
+ * ユーザー・シャード割り当てなどの全体データはここに置く。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class ShardRouter {
+
+    public static final String DIRECTORY_SHARD = "shard0";
+
+    private static final ThreadLocal<String> CURRENT_SHARD = new ThreadLocal<>();
+
+    @Autowired
+    private ShardAssignmentRepository shardAssignmentRepository;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.sharding.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.sharding.virtual-nodes:128}")
+    private int virtualNodes = 128;
+
+    private volatile ShardRing ring = new ShardRing(List.of(DIRECTORY_SHARD), 1);
+
+    private final Map<Long, ShardAssignment> assignments = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        List<String> shardNames = new ArrayList<>();
+        shardNames.add(DIRECTORY_SHARD);
+        shardNames.addAll(ShardingConfig.bindShardProperties(environment).keySet());
+        ring = new ShardRing(shardNames, virtualNodes);
+        refreshAssignments();
+    }
+
+    /**
+     * 現在のスレッドに束縛されているシャードを取得
+     *
+     * @return シャード名（未束縛の場合はディレクトリシャード）
+     */
+    public static String currentShard() {
+        String shard = CURRENT_SHARD.get();
+        return shard != null ? shard : DIRECTORY_SHARD;
+    }
+
+    /**
+     * 現在のスレッドにシャードを束縛
+     * 束縛したスレッドで必ず {@link #clearCurrentShard()} を呼び出すこと
+     *
+     * @param shard シャード名
+     */
+    public static void bindCurrentShard(String shard) {
+        CURRENT_SHARD.set(shard);
+    }
+
+    /**
+     * 現在のスレッドのシャード束縛を解除
+     */
+    public static void clearCurrentShard() {
+        CURRENT_SHARD.remove();
+    }
+
+    /**
+     * 呼び出し元スレッドのシャード束縛を引き継ぐタスクに変換
+     *
+     * @param task タスク
+     * @return シャード束縛を引き継ぐタスク
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        String shard = CURRENT_SHARD.get();
+        if (shard == null) {
+            return task;
+        }
+        return () -> {
+            bindCurrentShard(shard);
+            try {
+                return task.call();
+            } finally {
+                clearCurrentShard();
+            }
+        };
+    }
+
+    public boolean isSharded() {
+        return enabled;
+    }
+
+    public List<String> getShardNames() {
+        return ring.getShardNames();
+    }
+
+    /**
+     * ユーザーを担当するシャードを取得
+     * 再シャーディングによる割り当てがあればそれを優先する
+     *
+     * @param userId ユーザーID
+     * @return シャード名
+     */
+    public String shardFor(Long userId) {
+        ShardAssignment assignment = assignments.get(userId);
+        return assignment != null ? assignment.getShardName() : ring.shardFor(userId);
+    }
+
+    /**
+     * ユーザーが再シャーディング中かどうかを判定
+     *
+     * @param userId ユーザーID
+     * @return 移動中の場合true
+     */
+    public boolean isMigrating(Long userId) {
+        ShardAssignment assignment = assignments.get(userId);
+        return assignment != null && assignment.isMigrating();
+    }
+
+    /**
+     * 指定シャードで処理を実行
+     * 処理の中で開始したトランザクションは指定シャードのコネクションを使用する
+     *
+     * @param shard シャード名
+     * @param action 処理
+     * @return 処理結果
+     */
+    public <T> T callOnShard(String shard, Supplier<T> action) {
+        String previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT_SHARD.set(previous);
+            } else {
+                CURRENT_SHARD.remove();
+            }
+        }
+    }
+
+    /**
+     * ユーザーを担当するシャードで処理を実行
+     *
+     * @param userId ユーザーID
+     * @param action 処理
+     * @return 処理結果
+     */
+    public <T> T callOnShardOf(Long userId, Supplier<T> action) {
+        return callOnShard(shardFor(userId), action);
+    }
+
+    /**
+     * すべてのシャードで処理を順に実行
+     * シャードごとに別のトランザクションとなるため、処理側でトランザクションを開始すること
+     *
+     * @param action 処理
+     * @return シャード名ごとの処理結果
+     */
+    public <T> Map<String, T> callOnEachShard(Supplier<T> action) {
+        Map<String, T> results = new LinkedHashMap<>();
+        for (String shard : getShardNames()) {
+            results.put(shard, callOnShard(shard, action));
+        }
+        return results;
+    }
+
+    /**
+     * シャード割り当てを更新（再シャーディング時）
+     *
+     * @param assignment シャード割り当て
+     */
+    public void updateAssignment(ShardAssignment assignment) {
+        assignments.put(assignment.getUserId(), assignment);
+    }
+
+    /**
+     * ディレクトリシャードからシャード割り当てを再読み込み（定期実行）
+     * 他ノードで行われた再シャーディングを反映する
+     */
+    @Scheduled(fixedDelayString = "${app.sharding.assignment-refresh-interval-ms:30000}")
+    public void refreshAssignments() {
+        if (!enabled) {
+            return;
+        }
+        List<ShardAssignment> loaded = callOnShard(DIRECTORY_SHARD, shardAssignmentRepository::findAll);
+        Map<Long, ShardAssignment> latest = new LinkedHashMap<>();
+        loaded.forEach(assignment -> latest.put(assignment.getUserId(), assignment));
+        assignments.putAll(latest);
+        assignments.keySet().retainAll(latest.keySet());
+    }
+}
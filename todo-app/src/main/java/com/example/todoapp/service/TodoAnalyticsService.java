@@ -0,0 +1,511 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.TodoDailyStats;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoDailyStatsRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ToDo分析サービスクラス
+ * ユーザー・日付ごとの日次集計（todo_daily_stats）から、完了の推移（作成数と完了数の累計・週ごとの完了数）と
+ * 完了までの所要時間の分位点を組み立てる。分析画面の表示時にToDoを走査しない
+ *
+ * <p>日次集計は {@link TodoService} の作成・更新・削除と同じトランザクション内で差分を反映する。
+ * 変更シーケンス番号の採番（users の行ロック）の後に呼び出されるため、同じユーザーの集計の更新は直列化される。
+ * 所要時間は日ごとの {@link DurationSketch} に記録し、表示時に期間分を結合して分位点を求める。</p>
+ *
+ * <p>作成日時・完了日時の日付で集計するため、完了の取り消しや削除は元の日付の集計から差し引く。
+ * 差分を反映しない書き込み（リアクティブ版 todo-app-reactive の作成・更新・削除、障害、サービスを経由しない変更）は、
+ * 夜間の再計算で集計期間全体をToDoから集計し直して補正する。過去のToDoの削除や完了の取り消しは古い日付の集計を変えるため、
+ * 直近数日分だけでは補正しきれない。再計算は users の行ロックを取得してから行うため、同時に行われる差分の反映と競合しない。</p>
+ *
+ * <p>完了済みToDoのアーカイブ（todos_archive への移動）は集計に影響しない。再計算はアーカイブの保持期間内の日付に限るため、
+ * 移動済みのToDoの分を集計から消すことはない。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class TodoAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoAnalyticsService.class);
+
+    @Autowired
+    private TodoDailyStatsRepository todoDailyStatsRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.analytics.window-days:90}")
+    private int windowDays = 90;
+
+    @Value("${app.archive.completed-retention-days:90}")
+    private int completedRetentionDays = 90;
+
+    /**
+     * 保存したToDoを日次集計に反映
+     * 新規作成は作成日の作成数に、完了状態の変化は変更前後の完了日の完了数と所要時間に反映する
+     * 呼び出し元（{@link TodoService}）のトランザクションに参加するため、ToDoの変更がロールバックされた場合は反映されない
+     *
+     * @param todo 保存したToDo（読み込み時の状態を保持していること）
+     */
+    @Transactional
+    public void onSaved(Todo todo) {
+        Long userId = todo.getUser().getId();
+        LocalDateTime createdAt = createdAtOf(todo);
+        if (!todo.isLoaded()) {
+            apply(userId, createdAt.toLocalDate(), 1, 0, 0);
+        }
+
+        LocalDateTime before = todo.isLoaded() ? todo.getLoadedCompletedAt() : null;
+        LocalDateTime after = todo.isCompleted() ? todo.getCompletedAt() : null;
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            apply(userId, before.toLocalDate(), 0, -1, secondsBetween(createdAt, before));
+        }
+        if (after != null) {
+            apply(userId, after.toLocalDate(), 0, 1, secondsBetween(createdAt, after));
+        }
+    }
+
+    /**
+     * 削除したToDoを日次集計から差し引く
+     * 呼び出し元（{@link TodoService}）のトランザクションに参加する
+     *
+     * @param todo 削除したToDo
+     */
+    @Transactional
+    public void onDeleted(Todo todo) {
+        Long userId = todo.getUser().getId();
+        LocalDateTime createdAt = createdAtOf(todo);
+        apply(userId, createdAt.toLocalDate(), -1, 0, 0);
+
+        LocalDateTime completedAt = todo.isLoaded() ? todo.getLoadedCompletedAt()
+                : (todo.isCompleted() ? todo.getCompletedAt() : null);
+        if (completedAt != null) {
+            apply(userId, completedAt.toLocalDate(), 0, -1, secondsBetween(createdAt, completedAt));
+        }
+    }
+
+    /**
+     * 完了の推移を取得（今日までの集計期間分）
+     *
+     * @param user ユーザー
+     * @param today 今日の日付
+     * @return 完了の推移
+     */
+    public CompletionTrend getTrend(User user, LocalDate today) {
+        LocalDate from = today.minusDays(windowDays - 1L);
+        return new CompletionTrend(from, today,
+                todoDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(user.getId(), from, today));
+    }
+
+    /**
+     * 集計期間（昨日まで）の日次集計をToDoから再計算して補正（定期実行）
+     * アーカイブ済みのToDoは todos にないため、完了済みToDoの保持期間より前の日付は再計算しない。
+     * シャーディング時はシャードごとに実行し、ユーザーごとに別トランザクションで補正する
+     *
+     * @return 補正した日次集計の件数
+     */
+    @Scheduled(cron = "${app.analytics.catch-up-cron:0 15 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int catchUp() {
+        LocalDate today = LocalDate.now();
+        LocalDate to = today.minusDays(1);
+        LocalDate windowStart = to.minusDays(windowDays - 1L);
+        LocalDate retained = today.minusDays(completedRetentionDays);
+        LocalDate from = windowStart.isBefore(retained) ? retained : windowStart;
+
+        int corrected = shardRouter.callOnEachShard(() -> rebuildBetween(from, to))
+                .values().stream().mapToInt(Integer::intValue).sum();
+
+        logger.info("ToDoの日次集計を再計算しました: 補正={}件 (期間: {} - {})", corrected, from, to);
+        return corrected;
+    }
+
+    /**
+     * 期間内にToDoの作成・完了または日次集計があるユーザーの日次集計を再計算
+     *
+     * @param from 開始日
+     * @param to 終了日
+     * @return 補正した日次集計の件数
+     */
+    int rebuildBetween(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Set<Long> userIds = transactionTemplate.execute(status -> {
+            Set<Long> ids = new TreeSet<>(todoRepository.findUserIdsWithActivityBetween(start, end));
+            ids.addAll(todoDailyStatsRepository.findUserIdsByStatDateBetween(from, to));
+            return ids;
+        });
+
+        int corrected = 0;
+        for (Long userId : userIds != null ? userIds : Set.<Long>of()) {
+            Integer count = transactionTemplate.execute(status -> rebuild(userId, from, to));
+            corrected += count != null ? count : 0;
+        }
+        return corrected;
+    }
+
+    /**
+     * ユーザーの期間内の日次集計をToDoから再計算し、差異がある日のみ更新
+     * users の行ロックを取得し、再計算中のユーザーのToDoの変更を待たせる
+     */
+    private int rebuild(Long userId, LocalDate from, LocalDate to) {
+        if (userRepository.findByIdForUpdate(userId).isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, DayTotals> totals = new HashMap<>();
+        for (Object[] row : todoRepository.findActivityTimesBetween(userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            LocalDateTime createdAt = (LocalDateTime) row[0];
+            LocalDateTime completedAt = (LocalDateTime) row[1];
+            if (isBetween(createdAt.toLocalDate(), from, to)) {
+                totals.computeIfAbsent(createdAt.toLocalDate(), date -> new DayTotals()).created++;
+            }
+            if (completedAt != null && isBetween(completedAt.toLocalDate(), from, to)) {
+                DayTotals day = totals.computeIfAbsent(completedAt.toLocalDate(), date -> new DayTotals());
+                day.completed++;
+                day.sketch.add(secondsBetween(createdAt, completedAt));
+            }
+        }
+
+        Map<LocalDate, TodoDailyStats> existing = new HashMap<>();
+        todoDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, from, to)
+                .forEach(stats -> existing.put(stats.getStatDate(), stats));
+
+        int corrected = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayTotals day = totals.getOrDefault(date, DayTotals.NONE);
+            TodoDailyStats stats = existing.get(date);
+            byte[] sketch = encode(day.sketch);
+            if (day.created == 0 && day.completed == 0) {
+                if (stats != null) {
+                    todoDailyStatsRepository.delete(stats);
+                    corrected++;
+                }
+                continue;
+            }
+            if (stats != null && stats.getCreatedCount() == day.created && stats.getCompletedCount() == day.completed
+                    && Arrays.equals(stats.getCompletionSketch(), sketch)) {
+                continue;
+            }
+            if (stats == null) {
+                stats = new TodoDailyStats(userId, date);
+            }
+            stats.setCreatedCount(day.created);
+            stats.setCompletedCount(day.completed);
+            stats.setCompletionSketch(sketch);
+            todoDailyStatsRepository.save(stats);
+            corrected++;
+        }
+        if (corrected > 0) {
+            logger.warn("ToDoの日次集計に差異があったため補正しました: userId={}, {}件", userId, corrected);
+        }
+        return corrected;
+    }
+
+    /**
+     * 1日分の集計に差分を反映（作成数・完了数が0になった日の集計は削除する）
+     */
+    private void apply(Long userId, LocalDate date, int createdDelta, int completedDelta, long seconds) {
+        TodoDailyStats stats = todoDailyStatsRepository.findByUserIdAndStatDate(userId, date)
+                .orElseGet(() -> new TodoDailyStats(userId, date));
+        stats.setCreatedCount(Math.max(0, stats.getCreatedCount() + createdDelta));
+        if (completedDelta != 0) {
+            DurationSketch sketch = DurationSketch.fromBytes(stats.getCompletionSketch());
+            if (completedDelta > 0) {
+                sketch.add(seconds);
+            } else {
+                sketch.remove(seconds);
+            }
+            stats.setCompletedCount(Math.max(0, stats.getCompletedCount() + completedDelta));
+            stats.setCompletionSketch(encode(sketch));
+        }
+
+        if (!stats.isEmpty()) {
+            todoDailyStatsRepository.save(stats);
+        } else if (stats.getId() != null) {
+            todoDailyStatsRepository.delete(stats);
+        }
+    }
+
+    private static byte[] encode(DurationSketch sketch) {
+        return sketch.isEmpty() ? null : sketch.toBytes();
+    }
+
+    /**
+     * 作成日時（保存直後で監査項目が未設定の場合は現在日時）
+     */
+    private static LocalDateTime createdAtOf(Todo todo) {
+        return todo.getCreatedAt() != null ? todo.getCreatedAt() : LocalDateTime.now();
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).getSeconds());
+    }
+
+    private static boolean isBetween(LocalDate date, LocalDate from, LocalDate to) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    /**
+     * 再計算中の1日分の集計
+     */
+    private static final class DayTotals {
+        static final DayTotals NONE = new DayTotals();
+
+        int created;
+        int completed;
+        final DurationSketch sketch = new DurationSketch();
+    }
+
+    /**
+     * 1日分の推移
+     *
+     * @param date 日付
+     * @param created 作成数
+     * @param completed 完了数
+     * @param cumulativeCreated 期間の初日からの作成数の累計
+     * @param cumulativeCompleted 期間の初日からの完了数の累計
+     */
+    public record TrendDay(LocalDate date, int created, int completed, long cumulativeCreated, long cumulativeCompleted) {
+    }
+
+    /**
+     * 1週間（7日）分の推移
+     *
+     * @param start 開始日
+     * @param end 終了日
+     * @param created 作成数
+     * @param completed 完了数
+     * @param medianSeconds 完了までの所要時間の中央値（秒。完了がない週は-1）
+     */
+    public record TrendWeek(LocalDate start, LocalDate end, long created, long completed, long medianSeconds) {
+
+        public String medianLabel() {
+            return medianSeconds < 0 ? "-" : CompletionTrend.formatDuration(medianSeconds);
+        }
+    }
+
+    /**
+     * 完了までの所要時間の分位点
+     *
+     * @param percent パーセント（50, 90, 99）
+     * @param seconds 所要時間（秒）
+     */
+    public record Percentile(int percent, long seconds) {
+
+        public String label() {
+            return CompletionTrend.formatDuration(seconds);
+        }
+    }
+
+    /**
+     * 完了の推移（分析画面の表示用）
+     */
+    public static class CompletionTrend {
+
+        /**
+         * 累計グラフ（SVG）の描画領域の幅・高さ
+         */
+        public static final int CHART_WIDTH = 600;
+        public static final int CHART_HEIGHT = 200;
+
+        private static final int[] PERCENTS = {50, 90, 99};
+
+        private final LocalDate from;
+        private final LocalDate to;
+        private final List<TrendDay> days = new ArrayList<>();
+        private final List<TrendWeek> weeks = new ArrayList<>();
+        private final List<Percentile> percentiles = new ArrayList<>();
+        private final long completionSamples;
+
+        public CompletionTrend(LocalDate from, LocalDate to, List<TodoDailyStats> stats) {
+            this.from = from;
+            this.to = to;
+
+            Map<LocalDate, TodoDailyStats> byDate = new HashMap<>();
+            stats.forEach(row -> byDate.put(row.getStatDate(), row));
+
+            long created = 0;
+            long completed = 0;
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                TodoDailyStats row = byDate.get(date);
+                int dayCreated = row != null ? row.getCreatedCount() : 0;
+                int dayCompleted = row != null ? row.getCompletedCount() : 0;
+                created += dayCreated;
+                completed += dayCompleted;
+                days.add(new TrendDay(date, dayCreated, dayCompleted, created, completed));
+            }
+
+            // 最新の週が直近7日になるよう、終了日から7日ずつ区切る（最も古い週は7日未満の場合がある）
+            DurationSketch total = new DurationSketch();
+            for (LocalDate end = to; !end.isBefore(from); end = end.minusDays(7)) {
+                LocalDate start = end.minusDays(6).isBefore(from) ? from : end.minusDays(6);
+                long weekCreated = 0;
+                long weekCompleted = 0;
+                DurationSketch sketch = new DurationSketch();
+                for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                    TodoDailyStats row = byDate.get(date);
+                    if (row != null) {
+                        weekCreated += row.getCreatedCount();
+                        weekCompleted += row.getCompletedCount();
+                        sketch.merge(DurationSketch.fromBytes(row.getCompletionSketch()));
+                    }
+                }
+                weeks.add(0, new TrendWeek(start, end, weekCreated, weekCompleted,
+                        sketch.isEmpty() ? -1 : sketch.quantile(0.5)));
+                total.merge(sketch);
+            }
+
+            completionSamples = total.getCount();
+            if (!total.isEmpty()) {
+                for (int percent : PERCENTS) {
+                    percentiles.add(new Percentile(percent, total.quantile(percent / 100.0)));
+                }
+            }
+        }
+
+        public LocalDate getFrom() { return from; }
+        public LocalDate getTo() { return to; }
+        public List<TrendDay> getDays() { return days; }
+        public List<TrendWeek> getWeeks() { return weeks; }
+
+        /**
+         * 完了までの所要時間の分位点（期間内の完了がない場合は空）
+         */
+        public List<Percentile> getPercentiles() { return percentiles; }
+
+        /**
+         * 所要時間の分位点の算出に使った完了数
+         */
+        public long getCompletionSamples() { return completionSamples; }
+
+        public long getCreatedTotal() {
+            return days.isEmpty() ? 0 : days.get(days.size() - 1).cumulativeCreated();
+        }
+
+        public long getCompletedTotal() {
+            return days.isEmpty() ? 0 : days.get(days.size() - 1).cumulativeCompleted();
+        }
+
+        /**
+         * 期間内の未完了ToDoの増減（作成数 - 完了数）
+         */
+        public long getNetChange() {
+            return getCreatedTotal() - getCompletedTotal();
+        }
+
+        /**
+         * 期間全体の1週間あたりの平均完了数
+         */
+        public double getCompletedPerWeek() {
+            long length = ChronoUnit.DAYS.between(from, to) + 1;
+            return getCompletedTotal() * 7.0 / length;
+        }
+
+        /**
+         * 直近7日間の完了数
+         */
+        public long getRecentCompleted() {
+            return weeks.isEmpty() ? 0 : weeks.get(weeks.size() - 1).completed();
+        }
+
+        /**
+         * 累計グラフの座標系（SVGのviewBox属性）
+         */
+        public String getChartViewBox() {
+            return "0 0 " + CHART_WIDTH + " " + CHART_HEIGHT;
+        }
+
+        /**
+         * 作成数の累計の折れ線（SVGのpoints属性）
+         */
+        public String getCreatedPoints() {
+            return points(true);
+        }
+
+        /**
+         * 完了数の累計の折れ線（SVGのpoints属性）
+         */
+        public String getCompletedPoints() {
+            return points(false);
+        }
+
+        private String points(boolean created) {
+            long max = Math.max(1, getCreatedTotal());
+            max = Math.max(max, getCompletedTotal());
+            int last = Math.max(1, days.size() - 1);
+            StringBuilder points = new StringBuilder();
+            for (int i = 0; i < days.size(); i++) {
+                TrendDay day = days.get(i);
+                long value = created ? day.cumulativeCreated() : day.cumulativeCompleted();
+                long x = Math.round((double) i * CHART_WIDTH / last);
+                long y = CHART_HEIGHT - Math.round((double) value * CHART_HEIGHT / max);
+                if (i > 0) {
+                    points.append(' ');
+                }
+                points.append(x).append(',').append(y);
+            }
+            return points.toString();
+        }
+
+        /**
+         * 所要時間を「3日4時間」のような表記に変換
+         *
+         * @param seconds 秒
+         * @return 表記
+         */
+        public static String formatDuration(long seconds) {
+            if (seconds < 60) {
+                return seconds + "秒";
+            }
+            if (seconds < 3600) {
+                return (seconds / 60) + "分";
+            }
+            if (seconds < 86400) {
+                long minutes = seconds / 60 % 60;
+                return (seconds / 3600) + "時間" + (minutes > 0 ? minutes + "分" : "");
+            }
+            long hours = seconds / 3600 % 24;
+            return (seconds / 86400) + "日" + (hours > 0 ? hours + "時間" : "");
+        }
+    }
+}
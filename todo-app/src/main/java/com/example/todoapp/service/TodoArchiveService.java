@@ -0,0 +1,117 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.repository.ArchivedTodoRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ToDoアーカイブサービスクラス
+ * 完了から一定期間が経過したToDoを todos から todos_archive へ移動し、
+ * todos を進行中の作業に見合った大きさに保つ
+ *
+ * <p>ロック時間とUNDO量を抑えるため、小さなバッチごとに別トランザクションで移動する。</p>
+ *
+ * <p>移動したToDoのユーザーは同じトランザクションで変更シーケンス番号を進める。アーカイブ済みのToDoを含まない
+ * 集計のキャッシュ（{@link TodoCalendarService}）は変更シーケンス番号で有効性を判定するため、どのノードのキャッシュも
+ * 次の参照時に再計算される。</p>
+ *
+ * <p>ToDoの更新（{@link TodoSyncService}）と同じく、ユーザーの行を先にロックしてからToDoの行をロックする。
+ * 対象のToDoをロックなしで調べ、そのユーザーの変更シーケンス番号をID順に進めてから、ToDoを行ロック付きで取り直して移動する
+ * （その間に未完了へ戻されたToDoは移動しない）。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class TodoArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoArchiveService.class);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${app.archive.completed-retention-days:90}")
+    private int completedRetentionDays = 90;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * 完了から保持期間を過ぎたToDoをアーカイブ（定期実行）
+     *
+     * @return アーカイブ件数
+     */
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}")
+    public int archiveCompletedTodos() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(completedRetentionDays).atStartOfDay();
+
+        int archived = shardRouter.callOnEachShard(() -> archiveBefore(cutoff))
+                .values().stream().mapToInt(Integer::intValue).sum();
+
+        logger.info("完了済みToDoをアーカイブしました: {}件 (完了日時の基準: {})", archived, cutoff);
+        return archived;
+    }
+
+    /**
+     * 基準日時より前に完了したToDoをバッチごとにアーカイブ
+     *
+     * @param cutoff 基準日時
+     * @return アーカイブ件数
+     */
+    int archiveBefore(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Batch batch = transactionTemplate.execute(status -> {
+                List<Long> candidates = todoRepository.findArchivableTodoIds(cutoff, PageRequest.of(0, batchSize));
+                if (candidates.isEmpty()) {
+                    return new Batch(0, 0);
+                }
+                // TodoService と同じく users → todos の順にロックする（ユーザーはID順）
+                todoRepository.findUserIdsByIdIn(candidates).forEach(userRepository::incrementChangeSeq);
+                List<Long> ids = todoRepository.findArchivableTodoIdsForUpdate(candidates, cutoff);
+                if (!ids.isEmpty()) {
+                    archivedTodoRepository.copyFromTodos(ids);
+                    todoRepository.deleteByIdIn(ids);
+                }
+                return new Batch(candidates.size(), ids.size());
+            });
+            if (batch == null) {
+                return total;
+            }
+            total += batch.archived();
+            if (batch.found() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 1バッチの結果（ロックなしで見つかった件数と、実際に移動した件数）
+     */
+    private record Batch(int found, int archived) {
+    }
+}
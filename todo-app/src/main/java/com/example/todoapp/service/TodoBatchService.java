@@ -0,0 +1,280 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ToDo一括操作サービスクラス
+ * 複数のToDo操作（作成・更新・完了切り替え・削除）を1トランザクションで順に実行する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class TodoBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoBatchService.class);
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_ROLLED_BACK = "ROLLED_BACK";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.batch.max-operations:100}")
+    private int maxOperations = 100;
+
+    /**
+     * 一括操作を実行
+     * atomic=trueの場合は1件でも失敗すれば全体をロールバックし、
+     * atomic=falseの場合は失敗した操作のみをスキップして残りをコミットする
+     *
+     * @param request 一括操作リクエスト
+     * @param user ユーザー
+     * @return 操作ごとの実行結果
+     * @throws IllegalArgumentException 操作が空または上限を超える場合
+     */
+    public BatchResult execute(BatchRequest request, User user) {
+        List<Operation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("操作が指定されていません");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("一度に実行できる操作は" + maxOperations + "件までです");
+        }
+
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        Boolean committed = transactionTemplate.execute(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                Operation operation = operations.get(i);
+                OperationResult result;
+                try {
+                    result = apply(i, operation, user);
+                } catch (RuntimeException e) {
+                    // 想定外の例外後はトランザクションを継続できないため全体を中止
+                    logger.warn("一括操作の実行中にエラーが発生しました: index={}", i, e);
+                    result = OperationResult.failed(i, operation.getOp(), "操作の実行中にエラーが発生しました");
+                    results.add(result);
+                    abort(results, operations, i + 1);
+                    status.setRollbackOnly();
+                    return false;
+                }
+                results.add(result);
+
+                if (request.isAtomic() && !STATUS_OK.equals(result.getStatus())) {
+                    abort(results, operations, i + 1);
+                    status.setRollbackOnly();
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        return new BatchResult(request.isAtomic(), Boolean.TRUE.equals(committed), results);
+    }
+
+    /**
+     * 1件の操作を適用
+     * 業務エラー（存在しないID・入力不正）は例外を投げずに失敗結果として返し、
+     * 実行中のトランザクションをロールバック対象にしない
+     */
+    private OperationResult apply(int index, Operation operation, User user) {
+        String op = operation.getOp() != null ? operation.getOp().toLowerCase() : "";
+        switch (op) {
+            case "create": {
+                Todo todo = new Todo(operation.getTitle(), operation.getDescription(), operation.getDueDate(), user);
+                String error = validate(todo);
+                if (error != null) {
+                    return OperationResult.failed(index, op, error);
+                }
+                Todo created = todoService.createTodo(todo, user);
+                return OperationResult.ok(index, op, created);
+            }
+            case "update": {
+                Optional<Todo> existing = findTodo(operation, user);
+                if (existing.isEmpty()) {
+                    return OperationResult.failed(index, op, "ToDoが見つかりません: " + operation.getId());
+                }
+                // 管理対象エンティティを変更する前に検証する（不正な値がフラッシュされないように）
+                String error = validate(new Todo(operation.getTitle(), operation.getDescription(), operation.getDueDate(), user));
+                if (error != null) {
+                    return OperationResult.failed(index, op, error);
+                }
+                Todo todo = existing.get();
+                todo.setTitle(operation.getTitle());
+                todo.setDescription(operation.getDescription());
+                todo.setDueDate(operation.getDueDate());
+                return OperationResult.ok(index, op, todoService.updateTodo(todo));
+            }
+            case "toggle": {
+                Optional<Todo> existing = findTodo(operation, user);
+                if (existing.isEmpty()) {
+                    return OperationResult.failed(index, op, "ToDoが見つかりません: " + operation.getId());
+                }
+                Todo todo = existing.get();
+                todo.setCompleted(!todo.isCompleted());
+                return OperationResult.ok(index, op, todoService.updateTodo(todo));
+            }
+            case "delete": {
+                if (findTodo(operation, user).isEmpty()) {
+                    return OperationResult.failed(index, op, "ToDoが見つかりません: " + operation.getId());
+                }
+                todoService.deleteTodo(operation.getId(), user);
+                OperationResult result = new OperationResult(index, op, STATUS_OK);
+                result.id = operation.getId();
+                return result;
+            }
+            default:
+                return OperationResult.failed(index, operation.getOp(), "不明な操作です: " + operation.getOp());
+        }
+    }
+
+    private Optional<Todo> findTodo(Operation operation, User user) {
+        if (operation.getId() == null) {
+            return Optional.empty();
+        }
+        return todoService.findByIdAndUser(operation.getId(), user);
+    }
+
+    private String validate(Todo todo) {
+        Set<ConstraintViolation<Todo>> violations = validator.validate(todo);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!todoService.isValidDueDate(todo.getDueDate())) {
+            return "期限日は今日以降の日付を設定してください。";
+        }
+        return null;
+    }
+
+    /**
+     * 中止時に実行済みの成功結果をロールバック済みに変更し、未実行の操作をスキップ扱いにする
+     */
+    private void abort(List<OperationResult> results, List<Operation> operations, int nextIndex) {
+        for (OperationResult result : results) {
+            if (STATUS_OK.equals(result.getStatus())) {
+                result.status = STATUS_ROLLED_BACK;
+            }
+        }
+        for (int i = nextIndex; i < operations.size(); i++) {
+            results.add(new OperationResult(i, operations.get(i).getOp(), STATUS_SKIPPED));
+        }
+    }
+
+    /**
+     * 一括操作リクエストクラス
+     */
+    public static class BatchRequest {
+        private boolean atomic = true;
+        private List<Operation> operations = new ArrayList<>();
+
+        public boolean isAtomic() { return atomic; }
+        public void setAtomic(boolean atomic) { this.atomic = atomic; }
+        public List<Operation> getOperations() { return operations; }
+        public void setOperations(List<Operation> operations) { this.operations = operations; }
+    }
+
+    /**
+     * 一括操作の1件分（op: create / update / toggle / delete）
+     */
+    public static class Operation {
+        private String op;
+        private Long id;
+        private String title;
+        private String description;
+        private LocalDate dueDate;
+
+        public String getOp() { return op; }
+        public void setOp(String op) { this.op = op; }
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public LocalDate getDueDate() { return dueDate; }
+        public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
+    }
+
+    /**
+     * 一括操作の実行結果クラス
+     */
+    public static class BatchResult {
+        private final boolean atomic;
+        private final boolean committed;
+        private final List<OperationResult> results;
+
+        public BatchResult(boolean atomic, boolean committed, List<OperationResult> results) {
+            this.atomic = atomic;
+            this.committed = committed;
+            this.results = results;
+        }
+
+        public boolean isAtomic() { return atomic; }
+        public boolean isCommitted() { return committed; }
+        public List<OperationResult> getResults() { return results; }
+    }
+
+    /**
+     * 操作1件分の実行結果クラス
+     */
+    public static class OperationResult {
+        private final int index;
+        private final String op;
+        private String status;
+        private Long id;
+        private Boolean completed;
+        private Long changeSeq;
+        private String error;
+
+        public OperationResult(int index, String op, String status) {
+            this.index = index;
+            this.op = op;
+            this.status = status;
+        }
+
+        static OperationResult ok(int index, String op, Todo todo) {
+            OperationResult result = new OperationResult(index, op, STATUS_OK);
+            result.id = todo.getId();
+            result.completed = todo.isCompleted();
+            result.changeSeq = todo.getChangeSeq();
+            return result;
+        }
+
+        static OperationResult failed(int index, String op, String error) {
+            OperationResult result = new OperationResult(index, op, STATUS_FAILED);
+            result.error = error;
+            return result;
+        }
+
+        public int getIndex() { return index; }
+        public String getOp() { return op; }
+        public String getStatus() { return status; }
+        public Long getId() { return id; }
+        public Boolean getCompleted() { return completed; }
+        public Long getChangeSeq() { return changeSeq; }
+        public String getError() { return error; }
+    }
+}
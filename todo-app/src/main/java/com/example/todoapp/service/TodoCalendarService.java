@@ -0,0 +1,313 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ToDoカレンダーサービスクラス
+ * 月ごとの日別ToDo数（未完了・完了）を期限日での集計クエリ（1か月につき1回）で取得し、ユーザー・月単位でキャッシュする
+ *
+ * <p>キャッシュは {@link TodoService} の作成・更新・削除のコミット後に、変更前後の期限日が属する月のみ破棄する。
+ * ユーザーのキャッシュには変更シーケンス番号（users.change_seq）を記録し、参照時にデータベースの値と照合する。
+ * 他ノードなどでの変更で番号が進んでいる場合は、そのユーザーのキャッシュを全て破棄する（{@link DueDateIndexService} と同じ方式）。</p>
+ *
+ * <p>アーカイブ済みのToDo（todos_archive）は集計に含めない。アーカイブ（{@link TodoArchiveService}）も変更シーケンス番号を進めるため、
+ * 移動したToDoのユーザーのキャッシュは次の参照時に破棄される。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class TodoCalendarService {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.calendar.max-cached-users:10000}")
+    private int maxCachedUsers = 10000;
+
+    @Value("${app.calendar.max-months-per-user:6}")
+    private int maxMonthsPerUser = 6;
+
+    @Value("${app.calendar.max-page-size:50}")
+    private int maxPageSize = 50;
+
+    /**
+     * ユーザーID → 月ごとのキャッシュ（アクセス順。上限を超えると最も長く参照されていないユーザーから破棄）
+     */
+    private final Map<Long, UserMonths> caches = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserMonths> eldest) {
+            return size() > maxCachedUsers;
+        }
+    };
+
+    /**
+     * 月のカレンダーを取得
+     *
+     * @param user ユーザー
+     * @param month 年月
+     * @return カレンダー
+     */
+    public CalendarMonth getMonth(User user, YearMonth month) {
+        Long userId = user.getId();
+        // 変更シーケンス番号を先に読むことで、キャッシュする集計結果が記録する番号より古くならないようにする
+        long changeSeq = userRepository.findChangeSeqById(userId);
+        synchronized (caches) {
+            UserMonths cache = caches.get(userId);
+            if (cache != null && cache.changeSeq == changeSeq) {
+                Map<LocalDate, DayCount> days = cache.months.get(month);
+                if (days != null) {
+                    return new CalendarMonth(month, days);
+                }
+            }
+        }
+
+        Map<LocalDate, DayCount> days = new HashMap<>();
+        for (Object[] row : todoRepository.countByDueDateBetween(user, month.atDay(1), month.atEndOfMonth())) {
+            long count = ((Number) row[1]).longValue();
+            long completed = ((Number) row[2]).longValue();
+            days.put((LocalDate) row[0], new DayCount(count - completed, completed));
+        }
+        days = Collections.unmodifiableMap(days);
+
+        synchronized (caches) {
+            UserMonths cache = caches.get(userId);
+            if (cache == null || cache.changeSeq < changeSeq) {
+                cache = new UserMonths(changeSeq, maxMonthsPerUser);
+                caches.put(userId, cache);
+            }
+            if (cache.changeSeq == changeSeq) {
+                cache.months.put(month, days);
+            }
+        }
+        return new CalendarMonth(month, days);
+    }
+
+    /**
+     * 期限日が指定日のToDoをID順に取得（キーセットページング）
+     *
+     * @param user ユーザー
+     * @param date 期限日
+     * @param after 前のページの最後のToDoID（先頭ページはnull）
+     * @param size ページサイズ
+     * @return ToDoのページ
+     */
+    public DayPage findDayTodos(User user, LocalDate date, Long after, int size) {
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        List<Todo> todos = todoRepository.findByUserAndDueDateAndIdGreaterThanOrderByIdAsc(
+                user, date, after != null ? after : 0L, PageRequest.of(0, limit + 1));
+        boolean hasNext = todos.size() > limit;
+        List<Todo> content = hasNext ? todos.subList(0, limit) : todos;
+        return new DayPage(date, content, hasNext ? content.get(limit - 1).getId() : null);
+    }
+
+    /**
+     * ToDoの作成・更新をキャッシュに反映（トランザクション内ではコミット後に反映）
+     * 変更前（読み込み時）と変更後の期限日の月を破棄する
+     *
+     * @param todo 保存したToDo（変更シーケンス番号を設定済み）
+     */
+    public void onSaved(Todo todo) {
+        afterCommit(todo.getUser().getId(), todo.getChangeSeq(), touchedMonths(todo));
+    }
+
+    /**
+     * ToDoの削除をキャッシュに反映（トランザクション内ではコミット後に反映）
+     *
+     * @param todo 削除したToDo
+     * @param changeSeq 削除に割り当てた変更シーケンス番号
+     */
+    public void onDeleted(Todo todo, long changeSeq) {
+        afterCommit(todo.getUser().getId(), changeSeq, touchedMonths(todo));
+    }
+
+    private static Set<YearMonth> touchedMonths(Todo todo) {
+        Set<YearMonth> months = new HashSet<>(2);
+        if (todo.getDueDate() != null) {
+            months.add(YearMonth.from(todo.getDueDate()));
+        }
+        if (todo.isLoaded() && todo.getLoadedDueDate() != null) {
+            months.add(YearMonth.from(todo.getLoadedDueDate()));
+        }
+        return months;
+    }
+
+    private void afterCommit(Long userId, long changeSeq, Set<YearMonth> months) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId, changeSeq, months);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId, changeSeq, months);
+            }
+        });
+    }
+
+    /**
+     * 変更した月のキャッシュを破棄
+     * キャッシュの番号が直前の番号でない場合（他ノードでの変更を含む）はユーザーのキャッシュを全て破棄する
+     */
+    private void evict(Long userId, long changeSeq, Set<YearMonth> months) {
+        synchronized (caches) {
+            UserMonths cache = caches.get(userId);
+            if (cache == null) {
+                return;
+            }
+            if (cache.changeSeq != changeSeq - 1) {
+                caches.remove(userId);
+                return;
+            }
+            cache.changeSeq = changeSeq;
+            cache.months.keySet().removeAll(months);
+        }
+    }
+
+    /**
+     * ユーザー1人分の月ごとのキャッシュ（cachesのロック内で参照・変更する）
+     */
+    private static final class UserMonths {
+
+        private long changeSeq;
+        private final Map<YearMonth, Map<LocalDate, DayCount>> months;
+
+        UserMonths(long changeSeq, int maxMonths) {
+            this.changeSeq = changeSeq;
+            this.months = new LinkedHashMap<>(8, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, Map<LocalDate, DayCount>> eldest) {
+                    return size() > maxMonths;
+                }
+            };
+        }
+    }
+
+    /**
+     * 1日分のToDo数
+     *
+     * @param open 未完了数
+     * @param completed 完了数
+     */
+    public record DayCount(long open, long completed) {
+
+        static final DayCount NONE = new DayCount(0, 0);
+
+        public long total() {
+            return open + completed;
+        }
+    }
+
+    /**
+     * カレンダーの1日分（表示用）
+     *
+     * @param date 日付
+     * @param count ToDo数
+     */
+    public record CalendarDay(LocalDate date, DayCount count) {
+    }
+
+    /**
+     * 1か月分のカレンダー
+     */
+    public static class CalendarMonth {
+        private final YearMonth month;
+        private final Map<LocalDate, DayCount> days;
+
+        public CalendarMonth(YearMonth month, Map<LocalDate, DayCount> days) {
+            this.month = month;
+            this.days = days;
+        }
+
+        public YearMonth getMonth() { return month; }
+
+        /**
+         * 日付のToDo数（ToDoがない日は0件）
+         */
+        public DayCount countOf(LocalDate date) {
+            return days.getOrDefault(date, DayCount.NONE);
+        }
+
+        public long getOpenCount() {
+            return days.values().stream().mapToLong(DayCount::open).sum();
+        }
+
+        public long getCompletedCount() {
+            return days.values().stream().mapToLong(DayCount::completed).sum();
+        }
+
+        /**
+         * 週（月曜始まり）ごとの日付の並び。月の範囲外の日はnull
+         */
+        public List<List<CalendarDay>> getWeeks() {
+            List<List<CalendarDay>> weeks = new ArrayList<>();
+            List<CalendarDay> week = new ArrayList<>(Collections.nCopies(month.atDay(1).getDayOfWeek().getValue() - 1, null));
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                LocalDate date = month.atDay(day);
+                week.add(new CalendarDay(date, countOf(date)));
+                if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    weeks.add(week);
+                    week = new ArrayList<>(7);
+                }
+            }
+            if (!week.isEmpty()) {
+                while (week.size() < 7) {
+                    week.add(null);
+                }
+                weeks.add(week);
+            }
+            return weeks;
+        }
+    }
+
+    /**
+     * 1日分のToDoのページ（キーセットページング）
+     */
+    public static class DayPage {
+        private final LocalDate date;
+        private final List<Todo> content;
+        private final Long nextAfter;
+
+        public DayPage(LocalDate date, List<Todo> content, Long nextAfter) {
+            this.date = date;
+            this.content = content;
+            this.nextAfter = nextAfter;
+        }
+
+        public LocalDate getDate() { return date; }
+        public List<Todo> getContent() { return content; }
+
+        /**
+         * 次のページの取得に指定するToDoID（次のページがない場合はnull）
+         */
+        public Long getNextAfter() { return nextAfter; }
+
+        public boolean hasNext() { return nextAfter != null; }
+    }
+}
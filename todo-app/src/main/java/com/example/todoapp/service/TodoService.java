@@ -2,14 +2,21 @@ package com.example.todoapp.service;
 
 import com.example.todoapp.entity.Todo;
 import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.ArchivedTodoRepository;
 import com.example.todoapp.repository.TodoRepository;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +34,21 @@ public class TodoService {
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private TodoSyncService todoSyncService;
+
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Autowired
+    private DueDateIndexService dueDateIndexService;
+
+    @Autowired
+    private TodoCalendarService todoCalendarService;
+
+    @Autowired
+    private TodoAnalyticsService todoAnalyticsService;
+
     /**
      * 新しいToDoを作成
      *
@@ -37,7 +59,8 @@ public class TodoService {
     public Todo createTodo(Todo todo, User user) {
         todo.setUser(user);
         todo.setCompleted(false);
-        return todoRepository.save(todo);
+        todoSyncService.stamp(todo);
+        return saved(todoRepository.save(todo));
     }
 
     /**
@@ -47,7 +70,8 @@ public class TodoService {
      * @return 更新されたToDo
      */
     public Todo updateTodo(Todo todo) {
-        return todoRepository.save(todo);
+        todoSyncService.stamp(todo);
+        return saved(todoRepository.save(todo));
     }
 
     /**
@@ -60,7 +84,11 @@ public class TodoService {
     public void deleteTodo(Long todoId, User user) {
         Todo todo = todoRepository.findByIdAndUser(todoId, user)
                 .orElseThrow(() -> new IllegalArgumentException("ToDoが見つかりません: " + todoId));
+        long changeSeq = todoSyncService.recordDeletion(todo);
         todoRepository.delete(todo);
+        dueDateIndexService.onDeleted(todo, changeSeq);
+        todoCalendarService.onDeleted(todo, changeSeq);
+        todoAnalyticsService.onDeleted(todo);
     }
 
     /**
@@ -97,7 +125,43 @@ public class TodoService {
      */
     @Transactional(readOnly = true)
     public Page<Todo> findByUserAndCompleted(User user, boolean completed, Pageable pageable) {
-        return todoRepository.findByUserAndCompleted(user, completed, pageable);
+        return findByUserAndCompleted(user, completed, pageable, false);
+    }
+
+    /**
+     * ユーザーのToDoを完了状態で絞り込んでページング付きで取得
+     * 完了済みを取得する場合は、アーカイブ済みのToDoも含めることができる
+     *
+     * <p>アーカイブを含める場合は、両テーブルから先頭ページ分ずつ取得して指定の並び順で結合する。
+     * アーカイブ済みのToDoは表示専用（{@link Todo#isArchived()}）で、更新できない。</p>
+     *
+     * @param user ユーザー
+     * @param completed 完了状態
+     * @param pageable ページング情報
+     * @param includeArchived アーカイブ済みのToDoを含める場合true
+     * @return ToDoページ
+     */
+    @Transactional(readOnly = true)
+    public Page<Todo> findByUserAndCompleted(User user, boolean completed, Pageable pageable, boolean includeArchived) {
+        if (!completed || !includeArchived) {
+            return todoRepository.findByUserAndCompleted(user, completed, pageable);
+        }
+
+        int window = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        Pageable head = PageRequest.of(0, window, pageable.getSort());
+        Page<Todo> active = todoRepository.findByUserAndCompleted(user, true, head);
+        Page<Todo> archived = archivedTodoRepository.findByUserId(user.getId(), head)
+                .map(archivedTodo -> archivedTodo.toTodo(user));
+
+        List<Todo> merged = new ArrayList<>(active.getContent());
+        merged.addAll(archived.getContent());
+        merged.sort(comparatorOf(pageable.getSort()));
+
+        List<Todo> content = merged.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, active.getTotalElements() + archived.getTotalElements());
     }
 
     /**
@@ -146,7 +210,7 @@ public class TodoService {
      */
     @Transactional(readOnly = true)
     public Page<Todo> findOverdueTodos(User user, Pageable pageable) {
-        return todoRepository.findOverdueTodos(user, LocalDate.now(), pageable);
+        return dueDateIndexService.findOverdueTodos(user, LocalDate.now(), pageable);
     }
 
     /**
@@ -157,7 +221,7 @@ public class TodoService {
      */
     @Transactional(readOnly = true)
     public List<Todo> findTodayTodos(User user) {
-        return todoRepository.findTodayTodos(user, LocalDate.now());
+        return dueDateIndexService.findTodayTodos(user, LocalDate.now());
     }
 
     /**
@@ -170,7 +234,7 @@ public class TodoService {
     public List<Todo> findUpcomingTodos(User user) {
         LocalDate today = LocalDate.now();
         LocalDate threeDaysLater = today.plusDays(3);
-        return todoRepository.findUpcomingTodos(user, today.plusDays(1), threeDaysLater);
+        return dueDateIndexService.findUpcomingTodos(user, today.plusDays(1), threeDaysLater);
     }
 
     /**
@@ -186,7 +250,8 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("ToDoが見つかりません: " + todoId));
 
         todo.setCompleted(!todo.isCompleted());
-        return todoRepository.save(todo);
+        todoSyncService.stamp(todo);
+        return saved(todoRepository.save(todo));
     }
 
     /**
@@ -202,7 +267,8 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("ToDoが見つかりません: " + todoId));
 
         todo.markAsCompleted();
-        return todoRepository.save(todo);
+        todoSyncService.stamp(todo);
+        return saved(todoRepository.save(todo));
     }
 
     /**
@@ -218,7 +284,8 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("ToDoが見つかりません: " + todoId));
 
         todo.markAsIncomplete();
-        return todoRepository.save(todo);
+        todoSyncService.stamp(todo);
+        return saved(todoRepository.save(todo));
     }
 
     /**
@@ -229,18 +296,60 @@ public class TodoService {
      */
     @Transactional(readOnly = true)
     public TodoStatistics getTodoStatistics(User user) {
-        try {
-            // 個別のクエリで統計情報を取得（より安全）
-            long totalCount = todoRepository.countByUser(user);
-            long completedCount = todoRepository.countByUserAndCompleted(user, true);
-            long incompleteCount = todoRepository.countByUserAndCompleted(user, false);
-            long overdueCount = todoRepository.countOverdueTodos(user);
-
-            return new TodoStatistics(totalCount, completedCount, incompleteCount, overdueCount);
-        } catch (Exception e) {
-            // エラーが発生した場合はデフォルト値を返す
-            return TodoStatistics.EMPTY;
+        return getTodoStatistics(user, false);
+    }
+
+    /**
+     * ユーザーのToDo統計情報を取得
+     * アーカイブ済みのToDoは完了済みとして総数・完了数に加算できる
+     *
+     * @param user ユーザー
+     * @param includeArchived アーカイブ済みのToDoを含める場合true
+     * @return 統計情報 [総数, 完了数, 未完了数, 期限切れ数]
+     */
+    @Transactional(readOnly = true)
+    public TodoStatistics getTodoStatistics(User user, boolean includeArchived) {
+        // 失敗時はダッシュボード側で前回の値または表示不可として扱う
+        long totalCount = todoRepository.countByUser(user);
+        long completedCount = todoRepository.countByUserAndCompleted(user, true);
+        long incompleteCount = todoRepository.countByUserAndCompleted(user, false);
+        long overdueCount = dueDateIndexService.countOverdueTodos(user, LocalDate.now());
+
+        if (includeArchived) {
+            long archivedCount = archivedTodoRepository.countByUserId(user.getId());
+            totalCount += archivedCount;
+            completedCount += archivedCount;
+        }
+
+        return new TodoStatistics(totalCount, completedCount, incompleteCount, overdueCount);
+    }
+
+    /**
+     * 保存したToDoを期限日索引・カレンダーのキャッシュと日次集計に反映
+     */
+    private Todo saved(Todo todo) {
+        dueDateIndexService.onSaved(todo);
+        todoCalendarService.onSaved(todo);
+        todoAnalyticsService.onSaved(todo);
+        // 同じトランザクション内で再度保存した場合に差分を二重に反映しないよう、保存後の状態を読み込み時の状態とする
+        todo.onLoad();
+        return todo;
+    }
+
+    /**
+     * ソート条件からToDoの比較器を作成（null値は末尾）
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Todo> comparatorOf(Sort sort) {
+        Comparator<Todo> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Comparable> values = Comparator.nullsLast(Comparator.naturalOrder());
+            Comparator<Todo> byProperty = Comparator.comparing(
+                    todo -> (Comparable) new BeanWrapperImpl(todo).getPropertyValue(order.getProperty()),
+                    order.isAscending() ? values : values.reversed());
+            comparator = comparator.thenComparing(byProperty);
         }
+        return comparator;
     }
 
     /**
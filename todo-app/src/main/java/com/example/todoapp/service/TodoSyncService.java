@@ -0,0 +1,253 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.TodoTombstone;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.TodoTombstoneRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ToDo差分同期サービスクラス
+ * ユーザー単位の変更シーケンス番号を払い出し、指定カーソル以降の変更（作成・更新・削除）を返す
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class TodoSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoSyncService.class);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.sync.max-changes:500}")
+    private int maxChanges = 500;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays = 30;
+
+    /**
+     * ToDoに新しい変更シーケンス番号を設定
+     * 作成・更新の保存前に呼び出す
+     *
+     * @param todo ToDo（ユーザー設定済み）
+     */
+    @Transactional
+    public void stamp(Todo todo) {
+        todo.setChangeSeq(nextChangeSeq(todo.getUser().getId()));
+    }
+
+    /**
+     * ToDoの削除記録を作成
+     * ToDoの削除前に呼び出す
+     *
+     * @param todo 削除するToDo
+     * @return 削除に割り当てた変更シーケンス番号
+     */
+    @Transactional
+    public long recordDeletion(Todo todo) {
+        Long userId = todo.getUser().getId();
+        long changeSeq = nextChangeSeq(userId);
+        todoTombstoneRepository.save(new TodoTombstone(userId, todo.getId(), changeSeq, LocalDateTime.now()));
+        return changeSeq;
+    }
+
+    /**
+     * 指定カーソル以降の変更を取得
+     * 作成・更新と削除をシーケンス番号順に統合し、最大件数で打ち切る
+     *
+     * @param user ユーザー
+     * @param since 前回取得時のカーソル（nullの場合は全件）
+     * @param limit 最大件数
+     * @return 変更セット
+     */
+    public ChangeSet getChangesSince(User user, Long since, int limit) {
+        long cursor = since != null ? since : -1L;
+        int size = Math.max(1, Math.min(limit, maxChanges));
+
+        // 圧縮済みの削除記録より古いカーソルは差分では追いつけない
+        if (since != null && since < userRepository.findSyncFloorSeqById(user.getId())) {
+            return ChangeSet.resetRequired(userRepository.findChangeSeqById(user.getId()));
+        }
+
+        Pageable pageable = PageRequest.of(0, size + 1, Sort.by(Sort.Direction.ASC, "changeSeq"));
+        List<Todo> upserts = todoRepository.findByUserAndChangeSeqGreaterThan(user, cursor, pageable);
+        List<TodoTombstone> deletions =
+                todoTombstoneRepository.findByUserIdAndChangeSeqGreaterThan(user.getId(), cursor, pageable);
+
+        List<TodoChange> changes = new ArrayList<>();
+        List<TodoDeletion> deleted = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        long nextCursor = Math.max(cursor, 0L);
+        while (changes.size() + deleted.size() < size && (i < upserts.size() || j < deletions.size())) {
+            boolean takeUpsert = j >= deletions.size() ||
+                    (i < upserts.size() && upserts.get(i).getChangeSeq() <= deletions.get(j).getChangeSeq());
+            if (takeUpsert) {
+                Todo todo = upserts.get(i++);
+                changes.add(new TodoChange(todo));
+                nextCursor = Math.max(nextCursor, todo.getChangeSeq());
+            } else {
+                TodoTombstone tombstone = deletions.get(j++);
+                deleted.add(new TodoDeletion(tombstone));
+                nextCursor = Math.max(nextCursor, tombstone.getChangeSeq());
+            }
+        }
+        boolean hasMore = i < upserts.size() || j < deletions.size();
+
+        return new ChangeSet(nextCursor, false, hasMore, changes, deleted);
+    }
+
+    /**
+     * 保持期間を過ぎた削除記録を圧縮（定期実行）
+     * 削除したシーケンス番号までをユーザーの同期下限として記録する。
+     * シャーディング時はシャードごとに別トランザクションで実行する
+     *
+     * @return 削除件数
+     */
+    @Scheduled(cron = "${app.sync.compaction-cron:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int compactTombstones() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(tombstoneRetentionDays).atStartOfDay();
+
+        int removed = shardRouter.callOnEachShard(() -> transactionTemplate.execute(status -> {
+            for (Object[] row : todoTombstoneRepository.findMaxChangeSeqPerUserDeletedBefore(cutoff)) {
+                userRepository.raiseSyncFloorSeq((Long) row[0], (Long) row[1]);
+            }
+            return todoTombstoneRepository.deleteByDeletedAtBefore(cutoff);
+        })).values().stream().mapToInt(Integer::intValue).sum();
+
+        logger.info("削除記録を圧縮しました: {}件 (保持期限: {})", removed, cutoff);
+        return removed;
+    }
+
+    private long nextChangeSeq(Long userId) {
+        userRepository.incrementChangeSeq(userId);
+        return userRepository.findChangeSeqById(userId);
+    }
+
+    /**
+     * 差分同期の変更セットクラス
+     */
+    public static class ChangeSet {
+        private final long cursor;
+        private final boolean resetRequired;
+        private final boolean hasMore;
+        private final List<TodoChange> changes;
+        private final List<TodoDeletion> deletions;
+
+        public ChangeSet(long cursor, boolean resetRequired, boolean hasMore,
+                         List<TodoChange> changes, List<TodoDeletion> deletions) {
+            this.cursor = cursor;
+            this.resetRequired = resetRequired;
+            this.hasMore = hasMore;
+            this.changes = changes;
+            this.deletions = deletions;
+        }
+
+        /**
+         * 全件再取得が必要な場合の変更セットを作成
+         *
+         * @param cursor 現在のシーケンス番号
+         * @return 変更セット
+         */
+        public static ChangeSet resetRequired(long cursor) {
+            return new ChangeSet(cursor, true, false, Collections.emptyList(), Collections.emptyList());
+        }
+
+        public long getCursor() { return cursor; }
+        public boolean isResetRequired() { return resetRequired; }
+        public boolean isHasMore() { return hasMore; }
+        public List<TodoChange> getChanges() { return changes; }
+        public List<TodoDeletion> getDeletions() { return deletions; }
+    }
+
+    /**
+     * 作成・更新されたToDoの同期表現
+     */
+    public static class TodoChange {
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final LocalDate dueDate;
+        private final boolean completed;
+        private final LocalDateTime completedAt;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final long changeSeq;
+
+        public TodoChange(Todo todo) {
+            this.id = todo.getId();
+            this.title = todo.getTitle();
+            this.description = todo.getDescription();
+            this.dueDate = todo.getDueDate();
+            this.completed = todo.isCompleted();
+            this.completedAt = todo.getCompletedAt();
+            this.createdAt = todo.getCreatedAt();
+            this.updatedAt = todo.getUpdatedAt();
+            this.changeSeq = todo.getChangeSeq();
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public String getDescription() { return description; }
+        public LocalDate getDueDate() { return dueDate; }
+        public boolean isCompleted() { return completed; }
+        public LocalDateTime getCompletedAt() { return completedAt; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+        public long getChangeSeq() { return changeSeq; }
+    }
+
+    /**
+     * 削除されたToDoの同期表現
+     */
+    public static class TodoDeletion {
+        private final Long id;
+        private final long changeSeq;
+        private final LocalDateTime deletedAt;
+
+        public TodoDeletion(TodoTombstone tombstone) {
+            this.id = tombstone.getTodoId();
+            this.changeSeq = tombstone.getChangeSeq();
+            this.deletedAt = tombstone.getDeletedAt();
+        }
+
+        public Long getId() { return id; }
+        public long getChangeSeq() { return changeSeq; }
+        public LocalDateTime getDeletedAt() { return deletedAt; }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.entity.UserDeletionJob;
+import com.example.todoapp.repository.ArchivedTodoRepository;
+import com.example.todoapp.repository.IdempotencyRecordRepository;
+import com.example.todoapp.repository.ShardAssignmentRepository;
+import com.example.todoapp.repository.TodoDailyStatsRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.TodoTombstoneRepository;
+import com.example.todoapp.repository.UserDeletionJobRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ユーザー削除サービスクラス
+ * アカウント削除の要求を受け付けた時点ではユーザーを無効化（enabled=false）するだけとし、
+ * ToDoなどの関連データはバックグラウンドのジョブでチャンクごとに削除する
+ *
+ * <p>ToDoが大量にあるユーザーでも削除がリクエストやロックを長時間占有しないよう、
+ * チャンクごとに別トランザクションでIDを指定した一括DELETEを行う。進捗は user_deletion_jobs に記録され、
+ * 処理中のノードが停止した場合は更新が途絶えたジョブを別のノード（または再起動後）が残りから再開する。</p>
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Service
+public class UserDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDeletionService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDeletionJobRepository userDeletionJobRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private TodoDailyStatsRepository todoDailyStatsRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ShardAssignmentRepository shardAssignmentRepository;
+
+    @Autowired
+    private RememberMeTokenService rememberMeTokenService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${app.user-deletion.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    // 実行中のジョブの更新がこの時間途絶えた場合、処理ノードが停止したとみなして引き継ぐ
+    @Value("${app.user-deletion.lease:5m}")
+    private Duration lease = Duration.ofMinutes(5);
+
+    /**
+     * アカウント削除を受け付け
+     * ユーザーを直ちに無効化し、データ削除ジョブを登録する
+     *
+     * @param userId ユーザーID
+     * @throws IllegalArgumentException ユーザーが見つからない場合
+     */
+    public void requestDeletion(Long userId) {
+        shardRouter.callOnShard(ShardRouter.DIRECTORY_SHARD, () -> transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません: " + userId));
+            user.setEnabled(false);
+            if (!userDeletionJobRepository.existsById(userId)) {
+                userDeletionJobRepository.save(new UserDeletionJob(userId, LocalDateTime.now()));
+            }
+            return null;
+        }));
+        rememberMeTokenService.revokeAll(userId);
+        logger.info("アカウント削除を受け付けました: userId={}", userId);
+    }
+
+    /**
+     * 未完了の削除ジョブを処理（定期実行）
+     * 他ノードが処理中のジョブは実行権を取得できないため飛ばす
+     *
+     * @return 処理したジョブ数
+     */
+    @Scheduled(fixedDelayString = "${app.user-deletion.poll-interval-ms:10000}")
+    public int processPendingJobs() {
+        List<UserDeletionJob> jobs = shardRouter.callOnShard(ShardRouter.DIRECTORY_SHARD,
+                () -> userDeletionJobRepository.findByStatusNotOrderByRequestedAt(UserDeletionJob.Status.COMPLETED));
+
+        int processed = 0;
+        for (UserDeletionJob job : jobs) {
+            Long userId = job.getUserId();
+            if (!claim(userId)) {
+                continue;
+            }
+            try {
+                purge(userId);
+                processed++;
+            } catch (RuntimeException e) {
+                // 実行権は期限切れ後に再取得され、残りのデータから再開する
+                logger.error("ユーザーデータの削除に失敗しました: userId={}", userId, e);
+            }
+        }
+        return processed;
+    }
+
+    private boolean claim(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = onDirectory(() -> userDeletionJobRepository.claim(userId, now, now.minus(lease)));
+        return claimed != null && claimed == 1;
+    }
+
+    /**
+     * ユーザーのデータを削除してジョブを完了にする
+     *
+     * @param userId ユーザーID
+     */
+    void purge(Long userId) {
+        String shard = shardRouter.shardFor(userId);
+
+        long deleted = deleteInChunks(userId, shard,
+                id -> todoRepository.findIdsByUserId(id, PageRequest.of(0, chunkSize)),
+                todoRepository::deleteByIdIn);
+        deleted += deleteInChunks(userId, shard,
+                id -> archivedTodoRepository.findIdsByUserId(id, PageRequest.of(0, chunkSize)),
+                archivedTodoRepository::deleteByIdIn);
+
+        Integer remaining = shardRouter.callOnShard(shard, () -> transactionTemplate.execute(status -> {
+            int rows = todoTombstoneRepository.deleteByUserId(userId)
+                    + todoDailyStatsRepository.deleteByUserId(userId)
+                    + idempotencyRecordRepository.deleteByUserId(userId);
+            if (!ShardRouter.DIRECTORY_SHARD.equals(shard)) {
+                // シャード上のユーザー行の複製
+                rows += userRepository.deleteByIdInBulk(userId);
+            }
+            return rows;
+        }));
+        int remainingRows = remaining != null ? remaining : 0;
+
+        onDirectory(() -> {
+            userRepository.deleteByIdInBulk(userId);
+            shardAssignmentRepository.deleteById(userId);
+            userDeletionJobRepository.findById(userId).ifPresent(job -> {
+                LocalDateTime now = LocalDateTime.now();
+                job.setStatus(UserDeletionJob.Status.COMPLETED);
+                job.setDeletedRows(job.getDeletedRows() + remainingRows);
+                job.setUpdatedAt(now);
+                job.setCompletedAt(now);
+            });
+            return null;
+        });
+        logger.info("ユーザーデータを削除しました: userId={}, shard={}, {}件", userId, shard, deleted + remainingRows);
+    }
+
+    /**
+     * IDの取得と一括削除をチャンクごとに繰り返す
+     * チャンクごとに進捗を記録し、ジョブの実行中であることを示す
+     */
+    private long deleteInChunks(Long userId, String shard, Function<Long, List<Long>> findIds,
+                                Function<List<Long>, Integer> deleteByIds) {
+        long total = 0;
+        while (true) {
+            Integer deleted = shardRouter.callOnShard(shard, () -> transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(userId);
+                return ids.isEmpty() ? 0 : deleteByIds.apply(ids);
+            }));
+            int count = deleted != null ? deleted : 0;
+            if (count > 0) {
+                total += count;
+                onDirectory(() -> userDeletionJobRepository.recordProgress(userId, count, LocalDateTime.now()));
+            }
+            if (count < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    private <T> T onDirectory(Supplier<T> action) {
+        return shardRouter.callOnShard(ShardRouter.DIRECTORY_SHARD, () -> transactionTemplate.execute(status -> action.get()));
+    }
+}
@@ -5,6 +5,7 @@ import com.example.todoapp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -27,6 +28,9 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RememberMeTokenService rememberMeTokenService;
+
     /**
      * 新規ユーザーを登録
      *
@@ -82,6 +86,19 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    /**
+     * ユーザーの参照を取得
+     * データベースへの問い合わせは行わず、IDのみを持つ参照を返す。
+     * 認証済みユーザーをToDoの所有者やクエリの条件としてサービスへ渡す場合に使用する
+     *
+     * @param id ユーザーID
+     * @return ユーザーの参照（ID以外の値にはアクセスしないこと）
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * すべてのユーザーを取得
      *
@@ -115,6 +132,7 @@ public class UserService {
 
     /**
      * ユーザーのパスワードを変更
+     * 発行済みのRemember-Me Cookie・APIリフレッシュトークンはすべて無効になる
      *
      * @param userId ユーザーID
      * @param newPassword 新しいパスワード
@@ -126,11 +144,16 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません: " + userId));
 
         user.setPassword(passwordEncoder.encode(newPassword));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // 発行済みのRemember-Me Cookie・APIリフレッシュトークンを無効化
+        rememberMeTokenService.revokeAll(userId);
+        userRepository.incrementCredentialsVersion(userId);
+        return saved;
     }
 
     /**
      * ユーザーを無効化
+     * 発行済みのRemember-Me Cookieはすべて無効になる
      *
      * @param userId ユーザーID
      * @throws IllegalArgumentException ユーザーが見つからない場合
@@ -141,6 +164,7 @@ public class UserService {
 
         user.setEnabled(false);
         userRepository.save(user);
+        rememberMeTokenService.revokeAll(userId);
     }
 
     /**
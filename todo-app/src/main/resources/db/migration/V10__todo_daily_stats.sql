@@ -0,0 +1,15 @@
+-- ToDoの日次集計（TodoAnalyticsService がユーザー・日付ごとに作成数・完了数・所要時間のスケッチを保持する）
+
+CREATE TABLE todo_daily_stats (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    created_count INTEGER NOT NULL,
+    completed_count INTEGER NOT NULL,
+    completion_sketch BYTEA,
+    CONSTRAINT uk_todo_daily_stats_user_date UNIQUE (user_id, stat_date)
+);
+CREATE INDEX idx_todo_daily_stats_stat_date ON todo_daily_stats (stat_date);
+
+-- 夜間の再計算で期間内に作成されたToDoを持つユーザーを検索する
+CREATE INDEX idx_todos_created_at ON todos (created_at);
@@ -0,0 +1,18 @@
+-- 差分同期（GET /api/todos/changes）
+-- ユーザー単位の変更シーケンス番号と、削除記録（トゥームストーン）
+
+ALTER TABLE users ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN sync_floor_seq BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE todos ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+CREATE INDEX idx_todos_user_change_seq ON todos (user_id, change_seq);
+
+CREATE TABLE todo_tombstones (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    todo_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_todo_tombstones_user_change_seq ON todo_tombstones (user_id, change_seq);
+CREATE INDEX idx_todo_tombstones_deleted_at ON todo_tombstones (deleted_at);
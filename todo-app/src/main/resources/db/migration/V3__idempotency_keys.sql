@@ -0,0 +1,13 @@
+-- 冪等性キー（Idempotency-Key ヘッダー付きのToDo作成・更新の結果）
+
+CREATE TABLE idempotency_keys (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    resource_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
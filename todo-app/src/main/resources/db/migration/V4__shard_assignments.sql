@@ -0,0 +1,12 @@
+-- シャード割り当て（再シャーディングで移動したユーザーの担当シャード）
+-- シャーディングを有効にする場合、V1 以降のマイグレーションはすべてのシャードに適用する。
+-- 追加シャード（shard1, shard2, ...）ではToDoのIDがシャード間で重複しないよう、適用後に採番の開始値を変更する
+-- （シャード名の昇順の位置を n として n * 1000000000000 + 1 から。ShardingConfig を参照）:
+--   ALTER TABLE todos ALTER COLUMN id RESTART WITH 1000000000001;
+
+CREATE TABLE shard_assignments (
+    user_id BIGINT PRIMARY KEY,
+    shard_name VARCHAR(50) NOT NULL,
+    migrating BOOLEAN NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
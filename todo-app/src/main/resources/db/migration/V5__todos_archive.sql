@@ -0,0 +1,19 @@
+-- 完了済みToDoのアーカイブ（TodoArchiveService が todos から移動する）
+-- IDは todos のIDをそのまま引き継ぐため採番しない
+
+CREATE TABLE todos_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date DATE,
+    completed_at TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    change_seq BIGINT NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_todos_archive_user_completed_at ON todos_archive (user_id, completed_at);
+
+-- アーカイブ対象（完了日時が基準日時より前）の検索用
+CREATE INDEX idx_todos_completed_completed_at ON todos (completed, completed_at);
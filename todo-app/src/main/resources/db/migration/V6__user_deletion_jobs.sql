@@ -0,0 +1,11 @@
+-- ユーザー削除ジョブ（退会したユーザーのデータをバックグラウンドで少しずつ削除する UserDeletionService の進捗）
+
+CREATE TABLE user_deletion_jobs (
+    user_id BIGINT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED')),
+    deleted_rows BIGINT NOT NULL,
+    requested_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    completed_at TIMESTAMP(6)
+);
+CREATE INDEX idx_user_deletion_jobs_status ON user_deletion_jobs (status);
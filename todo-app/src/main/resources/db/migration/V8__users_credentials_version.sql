@@ -0,0 +1,3 @@
+-- ユーザーの認証情報のバージョン（パスワード変更時に増やし、発行済みのAPIリフレッシュトークンを無効にする）
+
+ALTER TABLE users ADD COLUMN credentials_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- Remember-Me の永続トークン（シリーズごとに1行。トークンはハッシュ値のみ保存する）
+
+CREATE TABLE remember_me_tokens (
+    series VARCHAR(64) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    rotated_at TIMESTAMP(6) NOT NULL,
+    last_used TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_remember_me_tokens_user_id ON remember_me_tokens (user_id);
+CREATE INDEX idx_remember_me_tokens_last_used ON remember_me_tokens (last_used);
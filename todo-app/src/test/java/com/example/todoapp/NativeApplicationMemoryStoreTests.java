@@ -0,0 +1,27 @@
+package com.example.todoapp;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+
+/**
+ * インメモリストア（memory-store プロファイル）での画面とAPIの統合テスト
+ * {@link NativeApplicationTests} と同じ操作を、ToDoをインメモリストアに保存した状態で実行する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ActiveProfiles({"test", "memory-store"})
+class NativeApplicationMemoryStoreTests extends NativeApplicationTests {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void memoryStoreProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.memory-store.directory", directory::toString);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.todoapp;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ネイティブイメージの統合テスト
+ * 起動したアプリケーションに対してユーザー登録・ログイン・ToDo作成・一覧表示・APIを順に実行し、
+ * Hibernate、Spring Security、Thymeleafテンプレート、セッションに保存する認証情報（CustomUserPrincipal）が
+ * 実行時ヒントの不足なく動作することを確認する
+ * 実行方法: mvn -PnativeTest test（通常のテストでもJVMで実行される）
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class NativeApplicationTests {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern IDEMPOTENCY_KEY = Pattern.compile("name=\"idempotencyKey\"\\s+value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    @Test
+    void 登録からToDo作成までの画面とAPIが動作する() throws Exception {
+        String email = "native-" + UUID.randomUUID() + "@example.com";
+        String title = "ネイティブイメージの確認 " + UUID.randomUUID();
+
+        HttpResponse<String> register = post("/register", Map.of(
+                "name", "ネイティブ",
+                "email", email,
+                "password", "password123",
+                "confirmPassword", "password123",
+                "_csrf", find(CSRF_TOKEN, get("/register").body())));
+        assertThat(register.statusCode()).isEqualTo(302);
+        assertThat(register.headers().firstValue("Location")).hasValueSatisfying(location -> assertThat(location).endsWith("/login"));
+
+        HttpResponse<String> login = post("/login", Map.of(
+                "email", email,
+                "password", "password123",
+                "_csrf", find(CSRF_TOKEN, get("/login").body())));
+        assertThat(login.statusCode()).isEqualTo(302);
+        assertThat(login.headers().firstValue("Location")).hasValueSatisfying(location -> assertThat(location).doesNotContain("error"));
+
+        String form = get("/todos/new").body();
+        HttpResponse<String> create = post("/todos", Map.of(
+                "title", title,
+                "description", "説明",
+                "idempotencyKey", find(IDEMPOTENCY_KEY, form),
+                "_csrf", find(CSRF_TOKEN, form)));
+        assertThat(create.statusCode()).isEqualTo(302);
+
+        HttpResponse<String> list = get("/todos");
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(list.body()).contains(title, "ネイティブ", "ToDoを作成しました。");
+
+        HttpResponse<String> changes = get("/api/todos/changes");
+        assertThat(changes.statusCode()).isEqualTo(200);
+        assertThat(changes.body()).contains(title);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> post(String path, Map<String, String> form) throws IOException, InterruptedException {
+        String body = new LinkedHashMap<>(form).entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return httpClient.send(HttpRequest.newBuilder(uri(path))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String find(Pattern pattern, String html) {
+        Matcher matcher = pattern.matcher(html);
+        assertThat(matcher.find()).as("%s がありません", pattern).isTrue();
+        return matcher.group(1);
+    }
+}
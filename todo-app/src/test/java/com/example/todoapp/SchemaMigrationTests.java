@@ -0,0 +1,57 @@
+package com.example.todoapp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * マイグレーション（db/migration）とエンティティの整合性の統合テスト
+ * H2のPostgreSQL互換モードにすべてのスクリプトをバージョン順に適用し、本番と同じくスキーマの検証のみ
+ * （ddl-auto: validate）で起動できることを確認する。テーブル・カラムの追加漏れがあると起動に失敗する
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.session.jdbc.initialize-schema=never"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTests {
+
+    private static final String URL = "jdbc:h2:mem:migrationdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void migratedDataSource(DynamicPropertyRegistry registry) throws IOException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(SchemaMigrationTests::versionOf));
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        for (Resource script : scripts) {
+            new ResourceDatabasePopulator(script).execute(dataSource);
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    /**
+     * スキーマの検証に失敗した場合はアプリケーションコンテキストの起動に失敗する
+     */
+    @Test
+    void マイグレーションを適用したスキーマでエンティティの検証に成功する() {
+    }
+
+    private static int versionOf(Resource script) {
+        String name = script.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.todoapp.benchmark;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.ApiTokenService;
+import com.example.todoapp.service.CustomUserDetailsService;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * APIリクエストあたりの認証処理のベンチマーク
+ * セッションによる認証（セッションストアからの読み込み）、Remember-Meによる再認証（ユーザーの読み込み）、
+ * アクセストークンの検証（{@link ApiTokenService}）の1リクエストあたりの所要時間を比較する
+ * 実行方法: mvn test -Pbenchmark -Dtest=ApiAuthBenchmarkTest -Dbenchmark.requests=20000
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.api-token.enabled=true",
+        "app.api-token.signing-key=bench",
+        "app.api-token.keys.bench=YmVuY2htYXJrLWtleS1iZW5jaG1hcmsta2V5LWJlbmNobWFyaw=="
+})
+@ActiveProfiles("test")
+class ApiAuthBenchmarkTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private ApiTokenService apiTokenService;
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    private CustomUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        User user = userService.registerUser(
+                new User("bench-" + UUID.randomUUID() + "@example.com", "password123", "ベンチマーク"));
+        principal = (CustomUserPrincipal) customUserDetailsService.loadUserByUsername(user.getEmail());
+        principal.eraseCredentials();
+    }
+
+    @Test
+    void セッション認証とトークン認証の比較() {
+        int requests = Integer.getInteger("benchmark.requests", 20_000);
+        String sessionId = saveSession(sessionRepository);
+        String accessToken = apiTokenService.issue(principal).accessToken();
+
+        Supplier<Object> session = () -> sessionRepository.findById(sessionId)
+                .getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        Supplier<Object> rememberMe = () -> customUserDetailsService.loadUserByUsername(principal.getEmail());
+        Supplier<Object> token = () -> apiTokenService.verifyAccessToken(accessToken).orElseThrow();
+
+        measure(requests, session);
+        measure(requests, rememberMe);
+        measure(requests, token);
+        report(requests, "セッション", measure(requests, session));
+        report(requests, "Remember-Me再認証", measure(requests, rememberMe));
+        report(requests, "アクセストークン", measure(requests, token));
+    }
+
+    private <S extends Session> String saveSession(SessionRepository<S> repository) {
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        S session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+        repository.save(session);
+        return session.getId();
+    }
+
+    private static long measure(int requests, Supplier<Object> authentication) {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            if (authentication.get() == null) {
+                throw new IllegalStateException("認証情報を取得できませんでした");
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void report(int requests, String label, long elapsedNanos) {
+        System.out.printf("[benchmark] %d リクエスト: %s %.1fµs/リクエスト%n",
+                requests, label, elapsedNanos / 1_000.0 / requests);
+    }
+}
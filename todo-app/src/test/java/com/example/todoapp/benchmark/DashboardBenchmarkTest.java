@@ -0,0 +1,123 @@
+package com.example.todoapp.benchmark;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.DashboardService;
+import com.example.todoapp.service.TodoService;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ToDo一覧画面のパネル取得ベンチマーク
+ * 逐次取得とDashboardServiceによる並列取得のレイテンシを、同時アクセス下で比較する
+ * 実行方法: mvn test -Pbenchmark -Dtest=DashboardBenchmarkTest -Dbenchmark.pool-size=10
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=${benchmark.pool-size:10}")
+@ActiveProfiles("test")
+class DashboardBenchmarkTest {
+
+    private static final int TODOS = 2_000;
+    private static final int CONCURRENT_USERS = 32;
+    private static final int REQUESTS_PER_USER = 20;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private UserService userService;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int poolSize;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser(
+                new User("bench-" + UUID.randomUUID() + "@example.com", "password123", "ベンチマーク"));
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < TODOS; i++) {
+            Todo todo = new Todo("ToDo " + i, null, today.plusDays(i % 10), user);
+            todoService.createTodo(todo, user);
+            if (i % 3 == 0) {
+                todoService.toggleCompletion(todo.getId(), user);
+            }
+        }
+    }
+
+    @Test
+    void 逐次取得と並列取得の比較() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Runnable sequential = () -> {
+            todoService.findByUser(user, pageable);
+            todoService.getTodoStatistics(user);
+            todoService.findTodayTodos(user);
+            todoService.findUpcomingTodos(user);
+        };
+        Runnable parallel = () -> dashboardService.assemble(user, () -> todoService.findByUser(user, pageable));
+
+        measure("warmup", sequential);
+        measure("warmup", parallel);
+        report("逐次", measure("逐次", sequential));
+        report("並列", measure("並列", parallel));
+    }
+
+    private List<Long> measure(String label, Runnable pageLoad) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < CONCURRENT_USERS; u++) {
+                futures.add(executor.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_USER; r++) {
+                        long start = System.nanoTime();
+                        pageLoad.run();
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    private void report(String label, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[benchmark] pool=%d, 同時%d: %s p50=%.2fms p95=%.2fms p99=%.2fms%n",
+                poolSize, CONCURRENT_USERS, label,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    private double percentile(List<Long> sorted, double p) {
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
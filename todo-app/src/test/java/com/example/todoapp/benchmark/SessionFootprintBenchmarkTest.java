@@ -0,0 +1,106 @@
+package com.example.todoapp.benchmark;
+
+import com.example.todoapp.config.CompactSessionSerializer;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * セッションに保持される認証情報のメモリ使用量ベンチマーク
+ * ログイン時と同じ手順で作成したSecurityContextを同時セッション数分保持し、1セッションあたりのヒープ使用量と
+ * シリアライズ後のサイズ（Javaシリアライズ、およびセッションの保存に使う {@link CompactSessionSerializer}）を計測する
+ * 実行方法: mvn test -Pbenchmark -Dtest=SessionFootprintBenchmarkTest -Dbenchmark.sessions=100000
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SessionFootprintBenchmarkTest {
+
+    private static final int USERS = 100;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    private final List<String> emails = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = userService.registerUser(
+                    new User("bench-" + UUID.randomUUID() + "@example.com", "password123", "ベンチマーク" + i));
+            emails.add(user.getEmail());
+        }
+    }
+
+    @Test
+    void セッションあたりのメモリ使用量() throws IOException {
+        int sessions = Integer.getInteger("benchmark.sessions", 100_000);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long before = usedHeapAfterGc(memory);
+        SecurityContext[] contexts = new SecurityContext[sessions];
+        for (int i = 0; i < sessions; i++) {
+            contexts[i] = login(emails.get(i % USERS));
+        }
+        long after = usedHeapAfterGc(memory);
+
+        System.out.printf("[benchmark] %d セッション: ヒープ=%.1fMB (%d bytes/セッション), Javaシリアライズ=%s, 保存形式=%d bytes/セッション%n",
+                sessions, (after - before) / 1024.0 / 1024.0, (after - before) / sessions, serializedSize(contexts[0]),
+                new CompactSessionSerializer(getClass().getClassLoader()).serializeToByteArray(contexts[0]).length);
+    }
+
+    /**
+     * 認証成功時と同じ形のSecurityContextを作成
+     * （ProviderManagerは認証後に資格情報を消去する）
+     */
+    private SecurityContext login(String email) {
+        UserDetails principal = customUserDetailsService.loadUserByUsername(email);
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        authentication.eraseCredentials();
+        return new SecurityContextImpl(authentication);
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static String serializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (NotSerializableException e) {
+            return "不可 (" + e.getMessage() + ")";
+        }
+        return bytes.size() + " bytes/セッション";
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.todoapp.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * 起動時間ベンチマーク
+ * mvn package -Pfast-startup で作成した target/cds のjar、mvn package -Pnative で作成したネイティブイメージ（target/todo-app）を
+ * 別プロセスで起動し、起動から最初のリクエスト（/api/health/simple）に応答するまでの時間と、その時点の常駐メモリ（RSS）を計測する
+ * 通常の起動・AOT・AOT＋AppCDS・ネイティブイメージのうち、ビルド済みのものを比較する（データベースはH2のインメモリを使用）
+ * 実行方法: mvn package -Pfast-startup,native -DskipTests && mvn test -Pbenchmark -Dtest=StartupBenchmarkTest -Dbenchmark.runs=5
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final Path CDS_DIRECTORY = Paths.get("target", "cds");
+    private static final Path NATIVE_EXECUTABLE = Paths.get("target", "todo-app");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void 最初のリクエストまでの時間とRSS() throws Exception {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Map<String, List<String>> launchers = new LinkedHashMap<>();
+        Path jar = findApplicationJar();
+        Path archive = CDS_DIRECTORY.resolve("application.jsa");
+        if (jar != null && Files.exists(archive)) {
+            String jarPath = jar.toAbsolutePath().toString();
+            launchers.put("通常", List.of(java, "-jar", jarPath));
+            launchers.put("AOT", List.of(java, "-Dspring.aot.enabled=true", "-jar", jarPath));
+            launchers.put("AOT+AppCDS", List.of(java, "-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-jar", jarPath));
+        }
+        if (Files.isExecutable(NATIVE_EXECUTABLE)) {
+            launchers.put("ネイティブ", List.of(NATIVE_EXECUTABLE.toAbsolutePath().toString()));
+        }
+        assumeFalse(launchers.isEmpty(),
+                "起動対象がありません。先に mvn package -Pfast-startup -DskipTests または -Pnative を実行してください");
+
+        int runs = Integer.getInteger("benchmark.runs", 3);
+        int launcherIndex = 0;
+        for (Map.Entry<String, List<String>> launcher : launchers.entrySet()) {
+            long[] startupMillis = new long[runs];
+            long[] rssKilobytes = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] result = start(launcher.getValue(), launcherIndex + "-" + run);
+                startupMillis[run] = result[0];
+                rssKilobytes[run] = result[1];
+            }
+            System.out.printf("[benchmark] %-10s 最初のリクエストまで: 中央値=%dms 最小=%dms, RSS: 中央値=%.1fMB (%d回)%n",
+                    launcher.getKey(), median(startupMillis), Arrays.stream(startupMillis).min().orElse(0),
+                    median(rssKilobytes) / 1024.0, runs);
+            launcherIndex++;
+        }
+    }
+
+    /**
+     * アプリケーションを起動し、最初のリクエストに応答するまで待機して終了する
+     *
+     * @return 最初のリクエストに応答するまでの時間（ミリ秒）と応答時点のRSS（KB）
+     */
+    private long[] start(List<String> launcher, String logName) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(List.of(
+                "--spring.profiles.active=prod,fast-startup",
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--app.remember-me.key=startup-benchmark",
+                "--app.warmup.budget=0s"));
+        File log = Paths.get("target").resolve("startup-benchmark-" + logName + ".log").toFile();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health/simple"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("アプリケーションが終了しました: " + log);
+                }
+                if (System.nanoTime() - started > STARTUP_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("起動がタイムアウトしました: " + log);
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // 起動中（接続できない）
+                }
+                Thread.sleep(10);
+            }
+            long startupMillis = (System.nanoTime() - started) / 1_000_000;
+            return new long[] {startupMillis, residentSetKilobytes(process.pid())};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static Path findApplicationJar() throws IOException {
+        if (!Files.isDirectory(CDS_DIRECTORY)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(CDS_DIRECTORY)) {
+            return files.filter(file -> file.toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * プロセスの常駐メモリ（/proc/[pid]/status の VmRSS。Linux以外では-1）
+     */
+    private static long residentSetKilobytes(long pid) throws IOException {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.todoapp.benchmark;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 一括操作APIのベンチマーク
+ * N回の個別作成リクエストと、N件を含む1回の一括リクエストの処理時間を比較する
+ * 実行方法: mvn test -Pbenchmark -Dtest=TodoBatchBenchmarkTest
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoBatchBenchmarkTest {
+
+    private static final int OPERATIONS = 50;
+    private static final int ROUNDS = 20;
+    private static final int WARMUP_ROUNDS = 5;
+
+    /**
+     * 想定するモバイル回線の往復遅延（ミリ秒）
+     */
+    private static final long ASSUMED_RTT_MILLIS = 150;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private CustomUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("bench-" + UUID.randomUUID() + "@example.com", "password123", "ベンチマーク");
+        principal = new CustomUserPrincipal(userService.registerUser(user));
+    }
+
+    @Test
+    void 個別リクエストと一括リクエストの比較() throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runSingleRequests();
+            runBatchRequest();
+        }
+
+        long singleNanos = 0;
+        long batchNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            singleNanos += runSingleRequests();
+            batchNanos += runBatchRequest();
+        }
+
+        double singleMillis = singleNanos / 1_000_000.0 / ROUNDS;
+        double batchMillis = batchNanos / 1_000_000.0 / ROUNDS;
+        System.out.printf("[benchmark] %d件作成: 個別=%.2fms, 一括=%.2fms (サーバー処理時間)%n",
+                OPERATIONS, singleMillis, batchMillis);
+        System.out.printf("[benchmark] RTT=%dms想定: 個別=%.0fms, 一括=%.0fms%n",
+                ASSUMED_RTT_MILLIS,
+                singleMillis + OPERATIONS * ASSUMED_RTT_MILLIS,
+                batchMillis + ASSUMED_RTT_MILLIS);
+    }
+
+    private long runSingleRequests() throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            mockMvc.perform(post("/todos")
+                            .with(user(principal))
+                            .with(csrf())
+                            .param("title", "個別ToDo " + i))
+                    .andExpect(status().is3xxRedirection());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runBatchRequest() throws Exception {
+        StringBuilder body = new StringBuilder("{\"atomic\":true,\"operations\":[");
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"op\":\"create\",\"title\":\"一括ToDo ").append(i).append("\"}");
+        }
+        body.append("]}");
+
+        long start = System.nanoTime();
+        mockMvc.perform(post("/api/todos/batch")
+                        .with(user(principal))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isOk());
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.config.AdmissionControlInterceptor.Priority;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdmissionControlInterceptorのテストクラス
+ */
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DatabaseLatencyMonitor monitor = new DatabaseLatencyMonitor(meterRegistry);
+
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(
+            monitor, meterRegistry, true, 64, 1, 100, 100,
+            List.of("/todos/overdue", "/api/todos/changes"), Duration.ofMillis(20), Duration.ofMillis(200));
+
+    @BeforeEach
+    void setUp() {
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "test@example.com", "テストユーザー", true, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void priorityOf_書き込み_通常の読み取り_集計系の読み取りを判別() {
+        assertEquals(Priority.WRITE, interceptor.priorityOf(new MockHttpServletRequest("POST", "/todos/1/toggle")));
+        assertEquals(Priority.READ, interceptor.priorityOf(new MockHttpServletRequest("GET", "/todos")));
+        assertEquals(Priority.LOW, interceptor.priorityOf(new MockHttpServletRequest("GET", "/api/todos/changes")));
+    }
+
+    @Test
+    void shouldShed_遅延に応じて優先度の低いリクエストから拒否() {
+        assertFalse(interceptor.shouldShed(Priority.LOW, 10));
+        assertTrue(interceptor.shouldShed(Priority.LOW, 200));
+        assertFalse(interceptor.shouldShed(Priority.READ, 200));
+        assertTrue(interceptor.shouldShed(Priority.READ, 400));
+        assertFalse(interceptor.shouldShed(Priority.WRITE, 10_000));
+    }
+
+    @Test
+    void preHandle_同時実行数を超えると429を返し完了後は受け付ける() {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/todos");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest("GET", "/todos"), rejected, null));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void preHandle_過負荷時は読み取りを503で拒否し書き込みは受け付ける() {
+        for (int i = 0; i < 20; i++) {
+            monitor.record(1_000);
+        }
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/todos/changes"), shed, null));
+        assertEquals(503, shed.getStatus());
+        assertNotNull(shed.getHeader("Retry-After"));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("POST", "/todos"), new MockHttpServletResponse(), null));
+        assertEquals(1.0, meterRegistry.get("app.admission.rejected").tag("reason", "shed").counter().count());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactSessionSerializerのテストクラス
+ */
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+
+    @Test
+    void serialize_ログイン時の認証情報を固定形式で復元() throws Exception {
+        SecurityContext context = loginContext();
+
+        byte[] bytes = serializer.serializeToByteArray(context);
+        SecurityContext restored = (SecurityContext) serializer.deserializeFromByteArray(bytes);
+
+        assertEquals(1, bytes[0]);
+        assertTrue(bytes.length < new DefaultSerializer().serializeToByteArray(context).length / 5);
+        assertEquals(context.getAuthentication(), restored.getAuthentication());
+        CustomUserPrincipal principal = (CustomUserPrincipal) restored.getAuthentication().getPrincipal();
+        assertEquals(1L, principal.getUserId());
+        assertEquals("テストユーザー", principal.getName());
+        assertEquals("test@example.com", principal.getUsername());
+    }
+
+    @Test
+    void serialize_CSRFトークンを復元() throws Exception {
+        DefaultCsrfToken token = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token-value");
+
+        DefaultCsrfToken restored = (DefaultCsrfToken) serializer.deserializeFromByteArray(
+                serializer.serializeToByteArray(token));
+
+        assertEquals("X-CSRF-TOKEN", restored.getHeaderName());
+        assertEquals("_csrf", restored.getParameterName());
+        assertEquals("token-value", restored.getToken());
+    }
+
+    @Test
+    void serialize_その他の認証方式はJavaシリアライズ() throws Exception {
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "test@example.com", "テストユーザー", true, null);
+        SecurityContext context = new SecurityContextImpl(
+                new RememberMeAuthenticationToken("key", principal, principal.getAuthorities()));
+
+        byte[] bytes = serializer.serializeToByteArray(context);
+        SecurityContext restored = (SecurityContext) serializer.deserializeFromByteArray(bytes);
+
+        assertNotEquals(1, bytes[0]);
+        assertInstanceOf(RememberMeAuthenticationToken.class, restored.getAuthentication());
+        assertEquals(principal, restored.getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void serialize_大きな属性は圧縮し従来形式も読み込める() throws Exception {
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            large.add("value-" + i);
+        }
+
+        byte[] compressed = serializer.serializeToByteArray(large);
+        byte[] legacy = new DefaultSerializer().serializeToByteArray(large);
+
+        assertTrue(compressed.length < legacy.length);
+        assertEquals(large, serializer.deserializeFromByteArray(compressed));
+        assertEquals(large, serializer.deserializeFromByteArray(legacy));
+    }
+
+    private static SecurityContext loginContext() {
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "test@example.com", "テストユーザー", true, "hash");
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, "password", principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetails("127.0.0.1", "session-id"));
+        authentication.eraseCredentials();
+        return new SecurityContextImpl(authentication);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConnectionPoolHealthIndicatorのテストクラス
+ */
+class ConnectionPoolHealthIndicatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DatabaseLatencyMonitor monitor = new DatabaseLatencyMonitor(meterRegistry);
+
+    private final ConnectionPoolHealthIndicator indicator =
+            new ConnectionPoolHealthIndicator(meterRegistry, monitor, 5, Duration.ofMillis(250));
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    ConnectionPoolHealthIndicatorTest() {
+        registerGauge("hikaricp.connections.active", new AtomicInteger(10));
+        registerGauge("hikaricp.connections.max", new AtomicInteger(10));
+        registerGauge("hikaricp.connections.pending", pending);
+    }
+
+    @Test
+    void health_接続待ちが上限以下ならUP() {
+        pending.set(5);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertNotNull(health.getDetails().get("pools"));
+    }
+
+    @Test
+    void health_接続待ちが上限を超えるとOUT_OF_SERVICE() {
+        pending.set(6);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    @Test
+    void health_取得待ち時間が上限を超えるとOUT_OF_SERVICE() {
+        for (int i = 0; i < 20; i++) {
+            monitor.record(1_000);
+        }
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    private void registerGauge(String name, AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get).tag("pool", "HikariPool-1").register(meterRegistry);
+    }
+}
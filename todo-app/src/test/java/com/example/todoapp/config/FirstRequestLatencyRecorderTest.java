@@ -0,0 +1,32 @@
+package com.example.todoapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FirstRequestLatencyRecorderのテストクラス
+ */
+class FirstRequestLatencyRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FirstRequestLatencyRecorder recorder = new FirstRequestLatencyRecorder(meterRegistry, 3, true);
+
+    @Test
+    void afterCompletion_最初のN件のみ記録() {
+        assertEquals("記録なし", recorder.summary());
+
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+            recorder.preHandle(request, new MockHttpServletResponse(), null);
+            recorder.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        }
+
+        assertEquals(3, meterRegistry.get("app.warmup.first-requests").tag("warmup", "enabled").timer().count());
+        assertTrue(recorder.summary().startsWith("p50="), recorder.summary());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.web.servlet.FlashMap;
+import org.thymeleaf.expression.Temporals;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NativeRuntimeHintsのテストクラス
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_サブディレクトリのテンプレートを含める() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("templates/todo/list.html").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("templates/auth/login.html").test(hints));
+    }
+
+    @Test
+    void registerHints_テンプレートの式から参照するメソッドを登録() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Todo.class.getMethod("isOverdue")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CustomUserPrincipal.class.getMethod("getName")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Temporals.class).test(hints));
+    }
+
+    @Test
+    void registerHints_セッションに保存する型をシリアライズ可能にする() {
+        assertTrue(RuntimeHintsPredicates.serialization().onType(CustomUserPrincipal.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.serialization().onType(RememberMeAuthenticationToken.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.serialization().onType(FlashMap.class).test(hints));
+    }
+
+    @Test
+    void registerHints_ウォームアップで使うリフレクションとプロキシを登録() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(TodoRepository.class.getMethod("findByIdAndUser", Long.class, User.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(HttpServletRequest.class).test(hints));
+    }
+}
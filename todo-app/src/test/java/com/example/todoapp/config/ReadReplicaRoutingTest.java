@@ -0,0 +1,173 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.DashboardService;
+import com.example.todoapp.service.TodoService;
+import com.example.todoapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 読み取り/書き込みルーティングの結合テスト
+ * 2つのH2インメモリDBをプライマリ・レプリカに見立て、レプリカへはスキーマのみを複製する
+ * （レプリカにデータがないことで、どちらに接続したかを判別する）
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.read-your-writes-window=1h"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        copySchemaToReplica();
+        user = userService.registerUser(
+                new User("routing-" + UUID.randomUUID() + "@example.com", "password123", "ルーティング"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 読み取り専用トランザクションはレプリカに接続される() {
+        // 未認証のため書き込み直後の振り分けは行われない
+        todoService.createTodo(new Todo("プライマリのみ", null, null, user), user);
+
+        assertThat(todoService.findByUser(user, PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(meterRegistry.get("app.datasource.routing")
+                .tag("target", ReadWriteRoutingDataSource.REPLICA).counter().count()).isPositive();
+    }
+
+    @Test
+    void 書き込み直後のユーザーの読み取りはプライマリに接続される() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserPrincipal(user), null, List.of()));
+
+        // 書き込んだリクエストの応答で書き込みの記録（Cookie）が発行される
+        MockHttpServletResponse writeResponse = beginRequest(new MockHttpServletRequest());
+        todoService.createTodo(new Todo("書き込み直後", null, null, user), user);
+        Cookie marker = writeResponse.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(marker).isNotNull();
+
+        // Cookieを送ってくる次のリクエストは、どのノードが受けてもプライマリから読み取る
+        MockHttpServletRequest readRequest = new MockHttpServletRequest();
+        readRequest.setCookies(marker);
+        beginRequest(readRequest);
+
+        assertThat(todoService.findByUser(user, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.datasource.routing")
+                .tag("reason", "read-your-writes").counter().count()).isPositive();
+    }
+
+    @Test
+    void 書き込み直後のダッシュボードのパネルもプライマリに接続される() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserPrincipal(user), null, List.of()));
+        MockHttpServletResponse writeResponse = beginRequest(new MockHttpServletRequest());
+        todoService.createTodo(new Todo("作成後のリダイレクト", null, LocalDate.now(), user), user);
+
+        // 作成後のリダイレクト先（/todos）は、パネルのクエリを仮想スレッドで実行する
+        MockHttpServletRequest readRequest = new MockHttpServletRequest();
+        readRequest.setCookies(writeResponse.getCookie(ReadYourWritesTracker.COOKIE_NAME));
+        beginRequest(readRequest);
+        DashboardService.Dashboard dashboard = dashboardService.assemble(user,
+                () -> todoService.findByUser(user, PageRequest.of(0, 10)));
+
+        assertThat(dashboard.getUnavailablePanels()).isEmpty();
+        assertThat(dashboard.getStatistics().getTotalCount()).isEqualTo(1);
+        assertThat(dashboard.getTodayTodos()).extracting(Todo::getTitle).containsExactly("作成後のリダイレクト");
+    }
+
+    @Test
+    void 書き込みの記録を持たないリクエストはレプリカに接続される() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserPrincipal(user), null, List.of()));
+        beginRequest(new MockHttpServletRequest());
+        todoService.createTodo(new Todo("別のクライアントからの書き込み", null, null, user), user);
+
+        // ノードのメモリには記録を残さないため、Cookieのないリクエストはレプリカへ送られる
+        beginRequest(new MockHttpServletRequest());
+
+        assertThat(todoService.findByUser(user, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    private static MockHttpServletResponse beginRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private void copySchemaToReplica() throws Exception {
+        List<String> ddl = new ArrayList<>();
+        try (Connection connection = primaryDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                ddl.add(script.getString(1));
+            }
+        }
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.service.RequestDeadline;
+import com.example.todoapp.service.RequestDeadline.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestDeadlineInterceptorのテストクラス
+ */
+class RequestDeadlineInterceptorTest {
+
+    private final RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor(true, Duration.ofSeconds(5),
+            new LinkedHashMap<>(Map.of("/api/todos/batch", Duration.ofSeconds(15))));
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void timeoutFor_エンドポイントごとの期限と既定の期限() {
+        assertEquals(Duration.ofSeconds(15), interceptor.timeoutFor(new MockHttpServletRequest("POST", "/api/todos/batch")));
+        assertEquals(Duration.ofSeconds(5), interceptor.timeoutFor(new MockHttpServletRequest("GET", "/todos")));
+    }
+
+    @Test
+    void preHandle_期限を束縛し完了後に解除() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+
+        Duration remaining = RequestDeadline.remaining();
+        assertNotNull(remaining);
+        assertTrue(remaining.compareTo(Duration.ofSeconds(5)) <= 0);
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertNull(RequestDeadline.remaining());
+    }
+
+    @Test
+    void check_残り時間が不足している場合は打ち切る() throws Exception {
+        RequestDeadline.bind(Duration.ofMillis(10));
+
+        assertThrows(DeadlineExceededException.class, () -> RequestDeadline.check(Duration.ofSeconds(1)));
+
+        // 別スレッドへ引き継いだ期限も同じ
+        Callable<Duration> task = RequestDeadline.propagate(RequestDeadline::remaining);
+        RequestDeadline.clear();
+        assertTrue(task.call().compareTo(Duration.ofMillis(10)) <= 0);
+        assertNull(RequestDeadline.remaining());
+    }
+}
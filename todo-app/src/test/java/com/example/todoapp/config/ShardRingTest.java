@@ -0,0 +1,53 @@
+package com.example.todoapp.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShardRingのテストクラス
+ */
+class ShardRingTest {
+
+    private static final int USERS = 10_000;
+
+    @Test
+    void shardFor_ユーザーをシャードへ偏りなく割り当てる() {
+        ShardRing ring = new ShardRing(List.of("shard0", "shard1", "shard2"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts.merge(ring.shardFor(userId), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > USERS / 3 * 0.7, "偏りが大きすぎます: " + counts));
+    }
+
+    @Test
+    void shardFor_シャード追加時に移動するユーザーは追加分のみ() {
+        ShardRing before = new ShardRing(List.of("shard0", "shard1", "shard2"), 128);
+        ShardRing after = new ShardRing(List.of("shard0", "shard1", "shard2", "shard3"), 128);
+
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            String from = before.shardFor(userId);
+            String to = after.shardFor(userId);
+            if (!from.equals(to)) {
+                assertEquals("shard3", to);
+                moved++;
+            }
+        }
+
+        assertTrue(moved < USERS / 4 * 1.3, "移動ユーザーが多すぎます: " + moved);
+    }
+
+    @Test
+    void constructor_シャードなしは例外() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(List.of(), 128));
+    }
+}
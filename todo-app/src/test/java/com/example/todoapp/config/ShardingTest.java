@@ -0,0 +1,116 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.service.ShardMigrationService;
+import com.example.todoapp.service.ShardRouter;
+import com.example.todoapp.service.TodoService;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * シャーディングの結合テスト
+ * 3つのH2インメモリDBをディレクトリシャード（shard0）と追加シャード（shard1・shard2）に見立てる
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-shard0;DB_CLOSE_DELAY=-1",
+        "app.sharding.enabled=true",
+        "app.sharding.initialize-schema=true",
+        "app.sharding.migration-settle-time=0ms",
+        "app.sharding.shards.shard1.url=jdbc:h2:mem:sharding-shard1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards.shard1.username=sa",
+        "app.sharding.shards.shard1.driver-class-name=org.h2.Driver",
+        "app.sharding.shards.shard2.url=jdbc:h2:mem:sharding-shard2;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards.shard2.username=sa",
+        "app.sharding.shards.shard2.driver-class-name=org.h2.Driver"
+})
+@ActiveProfiles("test")
+class ShardingTest {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardMigrationService shardMigrationService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void ToDoはユーザーを担当するシャードに保存される() {
+        Set<String> usedShards = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            User user = registerUser();
+            String shard = shardRouter.shardFor(user.getId());
+            usedShards.add(shard);
+            createTodo(user, "ToDo " + i);
+
+            Map<String, Long> counts = shardRouter.callOnEachShard(
+                    () -> todoService.findByUser(user, PageRequest.of(0, 10)).getTotalElements());
+            counts.forEach((name, count) -> assertThat(count).isEqualTo(name.equals(shard) ? 1L : 0L));
+        }
+
+        assertThat(usedShards).hasSizeGreaterThan(1);
+        long total = shardRouter.callOnEachShard(todoRepository::count).values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void ユーザーを別のシャードへ移動できる() {
+        User user = registerUser();
+        String source = shardRouter.shardFor(user.getId());
+        String target = shardRouter.getShardNames().stream().filter(name -> !name.equals(source)).findFirst().orElseThrow();
+
+        Todo kept = createTodo(user, "移動するToDo");
+        Todo deleted = createTodo(user, "削除するToDo");
+        shardRouter.callOnShard(source, () -> {
+            todoService.deleteTodo(deleted.getId(), user);
+            return null;
+        });
+
+        Map<String, Object> result = shardMigrationService.moveUser(user.getId(), target);
+
+        assertThat(result).containsEntry("sourceDeleted", true);
+        assertThat(shardRouter.shardFor(user.getId())).isEqualTo(target);
+        assertThat(shardRouter.isMigrating(user.getId())).isFalse();
+        List<Todo> moved = shardRouter.callOnShard(target,
+                () -> todoService.findByUser(user, PageRequest.of(0, 10)).getContent());
+        assertThat(moved).extracting(Todo::getId).containsExactly(kept.getId());
+        assertThat(shardRouter.callOnShard(source,
+                () -> todoService.findByUser(user, PageRequest.of(0, 10)).getTotalElements())).isZero();
+
+        // 移動後の書き込みも移動先で変更シーケンス番号が継続する
+        Todo created = createTodo(user, "移動後のToDo");
+        assertThat(created.getChangeSeq()).isGreaterThan(kept.getChangeSeq() + 1);
+    }
+
+    private User registerUser() {
+        return userService.registerUser(
+                new User("shard-" + UUID.randomUUID() + "@example.com", "password123", "シャード"));
+    }
+
+    private Todo createTodo(User user, String title) {
+        String shard = shardRouter.shardFor(user.getId());
+        shardMigrationService.ensureProvisioned(user.getId(), shard);
+        return shardRouter.callOnShard(shard, () -> todoService.createTodo(new Todo(title, null, null, user), user));
+    }
+}
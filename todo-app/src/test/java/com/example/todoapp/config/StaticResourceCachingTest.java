@@ -0,0 +1,65 @@
+package com.example.todoapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 静的リソースのキャッシュ指定の結合テスト
+ * 長期キャッシュ（immutable）はバージョン付きURLにのみ指定されること
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourceCachingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    void バージョン付きURLは長期キャッシュを指定する() throws Exception {
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/css/app.css");
+        assertThat(versionedUrl).isNotEqualTo("/css/app.css");
+
+        MvcResult result = mockMvc.perform(get(versionedUrl)).andExpect(status().isOk()).andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("max-age=31536000").contains("immutable");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotNull();
+    }
+
+    @Test
+    void バージョンなしのURLは再検証させる() throws Exception {
+        MvcResult result = mockMvc.perform(get("/css/app.css")).andExpect(status().isOk()).andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("no-cache").doesNotContain("immutable").doesNotContain("max-age");
+    }
+
+    @Test
+    void 圧縮版を返す場合もバージョン付きURLのみ長期キャッシュを指定する() throws Exception {
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/js/app.js");
+
+        MvcResult unversioned = mockMvc.perform(get("/js/app.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk()).andReturn();
+        MvcResult versioned = mockMvc.perform(get(versionedUrl).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk()).andReturn();
+
+        assertThat(versioned.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(versioned.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(unversioned.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).doesNotContain("immutable");
+    }
+}
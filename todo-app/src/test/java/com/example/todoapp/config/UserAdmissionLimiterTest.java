@@ -0,0 +1,68 @@
+package com.example.todoapp.config;
+
+import com.example.todoapp.config.UserAdmissionLimiter.Permit;
+import com.example.todoapp.config.UserAdmissionLimiter.Rejection;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserAdmissionLimiterのテストクラス
+ */
+class UserAdmissionLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    void tryAcquire_バースト分を受け付けた後はレートに応じて受け付ける() {
+        UserAdmissionLimiter limiter = new UserAdmissionLimiter(64, 100, 10, 5, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.release(assertGranted(limiter.tryAcquire(1L)));
+        }
+        Permit rejected = limiter.tryAcquire(1L);
+        assertEquals(Rejection.RATE, rejected.rejection());
+        assertEquals(Duration.ofMillis(100), rejected.retryAfter());
+
+        // 他のユーザーは影響を受けない
+        limiter.release(assertGranted(limiter.tryAcquire(2L)));
+
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        limiter.release(assertGranted(limiter.tryAcquire(1L)));
+        assertFalse(limiter.tryAcquire(1L).granted());
+    }
+
+    @Test
+    void tryAcquire_同時実行数の上限を超えると拒否し完了後に受け付ける() {
+        UserAdmissionLimiter limiter = new UserAdmissionLimiter(64, 2, 1000, 1000, clock::get);
+
+        List<Permit> permits = new ArrayList<>();
+        permits.add(assertGranted(limiter.tryAcquire(1L)));
+        permits.add(assertGranted(limiter.tryAcquire(1L)));
+        Permit rejected = limiter.tryAcquire(1L);
+
+        assertEquals(Rejection.CONCURRENCY, rejected.rejection());
+        assertEquals(2, limiter.inFlight());
+
+        limiter.release(permits.get(0));
+        limiter.release(rejected);
+        assertEquals(1, limiter.inFlight());
+        assertGranted(limiter.tryAcquire(1L));
+    }
+
+    @Test
+    void constructor_不正な制限値は例外() {
+        assertThrows(IllegalArgumentException.class, () -> new UserAdmissionLimiter(64, 0, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> new UserAdmissionLimiter(64, 4, 0, 5));
+    }
+
+    private static Permit assertGranted(Permit permit) {
+        assertTrue(permit.granted(), "拒否されました: " + permit);
+        return permit;
+    }
+}
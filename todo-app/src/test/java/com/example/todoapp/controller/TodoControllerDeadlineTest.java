@@ -0,0 +1,66 @@
+package com.example.todoapp.controller;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 処理期限を過ぎた画面操作の結合テスト
+ * 期限切れはエラーメッセージ付きのリダイレクトにせず、503を返すこと
+ * （残り時間が最小予算に満たないよう、期限より長い最小予算を設定する）
+ */
+@SpringBootTest(properties = {
+        "app.request-deadline.default-timeout=5s",
+        "app.request-deadline.minimum-budget=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoControllerDeadlineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private CustomUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("deadline-" + UUID.randomUUID() + "@example.com", "password123", "期限テスト");
+        principal = new CustomUserPrincipal(userService.registerUser(user));
+    }
+
+    @Test
+    void 削除時に期限を過ぎた場合はリダイレクトせず503を返す() throws Exception {
+        mockMvc.perform(post("/todos/1/delete")
+                        .with(user(principal))
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(flash().attributeCount(0));
+    }
+
+    @Test
+    void 完了切り替え時に期限を過ぎた場合はリダイレクトせず503を返す() throws Exception {
+        mockMvc.perform(post("/todos/1/toggle")
+                        .with(user(principal))
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(flash().attributeCount(0));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todoapp.repository.memory;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.service.TodoBatchService;
+import com.example.todoapp.service.TodoService;
+import com.example.todoapp.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * インメモリストア（memory-store プロファイル）の結合テスト
+ * ユーザーはH2に、ToDoはインメモリストアに保存される
+ * 画面とAPIの操作は {@link com.example.todoapp.NativeApplicationMemoryStoreTests} で確認する
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "memory-store"})
+class InMemoryStoreIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void memoryStoreProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.memory-store.directory", directory::toString);
+    }
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoBatchService todoBatchService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void ToDoリポジトリはインメモリストアに置き換わる() {
+        assertThat(todoRepository).isInstanceOf(InMemoryTodoRepository.class);
+    }
+
+    @Test
+    void サービス経由で作成と更新と集計ができる() {
+        User user = registerUser();
+        Todo overdue = todoService.createTodo(new Todo("期限切れ", null, LocalDate.now().minusDays(1), user), user);
+        todoService.createTodo(new Todo("今日", null, LocalDate.now(), user), user);
+        todoService.toggleCompletion(overdue.getId(), user);
+
+        TodoService.TodoStatistics statistics = todoService.getTodoStatistics(user);
+        assertThat(statistics.getTotalCount()).isEqualTo(2);
+        assertThat(statistics.getCompletedCount()).isEqualTo(1);
+        assertThat(statistics.getOverdueCount()).isZero();
+        assertThat(todoService.findTodayTodos(user)).extracting(Todo::getTitle).containsExactly("今日");
+        assertThat(todoService.findByUser(user, PageRequest.of(0, 10)).getContent())
+                .extracting(Todo::getChangeSeq).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 一括操作の失敗時はインメモリストアの変更もロールバックされる() {
+        User user = registerUser();
+        TodoBatchService.BatchRequest request = new TodoBatchService.BatchRequest();
+        request.setAtomic(true);
+        request.setOperations(List.of(create("作成されないToDo"), create("")));
+
+        TodoBatchService.BatchResult result = todoBatchService.execute(request, user);
+
+        assertThat(result.isCommitted()).isFalse();
+        assertThat(todoRepository.countByUser(user)).isZero();
+    }
+
+    @Test
+    void コミット前の変更は他のトランザクションから参照できない() {
+        User user = registerUser();
+
+        long seenOutside = transactionTemplate.execute(status -> {
+            todoService.createTodo(new Todo("コミット前", null, null, user), user);
+            assertThat(todoRepository.countByUser(user)).isEqualTo(1);
+            return CompletableFuture.supplyAsync(() -> todoRepository.countByUser(user)).join();
+        });
+
+        assertThat(seenOutside).isZero();
+        assertThat(todoRepository.countByUser(user)).isEqualTo(1);
+    }
+
+    private User registerUser() {
+        return userService.registerUser(
+                new User("memory-" + UUID.randomUUID() + "@example.com", "password123", "メモリ"));
+    }
+
+    private static TodoBatchService.Operation create(String title) {
+        TodoBatchService.Operation operation = new TodoBatchService.Operation();
+        operation.setOp("create");
+        operation.setTitle(title);
+        return operation;
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.todoapp.repository.memory;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemoryTodoRepositoryのテストクラス
+ */
+class InMemoryTodoRepositoryTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private TodoStore store;
+    private InMemoryTodoRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        open();
+        user = new User("memory@example.com", "password123", "メモリ");
+        user.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void findByUserOrderByDueDateAsc_期限日順に並び期限日なしは末尾() {
+        LocalDate today = LocalDate.now();
+        save("期限なし", null);
+        save("明後日", today.plusDays(2));
+        save("昨日", today.minusDays(1));
+        save("明日", today.plusDays(1));
+
+        Page<Todo> page = repository.findByUserOrderByDueDateAsc(user, PageRequest.of(0, 3));
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(List.of("昨日", "明日", "明後日"), page.map(Todo::getTitle).getContent());
+        assertEquals(1, repository.countOverdueTodos(user));
+        assertEquals(List.of("明日", "明後日"), repository.findUpcomingTodos(user, today.plusDays(1), today.plusDays(7))
+                .stream().map(Todo::getTitle).toList());
+    }
+
+    @Test
+    void findByUser_作成日時の降順で他のユーザーのToDoを含まない() {
+        save("1件目", null);
+        save("2件目", null);
+        User other = new User("other@example.com", "password123", "他人");
+        other.setId(2L);
+        repository.save(new Todo("他人のToDo", null, null, other));
+
+        Page<Todo> page = repository.findByUser(user, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(List.of("2件目", "1件目"), page.map(Todo::getTitle).getContent());
+    }
+
+    @Test
+    void save_更新後の完了状態が件数と検索に反映される() {
+        Todo todo = save("牛乳を買う", null);
+        todo.setCompleted(true);
+        repository.save(todo);
+
+        assertEquals(1, repository.countByUserAndCompleted(user, true));
+        assertEquals(0, repository.countByUserAndCompleted(user, false));
+        assertEquals(1, repository.findByUserAndTitleContainingIgnoreCase(user, "牛乳", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void findAll_Exampleの条件に一致するToDoを返す() {
+        save("牛乳を買う", null);
+        Todo done = save("パンを買う", null);
+        done.setCompleted(true);
+        repository.save(done);
+        User other = new User("other@example.com", "password123", "他人");
+        other.setId(2L);
+        repository.save(new Todo("牛乳を飲む", null, null, other));
+
+        Todo probe = new Todo("牛乳", null, null, user);
+        Example<Todo> example = Example.of(probe, ExampleMatcher.matching()
+                .withIgnorePaths("completed", "changeSeq")
+                .withStringMatcher(ExampleMatcher.StringMatcher.STARTING));
+
+        assertEquals(List.of("牛乳を買う"), repository.findAll(example).stream().map(Todo::getTitle).toList());
+        Todo completed = new Todo();
+        completed.setCompleted(true);
+        assertEquals(1, repository.count(Example.of(completed, ExampleMatcher.matching().withIgnorePaths("completedAt", "changeSeq"))));
+        // プリミティブ型の項目（未完了）も条件に含まれる
+        assertEquals("牛乳を買う", repository.findBy(Example.of(new Todo(null, null, null, user),
+                ExampleMatcher.matching().withIgnorePaths("changeSeq")), query -> query.oneValue().getTitle()));
+        assertFalse(repository.exists(Example.of(new Todo("買う", null, null, other), ExampleMatcher.matching()
+                .withIgnorePaths("completed", "changeSeq").withStringMatcher(ExampleMatcher.StringMatcher.ENDING))));
+    }
+
+    @Test
+    void 再起動後にログとスナップショットから復旧する() {
+        Todo kept = save("残るToDo", LocalDate.of(2030, 1, 1));
+        Todo deleted = save("削除するToDo", null);
+        store.snapshot();
+        Todo afterSnapshot = save("スナップショット後のToDo", null);
+        repository.deleteById(deleted.getId());
+
+        crash();
+
+        assertEquals(2, repository.count());
+        assertEquals(LocalDate.of(2030, 1, 1), repository.findByIdAndUser(kept.getId(), user).orElseThrow().getDueDate());
+        assertTrue(repository.findById(afterSnapshot.getId()).isPresent());
+        assertFalse(repository.existsById(deleted.getId()));
+        assertTrue(save("新しいToDo", null).getId() > afterSnapshot.getId());
+    }
+
+    @Test
+    void 書きかけの末尾の記録は破棄して復旧する() throws IOException {
+        save("1件目", null);
+        Todo second = save("2件目", null);
+
+        // 2件目の記録の途中までがディスクに届いた状態を再現
+        Path segment = latestSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, 0);
+            int secondEntry = 8 + header.flip().getInt();
+            channel.write(ByteBuffer.allocate(16), secondEntry + 8);
+        }
+        crash();
+
+        assertEquals(1, repository.count());
+        assertFalse(repository.existsById(second.getId()));
+    }
+
+    @Test
+    void トランザクションのロールバックで変更を取り消す() {
+        Todo todo = save("元のタイトル", null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todo.setTitle("変更後のタイトル");
+            repository.save(todo);
+            save("追加したToDo", null);
+            assertEquals(2, repository.countByUser(user));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        assertEquals(1, repository.countByUser(user));
+        assertEquals("元のタイトル", repository.findById(todo.getId()).orElseThrow().getTitle());
+        reopen();
+        assertEquals("元のタイトル", repository.findById(todo.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void コミット前の変更は他のトランザクションから参照できない() {
+        Todo todo = save("元のタイトル", null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            todo.setTitle("変更後のタイトル");
+            repository.save(todo);
+            Todo added = save("追加したToDo", null);
+
+            assertEquals(2, repository.countByUser(user));
+            assertEquals("変更後のタイトル", repository.findById(todo.getId()).orElseThrow().getTitle());
+            // 同期処理はスレッドに紐づくため、別スレッドの読み取りはトランザクションの外になる
+            assertEquals(1, CompletableFuture.supplyAsync(() -> repository.countByUser(user)).join());
+            assertEquals("元のタイトル", CompletableFuture.supplyAsync(
+                    () -> repository.findById(todo.getId()).orElseThrow().getTitle()).join());
+            assertFalse(CompletableFuture.supplyAsync(() -> repository.existsById(added.getId())).join());
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        assertEquals(2, repository.countByUser(user));
+        assertEquals("変更後のタイトル", repository.findById(todo.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void コミットの記録がないトランザクションの変更は復旧時に破棄する() throws IOException {
+        Todo todo = save("元のタイトル", null);
+        todo.setTitle("変更後のタイトル");
+        store.commit(Map.of(todo.getId(), TodoRecord.of(todo, todo.getId(), user.getId()),
+                todo.getId() + 1, TodoRecord.of(new Todo("追加したToDo", null, null, user), todo.getId() + 1, user.getId())));
+
+        // 変更の記録の後、コミットの記録がディスクに届く前にクラッシュした状態を再現
+        Path segment = latestSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int position = 0;
+            int last = 0;
+            ByteBuffer header = ByteBuffer.allocate(4);
+            while (true) {
+                channel.read(header.clear(), position);
+                int length = header.flip().getInt();
+                if (length == 0) {
+                    break;
+                }
+                last = position;
+                position += 8 + length;
+            }
+            channel.write(ByteBuffer.allocate(position - last), last);
+        }
+        crash();
+
+        assertEquals(1, repository.count());
+        assertEquals("元のタイトル", repository.findById(todo.getId()).orElseThrow().getTitle());
+    }
+
+    private Todo save(String title, LocalDate dueDate) {
+        return repository.save(new Todo(title, null, dueDate, user));
+    }
+
+    private void open() {
+        store = new TodoStore(directory, SEGMENT_BYTES);
+        repository = new InMemoryTodoRepository(store, true);
+    }
+
+    private void reopen() {
+        store.close();
+        open();
+    }
+
+    /**
+     * 終了処理（スナップショットの作成）を行わずに開き直す
+     */
+    private void crash() {
+        open();
+    }
+
+    private Path latestSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("wal-"))
+                    .sorted()
+                    .reduce((first, second) -> second)
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.ApiTokenService.TokenPair;
+import com.example.todoapp.service.CustomUserDetailsService.CustomUserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ApiTokenServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiTokenServiceTest {
+
+    private static final String KEY1 = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String KEY2 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ApiTokenService apiTokenService;
+
+    private CustomUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(apiTokenService, "accessTokenTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(apiTokenService, "refreshTokenTtl", Duration.ofDays(14));
+        setClock(NOW);
+        apiTokenService.setKeys(Map.of("k1", KEY1), "k1");
+        principal = new CustomUserPrincipal(1L, "test@example.com", "テストユーザー", true, null);
+    }
+
+    @Test
+    void verifyAccessToken_発行したトークンからユーザーを復元() {
+        // When
+        TokenPair tokens = apiTokenService.issue(principal);
+        Optional<CustomUserPrincipal> result = apiTokenService.verifyAccessToken(tokens.accessToken());
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getUserId());
+        assertEquals("test@example.com", result.get().getEmail());
+        assertEquals("テストユーザー", result.get().getName());
+        assertEquals(300, tokens.expiresIn());
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    void verifyAccessToken_期限切れ_改ざん_リフレッシュトークンは無効() {
+        // Given
+        TokenPair tokens = apiTokenService.issue(principal);
+        String accessToken = tokens.accessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // Then
+        assertTrue(apiTokenService.verifyAccessToken(tampered).isEmpty());
+        assertTrue(apiTokenService.verifyAccessToken(tokens.refreshToken()).isEmpty());
+        assertTrue(apiTokenService.verifyAccessToken("not-a-token").isEmpty());
+        assertTrue(apiTokenService.verifyAccessToken(null).isEmpty());
+
+        setClock(NOW.plus(Duration.ofMinutes(5)));
+        assertTrue(apiTokenService.verifyAccessToken(accessToken).isEmpty());
+    }
+
+    @Test
+    void verifyAccessToken_鍵の切り替え後も古い鍵のトークンを検証できる() {
+        // Given
+        String oldToken = apiTokenService.issue(principal).accessToken();
+
+        // When: 新しい鍵を追加して署名鍵を切り替える
+        apiTokenService.setKeys(Map.of("k1", KEY1, "k2", KEY2), "k2");
+        String newToken = apiTokenService.issue(principal).accessToken();
+
+        // Then
+        assertTrue(apiTokenService.verifyAccessToken(oldToken).isPresent());
+        assertTrue(apiTokenService.verifyAccessToken(newToken).isPresent());
+
+        // When: 古い鍵を削除する
+        apiTokenService.setKeys(Map.of("k2", KEY2), "k2");
+
+        // Then
+        assertTrue(apiTokenService.verifyAccessToken(oldToken).isEmpty());
+        assertTrue(apiTokenService.verifyAccessToken(newToken).isPresent());
+    }
+
+    @Test
+    void setKeys_署名鍵が未設定または短い場合は例外() {
+        assertThrows(IllegalStateException.class, () -> apiTokenService.setKeys(Map.of("k1", KEY1), "k2"));
+        assertThrows(IllegalStateException.class, () -> apiTokenService.setKeys(Map.of("k1", ""), "k1"));
+        assertThrows(IllegalStateException.class, () -> apiTokenService.setKeys(Map.of("k1", "c2hvcnQ="), "k1"));
+    }
+
+    @Test
+    void refresh_有効なユーザーには新しいトークンを発行() {
+        // Given
+        String refreshToken = apiTokenService.issue(principal).refreshToken();
+        when(customUserDetailsService.loadUserByUsername("test@example.com"))
+                .thenReturn(new CustomUserPrincipal(1L, "test@example.com", "変更後の名前", true, "hash"));
+        setClock(NOW.plus(Duration.ofDays(1)));
+
+        // When
+        Optional<TokenPair> result = apiTokenService.refresh(refreshToken);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals("変更後の名前",
+                apiTokenService.verifyAccessToken(result.get().accessToken()).orElseThrow().getName());
+    }
+
+    @Test
+    void refresh_無効化されたユーザーやアクセストークンでは発行しない() {
+        // Given
+        TokenPair tokens = apiTokenService.issue(principal);
+        when(customUserDetailsService.loadUserByUsername("test@example.com"))
+                .thenThrow(new UsernameNotFoundException("ユーザーが見つかりません"));
+
+        // Then
+        assertTrue(apiTokenService.refresh(tokens.refreshToken()).isEmpty());
+        assertTrue(apiTokenService.refresh(tokens.accessToken()).isEmpty());
+    }
+
+    @Test
+    void refresh_パスワード変更前に発行したリフレッシュトークンでは発行しない() {
+        // Given
+        when(userRepository.findCredentialsVersionById(1L)).thenReturn(Optional.of(3L));
+        String refreshToken = apiTokenService.issue(principal).refreshToken();
+        when(customUserDetailsService.loadUserByUsername("test@example.com"))
+                .thenReturn(new CustomUserPrincipal(1L, "test@example.com", "テストユーザー", true, "hash"));
+
+        // When: パスワード変更で認証情報のバージョンが進む
+        when(userRepository.findCredentialsVersionById(1L)).thenReturn(Optional.of(4L));
+
+        // Then
+        assertTrue(apiTokenService.refresh(refreshToken).isEmpty());
+        String reissued = apiTokenService.issue(principal).refreshToken();
+        assertTrue(apiTokenService.refresh(reissued).isPresent());
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(apiTokenService, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
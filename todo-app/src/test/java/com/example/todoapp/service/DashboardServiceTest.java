@@ -0,0 +1,207 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.DashboardService.Dashboard;
+import com.example.todoapp.service.TodoService.TodoStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DashboardServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    private User testUser;
+    private Page<Todo> todoPage;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardService, "panelTimeout", Duration.ofMillis(200));
+        dashboardService.init();
+
+        testUser = new User();
+        testUser.setId(1L);
+        todoPage = new PageImpl<>(Collections.singletonList(new Todo()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void assemble_全パネル取得成功() {
+        // Given
+        TodoStatistics statistics = new TodoStatistics(5, 3, 2, 1);
+        when(todoService.getTodoStatistics(testUser, true)).thenReturn(statistics);
+        when(todoService.findTodayTodos(testUser)).thenReturn(List.of(new Todo()));
+        when(todoService.findUpcomingTodos(testUser)).thenReturn(Collections.emptyList());
+
+        // When
+        Dashboard dashboard = dashboardService.assemble(testUser, () -> todoPage);
+
+        // Then
+        assertSame(todoPage, dashboard.getTodoPage());
+        assertSame(statistics, dashboard.getStatistics());
+        assertEquals(1, dashboard.getTodayTodos().size());
+        assertTrue(dashboard.getUnavailablePanels().isEmpty());
+    }
+
+    @Test
+    void assemble_遅いパネルは表示不可として一覧を返す() {
+        // Given
+        when(todoService.getTodoStatistics(testUser, true)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return TodoStatistics.EMPTY;
+        });
+        when(todoService.findTodayTodos(testUser)).thenReturn(Collections.emptyList());
+        when(todoService.findUpcomingTodos(testUser)).thenReturn(Collections.emptyList());
+
+        // When
+        long start = System.nanoTime();
+        Dashboard dashboard = dashboardService.assemble(testUser, () -> todoPage);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMillis < 2_000, "パネルのタイムアウトを超えて待機しないこと: " + elapsedMillis + "ms");
+        assertSame(todoPage, dashboard.getTodoPage());
+        assertNull(dashboard.getStatistics());
+        assertFalse(dashboard.isAvailable(DashboardService.PANEL_STATISTICS));
+        assertTrue(dashboard.isAvailable(DashboardService.PANEL_TODAY));
+    }
+
+    @Test
+    void assemble_並列実行枠が埋まっている場合は空きを待って並列に実行() {
+        // Given
+        ReflectionTestUtils.setField(dashboardService, "maxConcurrentPanels", 1);
+        dashboardService.init();
+        Thread caller = Thread.currentThread();
+        Set<Thread> panelThreads = ConcurrentHashMap.newKeySet();
+        when(todoService.getTodoStatistics(testUser, true)).thenAnswer(invocation -> {
+            panelThreads.add(Thread.currentThread());
+            return TodoStatistics.EMPTY;
+        });
+        when(todoService.findTodayTodos(testUser)).thenAnswer(invocation -> {
+            panelThreads.add(Thread.currentThread());
+            return Collections.emptyList();
+        });
+        when(todoService.findUpcomingTodos(testUser)).thenAnswer(invocation -> {
+            panelThreads.add(Thread.currentThread());
+            return Collections.emptyList();
+        });
+
+        // When
+        Dashboard dashboard = dashboardService.assemble(testUser, () -> todoPage);
+
+        // Then
+        assertSame(TodoStatistics.EMPTY, dashboard.getStatistics());
+        assertTrue(dashboard.getUnavailablePanels().isEmpty());
+        assertFalse(panelThreads.contains(caller), "呼び出し元スレッドでパネルを実行しないこと");
+    }
+
+    @Test
+    void assemble_並列実行枠の空き待ちが期限を過ぎたパネルは実行せず期限内に返す() throws Exception {
+        // Given: 他のリクエストのパネルが並列実行枠を使い切っている
+        ReflectionTestUtils.setField(dashboardService, "maxConcurrentPanels", 1);
+        dashboardService.init();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+        Answer<Object> blocking = invocation -> {
+            queries.incrementAndGet();
+            release.await();
+            return Collections.emptyList();
+        };
+        // どのパネルが枠を得るかは実行順による
+        lenient().when(todoService.getTodoStatistics(testUser, true)).thenAnswer(blocking);
+        lenient().when(todoService.findTodayTodos(testUser)).thenAnswer(blocking);
+        lenient().when(todoService.findUpcomingTodos(testUser)).thenAnswer(blocking);
+
+        try {
+            // When
+            long start = System.nanoTime();
+            Dashboard dashboard = dashboardService.assemble(testUser, () -> todoPage);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Then: 枠を得た1パネルのみ実行され、残りは期限まで待って実行しない
+            assertTrue(elapsedMillis < 2_000, "パネルのタイムアウトを超えて待機しないこと: " + elapsedMillis + "ms");
+            assertSame(todoPage, dashboard.getTodoPage());
+            assertEquals(3, dashboard.getUnavailablePanels().size());
+            assertEquals(1, queries.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void assemble_失敗したパネルは表示不可() {
+        // Given
+        when(todoService.getTodoStatistics(testUser, true)).thenReturn(TodoStatistics.EMPTY);
+        when(todoService.findTodayTodos(testUser)).thenThrow(new IllegalStateException("DB error"));
+        when(todoService.findUpcomingTodos(testUser)).thenReturn(Collections.emptyList());
+
+        // When
+        Dashboard dashboard = dashboardService.assemble(testUser, () -> todoPage);
+
+        // Then
+        assertNull(dashboard.getTodayTodos());
+        assertEquals(Collections.singleton(DashboardService.PANEL_TODAY), dashboard.getUnavailablePanels());
+    }
+
+    @Test
+    void assemble_失敗が続くとクエリを止めて前回の値を古い情報として返す() {
+        // Given
+        ReflectionTestUtils.setField(dashboardService, "minimumCalls", 2);
+        dashboardService.init();
+        TodoStatistics statistics = new TodoStatistics(5, 3, 2, 1);
+        when(todoService.getTodoStatistics(testUser, true))
+                .thenReturn(statistics)
+                .thenThrow(new IllegalStateException("DB error"));
+        when(todoService.findTodayTodos(testUser)).thenReturn(Collections.emptyList());
+        when(todoService.findUpcomingTodos(testUser)).thenReturn(Collections.emptyList());
+        dashboardService.assemble(testUser, () -> todoPage);
+
+        // When
+        Dashboard failed = dashboardService.assemble(testUser, () -> todoPage);
+        Dashboard open = dashboardService.assemble(testUser, () -> todoPage);
+
+        // Then
+        assertSame(statistics, failed.getStatistics());
+        assertTrue(failed.isStale(DashboardService.PANEL_STATISTICS));
+        assertEquals(LatencyCircuitBreaker.State.OPEN, dashboardService.getCircuitState(DashboardService.PANEL_STATISTICS));
+        assertSame(statistics, open.getStatistics());
+        assertEquals(Collections.singleton(DashboardService.PANEL_STATISTICS), open.getStalePanels());
+        assertTrue(open.getUnavailablePanels().isEmpty());
+        verify(todoService, times(2)).getTodoStatistics(testUser, true);
+    }
+}
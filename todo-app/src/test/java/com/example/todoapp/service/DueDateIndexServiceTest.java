@@ -0,0 +1,159 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DueDateIndexServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class DueDateIndexServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private DueDateIndexService dueDateIndexService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    void 索引の構築後は範囲の切り出しで取得する() {
+        givenOpenTodos(user, 10L,
+                todo(1L, TODAY.minusDays(3)), todo(2L, TODAY.minusDays(1)), todo(3L, TODAY),
+                todo(4L, TODAY.plusDays(1)), todo(5L, TODAY.plusDays(3)), todo(6L, TODAY.plusDays(4)));
+
+        assertEquals(List.of(3L), ids(dueDateIndexService.findTodayTodos(user, TODAY)));
+        assertEquals(List.of(4L, 5L), ids(dueDateIndexService.findUpcomingTodos(user, TODAY.plusDays(1), TODAY.plusDays(3))));
+        assertEquals(2, dueDateIndexService.countOverdueTodos(user, TODAY));
+        Page<Todo> overdue = dueDateIndexService.findOverdueTodos(user, TODAY,
+                PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "dueDate")));
+        assertEquals(List.of(2L), ids(overdue.getContent()));
+        assertEquals(2, overdue.getTotalElements());
+        assertSame(user, overdue.getContent().get(0).getUser());
+
+        verify(todoRepository, times(1)).findOpenTodosWithDueDate(eq(user), any(Pageable.class));
+        verify(todoRepository, never()).findTodayTodos(any(), any());
+        verify(todoRepository, never()).countOverdueTodos(any());
+    }
+
+    @Test
+    void 自ノードの変更は索引に反映し作り直さない() {
+        givenOpenTodos(user, 10L, todo(1L, TODAY.minusDays(1)), todo(2L, TODAY));
+        dueDateIndexService.countOverdueTodos(user, TODAY);
+
+        Todo completed = todo(1L, TODAY.minusDays(1));
+        completed.setCompleted(true);
+        completed.setChangeSeq(11L);
+        dueDateIndexService.onSaved(completed);
+        Todo moved = todo(2L, TODAY.minusDays(2));
+        moved.setChangeSeq(12L);
+        dueDateIndexService.onSaved(moved);
+        dueDateIndexService.onDeleted(todo(3L, null), 13L);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(13L);
+
+        assertEquals(List.of(2L), ids(dueDateIndexService.findOverdueTodos(user, TODAY, PageRequest.of(0, 10)).getContent()));
+        assertTrue(dueDateIndexService.findTodayTodos(user, TODAY).isEmpty());
+        verify(todoRepository, times(1)).findOpenTodosWithDueDate(eq(user), any(Pageable.class));
+    }
+
+    @Test
+    void 他ノードの変更で番号が進んでいる場合は作り直す() {
+        givenOpenTodos(user, 10L, todo(1L, TODAY));
+        assertEquals(1, dueDateIndexService.findTodayTodos(user, TODAY).size());
+
+        givenOpenTodos(user, 12L);
+
+        assertTrue(dueDateIndexService.findTodayTodos(user, TODAY).isEmpty());
+        verify(todoRepository, times(2)).findOpenTodosWithDueDate(eq(user), any(Pageable.class));
+    }
+
+    @Test
+    void 未完了ToDoが多すぎるユーザーはデータベースから取得する() {
+        ReflectionTestUtils.setField(dueDateIndexService, "maxTodosPerUser", 2);
+        givenOpenTodos(user, 10L, todo(1L, TODAY), todo(2L, TODAY), todo(3L, TODAY));
+        when(todoRepository.countOverdueTodos(user)).thenReturn(7L);
+
+        assertEquals(7, dueDateIndexService.countOverdueTodos(user, TODAY));
+        assertEquals(7, dueDateIndexService.countOverdueTodos(user, TODAY));
+        verify(todoRepository, times(1)).findOpenTodosWithDueDate(eq(user), any(Pageable.class));
+    }
+
+    @Test
+    void 上限を超えると参照の古いユーザーの索引から破棄する() {
+        ReflectionTestUtils.setField(dueDateIndexService, "maxEntries", 2);
+        User other = new User();
+        other.setId(2L);
+        givenOpenTodos(user, 10L, todo(1L, TODAY));
+        givenOpenTodos(other, 20L, todo(2L, TODAY), todo(3L, TODAY));
+
+        dueDateIndexService.findTodayTodos(user, TODAY);
+        dueDateIndexService.findTodayTodos(other, TODAY);
+        dueDateIndexService.findTodayTodos(other, TODAY);
+        dueDateIndexService.findTodayTodos(user, TODAY);
+
+        verify(todoRepository, times(1)).findOpenTodosWithDueDate(eq(other), any(Pageable.class));
+        verify(todoRepository, times(2)).findOpenTodosWithDueDate(eq(user), any(Pageable.class));
+    }
+
+    @Test
+    void 期限日順以外のソートはデータベースから取得する() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(todoRepository.findOverdueTodos(user, TODAY, pageable)).thenReturn(Page.empty(pageable));
+
+        dueDateIndexService.findOverdueTodos(user, TODAY, pageable);
+
+        verify(todoRepository).findOverdueTodos(user, TODAY, pageable);
+        verifyNoInteractions(userRepository);
+    }
+
+    private void givenOpenTodos(User owner, long changeSeq, Todo... todos) {
+        when(userRepository.findChangeSeqById(owner.getId())).thenReturn(changeSeq);
+        when(todoRepository.findOpenTodosWithDueDate(eq(owner), any(Pageable.class))).thenReturn(List.of(todos));
+    }
+
+    private Todo todo(Long id, LocalDate dueDate) {
+        Todo todo = new Todo("ToDo " + id, null, dueDate, user);
+        todo.setId(id);
+        return todo;
+    }
+
+    private static List<Long> ids(List<Todo> todos) {
+        return todos.stream().map(Todo::getId).toList();
+    }
+}
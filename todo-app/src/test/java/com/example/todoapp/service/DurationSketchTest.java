@@ -0,0 +1,55 @@
+package com.example.todoapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DurationSketchのテストクラス
+ */
+class DurationSketchTest {
+
+    @Test
+    void quantile_相対誤差の範囲内で分位点を返す() {
+        DurationSketch sketch = new DurationSketch();
+        for (long seconds = 1; seconds <= 10000; seconds++) {
+            sketch.add(seconds);
+        }
+
+        assertEquals(5000, sketch.quantile(0.5), 5000 * DurationSketch.RELATIVE_ACCURACY);
+        assertEquals(9900, sketch.quantile(0.99), 9900 * DurationSketch.RELATIVE_ACCURACY);
+        assertEquals(0, new DurationSketch().quantile(0.5));
+    }
+
+    @Test
+    void remove_追加した値を取り除くと元の状態に戻る() {
+        DurationSketch sketch = new DurationSketch();
+        sketch.add(60);
+        sketch.add(86400);
+
+        assertTrue(sketch.remove(86400));
+        assertFalse(sketch.remove(3600));
+
+        assertEquals(1, sketch.getCount());
+        assertEquals(60, sketch.quantile(0.99), 60 * DurationSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void toBytes_結合した結果を復元できる() {
+        DurationSketch first = new DurationSketch();
+        DurationSketch second = new DurationSketch();
+        for (long seconds = 0; seconds < 1000; seconds++) {
+            first.add(seconds * 60);
+            second.add(seconds * 3600);
+        }
+        first.merge(second);
+
+        byte[] bytes = first.toBytes();
+        DurationSketch restored = DurationSketch.fromBytes(bytes);
+
+        assertEquals(2000, restored.getCount());
+        assertEquals(first.quantile(0.9), restored.quantile(0.9));
+        assertTrue(bytes.length < 2048, "バケット数に比例したサイズであること: " + bytes.length);
+        assertTrue(DurationSketch.fromBytes(null).isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.IdempotencyRecord;
+import com.example.todoapp.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotencyServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @Test
+    void execute_同じキーの再送では処理を再実行しない() {
+        // Given
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Long first = idempotencyService.execute(1L, "key-1", "todo.create", () -> 100L + calls.incrementAndGet());
+        Long second = idempotencyService.execute(1L, "key-1", "todo.create", () -> 100L + calls.incrementAndGet());
+
+        // Then
+        assertEquals(101L, first);
+        assertEquals(101L, second);
+        assertEquals(1, calls.get());
+        verify(idempotencyRecordRepository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_DBに記録済みのキーは記録済みの結果を返す() {
+        // Given
+        IdempotencyRecord record = new IdempotencyRecord(1L, "key-2", "todo.create", 55L,
+            LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-2")).thenReturn(Optional.of(record));
+
+        // When
+        Long result = idempotencyService.execute(1L, "key-2", "todo.create", () -> fail("再実行されてはならない"));
+
+        // Then
+        assertEquals(55L, result);
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void execute_別の操作で使用済みのキーはエラー() {
+        // Given
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-3")).thenReturn(Optional.empty());
+        idempotencyService.execute(1L, "key-3", "todo.create", () -> 1L);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> idempotencyService.execute(1L, "key-3", "todo.update:1", () -> 1L));
+    }
+
+    @Test
+    void execute_キーなしの場合は毎回実行() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        idempotencyService.execute(1L, null, "todo.create", () -> (long) calls.incrementAndGet());
+        idempotencyService.execute(1L, "", "todo.create", () -> (long) calls.incrementAndGet());
+
+        // Then
+        assertEquals(2, calls.get());
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    void execute_同時の重複リクエストは一度だけ実行() throws Exception {
+        // Given
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(1L, "key-4")).thenReturn(Optional.empty());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        Future<?>[] futures = new Future<?>[8];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = executor.submit(() -> {
+                start.await();
+                return idempotencyService.execute(1L, "key-4", "todo.create", () -> {
+                    calls.incrementAndGet();
+                    return 7L;
+                });
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            assertEquals(7L, future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.service.LatencyCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyCircuitBreakerのテストクラス
+ */
+class LatencyCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LatencyCircuitBreaker circuitBreaker = new LatencyCircuitBreaker(
+            Duration.ofMillis(100), 0.5, 4, 4, Duration.ofSeconds(30), clock::get);
+
+    @Test
+    void onSuccess_遅延した呼び出しの割合が閾値を超えると開状態() {
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+        circuitBreaker.onSuccess(Duration.ofMillis(300).toNanos());
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onSuccess(Duration.ofMillis(300).toNanos());
+
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_開状態の期間後は1件ずつ試行し成功すれば閉状態() {
+        openCircuit();
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess(Duration.ofMillis(10).toNanos());
+
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_半開状態の試行が失敗すると再び開状態() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+}
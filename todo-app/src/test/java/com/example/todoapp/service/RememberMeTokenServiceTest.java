@@ -0,0 +1,161 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.RememberMeToken;
+import com.example.todoapp.repository.RememberMeTokenRepository;
+import com.example.todoapp.service.RememberMeTokenService.IssuedToken;
+import com.example.todoapp.service.RememberMeTokenService.Verification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.web.authentication.rememberme.CookieTheftException;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RememberMeTokenServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RememberMeTokenServiceTest {
+
+    @Mock
+    private RememberMeTokenRepository rememberMeTokenRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private RememberMeTokenService rememberMeTokenService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @Test
+    void verify_更新間隔内はDBを参照せず最終使用日時をまとめて反映() {
+        // Given
+        IssuedToken issued = rememberMeTokenService.create(1L, "test@example.com");
+
+        // When
+        Verification first = rememberMeTokenService.verify(issued.series(), issued.token());
+        Verification second = rememberMeTokenService.verify(issued.series(), issued.token());
+
+        // Then
+        assertEquals("test@example.com", first.email());
+        assertNull(first.rotatedToken());
+        assertNull(second.rotatedToken());
+        verify(rememberMeTokenRepository).save(any(RememberMeToken.class));
+        verify(rememberMeTokenRepository, never()).findById(anyString());
+        verify(rememberMeTokenRepository, never()).touchAll(any(), any());
+
+        // When
+        rememberMeTokenService.flushLastUsed();
+
+        // Then
+        verify(rememberMeTokenRepository).touchAll(eq(List.of(issued.series())), any(LocalDateTime.class));
+        assertEquals(0, rememberMeTokenService.flushLastUsed());
+    }
+
+    @Test
+    void verify_更新間隔を過ぎた場合はトークンを更新() {
+        // Given
+        ReflectionTestUtils.setField(rememberMeTokenService, "rotationInterval", Duration.ZERO);
+        IssuedToken issued = rememberMeTokenService.create(1L, "test@example.com");
+
+        // When
+        Verification result = rememberMeTokenService.verify(issued.series(), issued.token());
+
+        // Then
+        assertNotNull(result.rotatedToken());
+        assertNotEquals(issued.token(), result.rotatedToken());
+        verify(rememberMeTokenRepository).rotate(eq(issued.series()), eq(hash(result.rotatedToken())), any());
+    }
+
+    @Test
+    void verify_キャッシュが古い場合はDBの値で確認() {
+        // Given: 他ノードでトークンが更新された
+        IssuedToken issued = rememberMeTokenService.create(1L, "test@example.com");
+        when(rememberMeTokenRepository.findById(issued.series())).thenReturn(Optional.of(new RememberMeToken(
+                issued.series(), 1L, "test@example.com", hash("rotated-elsewhere"), LocalDateTime.now())));
+
+        // When
+        Verification result = rememberMeTokenService.verify(issued.series(), "rotated-elsewhere");
+
+        // Then
+        assertEquals("test@example.com", result.email());
+        verify(rememberMeTokenRepository, never()).deleteByUserId(any());
+    }
+
+    @Test
+    void verify_トークンが一致しない場合はすべて無効化() {
+        // Given
+        IssuedToken issued = rememberMeTokenService.create(1L, "test@example.com");
+        when(rememberMeTokenRepository.findById(issued.series())).thenReturn(Optional.of(new RememberMeToken(
+                issued.series(), 1L, "test@example.com", hash(issued.token()), LocalDateTime.now())));
+
+        // When & Then
+        assertThrows(CookieTheftException.class, () -> rememberMeTokenService.verify(issued.series(), "stolen"));
+        verify(rememberMeTokenRepository).deleteByUserId(1L);
+    }
+
+    @Test
+    void verify_無効化や有効期限切れのシリーズは拒否() {
+        // Given
+        IssuedToken revoked = rememberMeTokenService.create(1L, "test@example.com");
+        rememberMeTokenService.revokeAll(1L);
+        when(rememberMeTokenRepository.findById(revoked.series())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RememberMeAuthenticationException.class,
+                () -> rememberMeTokenService.verify(revoked.series(), revoked.token()));
+
+        // Given
+        ReflectionTestUtils.setField(rememberMeTokenService, "tokenValidity", Duration.ZERO);
+        IssuedToken expired = rememberMeTokenService.create(2L, "other@example.com");
+
+        // When & Then
+        assertThrows(RememberMeAuthenticationException.class,
+                () -> rememberMeTokenService.verify(expired.series(), expired.token()));
+        verify(rememberMeTokenRepository).deleteById(expired.series());
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.TodoDailyStats;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoDailyStatsRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.TodoAnalyticsService.CompletionTrend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoAnalyticsServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoAnalyticsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 10);
+
+    @Mock
+    private TodoDailyStatsRepository todoDailyStatsRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private TodoAnalyticsService todoAnalyticsService;
+
+    private User user;
+
+    /**
+     * 日付 → 日次集計（リポジトリの保存先）
+     */
+    private final Map<LocalDate, TodoDailyStats> stored = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+        lenient().when(todoDailyStatsRepository.findByUserIdAndStatDate(eq(1L), any(LocalDate.class)))
+            .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<LocalDate>getArgument(1))));
+        lenient().when(todoDailyStatsRepository.save(any(TodoDailyStats.class))).thenAnswer(invocation -> {
+            TodoDailyStats stats = invocation.getArgument(0);
+            if (stats.getId() == null) {
+                stats.setId((long) stored.size() + 1);
+            }
+            stored.put(stats.getStatDate(), stats);
+            return stats;
+        });
+        lenient().doAnswer(invocation -> stored.remove(invocation.<TodoDailyStats>getArgument(0).getStatDate()))
+            .when(todoDailyStatsRepository).delete(any(TodoDailyStats.class));
+    }
+
+    @Test
+    void onSaved_作成と完了を作成日と完了日の集計に反映する() {
+        // Given
+        Todo todo = todo(DAY.atTime(10, 0));
+
+        // When: 作成し、2日後に完了
+        todoAnalyticsService.onSaved(todo);
+        todo.onLoad();
+        todo.setCompleted(true);
+        todo.setCompletedAt(DAY.plusDays(2).atTime(10, 0));
+        todoAnalyticsService.onSaved(todo);
+
+        // Then
+        assertEquals(1, stored.get(DAY).getCreatedCount());
+        assertEquals(0, stored.get(DAY).getCompletedCount());
+        TodoDailyStats completedDay = stored.get(DAY.plusDays(2));
+        assertEquals(0, completedDay.getCreatedCount());
+        assertEquals(1, completedDay.getCompletedCount());
+        long seconds = DurationSketch.fromBytes(completedDay.getCompletionSketch()).quantile(0.5);
+        assertEquals(2 * 86400, seconds, 2 * 86400 * DurationSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void onSaved_完了の取り消しは元の完了日の集計から差し引く() {
+        // Given: 完了済みで読み込んだToDo
+        Todo todo = todo(DAY.atTime(10, 0));
+        todo.setCompleted(true);
+        todo.setCompletedAt(DAY.plusDays(1).atTime(9, 0));
+        todo.onLoad();
+        todoAnalyticsService.onSaved(completedCopyOf(todo));
+
+        // When
+        todo.setCompleted(false);
+        todoAnalyticsService.onSaved(todo);
+
+        // Then: 作成数・完了数が0になった日の集計は削除する
+        assertFalse(stored.containsKey(DAY.plusDays(1)));
+        verify(todoDailyStatsRepository).delete(any(TodoDailyStats.class));
+    }
+
+    @Test
+    void onDeleted_作成数と完了数を差し引く() {
+        // Given
+        Todo todo = todo(DAY.atTime(10, 0));
+        todoAnalyticsService.onSaved(todo);
+        todoAnalyticsService.onSaved(todo(DAY.atTime(11, 0)));
+        todo.onLoad();
+        todo.setCompleted(true);
+        todo.setCompletedAt(DAY.atTime(12, 0));
+        todoAnalyticsService.onSaved(todo);
+        todo.onLoad();
+
+        // When
+        todoAnalyticsService.onDeleted(todo);
+
+        // Then
+        TodoDailyStats stats = stored.get(DAY);
+        assertEquals(1, stats.getCreatedCount());
+        assertEquals(0, stats.getCompletedCount());
+        assertNull(stats.getCompletionSketch());
+    }
+
+    @Test
+    void getTrend_累計と週ごとの推移と所要時間の分位点を組み立てる() {
+        // Given
+        LocalDate today = DAY;
+        when(todoDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(1L, today.minusDays(89), today))
+            .thenReturn(List.of(
+                stats(today.minusDays(30), 4, 1, 3600),
+                stats(today.minusDays(1), 2, 2, 60, 86400),
+                stats(today, 1, 0)));
+
+        // When
+        CompletionTrend trend = todoAnalyticsService.getTrend(user, today);
+
+        // Then
+        assertEquals(90, trend.getDays().size());
+        assertEquals(7, trend.getCreatedTotal());
+        assertEquals(3, trend.getCompletedTotal());
+        assertEquals(4, trend.getNetChange());
+        assertEquals(13, trend.getWeeks().size());
+        assertEquals(today.minusDays(89), trend.getWeeks().get(0).start());
+        assertEquals(today.minusDays(6), trend.getWeeks().get(12).start());
+        assertEquals(2, trend.getRecentCompleted());
+        assertEquals(3, trend.getCompletionSamples());
+        assertEquals(List.of(50, 90, 99), trend.getPercentiles().stream().map(p -> p.percent()).toList());
+        assertEquals(3600, trend.getPercentiles().get(0).seconds(), 3600 * DurationSketch.RELATIVE_ACCURACY);
+        assertTrue(trend.getPercentiles().get(2).seconds() >= trend.getPercentiles().get(0).seconds());
+    }
+
+    @Test
+    void rebuildBetween_ToDoから再計算して差異がある日のみ補正する() {
+        // Given
+        LocalDate from = DAY.minusDays(2);
+        LocalDate to = DAY;
+        when(todoRepository.findUserIdsWithActivityBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(1L));
+        when(todoDailyStatsRepository.findUserIdsByStatDateBetween(from, to)).thenReturn(List.of(1L));
+        when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(user));
+        when(todoRepository.findActivityTimesBetween(1L, from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(
+                new Object[]{from.atTime(9, 0), null},
+                new Object[]{from.minusDays(5).atTime(9, 0), DAY.atTime(9, 0)}));
+        TodoDailyStats correct = stats(from, 1, 0);
+        TodoDailyStats drifted = stats(DAY, 0, 2, 60, 60);
+        TodoDailyStats stale = stats(DAY.minusDays(1), 1, 0);
+        when(todoDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(1L, from, to))
+            .thenReturn(List.of(correct, stale, drifted));
+
+        // When
+        int corrected = todoAnalyticsService.rebuildBetween(from, to);
+
+        // Then
+        assertEquals(2, corrected);
+        verify(todoDailyStatsRepository, never()).save(correct);
+        verify(todoDailyStatsRepository).delete(stale);
+        verify(todoDailyStatsRepository).save(drifted);
+        assertEquals(1, drifted.getCompletedCount());
+        assertEquals(7 * 86400, DurationSketch.fromBytes(drifted.getCompletionSketch()).quantile(0.5),
+                7 * 86400 * DurationSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void catchUp_集計期間全体をアーカイブの保持期間内で再計算する() {
+        // Given
+        ReflectionTestUtils.setField(todoAnalyticsService, "completedRetentionDays", 30);
+        LocalDate today = LocalDate.now();
+
+        // When
+        todoAnalyticsService.catchUp();
+        ReflectionTestUtils.setField(todoAnalyticsService, "completedRetentionDays", 365);
+        todoAnalyticsService.catchUp();
+
+        // Then: 保持期間（30日）より前はアーカイブ済みの可能性があるため再計算しない
+        verify(todoDailyStatsRepository).findUserIdsByStatDateBetween(today.minusDays(30), today.minusDays(1));
+        verify(todoDailyStatsRepository).findUserIdsByStatDateBetween(today.minusDays(90), today.minusDays(1));
+    }
+
+    private Todo todo(LocalDateTime createdAt) {
+        Todo todo = new Todo("ToDo", null, null, user);
+        todo.setCreatedAt(createdAt);
+        return todo;
+    }
+
+    /**
+     * 完了済みのToDoを新規作成として保存した状態にする（集計の初期状態の準備用）
+     */
+    private Todo completedCopyOf(Todo todo) {
+        Todo copy = todo(todo.getCreatedAt());
+        copy.setCompleted(true);
+        copy.setCompletedAt(todo.getCompletedAt());
+        return copy;
+    }
+
+    private static TodoDailyStats stats(LocalDate date, int created, int completed, long... seconds) {
+        TodoDailyStats stats = new TodoDailyStats(1L, date);
+        stats.setId(date.toEpochDay());
+        stats.setCreatedCount(created);
+        stats.setCompletedCount(completed);
+        if (seconds.length > 0) {
+            DurationSketch sketch = new DurationSketch();
+            for (long value : seconds) {
+                sketch.add(value);
+            }
+            stats.setCompletionSketch(sketch.toBytes());
+        }
+        return stats;
+    }
+}
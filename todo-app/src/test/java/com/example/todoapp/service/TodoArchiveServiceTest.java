@@ -0,0 +1,130 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.repository.ArchivedTodoRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoArchiveServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoArchiveServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private TodoArchiveService todoArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoArchiveService, "batchSize", 2);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @Test
+    void archiveCompletedTodos_バッチごとに複写して削除() {
+        // Given
+        when(todoRepository.findArchivableTodoIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L));
+        when(todoRepository.findUserIdsByIdIn(List.of(1L, 2L))).thenReturn(List.of(10L, 20L));
+        when(todoRepository.findUserIdsByIdIn(List.of(3L))).thenReturn(List.of(10L));
+        when(todoRepository.findArchivableTodoIdsForUpdate(any(), any(LocalDateTime.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int archived = todoArchiveService.archiveCompletedTodos();
+
+        // Then
+        assertEquals(3, archived);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(archivedTodoRepository).copyFromTodos(List.of(1L, 2L));
+        verify(todoRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(archivedTodoRepository).copyFromTodos(List.of(3L));
+        verify(todoRepository).deleteByIdIn(List.of(3L));
+        // カレンダーのキャッシュを無効にするため、ユーザーの変更シーケンス番号をバッチごとに進める
+        verify(userRepository, times(2)).incrementChangeSeq(10L);
+        verify(userRepository).incrementChangeSeq(20L);
+    }
+
+    @Test
+    void archiveCompletedTodos_ユーザーの行をToDoの行より先にロックする() {
+        // Given
+        when(todoRepository.findArchivableTodoIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L, 3L));
+        when(todoRepository.findUserIdsByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(10L, 20L));
+        // ロックを待つ間に2が未完了へ戻された
+        when(todoRepository.findArchivableTodoIdsForUpdate(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class)))
+            .thenReturn(List.of(1L, 3L));
+        ReflectionTestUtils.setField(todoArchiveService, "batchSize", 5);
+
+        // When
+        int archived = todoArchiveService.archiveCompletedTodos();
+
+        // Then
+        assertEquals(2, archived);
+        InOrder inOrder = inOrder(todoRepository, userRepository, archivedTodoRepository);
+        inOrder.verify(todoRepository).findArchivableTodoIds(any(LocalDateTime.class), any(Pageable.class));
+        inOrder.verify(userRepository).incrementChangeSeq(10L);
+        inOrder.verify(userRepository).incrementChangeSeq(20L);
+        inOrder.verify(todoRepository).findArchivableTodoIdsForUpdate(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        inOrder.verify(archivedTodoRepository).copyFromTodos(List.of(1L, 3L));
+        inOrder.verify(todoRepository).deleteByIdIn(List.of(1L, 3L));
+    }
+
+    @Test
+    void archiveCompletedTodos_対象なし() {
+        // Given
+        when(todoRepository.findArchivableTodoIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        int archived = todoArchiveService.archiveCompletedTodos();
+
+        // Then
+        assertEquals(0, archived);
+        verifyNoInteractions(archivedTodoRepository, userRepository);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.service.TodoBatchService.BatchRequest;
+import com.example.todoapp.service.TodoBatchService.BatchResult;
+import com.example.todoapp.service.TodoBatchService.Operation;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoBatchServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoBatchServiceTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @InjectMocks
+    private TodoBatchService todoBatchService;
+
+    private User testUser;
+    private Todo testTodo;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoBatchService, "validator",
+            Validation.buildDefaultValidatorFactory().getValidator());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+        testUser.setName("テストユーザー");
+
+        testTodo = new Todo();
+        testTodo.setId(10L);
+        testTodo.setTitle("テストToDo");
+        testTodo.setUser(testUser);
+    }
+
+    @Test
+    void execute_全操作成功() {
+        // Given
+        when(todoService.isValidDueDate(any())).thenReturn(true);
+        when(todoService.createTodo(any(Todo.class), eq(testUser))).thenReturn(testTodo);
+        when(todoService.findByIdAndUser(10L, testUser)).thenReturn(Optional.of(testTodo));
+        when(todoService.updateTodo(testTodo)).thenReturn(testTodo);
+
+        BatchRequest request = request(true, create("新しいToDo"), op("toggle", 10L));
+
+        // When
+        BatchResult result = todoBatchService.execute(request, testUser);
+
+        // Then
+        assertTrue(result.isCommitted());
+        assertEquals(TodoBatchService.STATUS_OK, result.getResults().get(0).getStatus());
+        assertEquals(TodoBatchService.STATUS_OK, result.getResults().get(1).getStatus());
+        assertTrue(testTodo.isCompleted());
+        verify(transactionStatus, never()).setRollbackOnly();
+    }
+
+    @Test
+    void execute_atomicで失敗すると全体をロールバック() {
+        // Given
+        when(todoService.isValidDueDate(any())).thenReturn(true);
+        when(todoService.createTodo(any(Todo.class), eq(testUser))).thenReturn(testTodo);
+        when(todoService.findByIdAndUser(999L, testUser)).thenReturn(Optional.empty());
+
+        BatchRequest request = request(true, create("新しいToDo"), op("delete", 999L), create("未実行"));
+
+        // When
+        BatchResult result = todoBatchService.execute(request, testUser);
+
+        // Then
+        assertFalse(result.isCommitted());
+        assertEquals(TodoBatchService.STATUS_ROLLED_BACK, result.getResults().get(0).getStatus());
+        assertEquals(TodoBatchService.STATUS_FAILED, result.getResults().get(1).getStatus());
+        assertEquals(TodoBatchService.STATUS_SKIPPED, result.getResults().get(2).getStatus());
+        verify(transactionStatus).setRollbackOnly();
+        verify(todoService, never()).deleteTodo(any(), any());
+    }
+
+    @Test
+    void execute_ベストエフォートでは失敗分のみスキップ() {
+        // Given
+        when(todoService.isValidDueDate(any())).thenReturn(true);
+        when(todoService.createTodo(any(Todo.class), eq(testUser))).thenReturn(testTodo);
+
+        BatchRequest request = request(false, create(""), create("有効なToDo"));
+
+        // When
+        BatchResult result = todoBatchService.execute(request, testUser);
+
+        // Then
+        assertTrue(result.isCommitted());
+        assertEquals(TodoBatchService.STATUS_FAILED, result.getResults().get(0).getStatus());
+        assertEquals("タイトルは必須です", result.getResults().get(0).getError());
+        assertEquals(TodoBatchService.STATUS_OK, result.getResults().get(1).getStatus());
+        verify(todoService, times(1)).createTodo(any(Todo.class), eq(testUser));
+        verify(transactionStatus, never()).setRollbackOnly();
+    }
+
+    @Test
+    void execute_操作が空の場合はエラー() {
+        // When & Then
+        BatchRequest request = new BatchRequest();
+        request.setOperations(Collections.emptyList());
+
+        assertThrows(IllegalArgumentException.class, () -> todoBatchService.execute(request, testUser));
+        verifyNoInteractions(todoService);
+    }
+
+    private BatchRequest request(boolean atomic, Operation... operations) {
+        BatchRequest request = new BatchRequest();
+        request.setAtomic(atomic);
+        request.setOperations(Arrays.asList(operations));
+        return request;
+    }
+
+    private Operation create(String title) {
+        Operation operation = new Operation();
+        operation.setOp("create");
+        operation.setTitle(title);
+        return operation;
+    }
+
+    private Operation op(String name, Long id) {
+        Operation operation = new Operation();
+        operation.setOp(name);
+        operation.setId(id);
+        return operation;
+    }
+}
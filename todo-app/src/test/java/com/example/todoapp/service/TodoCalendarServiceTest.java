@@ -0,0 +1,157 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.TodoCalendarService.CalendarDay;
+import com.example.todoapp.service.TodoCalendarService.CalendarMonth;
+import com.example.todoapp.service.TodoCalendarService.DayCount;
+import com.example.todoapp.service.TodoCalendarService.DayPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoCalendarServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoCalendarServiceTest {
+
+    private static final YearMonth JUNE = YearMonth.of(2030, 6);
+    private static final YearMonth JULY = YearMonth.of(2030, 7);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TodoCalendarService todoCalendarService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    void getMonth_日ごとの件数を集計しキャッシュする() {
+        when(userRepository.findChangeSeqById(1L)).thenReturn(10L);
+        givenCounts(JUNE, row(JUNE.atDay(3), 3, 1), row(JUNE.atDay(20), 2, 2));
+
+        CalendarMonth calendar = todoCalendarService.getMonth(user, JUNE);
+        todoCalendarService.getMonth(user, JUNE);
+
+        assertEquals(new DayCount(2, 1), calendar.countOf(JUNE.atDay(3)));
+        assertEquals(new DayCount(0, 0), calendar.countOf(JUNE.atDay(4)));
+        assertEquals(2, calendar.getOpenCount());
+        assertEquals(3, calendar.getCompletedCount());
+        verify(todoRepository, times(1)).countByDueDateBetween(user, JUNE.atDay(1), JUNE.atEndOfMonth());
+    }
+
+    @Test
+    void onSaved_変更前後の期限日の月のみ破棄する() {
+        YearMonth august = YearMonth.of(2030, 8);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(10L);
+        givenCounts(JUNE);
+        givenCounts(JULY);
+        givenCounts(august);
+        todoCalendarService.getMonth(user, JUNE);
+        todoCalendarService.getMonth(user, JULY);
+        todoCalendarService.getMonth(user, august);
+
+        // 6月の期限日で読み込んだToDoを7月に移動
+        Todo todo = new Todo("移動するToDo", null, JUNE.atDay(10), user);
+        todo.setId(5L);
+        todo.onLoad();
+        todo.setDueDate(JULY.atDay(10));
+        todo.setChangeSeq(11L);
+        todoCalendarService.onSaved(todo);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(11L);
+
+        todoCalendarService.getMonth(user, JUNE);
+        todoCalendarService.getMonth(user, JULY);
+        todoCalendarService.getMonth(user, august);
+
+        verify(todoRepository, times(2)).countByDueDateBetween(user, JUNE.atDay(1), JUNE.atEndOfMonth());
+        verify(todoRepository, times(2)).countByDueDateBetween(user, JULY.atDay(1), JULY.atEndOfMonth());
+        verify(todoRepository, times(1)).countByDueDateBetween(user, august.atDay(1), august.atEndOfMonth());
+    }
+
+    @Test
+    void getMonth_他ノードの変更で番号が進んでいる場合は再集計する() {
+        when(userRepository.findChangeSeqById(1L)).thenReturn(10L);
+        givenCounts(JUNE);
+        todoCalendarService.getMonth(user, JUNE);
+
+        when(userRepository.findChangeSeqById(1L)).thenReturn(12L);
+        todoCalendarService.getMonth(user, JUNE);
+
+        verify(todoRepository, times(2)).countByDueDateBetween(user, JUNE.atDay(1), JUNE.atEndOfMonth());
+    }
+
+    @Test
+    void findDayTodos_次のページの開始IDを返す() {
+        LocalDate date = JUNE.atDay(15);
+        when(todoRepository.findByUserAndDueDateAndIdGreaterThanOrderByIdAsc(eq(user), eq(date), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(todo(3L), todo(7L), todo(9L)));
+        when(todoRepository.findByUserAndDueDateAndIdGreaterThanOrderByIdAsc(eq(user), eq(date), eq(7L), any(Pageable.class)))
+                .thenReturn(List.of(todo(9L)));
+
+        DayPage first = todoCalendarService.findDayTodos(user, date, null, 2);
+        DayPage second = todoCalendarService.findDayTodos(user, date, first.getNextAfter(), 2);
+
+        assertEquals(List.of(3L, 7L), first.getContent().stream().map(Todo::getId).toList());
+        assertEquals(7L, first.getNextAfter());
+        assertEquals(List.of(9L), second.getContent().stream().map(Todo::getId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void getWeeks_月曜始まりで月の範囲外はnull() {
+        // 2030年6月1日は土曜日
+        List<List<CalendarDay>> weeks = new CalendarMonth(JUNE, java.util.Map.of()).getWeeks();
+
+        assertEquals(5, weeks.size());
+        assertNull(weeks.get(0).get(4));
+        assertEquals(JUNE.atDay(1), weeks.get(0).get(5).date());
+        assertEquals(JUNE.atDay(30), weeks.get(4).get(6).date());
+        weeks.forEach(week -> assertEquals(7, week.size()));
+    }
+
+    private void givenCounts(YearMonth month, Object[]... rows) {
+        when(todoRepository.countByDueDateBetween(user, month.atDay(1), month.atEndOfMonth()))
+                .thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static Object[] row(LocalDate date, long count, long completed) {
+        return new Object[]{date, count, completed};
+    }
+
+    private Todo todo(Long id) {
+        Todo todo = new Todo("ToDo " + id, null, JUNE.atDay(15), user);
+        todo.setId(id);
+        return todo;
+    }
+}
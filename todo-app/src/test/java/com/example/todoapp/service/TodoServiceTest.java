@@ -1,7 +1,9 @@
 package com.example.todoapp.service;
 
+import com.example.todoapp.entity.ArchivedTodo;
 import com.example.todoapp.entity.Todo;
 import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.ArchivedTodoRepository;
 import com.example.todoapp.repository.TodoRepository;
 import com.example.todoapp.service.TodoService.TodoStatistics;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,6 +41,21 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoSyncService todoSyncService;
+
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Mock
+    private DueDateIndexService dueDateIndexService;
+
+    @Mock
+    private TodoCalendarService todoCalendarService;
+
+    @Mock
+    private TodoAnalyticsService todoAnalyticsService;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -79,6 +97,7 @@ class TodoServiceTest {
         assertNotNull(result);
         assertEquals(testUser, newTodo.getUser());
         assertFalse(newTodo.isCompleted());
+        verify(todoSyncService).stamp(newTodo);
         verify(todoRepository).save(newTodo);
     }
 
@@ -107,7 +126,9 @@ class TodoServiceTest {
 
         // Then
         verify(todoRepository).findByIdAndUser(testTodo.getId(), testUser);
+        verify(todoSyncService).recordDeletion(testTodo);
         verify(todoRepository).delete(testTodo);
+        verify(todoAnalyticsService).onDeleted(testTodo);
     }
 
     @Test
@@ -196,6 +217,7 @@ class TodoServiceTest {
         assertTrue(result.isCompleted());
         verify(todoRepository).findByIdAndUser(testTodo.getId(), testUser);
         verify(todoRepository).save(testTodo);
+        verify(todoAnalyticsService).onSaved(testTodo);
     }
 
     @Test
@@ -239,7 +261,7 @@ class TodoServiceTest {
         when(todoRepository.countByUser(testUser)).thenReturn(5L);
         when(todoRepository.countByUserAndCompleted(testUser, true)).thenReturn(3L);
         when(todoRepository.countByUserAndCompleted(testUser, false)).thenReturn(2L);
-        when(todoRepository.countOverdueTodos(testUser)).thenReturn(1L);
+        when(dueDateIndexService.countOverdueTodos(eq(testUser), any(LocalDate.class))).thenReturn(1L);
 
         // When
         TodoStatistics result = todoService.getTodoStatistics(testUser);
@@ -254,7 +276,7 @@ class TodoServiceTest {
         verify(todoRepository).countByUser(testUser);
         verify(todoRepository).countByUserAndCompleted(testUser, true);
         verify(todoRepository).countByUserAndCompleted(testUser, false);
-        verify(todoRepository).countOverdueTodos(testUser);
+        verify(dueDateIndexService).countOverdueTodos(eq(testUser), any(LocalDate.class));
     }
 
     @Test
@@ -263,7 +285,7 @@ class TodoServiceTest {
         when(todoRepository.countByUser(testUser)).thenReturn(0L);
         when(todoRepository.countByUserAndCompleted(testUser, true)).thenReturn(0L);
         when(todoRepository.countByUserAndCompleted(testUser, false)).thenReturn(0L);
-        when(todoRepository.countOverdueTodos(testUser)).thenReturn(0L);
+        when(dueDateIndexService.countOverdueTodos(eq(testUser), any(LocalDate.class))).thenReturn(0L);
 
         // When
         TodoStatistics result = todoService.getTodoStatistics(testUser);
@@ -275,7 +297,64 @@ class TodoServiceTest {
         verify(todoRepository).countByUser(testUser);
         verify(todoRepository).countByUserAndCompleted(testUser, true);
         verify(todoRepository).countByUserAndCompleted(testUser, false);
-        verify(todoRepository).countOverdueTodos(testUser);
+        verify(dueDateIndexService).countOverdueTodos(eq(testUser), any(LocalDate.class));
+    }
+
+    @Test
+    void getTodoStatistics_アーカイブを含める場合は完了数に加算() {
+        // Given
+        when(todoRepository.countByUser(testUser)).thenReturn(5L);
+        when(todoRepository.countByUserAndCompleted(testUser, true)).thenReturn(3L);
+        when(todoRepository.countByUserAndCompleted(testUser, false)).thenReturn(2L);
+        when(dueDateIndexService.countOverdueTodos(eq(testUser), any(LocalDate.class))).thenReturn(1L);
+        when(archivedTodoRepository.countByUserId(testUser.getId())).thenReturn(5L);
+
+        // When
+        TodoStatistics result = todoService.getTodoStatistics(testUser, true);
+
+        // Then
+        assertEquals(10L, result.getTotalCount());
+        assertEquals(8L, result.getCompletedCount());
+        assertEquals(2L, result.getIncompleteCount());
+        assertEquals(80.0, result.getCompletionRate(), 0.01);
+    }
+
+    @Test
+    void findByUserAndCompleted_アーカイブを含めて並び順どおりに結合() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable head = PageRequest.of(0, 4, pageable.getSort());
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Todo active1 = createCompletedTodo(1L, base.plusDays(5));
+        Todo active2 = createCompletedTodo(2L, base.plusDays(3));
+        when(todoRepository.findByUserAndCompleted(testUser, true, head))
+            .thenReturn(new PageImpl<>(Arrays.asList(active1, active2), head, 2));
+        when(archivedTodoRepository.findByUserId(testUser.getId(), head))
+            .thenReturn(new PageImpl<>(Arrays.asList(createArchivedTodo(3L, base.plusDays(4)),
+                createArchivedTodo(4L, base.plusDays(2)), createArchivedTodo(5L, base.plusDays(1))), head, 3));
+
+        // When
+        Page<Todo> result = todoService.findByUserAndCompleted(testUser, true, pageable, true);
+
+        // Then
+        assertEquals(5, result.getTotalElements());
+        assertEquals(Arrays.asList(2L, 4L), result.getContent().stream().map(Todo::getId).toList());
+        assertFalse(result.getContent().get(0).isArchived());
+        assertTrue(result.getContent().get(1).isArchived());
+    }
+
+    @Test
+    void findByUserAndCompleted_未完了の場合はアーカイブを参照しない() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(todoRepository.findByUserAndCompleted(testUser, false, pageable))
+            .thenReturn(new PageImpl<>(List.of(testTodo), pageable, 1));
+
+        // When
+        todoService.findByUserAndCompleted(testUser, false, pageable, true);
+
+        // Then
+        verifyNoInteractions(archivedTodoRepository);
     }
 
     @Test
@@ -367,7 +446,7 @@ class TodoServiceTest {
     void findTodayTodos_今日期限のToDo取得() {
         // Given
         List<Todo> todayTodos = Arrays.asList(testTodo);
-        when(todoRepository.findTodayTodos(eq(testUser), any(LocalDate.class)))
+        when(dueDateIndexService.findTodayTodos(eq(testUser), any(LocalDate.class)))
             .thenReturn(todayTodos);
 
         // When
@@ -376,14 +455,14 @@ class TodoServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(todoRepository).findTodayTodos(eq(testUser), any(LocalDate.class));
+        verify(dueDateIndexService).findTodayTodos(eq(testUser), any(LocalDate.class));
     }
 
     @Test
     void findUpcomingTodos_近日期限のToDo取得() {
         // Given
         List<Todo> upcomingTodos = Arrays.asList(testTodo);
-        when(todoRepository.findUpcomingTodos(eq(testUser), any(LocalDate.class), any(LocalDate.class)))
+        when(dueDateIndexService.findUpcomingTodos(eq(testUser), any(LocalDate.class), any(LocalDate.class)))
             .thenReturn(upcomingTodos);
 
         // When
@@ -392,6 +471,25 @@ class TodoServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(todoRepository).findUpcomingTodos(eq(testUser), any(LocalDate.class), any(LocalDate.class));
+        verify(dueDateIndexService).findUpcomingTodos(eq(testUser), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    private Todo createCompletedTodo(Long id, LocalDateTime createdAt) {
+        Todo todo = new Todo("完了済みToDo" + id, null, null, testUser);
+        todo.setId(id);
+        todo.setCompleted(true);
+        todo.setCreatedAt(createdAt);
+        return todo;
+    }
+
+    private ArchivedTodo createArchivedTodo(Long id, LocalDateTime createdAt) {
+        ArchivedTodo archivedTodo = new ArchivedTodo();
+        archivedTodo.setId(id);
+        archivedTodo.setUserId(testUser.getId());
+        archivedTodo.setTitle("アーカイブ済みToDo" + id);
+        archivedTodo.setCreatedAt(createdAt);
+        archivedTodo.setUpdatedAt(createdAt);
+        archivedTodo.setCompletedAt(createdAt);
+        return archivedTodo;
     }
 }
@@ -0,0 +1,185 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.Todo;
+import com.example.todoapp.entity.TodoTombstone;
+import com.example.todoapp.entity.User;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.TodoTombstoneRepository;
+import com.example.todoapp.repository.UserRepository;
+import com.example.todoapp.service.TodoSyncService.ChangeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoSyncServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoSyncServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private TodoSyncService todoSyncService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+        testUser.setName("テストユーザー");
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @Test
+    void stamp_新しいシーケンス番号を設定() {
+        // Given
+        Todo todo = createTodo(10L, 0L);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(7L);
+
+        // When
+        todoSyncService.stamp(todo);
+
+        // Then
+        assertEquals(7L, todo.getChangeSeq());
+        verify(userRepository).incrementChangeSeq(1L);
+    }
+
+    @Test
+    void recordDeletion_削除記録を作成() {
+        // Given
+        Todo todo = createTodo(10L, 3L);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(8L);
+
+        // When
+        todoSyncService.recordDeletion(todo);
+
+        // Then
+        ArgumentCaptor<TodoTombstone> captor = ArgumentCaptor.forClass(TodoTombstone.class);
+        verify(todoTombstoneRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(10L, captor.getValue().getTodoId());
+        assertEquals(8L, captor.getValue().getChangeSeq());
+    }
+
+    @Test
+    void getChangesSince_更新と削除をシーケンス順に統合() {
+        // Given
+        when(userRepository.findSyncFloorSeqById(1L)).thenReturn(0L);
+        when(todoRepository.findByUserAndChangeSeqGreaterThan(eq(testUser), eq(5L), any(Pageable.class)))
+            .thenReturn(Arrays.asList(createTodo(1L, 6L), createTodo(2L, 9L)));
+        when(todoTombstoneRepository.findByUserIdAndChangeSeqGreaterThan(eq(1L), eq(5L), any(Pageable.class)))
+            .thenReturn(Collections.singletonList(new TodoTombstone(1L, 3L, 7L, LocalDateTime.now())));
+
+        // When
+        ChangeSet result = todoSyncService.getChangesSince(testUser, 5L, 100);
+
+        // Then
+        assertFalse(result.isResetRequired());
+        assertFalse(result.isHasMore());
+        assertEquals(9L, result.getCursor());
+        assertEquals(2, result.getChanges().size());
+        assertEquals(1, result.getDeletions().size());
+        assertEquals(3L, result.getDeletions().get(0).getId());
+    }
+
+    @Test
+    void getChangesSince_件数上限で打ち切り() {
+        // Given
+        when(userRepository.findSyncFloorSeqById(1L)).thenReturn(0L);
+        when(todoRepository.findByUserAndChangeSeqGreaterThan(eq(testUser), eq(0L), any(Pageable.class)))
+            .thenReturn(Arrays.asList(createTodo(1L, 1L), createTodo(2L, 2L), createTodo(3L, 3L)));
+        when(todoTombstoneRepository.findByUserIdAndChangeSeqGreaterThan(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        ChangeSet result = todoSyncService.getChangesSince(testUser, 0L, 2);
+
+        // Then
+        assertTrue(result.isHasMore());
+        assertEquals(2L, result.getCursor());
+        assertEquals(2, result.getChanges().size());
+    }
+
+    @Test
+    void getChangesSince_圧縮済みカーソルは全件再取得() {
+        // Given
+        when(userRepository.findSyncFloorSeqById(1L)).thenReturn(50L);
+        when(userRepository.findChangeSeqById(1L)).thenReturn(120L);
+
+        // When
+        ChangeSet result = todoSyncService.getChangesSince(testUser, 10L, 100);
+
+        // Then
+        assertTrue(result.isResetRequired());
+        assertEquals(120L, result.getCursor());
+        verify(todoRepository, never()).findByUserAndChangeSeqGreaterThan(any(), anyLong(), any());
+    }
+
+    @Test
+    void compactTombstones_同期下限を引き上げて削除() {
+        // Given
+        List<Object[]> floors = Collections.singletonList(new Object[]{1L, 42L});
+        when(todoTombstoneRepository.findMaxChangeSeqPerUserDeletedBefore(any(LocalDateTime.class)))
+            .thenReturn(floors);
+        when(todoTombstoneRepository.deleteByDeletedAtBefore(any(LocalDateTime.class))).thenReturn(3);
+
+        // When
+        int removed = todoSyncService.compactTombstones();
+
+        // Then
+        assertEquals(3, removed);
+        verify(userRepository).raiseSyncFloorSeq(1L, 42L);
+    }
+
+    private Todo createTodo(Long id, long changeSeq) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setTitle("テストToDo" + id);
+        todo.setUser(testUser);
+        todo.setChangeSeq(changeSeq);
+        return todo;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.todoapp.service;
+
+import com.example.todoapp.entity.User;
+import com.example.todoapp.entity.UserDeletionJob;
+import com.example.todoapp.repository.ArchivedTodoRepository;
+import com.example.todoapp.repository.IdempotencyRecordRepository;
+import com.example.todoapp.repository.ShardAssignmentRepository;
+import com.example.todoapp.repository.TodoDailyStatsRepository;
+import com.example.todoapp.repository.TodoRepository;
+import com.example.todoapp.repository.TodoTombstoneRepository;
+import com.example.todoapp.repository.UserDeletionJobRepository;
+import com.example.todoapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserDeletionServiceのテストクラス
+ *
+ * @author TodoApp Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDeletionJobRepository userDeletionJobRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Mock
+    private TodoDailyStatsRepository todoDailyStatsRepository;
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private ShardAssignmentRepository shardAssignmentRepository;
+
+    @Mock
+    private RememberMeTokenService rememberMeTokenService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @InjectMocks
+    private UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDeletionService, "chunkSize", 2);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @Test
+    void requestDeletion_ユーザーを無効化してジョブを登録() {
+        // Given
+        User user = new User("test@example.com", "password123", "テストユーザー");
+        user.setId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userDeletionJobRepository.existsById(1L)).thenReturn(false);
+
+        // When
+        userDeletionService.requestDeletion(1L);
+
+        // Then
+        assertFalse(user.isEnabled());
+        ArgumentCaptor<UserDeletionJob> captor = ArgumentCaptor.forClass(UserDeletionJob.class);
+        verify(userDeletionJobRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(UserDeletionJob.Status.PENDING, captor.getValue().getStatus());
+        verify(rememberMeTokenService).revokeAll(1L);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void requestDeletion_存在しないユーザー() {
+        // Given
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userDeletionService.requestDeletion(99L));
+        verify(userDeletionJobRepository, never()).save(any());
+    }
+
+    @Test
+    void processPendingJobs_チャンクごとに削除して完了() {
+        // Given
+        UserDeletionJob job = new UserDeletionJob(1L, LocalDateTime.now());
+        when(userDeletionJobRepository.findByStatusNotOrderByRequestedAt(UserDeletionJob.Status.COMPLETED))
+            .thenReturn(List.of(job));
+        when(userDeletionJobRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(1);
+        when(todoRepository.findIdsByUserId(eq(1L), any(Pageable.class)))
+            .thenReturn(List.of(10L, 11L))
+            .thenReturn(List.of(12L));
+        when(todoRepository.deleteByIdIn(List.of(10L, 11L))).thenReturn(2);
+        when(todoRepository.deleteByIdIn(List.of(12L))).thenReturn(1);
+        when(archivedTodoRepository.findIdsByUserId(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        when(todoTombstoneRepository.deleteByUserId(1L)).thenReturn(3);
+        when(userDeletionJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // When
+        int processed = userDeletionService.processPendingJobs();
+
+        // Then
+        assertEquals(1, processed);
+        verify(userDeletionJobRepository).recordProgress(eq(1L), eq(2L), any(LocalDateTime.class));
+        verify(userDeletionJobRepository).recordProgress(eq(1L), eq(1L), any(LocalDateTime.class));
+        verify(archivedTodoRepository, never()).deleteByIdIn(any());
+        verify(idempotencyRecordRepository).deleteByUserId(1L);
+        verify(todoDailyStatsRepository).deleteByUserId(1L);
+        verify(userRepository).deleteByIdInBulk(1L);
+        verify(shardAssignmentRepository).deleteById(1L);
+        assertEquals(UserDeletionJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getDeletedRows());
+        assertNotNull(job.getCompletedAt());
+    }
+
+    @Test
+    void processPendingJobs_他ノードが処理中のジョブは飛ばす() {
+        // Given
+        UserDeletionJob job = new UserDeletionJob(1L, LocalDateTime.now());
+        job.setStatus(UserDeletionJob.Status.RUNNING);
+        when(userDeletionJobRepository.findByStatusNotOrderByRequestedAt(UserDeletionJob.Status.COMPLETED))
+            .thenReturn(List.of(job));
+        when(userDeletionJobRepository.claim(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(0);
+
+        // When
+        int processed = userDeletionService.processPendingJobs();
+
+        // Then
+        assertEquals(0, processed);
+        verify(todoRepository, never()).findIdsByUserId(anyLong(), any(Pageable.class));
+        verify(userRepository, never()).deleteByIdInBulk(anyLong());
+    }
+}
@@ -32,6 +32,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RememberMeTokenService rememberMeTokenService;
+
     @InjectMocks
     private UserService userService;
 
@@ -81,6 +84,7 @@ class UserServiceTest {
         verify(userRepository).existsByEmail(testUser.getEmail());
         verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(rememberMeTokenService);
     }
 
     @Test
@@ -126,6 +130,8 @@ class UserServiceTest {
         verify(userRepository).findById(testUser.getId());
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(any(User.class));
+        verify(rememberMeTokenService).revokeAll(testUser.getId());
+        verify(userRepository).incrementCredentialsVersion(testUser.getId());
     }
 
     @Test
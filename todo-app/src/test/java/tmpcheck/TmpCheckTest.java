@@ -0,0 +1,30 @@
+package tmpcheck;
+import com.example.todoapp.TodoAppApplication;
+import com.example.todoapp.entity.*;
+import com.example.todoapp.service.*;
+import com.example.todoapp.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+@SpringBootTest(classes = TodoAppApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TmpCheckTest {
+  @Autowired UserService us; @Autowired TodoRepository tr; @Autowired MockMvc mvc;
+  @Test void run() throws Exception {
+    User u = us.registerUser(new User("a@b.com","password1","n"));
+    var p = new CustomUserDetailsService.CustomUserPrincipal(u);
+    for (int i=0;i<3;i++) {
+      var r = mvc.perform(post("/todos").with(user(p)).with(csrf()).param("title","x").header("Idempotency-Key","abc")).andReturn();
+      System.out.println("RESP " + r.getResponse().getStatus() + " " + r.getResponse().getRedirectedUrl());
+    }
+    System.out.println("COUNT " + tr.countByUser(u));
+    var r = mvc.perform(get("/todos/new").with(user(p))).andReturn();
+    System.out.println("FORM " + r.getResponse().getContentAsString().contains("name=\"idempotencyKey\""));
+  }
+}